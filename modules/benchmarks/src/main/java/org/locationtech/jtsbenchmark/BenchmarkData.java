@@ -0,0 +1,210 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jtsbenchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.LineString;
+import org.locationtech.jts.geom.util.SineStarFactory;
+import org.locationtech.jts.shape.fractal.KochSnowflakeBuilder;
+import org.locationtech.jts.shape.random.RandomPointsBuilder;
+import org.locationtech.jts.shape.random.RandomPointsInGridBuilder;
+
+/**
+ * Creates the synthetic datasets used by the benchmarks.
+ * All random data is generated from a fixed seed,
+ * so that every run (and every JTS version) 
+ * is measured against the same input.
+ *
+ */
+public class BenchmarkData
+{
+  /**
+   * The seed used for all random data.
+   */
+  public static final long SEED = 1234567;
+  
+  /**
+   * The extent of the generated data.
+   */
+  public static final Envelope EXTENT = new Envelope(0, 1000, 0, 1000);
+  
+  private static final GeometryFactory geomFact = new GeometryFactory();
+  
+  public static GeometryFactory getFactory() {
+    return geomFact;
+  }
+  
+  /**
+   * Creates a Koch snowflake polygon with approximately the given number of vertices,
+   * covering the data extent.
+   * 
+   * @param nPts the number of vertices
+   * @return a polygon
+   */
+  public static Geometry kochSnowflake(int nPts) {
+    KochSnowflakeBuilder builder = new KochSnowflakeBuilder(geomFact);
+    builder.setExtent(EXTENT);
+    builder.setNumPoints(nPts);
+    return builder.getGeometry();
+  }
+  
+  /**
+   * Creates a sine star polygon with the given number of vertices,
+   * covering the data extent.
+   * 
+   * @param nPts the number of vertices
+   * @return a polygon
+   */
+  public static Geometry sineStar(int nPts) {
+    SineStarFactory gsf = new SineStarFactory(geomFact);
+    gsf.setCentre(EXTENT.centre());
+    gsf.setSize(EXTENT.getWidth());
+    gsf.setNumPoints(nPts);
+    gsf.setNumArms(20);
+    gsf.setArmLengthRatio(0.3);
+    return gsf.createSineStar();
+  }
+  
+  /**
+   * Creates a set of random points in the data extent.
+   * 
+   * @param nPts the number of points
+   * @return a MultiPoint
+   */
+  public static Geometry randomPoints(int nPts) {
+    return randomPoints(nPts, SEED);
+  }
+
+  /**
+   * Creates a set of random points in the data extent,
+   * using a given seed.
+   * 
+   * @param nPts the number of points
+   * @param seed the random seed
+   * @return a MultiPoint
+   */
+  public static Geometry randomPoints(int nPts, long seed) {
+    RandomPointsBuilder builder = new RandomPointsBuilder(geomFact);
+    builder.setExtent(EXTENT);
+    builder.setNumPoints(nPts);
+    builder.setSeed(seed);
+    return builder.getGeometry();
+  }
+
+  /**
+   * Creates a list of random point geometries in the data extent.
+   * 
+   * @param nPts the number of points
+   * @return a list of Points
+   */
+  public static List<Geometry> randomPointList(int nPts) {
+    return components(randomPoints(nPts));
+  }
+  
+  /**
+   * Creates a set of overlapping circular polygons, 
+   * one centred at a random point in each cell of a grid covering the data extent.
+   * Adjacent polygons overlap, which makes this a typical
+   * dissolve workload.
+   * 
+   * @param nPolys the number of polygons
+   * @param nPtsPerPoly the number of vertices in each polygon
+   * @return a list of polygons
+   */
+  public static List<Geometry> randomDiscs(int nPolys, int nPtsPerPoly) {
+    RandomPointsInGridBuilder builder = new RandomPointsInGridBuilder(geomFact);
+    builder.setExtent(EXTENT);
+    builder.setNumPoints(nPolys);
+    builder.setSeed(SEED);
+    Geometry centres = builder.getGeometry();
+    double cellSize = EXTENT.getWidth() / Math.sqrt(centres.getNumGeometries());
+    int quadSegs = Math.max(1, nPtsPerPoly / 4);
+    
+    List<Geometry> discs = new ArrayList<Geometry>();
+    for (int i = 0; i < centres.getNumGeometries(); i++) {
+      discs.add(centres.getGeometryN(i).buffer(0.8 * cellSize, quadSegs));
+    }
+    return discs;
+  }
+  
+  /**
+   * Creates a list of envelopes for items with centres at random points,
+   * and with sizes which are a small fraction of the extent.
+   * 
+   * @param nItems the number of envelopes
+   * @return a list of envelopes
+   */
+  public static List<Envelope> randomEnvelopes(int nItems) {
+    return randomEnvelopes(nItems, SEED);
+  }
+
+  /**
+   * Creates a list of envelopes for items with centres at random points
+   * generated from a given seed.
+   * Using a seed other than {@link #SEED} gives envelopes 
+   * which are independent of the other generated data.
+   * 
+   * @param nItems the number of envelopes
+   * @param seed the random seed
+   * @return a list of envelopes
+   */
+  public static List<Envelope> randomEnvelopes(int nItems, long seed) {
+    List<Envelope> envs = new ArrayList<Envelope>();
+    double size = EXTENT.getWidth() / Math.sqrt(nItems);
+    for (Geometry pt : components(randomPoints(nItems, seed))) {
+      Coordinate p = pt.getCoordinate();
+      envs.add(new Envelope(p.x, p.x + size, p.y, p.y + size));
+    }
+    return envs;
+  }
+  
+  /**
+   * Creates a set of random-walk lines starting at random points in the data extent.
+   * The lines wander and cross each other many times,
+   * which makes this a typical noding workload.
+   * 
+   * @param nLines the number of lines
+   * @param nPtsPerLine the number of vertices in each line
+   * @return a list of lines
+   */
+  public static List<LineString> randomWalkLines(int nLines, int nPtsPerLine) {
+    Random random = new Random(SEED);
+    List<LineString> lines = new ArrayList<LineString>();
+    for (int i = 0; i < nLines; i++) {
+      double x = EXTENT.getMinX() + EXTENT.getWidth() * random.nextDouble();
+      double y = EXTENT.getMinY() + EXTENT.getHeight() * random.nextDouble();
+      Coordinate[] pts = new Coordinate[nPtsPerLine];
+      for (int j = 0; j < nPtsPerLine; j++) {
+        x += random.nextGaussian();
+        y += random.nextGaussian();
+        pts[j] = new Coordinate(x, y);
+      }
+      lines.add(geomFact.createLineString(pts));
+    }
+    return lines;
+  }
+  
+  private static List<Geometry> components(Geometry geom) {
+    List<Geometry> comps = new ArrayList<Geometry>();
+    for (int i = 0; i < geom.getNumGeometries(); i++) {
+      comps.add(geom.getGeometryN(i));
+    }
+    return comps;
+  }
+}
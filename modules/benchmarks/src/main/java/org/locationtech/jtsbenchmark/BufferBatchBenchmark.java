@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jtsbenchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.operation.buffer.BufferBatch;
+import org.locationtech.jts.operation.buffer.BufferOp;
+import org.locationtech.jts.operation.buffer.BufferParameters;
+import org.locationtech.jts.operation.union.UnaryUnionOp;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks {@link BufferBatch} on a set of random points,
+ * compared to buffering each point with {@link BufferOp}.
+ *
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BufferBatchBenchmark
+{
+  private static final double DISTANCE = 8;
+  
+  @Param({ "1000", "10000" })
+  public int numGeoms;
+  
+  private List<Geometry> points;
+  private BufferParameters params;
+  private BufferBatch batch;
+  private BufferBatch batchParallel;
+  
+  @Setup
+  public void setup() {
+    points = BenchmarkData.randomPointList(numGeoms);
+    params = new BufferParameters();
+    batch = new BufferBatch(params);
+    batchParallel = new BufferBatch(params);
+    batchParallel.setPool(ForkJoinPool.commonPool());
+  }
+  
+  @Benchmark
+  public List<Geometry> bufferLoop() {
+    List<Geometry> buffers = new ArrayList<Geometry>();
+    for (Geometry pt : points) {
+      buffers.add(BufferOp.bufferOp(pt, DISTANCE, params));
+    }
+    return buffers;
+  }
+  
+  @Benchmark
+  public List<Geometry> bufferBatch() {
+    return batch.buffer(points, DISTANCE);
+  }
+  
+  @Benchmark
+  public List<Geometry> bufferBatchParallel() {
+    return batchParallel.buffer(points, DISTANCE);
+  }
+  
+  @Benchmark
+  public Geometry bufferThenUnion() {
+    return UnaryUnionOp.union(bufferLoop());
+  }
+  
+  @Benchmark
+  public Geometry bufferUnion() {
+    return batch.bufferUnion(points, DISTANCE);
+  }
+  
+  @Benchmark
+  public Geometry bufferUnionParallel() {
+    return batchParallel.bufferUnion(points, DISTANCE);
+  }
+}
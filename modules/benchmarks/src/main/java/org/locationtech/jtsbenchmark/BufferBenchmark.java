@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jtsbenchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.operation.buffer.BufferOp;
+import org.locationtech.jts.operation.buffer.BufferParameters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks {@link BufferOp} on polygonal and linear inputs.
+ *
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BufferBenchmark
+{
+  @Param({ "1000", "10000", "100000" })
+  public int numPts;
+  
+  private Geometry polygon;
+  private Geometry line;
+  private BufferParameters flatParams;
+  
+  @Setup
+  public void setup() {
+    polygon = BenchmarkData.kochSnowflake(numPts);
+    line = polygon.getBoundary();
+    flatParams = new BufferParameters();
+    flatParams.setEndCapStyle(BufferParameters.CAP_FLAT);
+    flatParams.setJoinStyle(BufferParameters.JOIN_MITRE);
+  }
+  
+  @Benchmark
+  public Geometry bufferPolygonPositive() {
+    return BufferOp.bufferOp(polygon, 10);
+  }
+  
+  @Benchmark
+  public Geometry bufferPolygonNegative() {
+    return BufferOp.bufferOp(polygon, -10);
+  }
+  
+  @Benchmark
+  public Geometry bufferLine() {
+    return BufferOp.bufferOp(line, 10);
+  }
+  
+  @Benchmark
+  public Geometry bufferLineFlatMitre() {
+    return BufferOp.bufferOp(line, 10, flatParams);
+  }
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jtsbenchmark;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.operation.overlayng.OverlayNGRobust;
+import org.locationtech.jts.operation.union.CascadedPolygonUnion;
+import org.locationtech.jts.operation.union.UnaryUnionOp;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks {@link CascadedPolygonUnion} 
+ * on a set of overlapping polygons,
+ * both sequentially and in parallel.
+ *
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CascadedPolygonUnionBenchmark
+{
+  @Param({ "1000", "10000" })
+  public int numPolys;
+  
+  private List<Geometry> polys;
+  
+  @Setup
+  public void setup() {
+    polys = BenchmarkData.randomDiscs(numPolys, 32);
+  }
+  
+  @Benchmark
+  public Geometry cascadedUnion() {
+    return CascadedPolygonUnion.union(polys);
+  }
+  
+  @Benchmark
+  public Geometry cascadedUnionParallel() {
+    UnaryUnionOp op = new UnaryUnionOp(polys);
+    op.setPool(ForkJoinPool.commonPool());
+    return op.union();
+  }
+  
+  @Benchmark
+  public Geometry unaryUnionNG() {
+    return OverlayNGRobust.union(polys);
+  }
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jtsbenchmark;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+import org.locationtech.jts.coverage.CoverageSimplifier;
+import org.locationtech.jts.coverage.CoverageUnion;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.triangulate.VoronoiDiagramBuilder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks simplification and union of a coverage 
+ * formed by a Voronoi diagram of random points,
+ * for the entire coverage and in tiles (sequentially and in parallel).
+ *
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CoverageTiledBenchmark
+{
+  private static final double TOLERANCE = 1.0;
+  private static final int TILE_SIZE = 1000;
+
+  @Param({ "10000", "100000" })
+  public int numPolys;
+
+  private Geometry[] coverage;
+
+  @Setup
+  public void setup() {
+    VoronoiDiagramBuilder builder = new VoronoiDiagramBuilder();
+    builder.setSites(BenchmarkData.randomPoints(numPolys));
+    builder.setClipEnvelope(BenchmarkData.EXTENT);
+    Geometry diagram = builder.getDiagram(BenchmarkData.getFactory());
+    coverage = new Geometry[diagram.getNumGeometries()];
+    for (int i = 0; i < coverage.length; i++) {
+      coverage[i] = diagram.getGeometryN(i);
+    }
+  }
+
+  @Benchmark
+  public Geometry[] simplify() {
+    return CoverageSimplifier.simplify(coverage, TOLERANCE);
+  }
+
+  @Benchmark
+  public Geometry[] simplifyTiled() {
+    return simplifyTiled(null);
+  }
+
+  @Benchmark
+  public Geometry[] simplifyTiledParallel() {
+    return simplifyTiled(ForkJoinPool.commonPool());
+  }
+
+  private Geometry[] simplifyTiled(ForkJoinPool pool) {
+    CoverageSimplifier simplifier = new CoverageSimplifier(coverage);
+    simplifier.setTileSize(TILE_SIZE);
+    simplifier.setPool(pool);
+    return simplifier.simplify(TOLERANCE);
+  }
+
+  @Benchmark
+  public Geometry union() {
+    return CoverageUnion.union(coverage);
+  }
+
+  @Benchmark
+  public Geometry unionTiled() {
+    return CoverageUnion.union(coverage, TILE_SIZE, null);
+  }
+
+  @Benchmark
+  public Geometry unionTiledParallel() {
+    return CoverageUnion.union(coverage, TILE_SIZE, ForkJoinPool.commonPool());
+  }
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jtsbenchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.triangulate.CompactDelaunayTriangulationBuilder;
+import org.locationtech.jts.triangulate.DelaunayTriangulationBuilder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks Delaunay triangulation of random points,
+ * using the quad-edge and compact builders.
+ *
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DelaunayBenchmark
+{
+  @Param({ "10000", "100000", "1000000" })
+  public int numPts;
+
+  private Geometry sites;
+
+  @Setup
+  public void setup() {
+    sites = BenchmarkData.randomPoints(numPts);
+  }
+
+  @Benchmark
+  public Object quadEdge() {
+    DelaunayTriangulationBuilder builder = new DelaunayTriangulationBuilder();
+    builder.setSites(sites);
+    return builder.getSubdivision();
+  }
+
+  @Benchmark
+  public int compactHilbert() {
+    return compact(CompactDelaunayTriangulationBuilder.ORDER_HILBERT);
+  }
+
+  @Benchmark
+  public int compactBRIO() {
+    return compact(CompactDelaunayTriangulationBuilder.ORDER_BRIO);
+  }
+
+  private int compact(int order) {
+    CompactDelaunayTriangulationBuilder builder = new CompactDelaunayTriangulationBuilder();
+    builder.setSites(sites);
+    builder.setInsertionOrder(order);
+    return builder.getTriangleSites().length;
+  }
+}
@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jtsbenchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.prep.GeometryIndexCache;
+import org.locationtech.jts.operation.distance.DistanceOp;
+import org.locationtech.jts.operation.overlayng.OverlayNG;
+import org.locationtech.jts.operation.relateng.RelateNG;
+import org.locationtech.jts.operation.relateng.RelatePredicate;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks repeated operations between a large polygon
+ * and many small ones,
+ * with and without a {@link GeometryIndexCache} on the large polygon.
+ *
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class GeometryIndexCacheBenchmark
+{
+  private static final int NUM_POLYS = 1000;
+
+  @Param({ "10000", "100000" })
+  public int numPts;
+
+  private Geometry master;
+  private Geometry masterCached;
+  private List<Geometry> polys;
+
+  @Setup
+  public void setup() {
+    master = BenchmarkData.sineStar(numPts);
+    masterCached = master.copy();
+    masterCached.setIndexCached(true);
+    polys = BenchmarkData.randomDiscs(NUM_POLYS, 16);
+  }
+
+  @Benchmark
+  public double intersection() {
+    return intersection(master);
+  }
+
+  @Benchmark
+  public double intersectionCached() {
+    return intersection(masterCached);
+  }
+
+  @Benchmark
+  public double distance() {
+    return distance(master);
+  }
+
+  @Benchmark
+  public double distanceCached() {
+    return distance(masterCached);
+  }
+
+  @Benchmark
+  public int intersects() {
+    return intersects(master);
+  }
+
+  @Benchmark
+  public int intersectsCached() {
+    return intersects(masterCached);
+  }
+
+  private double intersection(Geometry geom) {
+    double area = 0;
+    for (Geometry poly : polys) {
+      area += OverlayNG.overlay(geom, poly, OverlayNG.INTERSECTION).getArea();
+    }
+    return area;
+  }
+
+  private double distance(Geometry geom) {
+    double dist = 0;
+    for (Geometry poly : polys) {
+      dist += DistanceOp.distance(geom, poly);
+    }
+    return dist;
+  }
+
+  private int intersects(Geometry geom) {
+    int count = 0;
+    for (Geometry poly : polys) {
+      if (RelateNG.relate(geom, poly, RelatePredicate.intersects()))
+        count++;
+    }
+    return count;
+  }
+}
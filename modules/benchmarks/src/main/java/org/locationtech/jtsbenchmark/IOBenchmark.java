@@ -0,0 +1,148 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jtsbenchmark;
+
+import java.io.StringReader;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.LineString;
+import org.locationtech.jts.io.ParseException;
+import org.locationtech.jts.io.WKBReader;
+import org.locationtech.jts.io.WKBWriter;
+import org.locationtech.jts.io.WKTBufferReader;
+import org.locationtech.jts.io.WKTReader;
+import org.locationtech.jts.io.WKTWriter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks reading and writing WKB and WKT.
+ * Reading many geometries from a single WKT text
+ * is benchmarked for lines with the same total number of points.
+ *
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class IOBenchmark
+{
+  @Param({ "1000", "100000" })
+  public int numPts;
+  
+  private Geometry geom;
+  private byte[] wkb;
+  private ByteBuffer wkbBuffer;
+  private String wkt;
+  private String[] wktLines;
+  private String wktLinesText;
+  
+  @Setup
+  public void setup() {
+    geom = BenchmarkData.kochSnowflake(numPts);
+    wkb = new WKBWriter().write(geom);
+    wkbBuffer = ByteBuffer.allocateDirect(wkb.length);
+    wkbBuffer.put(wkb);
+    wkbBuffer.flip();
+    wkt = new WKTWriter().write(geom);
+    
+    List<LineString> lines = BenchmarkData.randomWalkLines(numPts / 10, 10);
+    wktLines = new String[lines.size()];
+    StringBuilder text = new StringBuilder();
+    for (int i = 0; i < lines.size(); i++) {
+      wktLines[i] = new WKTWriter().write(lines.get(i));
+      text.append(wktLines[i]).append("\n");
+    }
+    wktLinesText = text.toString();
+  }
+  
+  @Benchmark
+  public byte[] writeWKB() {
+    return new WKBWriter().write(geom);
+  }
+  
+  @Benchmark
+  public Geometry readWKB() throws ParseException {
+    return new WKBReader().read(wkb);
+  }
+  
+  @Benchmark
+  public Geometry readWKBBuffer() throws ParseException {
+    return new WKBReader().read(wkbBuffer.duplicate());
+  }
+  
+  @Benchmark
+  public Geometry readWKBBufferZeroCopy() throws ParseException {
+    WKBReader reader = new WKBReader();
+    reader.setZeroCopy(true);
+    return reader.read(wkbBuffer.duplicate());
+  }
+  
+  @Benchmark
+  public String writeWKT() {
+    return new WKTWriter().write(geom);
+  }
+  
+  @Benchmark
+  public Geometry readWKT() throws ParseException {
+    return new WKTReader().read(wkt);
+  }
+  
+  @Benchmark
+  public Geometry readWKTReader() throws ParseException {
+    return new WKTReader().read(new StringReader(wkt));
+  }
+  
+  @Benchmark
+  public int readWKTLines() throws ParseException {
+    WKTReader reader = new WKTReader();
+    int count = 0;
+    for (String line : wktLines) {
+      count += reader.read(line).getNumPoints();
+    }
+    return count;
+  }
+  
+  @Benchmark
+  public int readWKTBuffer() throws ParseException {
+    WKTBufferReader reader = new WKTBufferReader(wktLinesText, new WKTReader());
+    int count = 0;
+    while (reader.hasNext()) {
+      count += reader.next().getNumPoints();
+    }
+    return count;
+  }
+  
+  @Benchmark
+  public Geometry roundTripWKB() throws ParseException {
+    return new WKBReader().read(new WKBWriter().write(geom));
+  }
+  
+  @Benchmark
+  public Geometry roundTripWKT() throws ParseException {
+    return new WKTReader().read(new WKTWriter().write(geom));
+  }
+}
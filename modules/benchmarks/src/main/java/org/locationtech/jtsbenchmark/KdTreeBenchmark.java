@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jtsbenchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.index.kdtree.KdTree;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks building and querying a {@link KdTree},
+ * either by inserting points in random order
+ * or by bulk-loading them.
+ *
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class KdTreeBenchmark
+{
+  private static final int NUM_QUERIES = 10000;
+
+  @Param({ "10000", "100000", "1000000" })
+  public int numPts;
+
+  @Param({ "0", "0.5" })
+  public double tolerance;
+
+  private Coordinate[] pts;
+  private List<Envelope> queries;
+  private KdTree insertTree;
+  private KdTree builtTree;
+
+  @Setup
+  public void setup() {
+    pts = BenchmarkData.randomPoints(numPts).getCoordinates();
+    queries = BenchmarkData.randomEnvelopes(NUM_QUERIES);
+    insertTree = insert();
+    builtTree = build();
+  }
+
+  @Benchmark
+  public KdTree insert() {
+    KdTree tree = new KdTree(tolerance);
+    for (Coordinate p : pts) {
+      tree.insert(p);
+    }
+    return tree;
+  }
+
+  @Benchmark
+  public KdTree build() {
+    KdTree tree = new KdTree(tolerance);
+    tree.build(pts);
+    return tree;
+  }
+
+  @Benchmark
+  public int queryInserted() {
+    return query(insertTree);
+  }
+
+  @Benchmark
+  public int queryBuilt() {
+    return query(builtTree);
+  }
+
+  private int query(KdTree tree) {
+    int count = 0;
+    for (Envelope env : queries) {
+      count += tree.query(env).size();
+    }
+    return count;
+  }
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jtsbenchmark;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+import org.locationtech.jts.algorithm.RobustLineIntersector;
+import org.locationtech.jts.geom.LineString;
+import org.locationtech.jts.geom.PrecisionModel;
+import org.locationtech.jts.noding.IntersectionAdder;
+import org.locationtech.jts.noding.MCIndexNoder;
+import org.locationtech.jts.noding.NodedSegmentString;
+import org.locationtech.jts.noding.snapround.SnapRoundingNoder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks the {@link MCIndexNoder} and {@link SnapRoundingNoder},
+ * sequentially and in parallel,
+ * on a set of random-walk lines.
+ *
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class NodingBenchmark
+{
+  private static final int NUM_PTS_PER_LINE = 200;
+  
+  private static final PrecisionModel PREC_MODEL = new PrecisionModel(100);
+  
+  @Param({ "100", "1000" })
+  public int numLines;
+  
+  private List<LineString> lines;
+  
+  @Setup
+  public void setup() {
+    lines = BenchmarkData.randomWalkLines(numLines, NUM_PTS_PER_LINE);
+  }
+  
+  @Benchmark
+  public Collection mcIndexNoder() {
+    return nodeMCIndex(null);
+  }
+  
+  @Benchmark
+  public Collection mcIndexNoderParallel() {
+    return nodeMCIndex(ForkJoinPool.commonPool());
+  }
+  
+  @Benchmark
+  public Collection snapRounding() {
+    return snapRound(null);
+  }
+  
+  @Benchmark
+  public Collection snapRoundingParallel() {
+    return snapRound(ForkJoinPool.commonPool());
+  }
+  
+  private Collection nodeMCIndex(ForkJoinPool pool) {
+    MCIndexNoder noder = new MCIndexNoder(new IntersectionAdder(new RobustLineIntersector()));
+    noder.setPool(pool);
+    noder.computeNodes(segmentStrings());
+    return noder.getNodedSubstrings();
+  }
+  
+  private Collection snapRound(ForkJoinPool pool) {
+    SnapRoundingNoder noder = new SnapRoundingNoder(PREC_MODEL);
+    noder.setPool(pool);
+    noder.computeNodes(segmentStrings());
+    return noder.getNodedSubstrings();
+  }
+  
+  private List<NodedSegmentString> segmentStrings() {
+    List<NodedSegmentString> segStrings = new ArrayList<NodedSegmentString>();
+    for (LineString line : lines) {
+      segStrings.add(new NodedSegmentString(line.getCoordinates(), line));
+    }
+    return segStrings;
+  }
+}
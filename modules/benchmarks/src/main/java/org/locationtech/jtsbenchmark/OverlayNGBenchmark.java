@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jtsbenchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.util.AffineTransformation;
+import org.locationtech.jts.operation.overlayng.OverlayNG;
+import org.locationtech.jts.operation.overlayng.OverlayNGParallel;
+import org.locationtech.jts.operation.overlayng.OverlayNGRobust;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks {@link OverlayNG} operations
+ * on a pair of complex overlapping polygons.
+ *
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class OverlayNGBenchmark
+{
+  @Param({ "1000", "10000", "100000" })
+  public int numPts;
+  
+  private Geometry geomA;
+  private Geometry geomB;
+  
+  @Setup
+  public void setup() {
+    geomA = BenchmarkData.sineStar(numPts);
+    Geometry snowflake = BenchmarkData.kochSnowflake(numPts);
+    // offset the second geometry so the overlay has a non-trivial result
+    geomB = AffineTransformation.translationInstance(100, 100).transform(snowflake);
+  }
+  
+  @Benchmark
+  public Geometry intersection() {
+    return OverlayNG.overlay(geomA, geomB, OverlayNG.INTERSECTION);
+  }
+  
+  @Benchmark
+  public Geometry union() {
+    return OverlayNG.overlay(geomA, geomB, OverlayNG.UNION);
+  }
+  
+  @Benchmark
+  public Geometry difference() {
+    return OverlayNG.overlay(geomA, geomB, OverlayNG.DIFFERENCE);
+  }
+  
+  @Benchmark
+  public Geometry intersectionRobust() {
+    return OverlayNGRobust.overlay(geomA, geomB, OverlayNG.INTERSECTION);
+  }
+  
+  @Benchmark
+  public Geometry intersectionParallel() {
+    return OverlayNGParallel.overlay(geomA, geomB, OverlayNG.INTERSECTION);
+  }
+  
+  @Benchmark
+  public Geometry differenceParallel() {
+    return OverlayNGParallel.overlay(geomA, geomB, OverlayNG.DIFFERENCE);
+  }
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jtsbenchmark;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+import org.locationtech.jts.algorithm.locate.IndexedPointInAreaLocator;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.Geometry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks {@link IndexedPointInAreaLocator}
+ * locating random points in a complex polygon.
+ *
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PointInAreaBenchmark
+{
+  private static final int NUM_POINTS = 100000;
+  
+  @Param({ "1000", "10000", "100000" })
+  public int numPts;
+  
+  private Geometry polygon;
+  private Coordinate[] points;
+  private double[] pointsXY;
+  private int[] locations;
+  private IndexedPointInAreaLocator locator;
+  
+  @Setup
+  public void setup() {
+    polygon = BenchmarkData.kochSnowflake(numPts);
+    points = BenchmarkData.randomPoints(NUM_POINTS).getCoordinates();
+    pointsXY = new double[2 * points.length];
+    for (int i = 0; i < points.length; i++) {
+      pointsXY[2 * i] = points[i].x;
+      pointsXY[2 * i + 1] = points[i].y;
+    }
+    locations = new int[points.length];
+    locator = new IndexedPointInAreaLocator(polygon);
+    // build the index outside the measured code
+    locator.locate(points[0]);
+  }
+  
+  @Benchmark
+  public int locate() {
+    int count = 0;
+    for (Coordinate p : points) {
+      count += locator.locate(p);
+    }
+    return count;
+  }
+  
+  @Benchmark
+  public int[] locateBatch() {
+    locator.locate(pointsXY, locations);
+    return locations;
+  }
+  
+  @Benchmark
+  public int[] locateBatchParallel() {
+    locator.locate(pointsXY, locations, ForkJoinPool.commonPool());
+    return locations;
+  }
+  
+  @Benchmark
+  public int createAndLocate() {
+    IndexedPointInAreaLocator loc = new IndexedPointInAreaLocator(polygon);
+    int count = 0;
+    for (Coordinate p : points) {
+      count += loc.locate(p);
+    }
+    return count;
+  }
+}
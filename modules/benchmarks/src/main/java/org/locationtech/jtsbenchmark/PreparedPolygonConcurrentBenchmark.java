@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jtsbenchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.prep.PreparedGeometry;
+import org.locationtech.jts.geom.prep.PreparedGeometryFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks predicates evaluated concurrently 
+ * against a single shared {@link PreparedGeometry}.
+ * This measures the throughput of the prepared geometry
+ * under contention from many threads.
+ *
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PreparedPolygonConcurrentBenchmark
+{
+  private static final int NUM_POINTS = 1000;
+  
+  @Param({ "1000", "100000" })
+  public int numPts;
+  
+  private PreparedGeometry prepPoly;
+  private List<Geometry> points;
+  
+  @Setup
+  public void setup() {
+    prepPoly = PreparedGeometryFactory.prepare(BenchmarkData.kochSnowflake(numPts));
+    points = BenchmarkData.randomPointList(NUM_POINTS);
+    // create the lazy indexes outside the measured code
+    prepPoly.intersects(points.get(0));
+  }
+  
+  @Benchmark
+  @Threads(1)
+  public int intersectsSingleThread() {
+    return intersectsPoints();
+  }
+  
+  @Benchmark
+  @Threads(Threads.MAX)
+  public int intersectsAllThreads() {
+    return intersectsPoints();
+  }
+  
+  @Benchmark
+  @Threads(Threads.MAX)
+  public int containsAllThreads() {
+    int count = 0;
+    for (Geometry pt : points) {
+      if (prepPoly.contains(pt)) count++;
+    }
+    return count;
+  }
+  
+  private int intersectsPoints() {
+    int count = 0;
+    for (Geometry pt : points) {
+      if (prepPoly.intersects(pt)) count++;
+    }
+    return count;
+  }
+}
@@ -0,0 +1,132 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jtsbenchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.index.quadtree.ConcurrentQuadtree;
+import org.locationtech.jts.index.quadtree.Quadtree;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks querying a quadtree while another thread updates it,
+ * using a {@link ConcurrentQuadtree} 
+ * and a {@link Quadtree} protected by a global lock.
+ * The updater moves items by removing and reinserting them in batches.
+ *
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Group)
+public class QuadtreeConcurrentBenchmark
+{
+  private static final int BATCH_SIZE = 100;
+  private static final double QUERY_SIZE = 20;
+  
+  @Param({ "10000", "100000" })
+  public int numItems;
+  
+  private List<Envelope> envs;
+  private ConcurrentQuadtree concurrentTree;
+  private Quadtree lockedTree;
+  private int queryIndex = 0;
+  private int updateIndex = 0;
+  
+  @Setup
+  public void setup() {
+    envs = BenchmarkData.randomEnvelopes(numItems);
+    concurrentTree = new ConcurrentQuadtree();
+    lockedTree = new Quadtree();
+    for (int i = 0; i < numItems; i++) {
+      concurrentTree.insert(envs.get(i), i);
+      lockedTree.insert(envs.get(i), i);
+    }
+  }
+  
+  @Benchmark
+  @Group("concurrent")
+  @GroupThreads(3)
+  public int queryConcurrent() {
+    return concurrentTree.query(nextQuery()).size();
+  }
+  
+  @Benchmark
+  @Group("concurrent")
+  @GroupThreads(1)
+  public int updateConcurrent() {
+    Envelope[] batchEnvs = new Envelope[BATCH_SIZE];
+    Object[] batchItems = new Object[BATCH_SIZE];
+    nextBatch(batchEnvs, batchItems);
+    concurrentTree.removeAll(batchEnvs, batchItems);
+    concurrentTree.insertAll(batchEnvs, batchItems);
+    return BATCH_SIZE;
+  }
+  
+  @Benchmark
+  @Group("locked")
+  @GroupThreads(3)
+  public int queryLocked() {
+    Envelope queryEnv = nextQuery();
+    synchronized (lockedTree) {
+      return lockedTree.query(queryEnv).size();
+    }
+  }
+  
+  @Benchmark
+  @Group("locked")
+  @GroupThreads(1)
+  public int updateLocked() {
+    Envelope[] batchEnvs = new Envelope[BATCH_SIZE];
+    Object[] batchItems = new Object[BATCH_SIZE];
+    nextBatch(batchEnvs, batchItems);
+    synchronized (lockedTree) {
+      for (int i = 0; i < BATCH_SIZE; i++) {
+        lockedTree.remove(batchEnvs[i], batchItems[i]);
+        lockedTree.insert(batchEnvs[i], batchItems[i]);
+      }
+    }
+    return BATCH_SIZE;
+  }
+  
+  private Envelope nextQuery() {
+    //-- benign race: any item envelope is a suitable query location
+    int i = queryIndex = (queryIndex + 1) % numItems;
+    Envelope env = new Envelope(envs.get(i).centre());
+    env.expandBy(QUERY_SIZE);
+    return env;
+  }
+  
+  private void nextBatch(Envelope[] batchEnvs, Object[] batchItems) {
+    for (int i = 0; i < BATCH_SIZE; i++) {
+      updateIndex = (updateIndex + 1) % numItems;
+      batchEnvs[i] = envs.get(updateIndex);
+      batchItems[i] = updateIndex;
+    }
+  }
+}
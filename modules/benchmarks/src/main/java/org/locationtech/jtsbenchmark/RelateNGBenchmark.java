@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jtsbenchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.operation.relateng.RelateNG;
+import org.locationtech.jts.operation.relateng.RelatePredicate;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks {@link RelateNG} predicates
+ * of a complex polygon against sets of small geometries,
+ * both with and without preparing the polygon,
+ * and with batch parallel evaluation.
+ *
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RelateNGBenchmark
+{
+  private static final int NUM_TARGETS = 1000;
+
+  @Param({ "1000", "10000", "100000" })
+  public int numPts;
+  
+  private Geometry polygon;
+  private RelateNG preparedPolygon;
+  private List<Geometry> points;
+  private List<Geometry> discs;
+  
+  @Setup
+  public void setup() {
+    polygon = BenchmarkData.kochSnowflake(numPts);
+    preparedPolygon = RelateNG.prepare(polygon);
+    points = BenchmarkData.randomPointList(NUM_TARGETS);
+    discs = BenchmarkData.randomDiscs(NUM_TARGETS, 16);
+  }
+  
+  @Benchmark
+  public int intersectsPoints() {
+    int count = 0;
+    for (Geometry pt : points) {
+      if (RelateNG.relate(polygon, pt, RelatePredicate.intersects())) count++;
+    }
+    return count;
+  }
+  
+  @Benchmark
+  public int intersectsPointsPrepared() {
+    int count = 0;
+    for (Geometry pt : points) {
+      if (preparedPolygon.evaluate(pt, RelatePredicate.intersects())) count++;
+    }
+    return count;
+  }
+  
+  @Benchmark
+  public int containsPolygonsPrepared() {
+    int count = 0;
+    for (Geometry disc : discs) {
+      if (preparedPolygon.evaluate(disc, RelatePredicate.contains())) count++;
+    }
+    return count;
+  }
+  
+  @Benchmark
+  public int overlapsPolygonsPrepared() {
+    int count = 0;
+    for (Geometry disc : discs) {
+      if (preparedPolygon.evaluate(disc, RelatePredicate.overlaps())) count++;
+    }
+    return count;
+  }
+  
+  @Benchmark
+  public int overlapsPolygonsPreparedParallel() {
+    return preparedPolygon.evaluateAll(discs, RelatePredicate::overlaps).cardinality();
+  }
+}
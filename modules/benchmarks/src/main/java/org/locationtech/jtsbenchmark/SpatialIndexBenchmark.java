@@ -0,0 +1,187 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jtsbenchmark;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.index.SpatialIndex;
+import org.locationtech.jts.index.hprtree.DynamicHPRtree;
+import org.locationtech.jts.index.hprtree.HPRtree;
+import org.locationtech.jts.index.strtree.PackedSTRtree;
+import org.locationtech.jts.index.strtree.STRtree;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks building and querying 
+ * the {@link STRtree} and {@link HPRtree} indexes.
+ * The STRtree is also built in parallel,
+ * and queried in its packed form ({@link PackedSTRtree}).
+ * <p>
+ * Updating is benchmarked by a "tick" which moves 5% of the items
+ * and then runs the queries,
+ * either by updating a {@link DynamicHPRtree}
+ * or by rebuilding a {@link STRtree}.
+ *
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SpatialIndexBenchmark
+{
+  private static final int NUM_QUERIES = 10000;
+  
+  @Param({ "10000", "100000", "1000000" })
+  public int numItems;
+  
+  private List<Envelope> items;
+  private List<Envelope> queries;
+  private STRtree strTree;
+  private PackedSTRtree packedTree;
+  private HPRtree hprTree;
+  private Envelope[] itemEnvs;
+  private List<Envelope> moveEnvs;
+  private int moveIndex = 0;
+  private DynamicHPRtree dynamicTree;
+  private ForkJoinPool pool;
+  
+  @Setup
+  public void setup() {
+    items = BenchmarkData.randomEnvelopes(numItems);
+    queries = BenchmarkData.randomEnvelopes(NUM_QUERIES, BenchmarkData.SEED + 1);
+    strTree = buildSTRtree();
+    packedTree = strTree.pack();
+    hprTree = buildHPRtree();
+    
+    itemEnvs = items.toArray(new Envelope[0]);
+    moveEnvs = BenchmarkData.randomEnvelopes(numItems, BenchmarkData.SEED + 2);
+    dynamicTree = new DynamicHPRtree();
+    load(dynamicTree);
+    dynamicTree.build();
+    pool = new ForkJoinPool();
+  }
+  
+  @TearDown
+  public void tearDown() {
+    pool.shutdown();
+  }
+  
+  @Benchmark
+  public STRtree buildSTRtree() {
+    STRtree tree = new STRtree();
+    load(tree);
+    tree.build();
+    return tree;
+  }
+  
+  @Benchmark
+  public STRtree buildSTRtreeParallel() {
+    STRtree tree = new STRtree();
+    tree.setPool(pool);
+    load(tree);
+    tree.build();
+    return tree;
+  }
+  
+  @Benchmark
+  public HPRtree buildHPRtree() {
+    HPRtree tree = new HPRtree();
+    load(tree);
+    tree.build();
+    return tree;
+  }
+  
+  @Benchmark
+  public int querySTRtree() {
+    return query(strTree);
+  }
+  
+  @Benchmark
+  public int queryPackedSTRtree() {
+    return query(packedTree);
+  }
+  
+  @Benchmark
+  public int queryHPRtree() {
+    return query(hprTree);
+  }
+  
+  @Benchmark
+  public int tickDynamicHPRtree() {
+    int numMoves = numItems / 20;
+    for (int i = 0; i < numMoves; i++) {
+      int index = nextMove();
+      Envelope item = items.get(index);
+      dynamicTree.remove(itemEnvs[index], item);
+      itemEnvs[index] = moveEnvelope(index);
+      dynamicTree.insert(itemEnvs[index], item);
+    }
+    return query(dynamicTree);
+  }
+  
+  @Benchmark
+  public int tickSTRtree() {
+    int numMoves = numItems / 20;
+    for (int i = 0; i < numMoves; i++) {
+      int index = nextMove();
+      itemEnvs[index] = moveEnvelope(index);
+    }
+    STRtree tree = new STRtree();
+    for (int i = 0; i < numItems; i++) {
+      tree.insert(itemEnvs[i], items.get(i));
+    }
+    return query(tree);
+  }
+  
+  /**
+   * Moves an item between its original envelope and a random one.
+   */
+  private Envelope moveEnvelope(int index) {
+    Envelope env = items.get(index);
+    return itemEnvs[index] == env ? moveEnvs.get(index) : env;
+  }
+  
+  private int nextMove() {
+    moveIndex = (moveIndex + 7919) % numItems;
+    return moveIndex;
+  }
+  
+  private void load(SpatialIndex index) {
+    for (Envelope env : items) {
+      index.insert(env, env);
+    }
+  }
+  
+  private int query(SpatialIndex index) {
+    int count = 0;
+    for (Envelope env : queries) {
+      count += index.query(env).size();
+    }
+    return count;
+  }
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jtsbenchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.prep.PreparedGeometry;
+import org.locationtech.jts.geom.prep.PreparedGeometryFactory;
+import org.locationtech.jts.index.strtree.STRtree;
+import org.locationtech.jts.operation.join.SpatialJoin;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks {@link SpatialJoin} of random discs and points,
+ * compared to the usual loop which queries an {@link STRtree}
+ * and evaluates a {@link PreparedGeometry} predicate.
+ *
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SpatialJoinBenchmark
+{
+  private static final int NUM_POLYS = 1000;
+  
+  @Param({ "10000", "100000" })
+  public int numPoints;
+  
+  private List<Geometry> polys;
+  private List<Geometry> points;
+  private SpatialJoin join;
+  private SpatialJoin joinParallel;
+  
+  @Setup
+  public void setup() {
+    polys = BenchmarkData.randomDiscs(NUM_POLYS, 64);
+    points = BenchmarkData.randomPointList(numPoints);
+    join = new SpatialJoin();
+    joinParallel = new SpatialJoin();
+    joinParallel.setPool(ForkJoinPool.commonPool());
+  }
+  
+  @Benchmark
+  public List<int[]> joinLoop() {
+    STRtree index = new STRtree();
+    for (int i = 0; i < polys.size(); i++) {
+      Geometry poly = polys.get(i);
+      index.insert(poly.getEnvelopeInternal(), i);
+    }
+    PreparedGeometry[] prepPolys = new PreparedGeometry[polys.size()];
+    List<int[]> pairs = new ArrayList<int[]>();
+    for (int j = 0; j < points.size(); j++) {
+      Geometry pt = points.get(j);
+      for (Object item : index.query(pt.getEnvelopeInternal())) {
+        int i = (Integer) item;
+        if (prepPolys[i] == null) {
+          prepPolys[i] = PreparedGeometryFactory.prepare(polys.get(i));
+        }
+        if (prepPolys[i].intersects(pt)) {
+          pairs.add(new int[] { i, j });
+        }
+      }
+    }
+    return pairs;
+  }
+  
+  @Benchmark
+  public int[][] joinIntersects() {
+    return join.joinIntersects(polys, points);
+  }
+  
+  @Benchmark
+  public int[][] joinIntersectsParallel() {
+    return joinParallel.joinIntersects(polys, points);
+  }
+}
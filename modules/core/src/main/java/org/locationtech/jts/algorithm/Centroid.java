@@ -12,11 +12,13 @@
 package org.locationtech.jts.algorithm;
 
 import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.CoordinateSequence;
 import org.locationtech.jts.geom.Geometry;
 import org.locationtech.jts.geom.GeometryCollection;
 import org.locationtech.jts.geom.LineString;
 import org.locationtech.jts.geom.Point;
 import org.locationtech.jts.geom.Polygon;
+import org.locationtech.jts.math.MathUtil;
 
 /**
  * Computes the centroid of a {@link Geometry} of any dimension.
@@ -62,8 +64,8 @@ public class Centroid
     return cent.getCentroid();
   }
   
-  private Coordinate areaBasePt = null;// the point all triangles are based at
-  private Coordinate triangleCent3 = new Coordinate();// temporary variable to hold centroid of triangle
+  private double areaBaseX;            // the point all triangles are based at
+  private double areaBaseY;
   private double  areasum2 = 0;        /* Partial area sum */
   private Coordinate cg3 = new Coordinate(); // partial centroid sum
   
@@ -79,7 +81,6 @@ public class Centroid
    */
   public Centroid(Geometry geom)
   {
-    areaBasePt = null;
     add(geom);
   }
 
@@ -96,7 +97,7 @@ public class Centroid
       addPoint(geom.getCoordinate());
     }
     else if (geom instanceof LineString) {
-      addLineSegments(geom.getCoordinates());
+      addLineSegments(((LineString) geom).getCoordinateSequence());
     }
     else if (geom instanceof Polygon) {
       Polygon poly = (Polygon) geom;
@@ -151,94 +152,112 @@ public class Centroid
     return cent;
   }
 
-  private void setAreaBasePoint(Coordinate basePt)
-  {
-      this.areaBasePt = basePt;
-  }
+  /*
+   * The ring and line coordinates are accessed via the CoordinateSequence ordinates,
+   * to avoid allocating Coordinates for every vertex.
+   */
   
   private void add(Polygon poly)
   {
-    addShell(poly.getExteriorRing().getCoordinates());
+    addShell(poly.getExteriorRing().getCoordinateSequence());
     for (int i = 0; i < poly.getNumInteriorRing(); i++) {
-      addHole(poly.getInteriorRingN(i).getCoordinates());
+      addHole(poly.getInteriorRingN(i).getCoordinateSequence());
     }
   }
 
-  private void addShell(Coordinate[] pts)
+  private void addShell(CoordinateSequence pts)
   {
-    if (pts.length > 0) 
-      setAreaBasePoint(pts[0]);
-    boolean isPositiveArea = ! Orientation.isCCW(pts);
-    for (int i = 0; i < pts.length - 1; i++) {
-      addTriangle(areaBasePt, pts[i], pts[i+1], isPositiveArea);
+    if (pts.size() > 0) { 
+      areaBaseX = pts.getX(0);
+      areaBaseY = pts.getY(0);
     }
+    boolean isPositiveArea = ! Orientation.isCCW(pts);
+    addTriangles(pts, isPositiveArea);
     addLineSegments(pts);
   }
   
-  private void addHole(Coordinate[] pts)
+  private void addHole(CoordinateSequence pts)
   {
     boolean isPositiveArea = Orientation.isCCW(pts);
-    for (int i = 0; i < pts.length - 1; i++) {
-      addTriangle(areaBasePt, pts[i], pts[i+1], isPositiveArea);
-    }
+    addTriangles(pts, isPositiveArea);
     addLineSegments(pts);
   }
-  private void addTriangle(Coordinate p0, Coordinate p1, Coordinate p2, boolean isPositiveArea)
+  
+  private void addTriangles(CoordinateSequence pts, boolean isPositiveArea)
   {
-    double sign = (isPositiveArea) ? 1.0 : -1.0;
-    centroid3( p0, p1, p2, triangleCent3 );
-    double area2 =  area2( p0, p1, p2 );
-    cg3.x += sign * area2 * triangleCent3.x;
-    cg3.y += sign * area2 * triangleCent3.y;
-    areasum2 += sign * area2;
+    int n = pts.size();
+    if (n < 2) 
+      return;
+    double x1 = pts.getX(0);
+    double y1 = pts.getY(0);
+    for (int i = 1; i < n; i++) {
+      double x2 = pts.getX(i);
+      double y2 = pts.getY(i);
+      addTriangle(areaBaseX, areaBaseY, x1, y1, x2, y2, isPositiveArea);
+      x1 = x2;
+      y1 = y2;
+    }
   }
-  /**
-   * Computes three times the centroid of the triangle p1-p2-p3.
-   * The factor of 3 is
-   * left in to permit division to be avoided until later.
-   */
-  private static void centroid3( Coordinate p1, Coordinate p2, Coordinate p3, Coordinate c )
+  
+  private void addTriangle(double x0, double y0, double x1, double y1, 
+      double x2, double y2, boolean isPositiveArea)
   {
-    c.x = p1.x + p2.x + p3.x;
-    c.y = p1.y + p2.y + p3.y;
-    return;
+    double sign = (isPositiveArea) ? 1.0 : -1.0;
+    // three times the centroid of the triangle (division is deferred)
+    double cent3x = x0 + x1 + x2;
+    double cent3y = y0 + y1 + y2;
+    double area2 =  area2( x0, y0, x1, y1, x2, y2 );
+    cg3.x += sign * area2 * cent3x;
+    cg3.y += sign * area2 * cent3y;
+    areasum2 += sign * area2;
   }
 
   /**
    * Returns twice the signed area of the triangle p1-p2-p3.
    * The area is positive if the triangle is oriented CCW, and negative if CW.
    */
-  private static double area2( Coordinate p1, Coordinate p2, Coordinate p3 )
+  private static double area2( double x1, double y1, double x2, double y2, 
+      double x3, double y3 )
   {
     return
-    (p2.x - p1.x) * (p3.y - p1.y) -
-        (p3.x - p1.x) * (p2.y - p1.y);
+    (x2 - x1) * (y3 - y1) -
+        (x3 - x1) * (y2 - y1);
   }
 
   /**
-   * Adds the line segments defined by an array of coordinates
+   * Adds the line segments defined by a sequence of coordinates
    * to the linear centroid accumulators.
    * 
-   * @param pts an array of {@link Coordinate}s
+   * @param pts a sequence of coordinates
    */
-  private void addLineSegments(Coordinate[] pts)
+  private void addLineSegments(CoordinateSequence pts)
   {
+    int n = pts.size();
+    if (n == 0) 
+      return;
     double lineLen = 0.0;
-    for (int i = 0; i < pts.length - 1; i++) {
-      double segmentLen = pts[i].distance(pts[i + 1]);
-      if (segmentLen == 0.0)
-        continue;
-      
-      lineLen += segmentLen;
-
-      double midx = (pts[i].x + pts[i + 1].x) / 2;
-      lineCentSum.x += segmentLen * midx;
-      double midy = (pts[i].y + pts[i + 1].y) / 2;
-      lineCentSum.y += segmentLen * midy;
+    double x0 = pts.getX(0);
+    double y0 = pts.getY(0);
+    double x1 = x0;
+    double y1 = y0;
+    for (int i = 1; i < n; i++) {
+      double x2 = pts.getX(i);
+      double y2 = pts.getY(i);
+      double segmentLen = MathUtil.hypot(x2 - x1, y2 - y1);
+      if (segmentLen != 0.0) {
+        lineLen += segmentLen;
+  
+        double midx = (x1 + x2) / 2;
+        lineCentSum.x += segmentLen * midx;
+        double midy = (y1 + y2) / 2;
+        lineCentSum.y += segmentLen * midy;
+      }
+      x1 = x2;
+      y1 = y2;
     }
     totalLength += lineLen;
-    if (lineLen == 0.0 && pts.length > 0)
-      addPoint(pts[0]);
+    if (lineLen == 0.0)
+      addPoint(x0, y0);
   }
 
   /**
@@ -246,10 +265,15 @@ public class Centroid
    * @param pt a {@link Coordinate}
    */
   private void addPoint(Coordinate pt)
+  {
+    addPoint(pt.x, pt.y);
+  }
+
+  private void addPoint(double x, double y)
   {
     ptCount += 1;
-    ptCentSum.x += pt.x;
-    ptCentSum.y += pt.y;
+    ptCentSum.x += x;
+    ptCentSum.y += y;
   }
 
 
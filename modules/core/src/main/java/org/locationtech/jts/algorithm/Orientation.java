@@ -104,6 +104,28 @@ public class Orientation {
     //return RobustDeterminant.orientationIndex(p1, p2, q);
   }
 
+  /**
+   * Returns the orientation index of the direction of the point <code>q</code> relative to
+   * a directed infinite line specified by <code>p1-p2</code>,
+   * with the points given by their ordinates.
+   * This allows computing orientation directly from 
+   * the ordinates in a {@link CoordinateSequence}
+   * without creating {@link Coordinate}s.
+   * 
+   * @param p1x the x ordinate of the origin point of the line vector
+   * @param p1y the y ordinate of the origin point of the line vector
+   * @param p2x the x ordinate of the final point of the line vector
+   * @param p2y the y ordinate of the final point of the line vector
+   * @param qx the x ordinate of the point to compute the direction to
+   * @param qy the y ordinate of the point to compute the direction to
+   * 
+   * @return the orientation index (see {@link #index(Coordinate, Coordinate, Coordinate)})
+   */
+  public static int index(double p1x, double p1y, double p2x, double p2y, double qx, double qy)
+  {
+    return CGAlgorithmsDD.orientationIndex(p1x, p1y, p2x, p2y, qx, qy);
+  }
+
   /**
    * Tests if a ring defined by an array of {@link Coordinate}s is
    * oriented counter-clockwise.
@@ -161,20 +183,20 @@ public class Orientation {
      * and the ring must be flat.
      * Note this relies on the convention that
      * rings have the same start and end point. 
+     * 
+     * Ordinates are accessed directly to avoid creating Coordinates.
      */
-    Coordinate upHiPt = ring.getCoordinate(0);
-    double prevY = upHiPt.y;
-    Coordinate upLowPt = null;
+    double upHiY = ring.getY(0);
+    double prevY = upHiY;
     int iUpHi = 0;
     for (int i = 1; i <= nPts; i++) {
-      double py = ring.getOrdinate(i, Coordinate.Y);
+      double py = ring.getY(i);
       /**
        * If segment is upwards and endpoint is higher, record it
        */
-      if (py > prevY && py >= upHiPt.y) {
-        upHiPt = ring.getCoordinate(i);
+      if (py > prevY && py >= upHiY) {
+        upHiY = py;
         iUpHi = i;
-        upLowPt = ring.getCoordinate(i-1);
       }
       prevY = py;
     }
@@ -183,6 +205,10 @@ public class Orientation {
      */
     if (iUpHi == 0) return false;
     
+    double upHiX = ring.getX(iUpHi);
+    double upLowX = ring.getX(iUpHi - 1);
+    double upLowY = ring.getY(iUpHi - 1);
+    
     /**
      * Find the next lower point after the high point
      * (e.g. a falling segment).
@@ -191,11 +217,13 @@ public class Orientation {
     int iDownLow = iUpHi;
     do {
       iDownLow = (iDownLow + 1) % nPts;
-    } while (iDownLow != iUpHi && ring.getOrdinate(iDownLow, Coordinate.Y) == upHiPt.y );
+    } while (iDownLow != iUpHi && ring.getY(iDownLow) == upHiY );
 
-    Coordinate downLowPt = ring.getCoordinate(iDownLow);
+    double downLowX = ring.getX(iDownLow);
+    double downLowY = ring.getY(iDownLow);
     int iDownHi = iDownLow > 0 ? iDownLow - 1 : nPts - 1;
-    Coordinate downHiPt = ring.getCoordinate(iDownHi);
+    double downHiX = ring.getX(iDownHi);
+    double downHiY = ring.getY(iDownHi);
   
     /**
      * Two cases can occur:
@@ -206,14 +234,16 @@ public class Orientation {
      *    In this case the top of the cap is flat.
      *    The ring orientation is given by the direction of the flat segment
      */
-    if (upHiPt.equals2D(downHiPt)) {
+    if (upHiX == downHiX && upHiY == downHiY) {
       /**
        * Check for the case where the cap has configuration A-B-A. 
        * This can happen if the ring does not contain 3 distinct points
        * (including the case where the input array has fewer than 4 elements), or
        * it contains coincident line segments.
        */
-      if (upLowPt.equals2D(upHiPt) || downLowPt.equals2D(upHiPt) || upLowPt.equals2D(downLowPt))
+      if ((upLowX == upHiX && upLowY == upHiY)
+          || (downLowX == upHiX && downLowY == upHiY) 
+          || (upLowX == downLowX && upLowY == downLowY))
         return false;
     
       /**
@@ -221,14 +251,14 @@ public class Orientation {
        * This is an invalid ring, which cannot be computed correctly.
        * In this case the orientation is 0, and the result is false.
        */
-      int index = index(upLowPt, upHiPt, downLowPt);
+      int index = index(upLowX, upLowY, upHiX, upHiY, downLowX, downLowY);
       return index == COUNTERCLOCKWISE;
     }
     else {
       /**
        * Flat cap - direction of flat top determines orientation
        */
-      double delX = downHiPt.x - upHiPt.x;
+      double delX = downHiX - upHiX;
       return delX < 0;
     }
   }
@@ -130,4 +130,25 @@ public class PointLocation {
     return RayCrossingCounter.locatePointInRing(p, ring);
   }
 
+  /**
+   * Determines whether a point lies in the interior, on the boundary, or in the
+   * exterior of a ring. The ring may be oriented in either direction.
+   * The ring ordinates are accessed directly, 
+   * so no {@link Coordinate}s are created.
+   * <p>
+   * This method does <i>not</i> first check the point against the envelope of
+   * the ring.
+   * 
+   * @param p
+   *          point to check for ring inclusion
+   * @param ring
+   *          a sequence of coordinates representing the ring (which must have
+   *          first point identical to last point)
+   * @return the {@link Location} of p relative to the ring
+   */
+  public static int locateInRing(Coordinate p, CoordinateSequence ring)
+  {
+    return RayCrossingCounter.locatePointInRing(p, ring);
+  }
+
 }
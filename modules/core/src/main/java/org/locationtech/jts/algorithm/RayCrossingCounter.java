@@ -82,30 +82,61 @@ public class RayCrossingCounter
   public static int locatePointInRing(Coordinate p, CoordinateSequence ring) {
     RayCrossingCounter counter = new RayCrossingCounter(p);
 
-    Coordinate p1 = new Coordinate();
-    Coordinate p2 = new Coordinate();
-    for (int i = 1; i < ring.size(); i++) {
-      //ring.getCoordinate(i, p1); // throws exception if ring contains M ordinate
-      p1.x = ring.getOrdinate(i, CoordinateSequence.X);
-      p1.y = ring.getOrdinate(i, CoordinateSequence.Y);
-      //ring.getCoordinate(i - 1, p2); // throws exception if ring contains M ordinate
-      p2.x = ring.getOrdinate(i - 1, CoordinateSequence.X);
-      p2.y = ring.getOrdinate(i - 1, CoordinateSequence.Y);
-      counter.countSegment(p1, p2);
+    int n = ring.size();
+    if (n < 2) 
+      return counter.getLocation();
+    // ordinates are accessed directly to avoid creating Coordinates
+    double x2 = ring.getX(0);
+    double y2 = ring.getY(0);
+    for (int i = 1; i < n; i++) {
+      double x1 = ring.getX(i);
+      double y1 = ring.getY(i);
+      counter.countSegment(x1, y1, x2, y2);
       if (counter.isOnSegment())
         return counter.getLocation();
+      x2 = x1;
+      y2 = y1;
     }
     return counter.getLocation();
   }
 
-	private Coordinate p;
+	private double px;
+	private double py;
 	private int crossingCount = 0;
 	// true if the test point lies on an input segment
 	private boolean isPointOnSegment = false;
 	
 	public RayCrossingCounter(Coordinate p)
 	{
-		this.p = p;
+		this(p.x, p.y);
+	}
+	
+	/**
+	 * Creates a counter for a point specified by its ordinates.
+	 * 
+	 * @param x the x ordinate of the test point
+	 * @param y the y ordinate of the test point
+	 */
+	public RayCrossingCounter(double x, double y)
+	{
+		this.px = x;
+		this.py = y;
+	}
+	
+	/**
+	 * Resets this counter to test a new point.
+	 * This allows a single counter to be reused 
+	 * when locating many points.
+	 * 
+	 * @param x the x ordinate of the test point
+	 * @param y the y ordinate of the test point
+	 */
+	public void reset(double x, double y)
+	{
+		this.px = x;
+		this.py = y;
+		crossingCount = 0;
+		isPointOnSegment = false;
 	}
 	
 	/**
@@ -115,17 +146,31 @@ public class RayCrossingCounter
 	 * @param p2 another endpoint of the segment
 	 */
 	public void countSegment(Coordinate p1, Coordinate p2) {
+	  countSegment(p1.x, p1.y, p2.x, p2.y);
+	}
+	
+	/**
+	 * Counts a segment specified by the ordinates of its endpoints.
+	 * This avoids creating {@link Coordinate}s 
+	 * when the segments are read from a {@link CoordinateSequence}.
+	 * 
+	 * @param x1 the x ordinate of an endpoint of the segment
+	 * @param y1 the y ordinate of an endpoint of the segment
+	 * @param x2 the x ordinate of another endpoint of the segment
+	 * @param y2 the y ordinate of another endpoint of the segment
+	 */
+	public void countSegment(double x1, double y1, double x2, double y2) {
 		/**
 		 * For each segment, check if it crosses 
 		 * a horizontal ray running from the test point in the positive x direction.
 		 */
 		
 		// check if the segment is strictly to the left of the test point
-		if (p1.x < p.x && p2.x < p.x)
+		if (x1 < px && x2 < px)
 			return;
 		
 		// check if the point is equal to the current ring vertex
-		if (p.x == p2.x && p.y == p2.y) {
+		if (px == x2 && py == y2) {
 			isPointOnSegment = true;
 			return;
 		}
@@ -133,14 +178,14 @@ public class RayCrossingCounter
 		 * For horizontal segments, check if the point is on the segment.
 		 * Otherwise, horizontal segments are not counted.
 		 */
-		if (p1.y == p.y && p2.y == p.y) {
-			double minx = p1.x;
-			double maxx = p2.x;
+		if (y1 == py && y2 == py) {
+			double minx = x1;
+			double maxx = x2;
 			if (minx > maxx) {
-				minx = p2.x;
-				maxx = p1.x;
+				minx = x2;
+				maxx = x1;
 			}
-			if (p.x >= minx && p.x <= maxx) {
+			if (px >= minx && px <= maxx) {
 				isPointOnSegment = true;
 			}
 			return;
@@ -156,15 +201,15 @@ public class RayCrossingCounter
 		 * final endpoint
 		 * </ul>
 		 */
-		if (((p1.y > p.y) && (p2.y <= p.y)) 
-				|| ((p2.y > p.y) && (p1.y <= p.y))) {
-      int orient = Orientation.index(p1, p2, p);
+		if (((y1 > py) && (y2 <= py)) 
+				|| ((y2 > py) && (y1 <= py))) {
+      int orient = Orientation.index(x1, y1, x2, y2, px, py);
       if (orient == Orientation.COLLINEAR) {
         isPointOnSegment = true;
         return;
       }
       // Re-orient the result if needed to ensure effective segment direction is upwards
-      if (p2.y < p1.y) {
+      if (y2 < y1) {
         orient = -orient;
       }
       // The upward segment crosses the ray if the test point lies to the left (CCW) of the segment.
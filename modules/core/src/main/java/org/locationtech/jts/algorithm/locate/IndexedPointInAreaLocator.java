@@ -12,8 +12,11 @@
 package org.locationtech.jts.algorithm.locate;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Iterator;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
 
 import org.locationtech.jts.algorithm.RayCrossingCounter;
 import org.locationtech.jts.geom.Coordinate;
@@ -45,6 +48,9 @@ import org.locationtech.jts.index.intervalrtree.SortedPackedIntervalRTree;
  * The index is lazy-loaded, which allows
  * creating instances even if they are not used.
  * <p>
+ * Large numbers of points can be located efficiently 
+ * using the batch method {@link #locate(double[], int[], ForkJoinPool)}.
+ * <p>
  * Thread-safe and immutable.
  *
  * @author Martin Davis
@@ -94,6 +100,62 @@ public class IndexedPointInAreaLocator
     return rcc.getLocation();
   }
 
+  /**
+   * Determines the {@link Location}s of a batch of points 
+   * in an areal {@link Geometry}.
+   * The points are provided as a packed array of X,Y ordinates.
+   * 
+   * @param xy the ordinates of the points to test, as X,Y pairs
+   * @param locations the array to store the point locations in
+   * 
+   * @see #locate(double[], int[], ForkJoinPool)
+   */
+  public void locate(double[] xy, int[] locations)
+  {
+    locate(xy, locations, null);
+  }
+  
+  /**
+   * Determines the {@link Location}s of a batch of points 
+   * in an areal {@link Geometry},
+   * optionally locating the points in parallel using a {@link ForkJoinPool}.
+   * The points are provided as a packed array of X,Y ordinates.
+   * The location of the point with index <code>i</code> 
+   * (at ordinates <code>xy[2*i], xy[2*i+1]</code>)
+   * is stored in <code>locations[i]</code>.
+   * <p>
+   * This is faster than locating each point separately.
+   * The points are grouped into horizontal bands by Y ordinate,
+   * and the index is queried once for each band.
+   * The points in a band are then tested against the segments 
+   * found for the band, reusing a single {@link RayCrossingCounter}.
+   * Points outside the Y-extent of the geometry 
+   * are located without querying the index.
+   * If a pool is provided the bands are located in parallel.
+   * 
+   * @param xy the ordinates of the points to test, as X,Y pairs
+   * @param locations the array to store the point locations in
+   * @param pool the pool to run the location tasks in, or null to run sequentially
+   */
+  public void locate(double[] xy, int[] locations, ForkJoinPool pool)
+  {
+    int n = xy.length / 2;
+    if (locations.length < n)
+      throw new IllegalArgumentException("Locations array is smaller than the number of points");
+    
+    // avoid calling synchronized method improves performance
+    if (index == null) createIndex();
+    
+    PointBands bands = new PointBands(index, xy, locations);
+    LocateTask task = new LocateTask(index, bands, xy, locations, 0, bands.size());
+    if (pool == null) {
+      task.locate();
+    }
+    else {
+      pool.invoke(task);
+    }
+  }
+  
   /**
    * Creates the indexed geometry, creating it if necessary.
    */
@@ -122,10 +184,227 @@ public class IndexedPointInAreaLocator
     }
   }
   
+  /**
+   * Groups a batch of points into horizontal bands
+   * covering the Y-extent of an indexed geometry,
+   * using a counting sort on the band index.
+   * Points lying outside the Y-extent are not included in any band,
+   * and are assigned the {@link Location#EXTERIOR} location.
+   */
+  private static class PointBands
+  {
+    /**
+     * The target number of points in each band.
+     */
+    private static final int BAND_POINTS = 8;
+    
+    private int numBands;
+    private double minY;
+    private double maxY;
+    private double bandHeight;
+    private int[] bandStart;
+    private int[] order;
+    
+    public PointBands(IntervalIndexedGeometry index, double[] xy, int[] locations)
+    {
+      int n = xy.length / 2;
+      minY = index.getMinY();
+      maxY = index.getMaxY();
+      numBands = Math.max(1, Math.min(index.size(), n / BAND_POINTS));
+      if (maxY <= minY) 
+        numBands = 1;
+      bandHeight = (maxY - minY) / numBands;
+      
+      bandStart = new int[numBands + 1];
+      for (int i = 0; i < n; i++) {
+        int band = bandIndex(xy[2 * i + 1]);
+        if (band < 0) {
+          locations[i] = Location.EXTERIOR;
+          continue;
+        }
+        bandStart[band + 1]++;
+      }
+      for (int b = 0; b < numBands; b++) {
+        bandStart[b + 1] += bandStart[b];
+      }
+      order = new int[bandStart[numBands]];
+      int[] next = Arrays.copyOf(bandStart, numBands);
+      for (int i = 0; i < n; i++) {
+        int band = bandIndex(xy[2 * i + 1]);
+        if (band >= 0) {
+          order[next[band]++] = i;
+        }
+      }
+    }
+    
+    /**
+     * Computes the band containing a Y ordinate.
+     * 
+     * @param y the Y ordinate
+     * @return the band index, or -1 if the ordinate is outside the Y-extent
+     */
+    private int bandIndex(double y)
+    {
+      // also handles NaN and empty extents
+      if (! (y >= minY && y <= maxY))
+        return -1;
+      if (numBands == 1)
+        return 0;
+      int band = (int) ((y - minY) / bandHeight);
+      if (band >= numBands)
+        band = numBands - 1;
+      return band;
+    }
+    
+    public int size() { return numBands; }
+    
+    public int start(int band) { return bandStart[band]; }
+    
+    public int end(int band) { return bandStart[band + 1]; }
+    
+    /**
+     * Gets the index of a point in the band ordering.
+     * 
+     * @param i the position of the point in the band ordering
+     * @return the index of the point in the input
+     */
+    public int pointIndex(int i) { return order[i]; }
+  }
+  
+  /**
+   * Locates the points in a range of bands,
+   * splitting the range until it is small enough to locate sequentially.
+   * Each task writes only the locations of the points in its bands.
+   */
+  private static class LocateTask extends RecursiveAction
+  {
+    /**
+     * The number of points located sequentially by a task.
+     */
+    private static final int SEQUENTIAL_SIZE = 4096;
+    
+    private IntervalIndexedGeometry index;
+    private PointBands bands;
+    private double[] xy;
+    private int[] locations;
+    private int bandFrom;
+    private int bandTo;
+    
+    LocateTask(IntervalIndexedGeometry index, PointBands bands, double[] xy, int[] locations,
+        int bandFrom, int bandTo)
+    {
+      this.index = index;
+      this.bands = bands;
+      this.xy = xy;
+      this.locations = locations;
+      this.bandFrom = bandFrom;
+      this.bandTo = bandTo;
+    }
+    
+    @Override
+    protected void compute()
+    {
+      int numPts = bands.start(bandTo) - bands.start(bandFrom);
+      if (numPts <= SEQUENTIAL_SIZE || bandTo - bandFrom <= 1) {
+        locate();
+        return;
+      }
+      int mid = (bandFrom + bandTo) >>> 1;
+      invokeAll(new LocateTask(index, bands, xy, locations, bandFrom, mid),
+          new LocateTask(index, bands, xy, locations, mid, bandTo));
+    }
+    
+    void locate()
+    {
+      SegmentBuffer segs = new SegmentBuffer();
+      RayCrossingCounter rcc = new RayCrossingCounter(0, 0);
+      for (int b = bandFrom; b < bandTo; b++) {
+        int start = bands.start(b);
+        int end = bands.end(b);
+        if (start == end)
+          continue;
+        
+        //-- query the index for the exact Y-extent of the points in the band
+        double minY = Double.POSITIVE_INFINITY;
+        double maxY = Double.NEGATIVE_INFINITY;
+        for (int i = start; i < end; i++) {
+          double y = xy[2 * bands.pointIndex(i) + 1];
+          if (y < minY) minY = y;
+          if (y > maxY) maxY = y;
+        }
+        segs.clear();
+        index.query(minY, maxY, segs);
+        
+        for (int i = start; i < end; i++) {
+          int pi = bands.pointIndex(i);
+          double x = xy[2 * pi];
+          double y = xy[2 * pi + 1];
+          rcc.reset(x, y);
+          segs.count(rcc, y);
+          locations[pi] = rcc.getLocation();
+        }
+      }
+    }
+  }
+  
+  /**
+   * Collects the segments found by an index query
+   * into arrays of ordinates, for fast repeated scanning.
+   * The arrays are reused for each query.
+   */
+  private static class SegmentBuffer
+    implements ItemVisitor
+  {
+    private double[] ords = new double[64];
+    private int size = 0;
+    
+    public void clear()
+    {
+      size = 0;
+    }
+    
+    public void visitItem(Object item)
+    {
+      LineSegment seg = (LineSegment) item;
+      if (4 * size + 4 > ords.length) {
+        ords = Arrays.copyOf(ords, 2 * ords.length);
+      }
+      int i = 4 * size;
+      ords[i] = seg.p0.x;
+      ords[i + 1] = seg.p0.y;
+      ords[i + 2] = seg.p1.x;
+      ords[i + 3] = seg.p1.y;
+      size++;
+    }
+    
+    /**
+     * Counts the segments which span a Y ordinate.
+     * 
+     * @param counter the counter to use
+     * @param y the Y ordinate of the test point
+     */
+    public void count(RayCrossingCounter counter, double y)
+    {
+      int n = 4 * size;
+      for (int i = 0; i < n; i += 4) {
+        double y1 = ords[i + 1];
+        double y2 = ords[i + 3];
+        if ((y < y1 && y < y2) || (y > y1 && y > y2))
+          continue;
+        counter.countSegment(ords[i], y1, ords[i + 2], y2);
+        if (counter.isOnSegment())
+          return;
+      }
+    }
+  }
+  
   private static class IntervalIndexedGeometry
   {
     private final boolean isEmpty;
     private final SortedPackedIntervalRTree index= new SortedPackedIntervalRTree();
+    private double minY = Double.POSITIVE_INFINITY;
+    private double maxY = Double.NEGATIVE_INFINITY;
+    private int size = 0;
 
     public IntervalIndexedGeometry(Geometry geom)
     {
@@ -158,9 +437,33 @@ public class IndexedPointInAreaLocator
         double min = Math.min(seg.p0.y, seg.p1.y);
         double max = Math.max(seg.p0.y, seg.p1.y);
         index.insert(min, max, seg);
+        if (min < minY) minY = min;
+        if (max > maxY) maxY = max;
+        size++;
       }
     }
     
+    /**
+     * Gets the minimum Y ordinate of the indexed segments.
+     * 
+     * @return the minimum Y ordinate, or +Infinity if there are no segments
+     */
+    public double getMinY() { return minY; }
+    
+    /**
+     * Gets the maximum Y ordinate of the indexed segments.
+     * 
+     * @return the maximum Y ordinate, or -Infinity if there are no segments
+     */
+    public double getMaxY() { return maxY; }
+    
+    /**
+     * Gets the number of indexed segments.
+     * 
+     * @return the number of segments
+     */
+    public int size() { return size; }
+    
     public List query(double min, double max)
     {
      if (isEmpty) 
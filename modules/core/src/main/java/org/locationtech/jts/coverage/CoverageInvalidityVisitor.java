@@ -0,0 +1,30 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.coverage;
+
+import org.locationtech.jts.geom.Geometry;
+
+/**
+ * A visitor for the invalid polygons found by a {@link CoverageValidator}.
+ *
+ * @see CoverageValidator#validate(CoverageInvalidityVisitor)
+ */
+public interface CoverageInvalidityVisitor 
+{
+  /**
+   * Visits a coverage polygon which is invalid.
+   * 
+   * @param index the index of the polygon in the coverage array
+   * @param invalidLines a linear geometry indicating the invalid boundary segments of the polygon
+   */
+  void visit(int index, Geometry invalidLines);
+}
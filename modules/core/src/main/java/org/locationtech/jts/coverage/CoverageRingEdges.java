@@ -336,11 +336,22 @@ class CoverageRingEdges {
   public Geometry[] buildCoverage() {
     Geometry[] result = new Geometry[coverage.length];
     for (int i = 0; i < coverage.length; i++) {
-      result[i] = buildPolygonal(coverage[i]);
+      result[i] = buildPolygonal(i);
     }
     return result;
   }
 
+  /**
+   * Recreates a single polygonal geometry of the coverage 
+   * from the current edge values.
+   * 
+   * @param index the index of the geometry in the coverage
+   * @return the polygonal geometry
+   */
+  public Geometry buildPolygonal(int index) {
+    return buildPolygonal(coverage[index]);
+  }
+
   private Geometry buildPolygonal(Geometry geom) {
     if (geom instanceof MultiPolygon) {
       return buildMultiPolygon((MultiPolygon) geom);
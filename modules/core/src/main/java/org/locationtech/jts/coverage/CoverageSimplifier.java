@@ -12,6 +12,7 @@
 package org.locationtech.jts.coverage;
 
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
 
 import org.locationtech.jts.coverage.TPVWSimplifier.Edge;
 import org.locationtech.jts.geom.Geometry;
@@ -57,6 +58,21 @@ import org.locationtech.jts.geom.Geometry;
  * <p>
  * The input coverage should be valid according to {@link CoverageValidator}.
  * Invalid coverages may be simplified, but the result will likely still be invalid.
+ * <p>
+ * Very large coverages can be simplified in tiles, 
+ * by specifying a maximum tile size via {@link #setTileSize(int)}.
+ * The coverage elements are partitioned into spatially compact tiles,
+ * and only the edge structures for the tiles being processed are held in memory
+ * (along with the removed vertices of edges which tiles still to be processed use as context).
+ * Edges shared between tiles are simplified once,
+ * and each edge is simplified against the current state of the edges around it,
+ * so the result is a valid coverage with the same adjacency as the input.
+ * Tiles are simplified in parallel if a {@link ForkJoinPool} is provided
+ * via {@link #setPool(ForkJoinPool)}.
+ * Tiles which share elements are never simplified concurrently,
+ * so the result is the same with or without a pool.
+ * Since edges are simplified in a different order,
+ * the tiled result may differ slightly from the untiled one.
  * 
  * <h3>FUTURE WORK</h3>
  * 
@@ -126,6 +142,8 @@ public class CoverageSimplifier {
   private Geometry[] coverage;
   private double smoothWeight = CornerArea.DEFAULT_SMOOTH_WEIGHT;
   private double removableSizeFactor = 1.0;
+  private int tileSize = 0;
+  private ForkJoinPool pool = null;
   
   /**
    * Create a new coverage simplifier instance.
@@ -164,6 +182,33 @@ public class CoverageSimplifier {
     this.smoothWeight  = smoothWeight;
   }
   
+  /**
+   * Sets the maximum number of coverage elements in a tile,
+   * if the coverage is to be simplified in tiles.
+   * A value of 0 (the default) simplifies the entire coverage at once.
+   * The tiled result is a valid coverage,
+   * but may differ slightly from the untiled result.
+   * 
+   * @param tileSize the maximum number of elements in a tile, or 0
+   */
+  public void setTileSize(int tileSize) {
+    if (tileSize < 0)
+      throw new IllegalArgumentException("tileSize must be non-negative");
+    this.tileSize = tileSize;
+  }
+  
+  /**
+   * Sets the pool used to simplify tiles in parallel.
+   * If the pool is <code>null</code> (the default)
+   * tiles are simplified sequentially.
+   * The pool is only used if a tile size is set.
+   * 
+   * @param pool the pool to use, or null
+   */
+  public void setPool(ForkJoinPool pool) {
+    this.pool = pool;
+  }
+  
   /**
    * Computes the simplified coverage using a single distance tolerance, 
    * preserving the coverage topology.
@@ -203,6 +248,9 @@ public class CoverageSimplifier {
   }
 
   private Geometry[] simplifyEdges(double[] tolerances) {
+    if (isTiled()) {
+      return createTiledSimplifier().simplify(tolerances);
+    }
     CoverageRingEdges covRings = CoverageRingEdges.create(coverage);
     List<CoverageEdge> covEdges = covRings.getEdges();
     TPVWSimplifier.Edge[] edges = createEdges(covEdges, tolerances);
@@ -235,12 +283,24 @@ public class CoverageSimplifier {
   }
 
   private Geometry[] simplifyEdges(double toleranceInner, double toleranceOuter) {
+    if (isTiled()) {
+      return createTiledSimplifier().simplify(toleranceInner, toleranceOuter);
+    }
     CoverageRingEdges covRings = CoverageRingEdges.create(coverage);
     List<CoverageEdge> covEdges = covRings.getEdges();
     TPVWSimplifier.Edge[] edges = createEdges(covEdges, toleranceInner, toleranceOuter);
     return simplify(covRings, covEdges, edges);
   }
 
+  private boolean isTiled() {
+    return tileSize > 0 && coverage.length > tileSize;
+  }
+
+  private TiledCoverageSimplifier createTiledSimplifier() {
+    return new TiledCoverageSimplifier(coverage, tileSize, pool, 
+        new CornerArea(smoothWeight), removableSizeFactor);
+  }
+
   private Geometry[] simplify(CoverageRingEdges covRings, List<CoverageEdge> covEdges, TPVWSimplifier.Edge[] edges) {
     CornerArea cornerArea = new CornerArea(smoothWeight);
     TPVWSimplifier.simplify(edges, cornerArea, removableSizeFactor);
@@ -0,0 +1,197 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.coverage;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.index.strtree.STRtree;
+
+/**
+ * Partitions the elements of a polygonal coverage into spatially compact tiles,
+ * to allow processing a large coverage as a sequence of smaller ones.
+ * Elements are assigned to tiles using Sort-Tile-Recursive packing
+ * of their envelope centres,
+ * so that tiles contain (nearly) the same number of elements.
+ * <p>
+ * Each tile has a <i>context</i>, which is the set of elements
+ * in other tiles which may be adjacent to the tile elements.
+ * Since in a valid coverage adjacent elements share vertices exactly,
+ * the coverage formed by a tile and its context
+ * contains all elements incident on each vertex of the tile elements.
+ * So the coverage nodes and edges of the tile elements
+ * are the same as they are in the full coverage.
+ *
+ */
+class CoverageTiling {
+
+  private Geometry[] coverage;
+  private int[][] tiles;
+  private int[] tileOf;
+  private STRtree index;
+
+  /**
+   * Creates a tiling of a coverage.
+   *
+   * @param coverage the coverage elements
+   * @param tileSize the maximum number of elements in a tile
+   * @param pool the pool used to build the element index, or null
+   */
+  public CoverageTiling(Geometry[] coverage, int tileSize, ForkJoinPool pool) {
+    this.coverage = coverage;
+    tiles = createTiles(coverage, tileSize);
+    tileOf = new int[coverage.length];
+    for (int t = 0; t < tiles.length; t++) {
+      for (int i : tiles[t]) {
+        tileOf[i] = t;
+      }
+    }
+    index = createIndex(coverage, pool);
+  }
+
+  /**
+   * Gets the number of tiles.
+   *
+   * @return the number of tiles
+   */
+  public int size() {
+    return tiles.length;
+  }
+
+  /**
+   * Gets the indices of the coverage elements in a tile.
+   *
+   * @param tile a tile index
+   * @return the indices of the tile elements
+   */
+  public int[] getTile(int tile) {
+    return tiles[tile];
+  }
+
+  /**
+   * Gets the tile containing a coverage element.
+   *
+   * @param index the index of a coverage element
+   * @return the index of the tile containing the element
+   */
+  public int getTileOf(int index) {
+    return tileOf[index];
+  }
+
+  /**
+   * Gets the indices of the elements in other tiles
+   * which may be adjacent to the elements of a tile.
+   * This method is thread-safe.
+   *
+   * @param tile a tile index
+   * @return the indices of the context elements, in ascending order
+   */
+  public int[] getContext(int tile) {
+    Set<Integer> contextSet = new HashSet<Integer>();
+    for (int i : tiles[tile]) {
+      @SuppressWarnings("unchecked")
+      List<Integer> nearList = index.query(coverage[i].getEnvelopeInternal());
+      for (int near : nearList) {
+        if (tileOf[near] != tile) {
+          contextSet.add(near);
+        }
+      }
+    }
+    int[] context = new int[contextSet.size()];
+    int n = 0;
+    for (int i : contextSet) {
+      context[n++] = i;
+    }
+    Arrays.sort(context);
+    return context;
+  }
+
+  /**
+   * Gets the coverage formed by the elements of a tile
+   * followed by the elements of its context.
+   *
+   * @param tile the tile index
+   * @param context the context element indices
+   * @return the elements of the tile coverage
+   */
+  public Geometry[] getCoverage(int tile, int[] context) {
+    int[] tileIndex = tiles[tile];
+    Geometry[] tileCov = new Geometry[tileIndex.length + context.length];
+    for (int i = 0; i < tileIndex.length; i++) {
+      tileCov[i] = coverage[tileIndex[i]];
+    }
+    for (int i = 0; i < context.length; i++) {
+      tileCov[tileIndex.length + i] = coverage[context[i]];
+    }
+    return tileCov;
+  }
+
+  private static STRtree createIndex(Geometry[] coverage, ForkJoinPool pool) {
+    STRtree index = new STRtree();
+    index.setPool(pool);
+    for (int i = 0; i < coverage.length; i++) {
+      index.insert(coverage[i].getEnvelopeInternal(), i);
+    }
+    //-- build before querying concurrently
+    index.build();
+    return index;
+  }
+
+  /**
+   * Partitions a coverage into tiles of spatially close elements.
+   * 
+   * @param coverage the coverage elements
+   * @param tileSize the maximum number of elements in a tile
+   * @return the element indices for each tile
+   */
+  static int[][] createTiles(Geometry[] coverage, int tileSize) {
+    int n = coverage.length;
+    double[] centreX = new double[n];
+    double[] centreY = new double[n];
+    Integer[] order = new Integer[n];
+    for (int i = 0; i < n; i++) {
+      order[i] = i;
+      Envelope env = coverage[i].getEnvelopeInternal();
+      //-- empty elements are placed arbitrarily
+      if (! env.isNull()) {
+        centreX[i] = (env.getMinX() + env.getMaxX()) / 2;
+        centreY[i] = (env.getMinY() + env.getMaxY()) / 2;
+      }
+    }
+    int numTiles = (int) Math.ceil(n / (double) tileSize);
+    int numSlices = (int) Math.ceil(Math.sqrt(numTiles));
+    int sliceSize = tileSize * (int) Math.ceil(numTiles / (double) numSlices);
+
+    Arrays.sort(order, Comparator.comparingDouble(i -> centreX[i]));
+    int[][] tiles = new int[numTiles][];
+    int numCreated = 0;
+    for (int sliceStart = 0; sliceStart < n; sliceStart += sliceSize) {
+      int sliceEnd = Math.min(n, sliceStart + sliceSize);
+      Arrays.sort(order, sliceStart, sliceEnd, Comparator.comparingDouble(i -> centreY[i]));
+      for (int start = sliceStart; start < sliceEnd; start += tileSize) {
+        int end = Math.min(sliceEnd, start + tileSize);
+        int[] tile = new int[end - start];
+        for (int i = start; i < end; i++) {
+          tile[i - start] = order[i];
+        }
+        tiles[numCreated++] = tile;
+      }
+    }
+    return tiles;
+  }
+}
@@ -11,6 +11,9 @@
  */
 package org.locationtech.jts.coverage;
 
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
 import org.locationtech.jts.geom.Geometry;
 import org.locationtech.jts.geom.GeometryCollection;
 import org.locationtech.jts.geom.GeometryFactory;
@@ -24,6 +27,12 @@ import org.locationtech.jts.geom.TopologyException;
  * then in <i>some</i> cases this will be detected during processing 
  * and a {@link org.locationtech.jts.geom.TopologyException} is thrown.
  * Otherwise, the computation will produce output, but it will be invalid.
+ * <p>
+ * Very large coverages can be unioned in tiles of spatially close elements,
+ * optionally in parallel,
+ * using {@link #union(Geometry[], int, ForkJoinPool)}.
+ * The tile unions are merged pairwise along the edges they share,
+ * which match exactly since they are edges of the input coverage.
  * 
  * @author Martin Davis
  * 
@@ -48,4 +57,86 @@ public class CoverageUnion {
     GeometryCollection geoms = geomFact.createGeometryCollection(coverage);
     return org.locationtech.jts.operation.overlayng.CoverageUnion.union(geoms);
   }
+  
+  /**
+   * Unions a polygonal coverage in tiles of spatially close elements.
+   * Each tile is unioned separately, 
+   * and the tile unions are merged pairwise.
+   * This reduces the size of the structures used by each union,
+   * and allows unioning tiles in parallel if a pool is provided.
+   * 
+   * @param coverage the polygons in the coverage
+   * @param tileSize the maximum number of polygons in a tile
+   * @param pool the pool to use to union tiles in parallel, or null
+   * @return the union of the coverage polygons
+   *
+   * @throws TopologyException in some cases if the coverage is invalid
+   */
+  public static Geometry union(Geometry[] coverage, int tileSize, ForkJoinPool pool) {
+    if (tileSize <= 0)
+      throw new IllegalArgumentException("tileSize must be positive");
+    if (coverage.length <= tileSize)
+      return union(coverage);
+    
+    int[][] tiles = CoverageTiling.createTiles(coverage, tileSize);
+    UnionTask task = new UnionTask(coverage, tiles, 0, tiles.length);
+    if (pool == null) {
+      return task.union();
+    }
+    return pool.invoke(task);
+  }
+  
+  /**
+   * Unions a range of tiles,
+   * by splitting it in half and merging the unions of the halves.
+   * Since tiles are in spatial order, the halves are spatially compact.
+   */
+  private static class UnionTask extends RecursiveTask<Geometry> {
+    private Geometry[] coverage;
+    private int[][] tiles;
+    private int start;
+    private int end;
+
+    UnionTask(Geometry[] coverage, int[][] tiles, int start, int end) {
+      this.coverage = coverage;
+      this.tiles = tiles;
+      this.start = start;
+      this.end = end;
+    }
+
+    @Override
+    protected Geometry compute() {
+      if (end - start <= 1) {
+        return unionTile();
+      }
+      int mid = (start + end) >>> 1;
+      UnionTask task0 = new UnionTask(coverage, tiles, start, mid);
+      UnionTask task1 = new UnionTask(coverage, tiles, mid, end);
+      task0.fork();
+      Geometry union1 = task1.compute();
+      return merge(task0.join(), union1);
+    }
+
+    Geometry union() {
+      if (end - start <= 1) {
+        return unionTile();
+      }
+      int mid = (start + end) >>> 1;
+      return merge(new UnionTask(coverage, tiles, start, mid).union(),
+          new UnionTask(coverage, tiles, mid, end).union());
+    }
+    
+    private Geometry unionTile() {
+      int[] tile = tiles[start];
+      Geometry[] geoms = new Geometry[tile.length];
+      for (int i = 0; i < tile.length; i++) {
+        geoms[i] = coverage[tile[i]];
+      }
+      return CoverageUnion.union(geoms);
+    }
+
+    private static Geometry merge(Geometry union0, Geometry union1) {
+      return CoverageUnion.union(new Geometry[] { union0, union1 });
+    }
+  }
 }
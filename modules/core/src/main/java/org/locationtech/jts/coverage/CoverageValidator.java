@@ -12,6 +12,8 @@
 package org.locationtech.jts.coverage;
 
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
 
 import org.locationtech.jts.geom.Envelope;
 import org.locationtech.jts.geom.Geometry;
@@ -47,6 +49,15 @@ import org.locationtech.jts.index.strtree.STRtree;
  * (linework identified as part of a gap which is actually wider).
  * See {@link CoverageGapFinder} for an alternate way to detect gaps which may be more accurate.
  * 
+ * <p>
+ * The validation of each polygon is independent,
+ * so if a {@link ForkJoinPool} is provided via {@link #setPool(ForkJoinPool)}
+ * the polygons are validated in parallel.
+ * The result is the same as for sequential validation.
+ * For very large coverages {@link #validate(CoverageInvalidityVisitor)}
+ * reports each invalid polygon as it is found, 
+ * rather than creating a result array.
+ * 
  * <h3>Known Bugs</h3>
  * If the specified gap width is large, some narrow gaps may not be identified.
  * 
@@ -122,8 +133,15 @@ public class CoverageValidator {
     return v.validate();
   }
   
+  /**
+   * The number of polygons validated sequentially by a task.
+   */
+  private static final int SEQUENTIAL_SIZE = 64;
+  
   private Geometry[] coverage;
   private double gapWidth;
+  private ForkJoinPool pool = null;
+  private final Object visitorLock = new Object();
 
   /**
    * Creates a new coverage validator
@@ -143,6 +161,17 @@ public class CoverageValidator {
     this.gapWidth = gapWidth;
   }
   
+  /**
+   * Sets the pool used to validate the coverage polygons in parallel.
+   * If the pool is <code>null</code> (the default)
+   * the polygons are validated sequentially.
+   * 
+   * @param pool the pool to use, or null
+   */
+  public void setPool(ForkJoinPool pool) {
+    this.pool = pool;
+  }
+  
   /**
    * Validates the polygonal coverage.
    * The result is an array of the same size as the input coverage.
@@ -154,16 +183,45 @@ public class CoverageValidator {
    * @return an array of nulls or linear geometries
    */
   public Geometry[] validate() {
+    Geometry[] invalidLines = new Geometry[coverage.length];
+    validate(new ValidateTask(createIndex(), invalidLines, null, 0, coverage.length));
+    return invalidLines;
+  }
+
+  /**
+   * Validates the polygonal coverage, 
+   * and passes each polygon which does not form a valid coverage
+   * to a visitor, along with a linear geometry containing
+   * its invalid boundary segments.
+   * This avoids holding the results for all polygons.
+   * <p>
+   * If the validation is parallel the polygons are visited
+   * in an unspecified order, but the visitor is never called concurrently.
+   * 
+   * @param visitor the visitor for invalid polygons
+   */
+  public void validate(CoverageInvalidityVisitor visitor) {
+    validate(new ValidateTask(createIndex(), null, visitor, 0, coverage.length));
+  }
+
+  private void validate(ValidateTask task) {
+    if (pool == null) {
+      task.validate();
+    }
+    else {
+      pool.invoke(task);
+    }
+  }
+  
+  private STRtree createIndex() {
     STRtree index = new STRtree();
+    index.setPool(pool);
     for (Geometry geom : coverage) {
       index.insert(geom.getEnvelopeInternal(), geom);
     }
-    Geometry[] invalidLines = new Geometry[coverage.length];
-    for (int i = 0; i < coverage.length; i++) {
-      Geometry geom = coverage[i];
-      invalidLines[i] = validate(geom, index);
-    }
-    return invalidLines;
+    //-- build before querying concurrently
+    index.build();
+    return index;
   }
 
   private Geometry validate(Geometry targetGeom, STRtree index) {
@@ -177,4 +235,50 @@ public class CoverageValidator {
     Geometry result = CoveragePolygonValidator.validate(targetGeom, nearGeoms, gapWidth);
     return result.isEmpty() ? null : result;
   }
+  
+  /**
+   * Validates a section of the coverage array,
+   * splitting the section until it is small enough to validate sequentially.
+   * Each task writes only to its own section of the result array.
+   */
+  private class ValidateTask extends RecursiveAction {
+    private STRtree index;
+    private Geometry[] invalidLines;
+    private CoverageInvalidityVisitor visitor;
+    private int start;
+    private int end;
+
+    ValidateTask(STRtree index, Geometry[] invalidLines, CoverageInvalidityVisitor visitor, int start, int end) {
+      this.index = index;
+      this.invalidLines = invalidLines;
+      this.visitor = visitor;
+      this.start = start;
+      this.end = end;
+    }
+
+    @Override
+    protected void compute() {
+      if (end - start <= SEQUENTIAL_SIZE) {
+        validate();
+        return;
+      }
+      int mid = (start + end) >>> 1;
+      invokeAll(new ValidateTask(index, invalidLines, visitor, start, mid),
+          new ValidateTask(index, invalidLines, visitor, mid, end));
+    }
+
+    void validate() {
+      for (int i = start; i < end; i++) {
+        Geometry result = CoverageValidator.this.validate(coverage[i], index);
+        if (invalidLines != null) {
+          invalidLines[i] = result;
+        }
+        else if (result != null) {
+          synchronized (visitorLock) {
+            visitor.visit(i, result);
+          }
+        }
+      }
+    }
+  }
 }
@@ -12,7 +12,6 @@
 package org.locationtech.jts.coverage;
 
 import java.util.List;
-import java.util.PriorityQueue;
 
 import org.locationtech.jts.algorithm.Area;
 import org.locationtech.jts.geom.Coordinate;
@@ -21,6 +20,7 @@ import org.locationtech.jts.geom.Envelope;
 import org.locationtech.jts.index.VertexSequencePackedRtree;
 import org.locationtech.jts.index.strtree.STRtree;
 import org.locationtech.jts.simplify.LinkedLine;
+import org.locationtech.jts.util.IndexedMinHeap;
 
 /**
  * Computes a Topology-Preserving Visvalingam-Whyatt simplification
@@ -188,25 +188,36 @@ class TPVWSimplifier {
       double areaTolerance = distanceTolerance * distanceTolerance;
       int minEdgeSize = linkedLine.isRing() ? MIN_RING_SIZE : MIN_EDGE_SIZE;
 
-      PriorityQueue<Corner> cornerQueue = createQueue(areaTolerance, cornerArea);
+      IndexedMinHeap cornerQueue = createQueue(areaTolerance, cornerArea);
       while (! cornerQueue.isEmpty()
           && size() > minEdgeSize) {
-        Corner corner = cornerQueue.poll();
-        //-- a corner may no longer be valid due to removal of adjacent corners
-        if (corner.isRemoved())
-          continue;
-        //System.out.println(corner.toLineString(edge));
+        int index = cornerQueue.peek();
+        double area = cornerQueue.getKey(index);
+        cornerQueue.remove(index);
         //-- done when all small corners are removed
-        if (corner.getArea() > areaTolerance)
+        if (area > areaTolerance)
           break;
+        Corner corner = new Corner(linkedLine, index, area);
+        //System.out.println(corner.toLineString(edge));
         if (isRemovable(corner, edgeIndex) ) {
           removeCorner(corner, areaTolerance, cornerArea, cornerQueue);
         }
       }
     }
 
-    private PriorityQueue<Corner> createQueue(double areaTolerance, CornerArea cornerArea) {
-      PriorityQueue<Corner> cornerQueue = new PriorityQueue<Corner>();
+    /**
+     * Creates a queue of the corners which are small enough to be removed,
+     * ordered by area.
+     * The queue holds the indexes of the corner apex vertices
+     * in an {@link IndexedMinHeap},
+     * which allows the corners to be updated when adjacent corners are removed.
+     * 
+     * @param areaTolerance the corner area tolerance
+     * @param cornerArea the corner area function
+     * @return the corner queue
+     */
+    private IndexedMinHeap createQueue(double areaTolerance, CornerArea cornerArea) {
+      IndexedMinHeap cornerQueue = new IndexedMinHeap(nPts);
       int minIndex = (linkedLine.isRing() && isFreeRing) ? 0 : 1;
       int maxIndex = nPts - 1;
       for (int i = minIndex; i < maxIndex; i++) {
@@ -215,13 +226,16 @@ class TPVWSimplifier {
       return cornerQueue;
     }
     
-    private void addCorner(int i, double areaTolerance, CornerArea cornerArea, PriorityQueue<Corner> cornerQueue) {
+    private void addCorner(int i, double areaTolerance, CornerArea cornerArea, IndexedMinHeap cornerQueue) {
       //-- add if this vertex can be a corner
       if (isFreeRing || (i != 0 && i != nPts - 1)) {
         double area = area(i, cornerArea);
         if (area <= areaTolerance) {
-          Corner corner = new Corner(linkedLine, i, area);
-          cornerQueue.add(corner);
+          cornerQueue.update(i, area);
+        }
+        else {
+          //-- the corner may have been enlarged by removal of an adjacent corner
+          cornerQueue.remove(i);
         }
       }
     }
@@ -303,7 +317,7 @@ class TPVWSimplifier {
      * @param areaTolerance 
      * @param cornerQueue the corner queue
      */
-    private void removeCorner(Corner corner, double areaTolerance, CornerArea cornerArea, PriorityQueue<Corner> cornerQueue) {
+    private void removeCorner(Corner corner, double areaTolerance, CornerArea cornerArea, IndexedMinHeap cornerQueue) {
       int index = corner.getIndex();
       int prev = linkedLine.prev(index);
       int next = linkedLine.next(index);
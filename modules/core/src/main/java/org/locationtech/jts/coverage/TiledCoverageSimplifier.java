@@ -0,0 +1,465 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.coverage;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.CoordinateList;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.LineSegment;
+import org.locationtech.jts.util.IntArrayList;
+
+/**
+ * Simplifies a polygonal coverage one tile at a time,
+ * so that the edge structures for only a single tile
+ * (or one per thread, if a pool is used)
+ * are held in memory at once.
+ * <p>
+ * Each tile is processed as the coverage formed by
+ * the tile elements and their context elements (see {@link CoverageTiling}),
+ * so the tile edges are the same as the edges of the full coverage.
+ * The tile simplifies all edges of its elements
+ * which have not already been simplified.
+ * Edges between elements in different tiles (<i>seam edges</i>)
+ * are simplified by whichever of their tiles is processed first,
+ * and the result is saved for use by the other tile.
+ * <p>
+ * As in the untiled simplifier, each edge must be simplified
+ * against the current state of the edges near it.
+ * So when a tile is processed:
+ * <ul>
+ * <li>seam edges which are already simplified are used as constraints
+ * <li>the context edges are used as constraints in their current state,
+ * by omitting the vertices which have been removed by other tiles
+ * <li>no other tile which shares any tile or context elements
+ * is processed at the same time
+ * </ul>
+ * Tiles are processed in groups in which no two tiles share elements.
+ * The groups are processed in sequence,
+ * and the tiles in a group can be processed in parallel.
+ * The result is the same whether or not the tiles are processed in parallel.
+ * <p>
+ * The vertices removed by simplification are retained
+ * only until every tile which uses the edge as a context edge
+ * has been processed.
+ * <p>
+ * Because the edges are simplified in a different order,
+ * the result is not always identical to simplifying the full coverage at once.
+ *
+ */
+class TiledCoverageSimplifier {
+
+  private static final int EDGE_CONTEXT = 0;
+  private static final int EDGE_TILE = 1;
+  private static final int EDGE_SEAM = 2;
+
+  private Geometry[] coverage;
+  private CoverageTiling tiling;
+  private int[][] contexts;
+  private ForkJoinPool pool;
+  private CornerArea cornerArea;
+  private double removableSizeFactor;
+  private double toleranceInner;
+  private double toleranceOuter;
+  private double[] tolerances = null;
+  private Map<LineSegment, Coordinate[]> seamEdges = new ConcurrentHashMap<LineSegment, Coordinate[]>();
+  //-- the removed vertices, with the number of elements whose context tiles may still read them
+  private Map<Coordinate, Integer> removedVertices = new ConcurrentHashMap<Coordinate, Integer>();
+  //-- the number of unprocessed tiles which use each element as context
+  private int[] contextTileCount;
+  //-- the removed vertices of each element which may be read by unprocessed tiles
+  private CoordinateList[] elementRemovedVertices;
+  private Geometry[] result;
+
+  /**
+   * Creates a new tiled simplifier.
+   *
+   * @param coverage the coverage to simplify
+   * @param tileSize the maximum number of elements in a tile
+   * @param pool the pool used to simplify tiles in parallel, or null
+   * @param cornerArea the corner area computation to use
+   * @param removableSizeFactor the factor to determine ring size to remove
+   */
+  public TiledCoverageSimplifier(Geometry[] coverage, int tileSize, ForkJoinPool pool,
+      CornerArea cornerArea, double removableSizeFactor) {
+    this.coverage = coverage;
+    this.pool = pool;
+    this.cornerArea = cornerArea;
+    this.removableSizeFactor = removableSizeFactor;
+    tiling = new CoverageTiling(coverage, tileSize, pool);
+  }
+
+  /**
+   * Simplifies the coverage using tolerances for inner and outer edges.
+   *
+   * @param toleranceInner the distance tolerance for inner edges
+   * @param toleranceOuter the distance tolerance for outer edges
+   * @return the simplified coverage polygons
+   */
+  public Geometry[] simplify(double toleranceInner, double toleranceOuter) {
+    this.toleranceInner = toleranceInner;
+    this.toleranceOuter = toleranceOuter;
+    return simplify();
+  }
+
+  /**
+   * Simplifies the coverage using a tolerance for each element.
+   *
+   * @param tolerances the distance tolerances for the coverage elements
+   * @return the simplified coverage polygons
+   */
+  public Geometry[] simplify(double[] tolerances) {
+    this.tolerances = tolerances;
+    return simplify();
+  }
+
+  private Geometry[] simplify() {
+    result = new Geometry[coverage.length];
+    seamEdges.clear();
+    removedVertices.clear();
+    contexts = new int[tiling.size()][];
+    contextTileCount = new int[coverage.length];
+    elementRemovedVertices = new CoordinateList[coverage.length];
+    for (int tile = 0; tile < tiling.size(); tile++) {
+      contexts[tile] = tiling.getContext(tile);
+      for (int elem : contexts[tile]) {
+        contextTileCount[elem]++;
+      }
+    }
+    for (int[] group : createGroups()) {
+      TileTask task = new TileTask(group, 0, group.length);
+      if (pool == null) {
+        task.simplify();
+      }
+      else {
+        pool.invoke(task);
+      }
+    }
+    return result;
+  }
+
+  /**
+   * Partitions the tiles into groups in which no two tiles
+   * share an element (as a tile or context element).
+   * Tiles in a group can be simplified concurrently,
+   * since a tile reads and updates only the edges of its tile and context elements.
+   * The groups are computed by greedy colouring of the tiles in order.
+   *
+   * @return the tile indices for each group
+   */
+  private List<int[]> createGroups() {
+    int[] tileGroup = new int[tiling.size()];
+    //-- the tiles (processed so far) which use each element
+    IntArrayList[] elementTiles = new IntArrayList[coverage.length];
+    List<IntArrayList> groups = new ArrayList<IntArrayList>();
+    for (int tile = 0; tile < tiling.size(); tile++) {
+      Set<Integer> usedGroups = new HashSet<Integer>();
+      addTile(tile, tiling.getTile(tile), elementTiles, tileGroup, usedGroups);
+      addTile(tile, contexts[tile], elementTiles, tileGroup, usedGroups);
+      int group = 0;
+      while (usedGroups.contains(group)) {
+        group++;
+      }
+      if (group == groups.size()) {
+        groups.add(new IntArrayList());
+      }
+      groups.get(group).add(tile);
+      tileGroup[tile] = group;
+    }
+    List<int[]> groupTiles = new ArrayList<int[]>();
+    for (IntArrayList group : groups) {
+      groupTiles.add(group.toArray());
+    }
+    return groupTiles;
+  }
+
+  private static void addTile(int tile, int[] elements, IntArrayList[] elementTiles,
+      int[] tileGroup, Set<Integer> usedGroups) {
+    for (int elem : elements) {
+      IntArrayList tiles = elementTiles[elem];
+      if (tiles == null) {
+        tiles = new IntArrayList();
+        elementTiles[elem] = tiles;
+      }
+      for (int i = 0; i < tiles.size(); i++) {
+        usedGroups.add(tileGroup[tiles.get(i)]);
+      }
+      tiles.add(tile);
+    }
+  }
+
+  private void simplifyTile(int tile) {
+    int[] tileIndex = tiling.getTile(tile);
+    int[] context = contexts[tile];
+    CoverageRingEdges covRings = CoverageRingEdges.create(tiling.getCoverage(tile, context));
+    List<CoverageEdge> covEdges = covRings.getEdges();
+
+    List<TPVWSimplifier.Edge> edges = new ArrayList<TPVWSimplifier.Edge>();
+    List<CoverageEdge> edgesToUpdate = new ArrayList<CoverageEdge>();
+    List<LineSegment> seamKeys = new ArrayList<LineSegment>();
+    for (CoverageEdge covEdge : covEdges) {
+      int edgeType = edgeType(covEdge, tileIndex);
+      Coordinate[] pts = covEdge.getCoordinates();
+      LineSegment seamKey = null;
+      double tol = 0.0;
+      if (edgeType == EDGE_CONTEXT) {
+        pts = currentCoordinates(pts);
+        //-- removed rings are not constraints
+        if (pts == null)
+          continue;
+      }
+      else if (edgeType == EDGE_SEAM) {
+        seamKey = seamKey(covEdge);
+        //-- a seam is needed only by its two tiles, so can be discarded once used
+        Coordinate[] seamPts = seamEdges.remove(seamKey);
+        if (seamPts != null) {
+          covEdge.setCoordinates(seamPts);
+          //-- removed seam rings are not constraints
+          if (seamPts.length == 0)
+            continue;
+          pts = seamPts;
+        }
+        else {
+          tol = computeTolerance(covEdge, tileIndex, context);
+        }
+      }
+      else {
+        tol = computeTolerance(covEdge, tileIndex, context);
+      }
+      edges.add(new TPVWSimplifier.Edge(pts, tol,
+          covEdge.isFreeRing(), covEdge.isRemovableRing()));
+      edgesToUpdate.add(tol > 0 ? covEdge : null);
+      seamKeys.add(seamKey);
+    }
+    TPVWSimplifier.simplify(edges.toArray(new TPVWSimplifier.Edge[0]), cornerArea, removableSizeFactor);
+    releaseContext(context);
+    for (int i = 0; i < edges.size(); i++) {
+      CoverageEdge covEdge = edgesToUpdate.get(i);
+      if (covEdge == null)
+        continue;
+      Coordinate[] pts = edges.get(i).getCoordinates();
+      addRemovedVertices(covEdge, pts, tileIndex, context);
+      covEdge.setCoordinates(pts);
+      if (seamKeys.get(i) != null) {
+        seamEdges.put(seamKeys.get(i), pts);
+      }
+    }
+    for (int i = 0; i < tileIndex.length; i++) {
+      result[tileIndex[i]] = covRings.buildPolygonal(i);
+    }
+  }
+
+  /**
+   * Records the vertices removed from an edge,
+   * so that the current state of the edge can be determined
+   * where it is a context edge of other tiles.
+   * Since a coverage is valid, a vertex which is not a node
+   * lies in only one edge, and nodes are never removed.
+   * The edge is a context edge only of tiles which have
+   * an element adjacent to it as a context element,
+   * so the vertices are recorded only for those elements
+   * which are the context of tiles not yet processed.
+   *
+   * @param covEdge the edge before simplification
+   * @param simplePts the simplified edge vertices
+   * @param tileIndex the tile elements
+   * @param context the context elements
+   */
+  private void addRemovedVertices(CoverageEdge covEdge, Coordinate[] simplePts,
+      int[] tileIndex, int[] context) {
+    int elem0 = globalIndex(covEdge.getAdjacentIndex(0), tileIndex, context);
+    int elem1 = covEdge.hasAdjacentIndex(1)
+        ? globalIndex(covEdge.getAdjacentIndex(1), tileIndex, context) : elem0;
+    boolean isUsed0 = contextTileCount[elem0] > 0;
+    boolean isUsed1 = elem1 != elem0 && contextTileCount[elem1] > 0;
+    if (! isUsed0 && ! isUsed1)
+      return;
+
+    Set<Coordinate> simpleSet = new HashSet<Coordinate>();
+    for (Coordinate p : simplePts) {
+      simpleSet.add(p);
+    }
+    for (Coordinate p : covEdge.getCoordinates()) {
+      //-- skip retained vertices, and the repeated start of a ring
+      if (simpleSet.contains(p))
+        continue;
+      simpleSet.add(p);
+      int refCount = 0;
+      if (isUsed0) {
+        addElementRemovedVertex(elem0, p);
+        refCount++;
+      }
+      if (isUsed1) {
+        addElementRemovedVertex(elem1, p);
+        refCount++;
+      }
+      removedVertices.put(p, refCount);
+    }
+  }
+
+  private void addElementRemovedVertex(int elem, Coordinate p) {
+    CoordinateList pts = elementRemovedVertices[elem];
+    if (pts == null) {
+      pts = new CoordinateList();
+      elementRemovedVertices[elem] = pts;
+    }
+    pts.add(p);
+  }
+
+  /**
+   * Records that a tile has been processed.
+   * When there are no more tiles which use an element as context,
+   * the removed vertices recorded for the element are no longer needed.
+   * A vertex is discarded once it is not needed for either of the elements
+   * adjacent to its edge.
+   * The counts and lists of an element are only accessed by the tiles using it,
+   * which are never processed concurrently,
+   * but the elements adjacent to a vertex may be released concurrently.
+   *
+   * @param context the context elements of the processed tile
+   */
+  private void releaseContext(int[] context) {
+    for (int elem : context) {
+      contextTileCount[elem]--;
+      if (contextTileCount[elem] > 0)
+        continue;
+      CoordinateList pts = elementRemovedVertices[elem];
+      if (pts == null)
+        continue;
+      elementRemovedVertices[elem] = null;
+      for (Coordinate p : pts) {
+        removedVertices.computeIfPresent(p, (v, n) -> n > 1 ? n - 1 : null);
+      }
+    }
+  }
+
+  /**
+   * Gets the current vertices of a context edge,
+   * omitting the vertices which have been removed
+   * by the simplification of other tiles.
+   * A context edge may include several edges of the full coverage,
+   * but its endpoints are always nodes and are not removed
+   * (unless it is a ring).
+   *
+   * @param pts the original edge vertices
+   * @return the current edge vertices, or null if the edge has been removed
+   */
+  private Coordinate[] currentCoordinates(Coordinate[] pts) {
+    if (removedVertices.isEmpty())
+      return pts;
+    CoordinateList current = new CoordinateList();
+    for (Coordinate p : pts) {
+      if (! removedVertices.containsKey(p)) {
+        current.add(p, true);
+      }
+    }
+    if (current.size() == pts.length)
+      return pts;
+    boolean isRing = pts[0].equals2D(pts[pts.length - 1]);
+    if (isRing) {
+      current.closeRing();
+      if (current.size() < 4)
+        return null;
+    }
+    return current.toCoordinateArray();
+  }
+
+  private int edgeType(CoverageEdge covEdge, int[] tileIndex) {
+    int index0 = covEdge.getAdjacentIndex(0);
+    int index1 = covEdge.hasAdjacentIndex(1) ? covEdge.getAdjacentIndex(1) : index0;
+    boolean isInTile0 = index0 < tileIndex.length;
+    boolean isInTile1 = index1 < tileIndex.length;
+    if (isInTile0 && isInTile1)
+      return EDGE_TILE;
+    if (! isInTile0 && ! isInTile1)
+      return EDGE_CONTEXT;
+    return EDGE_SEAM;
+  }
+
+  private double computeTolerance(CoverageEdge covEdge, int[] tileIndex, int[] context) {
+    if (tolerances == null) {
+      return covEdge.isInner() ? toleranceInner : toleranceOuter;
+    }
+    double tolerance = tolerances[globalIndex(covEdge.getAdjacentIndex(0), tileIndex, context)];
+    if (covEdge.hasAdjacentIndex(1)) {
+      double tol1 = tolerances[globalIndex(covEdge.getAdjacentIndex(1), tileIndex, context)];
+      //-- use lowest tolerance for edge
+      if (tol1 < tolerance)
+        tolerance = tol1;
+    }
+    return tolerance;
+  }
+
+  private static int globalIndex(int index, int[] tileIndex, int[] context) {
+    if (index < tileIndex.length)
+      return tileIndex[index];
+    return context[index - tileIndex.length];
+  }
+
+  /**
+   * Computes a key for a seam edge which is the same in both of its tiles,
+   * independent of the edge orientation and ring start point.
+   *
+   * @param covEdge a seam edge
+   * @return the edge key
+   */
+  private static LineSegment seamKey(CoverageEdge covEdge) {
+    Coordinate[] pts = covEdge.getCoordinates();
+    if (pts[0].equals2D(pts[pts.length - 1])) {
+      return CoverageEdge.key(pts);
+    }
+    return CoverageEdge.key(pts, 0, pts.length - 1);
+  }
+
+  /**
+   * Simplifies a range of the tiles in a group,
+   * splitting the range until it is a single tile.
+   * Each task writes only the result elements of its own tiles,
+   * and the edges of their tile and context elements.
+   */
+  private class TileTask extends RecursiveAction {
+    private int[] tiles;
+    private int start;
+    private int end;
+
+    TileTask(int[] tiles, int start, int end) {
+      this.tiles = tiles;
+      this.start = start;
+      this.end = end;
+    }
+
+    @Override
+    protected void compute() {
+      if (end - start <= 1) {
+        simplify();
+        return;
+      }
+      int mid = (start + end) >>> 1;
+      invokeAll(new TileTask(tiles, start, mid),
+          new TileTask(tiles, mid, end));
+    }
+
+    void simplify() {
+      for (int i = start; i < end; i++) {
+        simplifyTile(tiles[i]);
+      }
+    }
+  }
+}
@@ -18,6 +18,7 @@ import java.util.Iterator;
 import org.locationtech.jts.algorithm.Centroid;
 import org.locationtech.jts.algorithm.ConvexHull;
 import org.locationtech.jts.algorithm.InteriorPoint;
+import org.locationtech.jts.geom.prep.GeometryIndexCache;
 import org.locationtech.jts.io.WKTWriter;
 import org.locationtech.jts.operation.buffer.BufferOp;
 import org.locationtech.jts.operation.buffer.BufferParameters;
@@ -198,6 +199,12 @@ public abstract class Geometry
    */
   private Object userData = null;
 
+  /**
+   * The cache of the indexes built on this geometry by operations,
+   * or <code>null</code> if indexes are not cached.
+   */
+  private transient GeometryIndexCache indexCache = null;
+
   /**
    * Creates a new <code>Geometry</code> via the specified GeometryFactory.
    *
@@ -334,6 +341,42 @@ public abstract class Geometry
         this.userData = userData;
   }
 
+  /**
+   * Sets whether the spatial indexes built on this geometry by operations
+   * are cached, so that they can be reused by subsequent operations.
+   * This improves the performance of repeated operations
+   * against the same geometry, in a similar way to a
+   * {@link org.locationtech.jts.geom.prep.PreparedGeometry}.
+   * The cached indexes are discarded by {@link #geometryChanged()}.
+   * <p>
+   * Caching is disabled by default.
+   * The cache is not copied by {@link #copy()}, and is not serialized.
+   *
+   * @param isIndexCached true if indexes should be cached
+   *
+   * @see GeometryIndexCache
+   */
+  public void setIndexCached(boolean isIndexCached) {
+    if (! isIndexCached) {
+      indexCache = null;
+    }
+    else if (indexCache == null) {
+      indexCache = new GeometryIndexCache(this);
+    }
+  }
+
+  /**
+   * Gets the cache of the spatial indexes built on this geometry,
+   * if caching is enabled.
+   *
+   * @return the index cache, or <code>null</code> if indexes are not cached
+   *
+   * @see #setIndexCached(boolean)
+   */
+  public GeometryIndexCache getIndexCache() {
+    return indexCache;
+  }
+
 
   /**
    *  Returns the <code>PrecisionModel</code> used by the <code>Geometry</code>.
@@ -647,7 +690,8 @@ public abstract class Geometry
    * Notifies this geometry that its coordinates have been changed by an external
    * party (for example, via a {@link CoordinateFilter}).
    * When this method is called the geometry will flush
-   * and/or update any derived information it has cached (such as its {@link Envelope} ).
+   * and/or update any derived information it has cached (such as its {@link Envelope}
+   * and any cached indexes).
    * The operation is applied to all component Geometries.
    */
   public void geometryChanged() {
@@ -663,6 +707,9 @@ public abstract class Geometry
    */
   protected void geometryChangedAction() {
     envelope = null;
+    if (indexCache != null) {
+      indexCache = new GeometryIndexCache(this);
+    }
   }
 
   /**
@@ -1550,6 +1597,7 @@ public abstract class Geometry
     try {
       Geometry clone = (Geometry) super.clone();
       if (clone.envelope != null) { clone.envelope = new Envelope(clone.envelope); }
+      clone.indexCache = null;
       return clone;
     }
     catch (CloneNotSupportedException e) {
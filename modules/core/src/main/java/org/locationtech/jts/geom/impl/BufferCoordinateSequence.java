@@ -0,0 +1,320 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.geom.impl;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.CoordinateSequence;
+import org.locationtech.jts.geom.CoordinateSequences;
+import org.locationtech.jts.geom.CoordinateXY;
+import org.locationtech.jts.geom.CoordinateXYM;
+import org.locationtech.jts.geom.CoordinateXYZM;
+import org.locationtech.jts.geom.Envelope;
+
+/**
+ * A {@link CoordinateSequence} implementation
+ * which stores the ordinate values packed in a {@link DoubleBuffer}.
+ * The buffer may be a view of a {@link ByteBuffer},
+ * which may be direct or memory-mapped.
+ * This allows coordinate data to be held outside the Java heap,
+ * or to be accessed in place in a file or in a larger buffer
+ * (e.g. one containing WKB data).
+ * <p>
+ * The sequence uses the section of the buffer
+ * between the position and the limit at the time it is created.
+ * Changes to the buffer contents are visible in the sequence, and vice-versa.
+ * If the buffer is read-only the sequence cannot be modified.
+ * <p>
+ * {@link Coordinate}s returned by {@link #getCoordinate(int)}
+ * and {@link #toCoordinateArray()} are copies of the buffer values,
+ * and are not cached.
+ * <p>
+ * When serialized the ordinate values are written out, 
+ * and a deserialized sequence is backed by a new direct buffer.
+ *
+ * @see BufferCoordinateSequenceFactory
+ * @see PackedCoordinateSequence
+ */
+public class BufferCoordinateSequence
+    implements CoordinateSequence, Serializable
+{
+  private static final long serialVersionUID = 6372519078530842735L;
+  
+  /**
+   * The packed coordinate ordinates, indexed from 0
+   */
+  private transient DoubleBuffer coords;
+  private int dimension;
+  private int measures;
+  private int size;
+  /**
+   * The factory which created this sequence, if any.
+   * Used to allocate copies.
+   */
+  private transient BufferCoordinateSequenceFactory factory = null;
+
+  /**
+   * Creates a sequence backed by the remaining content of a {@link DoubleBuffer}.
+   *
+   * @param coords the buffer containing the ordinate values of the sequence
+   * @param dimension the total number of ordinates that make up a {@link Coordinate} in this sequence.
+   * @param measures the number of measure-ordinates each {@link Coordinate} in this sequence has.
+   */
+  public BufferCoordinateSequence(DoubleBuffer coords, int dimension, int measures) {
+    if (dimension - measures < 2) {
+      throw new IllegalArgumentException("Must have at least 2 spatial dimensions");
+    }
+    if (coords.remaining() % dimension != 0) {
+      throw new IllegalArgumentException("Buffer does not contain "
+          + "an integral number of coordinates");
+    }
+    this.coords = coords.slice();
+    this.dimension = dimension;
+    this.measures = measures;
+    this.size = this.coords.capacity() / dimension;
+  }
+
+  /**
+   * Creates a sequence backed by the remaining content of a {@link ByteBuffer}.
+   * The ordinate values are read using the byte order of the buffer.
+   *
+   * @param coords the buffer containing the ordinate values of the sequence
+   * @param dimension the total number of ordinates that make up a {@link Coordinate} in this sequence.
+   * @param measures the number of measure-ordinates each {@link Coordinate} in this sequence has.
+   */
+  public BufferCoordinateSequence(ByteBuffer coords, int dimension, int measures) {
+    this(coords.asDoubleBuffer(), dimension, measures);
+  }
+
+  /**
+   * Creates a sequence backed by a new direct buffer
+   * in native byte order.
+   *
+   * @param size the number of coordinates in this sequence
+   * @param dimension the total number of ordinates that make up a {@link Coordinate} in this sequence.
+   * @param measures the number of measure-ordinates each {@link Coordinate} in this sequence has.
+   */
+  public BufferCoordinateSequence(int size, int dimension, int measures) {
+    this(allocateDirect(size * dimension), dimension, measures);
+  }
+
+  /**
+   * Allocates a direct buffer in native byte order.
+   *
+   * @param numOrdinates the number of double values the buffer holds
+   * @return a new direct buffer
+   */
+  static DoubleBuffer allocateDirect(int numOrdinates) {
+    return ByteBuffer.allocateDirect(numOrdinates * Double.BYTES)
+        .order(ByteOrder.nativeOrder())
+        .asDoubleBuffer();
+  }
+
+  /**
+   * Sets the factory used to allocate copies of this sequence.
+   * 
+   * @param factory the factory which created this sequence
+   */
+  void setFactory(BufferCoordinateSequenceFactory factory) {
+    this.factory = factory;
+  }
+
+  /**
+   * Gets the buffer containing the ordinate values.
+   * The buffer contains the values of the sequence in the range [0, size * dimension).
+   *
+   * @return the buffer of ordinate values
+   */
+  public DoubleBuffer getBuffer() {
+    return coords;
+  }
+
+  /**
+   * @see CoordinateSequence#getDimension()
+   */
+  public int getDimension() {
+    return dimension;
+  }
+
+  /**
+   * @see CoordinateSequence#getMeasures()
+   */
+  @Override
+  public int getMeasures() {
+    return measures;
+  }
+
+  /**
+   * @see CoordinateSequence#size()
+   */
+  public int size() {
+    return size;
+  }
+
+  /**
+   * @see CoordinateSequence#getCoordinate(int)
+   */
+  public Coordinate getCoordinate(int i) {
+    return getCoordinateCopy(i);
+  }
+
+  /**
+   * @see CoordinateSequence#getCoordinateCopy(int)
+   */
+  public Coordinate getCoordinateCopy(int i) {
+    int offset = i * dimension;
+    double x = coords.get(offset);
+    double y = coords.get(offset + 1);
+    if (dimension == 2 && measures == 0) {
+      return new CoordinateXY(x, y);
+    }
+    else if (dimension == 3 && measures == 0) {
+      double z = coords.get(offset + 2);
+      return new Coordinate(x, y, z);
+    }
+    else if (dimension == 3 && measures == 1) {
+      double m = coords.get(offset + 2);
+      return new CoordinateXYM(x, y, m);
+    }
+    else if (dimension == 4) {
+      double z = coords.get(offset + 2);
+      double m = coords.get(offset + 3);
+      return new CoordinateXYZM(x, y, z, m);
+    }
+    return new Coordinate(x, y);
+  }
+
+  /**
+   * @see CoordinateSequence#getCoordinate(int, Coordinate)
+   */
+  public void getCoordinate(int i, Coordinate coord) {
+    coord.x = getX(i);
+    coord.y = getY(i);
+    if (hasZ()) {
+      coord.setZ(getZ(i));
+    }
+    if (hasM()) {
+      coord.setM(getM(i));
+    }
+  }
+
+  /**
+   * @see CoordinateSequence#getX(int)
+   */
+  public double getX(int index) {
+    return coords.get(index * dimension);
+  }
+
+  /**
+   * @see CoordinateSequence#getY(int)
+   */
+  public double getY(int index) {
+    return coords.get(index * dimension + 1);
+  }
+
+  /**
+   * @see CoordinateSequence#getOrdinate(int, int)
+   */
+  public double getOrdinate(int index, int ordinateIndex) {
+    return coords.get(index * dimension + ordinateIndex);
+  }
+
+  /**
+   * @see CoordinateSequence#setOrdinate(int, int, double)
+   */
+  public void setOrdinate(int index, int ordinateIndex, double value) {
+    coords.put(index * dimension + ordinateIndex, value);
+  }
+
+  /**
+   * @see CoordinateSequence#toCoordinateArray()
+   */
+  public Coordinate[] toCoordinateArray() {
+    Coordinate[] pts = new Coordinate[size];
+    for (int i = 0; i < size; i++) {
+      pts[i] = getCoordinateCopy(i);
+    }
+    return pts;
+  }
+
+  /**
+   * @see CoordinateSequence#expandEnvelope(Envelope)
+   */
+  public Envelope expandEnvelope(Envelope env) {
+    int n = size * dimension;
+    for (int i = 0; i < n; i += dimension) {
+      env.expandToInclude(coords.get(i), coords.get(i + 1));
+    }
+    return env;
+  }
+
+  /**
+   * @see java.lang.Object#clone()
+   * @see CoordinateSequence#clone()
+   * @deprecated
+   */
+  @Deprecated
+  public Object clone() {
+    return copy();
+  }
+
+  /**
+   * Creates a copy of this sequence.
+   * If this sequence was created by a {@link BufferCoordinateSequenceFactory}
+   * the copy is allocated by the factory.
+   * Otherwise the copy is backed by a new direct buffer
+   * if this sequence is backed by a direct buffer,
+   * or by a new heap buffer if not.
+   *
+   * @return a copy of this sequence
+   */
+  public BufferCoordinateSequence copy() {
+    if (factory != null) {
+      return (BufferCoordinateSequence) factory.create(this);
+    }
+    int n = size * dimension;
+    DoubleBuffer copy = coords.isDirect() ? allocateDirect(n) : DoubleBuffer.allocate(n);
+    DoubleBuffer src = coords.duplicate();
+    src.rewind();
+    copy.put(src);
+    copy.flip();
+    return new BufferCoordinateSequence(copy, dimension, measures);
+  }
+
+  public String toString() {
+    return CoordinateSequences.toString(this);
+  }
+  
+  private void writeObject(ObjectOutputStream out) throws IOException {
+    out.defaultWriteObject();
+    int n = size * dimension;
+    for (int i = 0; i < n; i++) {
+      out.writeDouble(coords.get(i));
+    }
+  }
+
+  private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+    in.defaultReadObject();
+    int n = size * dimension;
+    coords = allocateDirect(n);
+    for (int i = 0; i < n; i++) {
+      coords.put(i, in.readDouble());
+    }
+  }
+}
@@ -0,0 +1,194 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.geom.impl;
+
+import java.io.Serializable;
+import java.nio.ByteBuffer;
+import java.nio.DoubleBuffer;
+
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.CoordinateSequence;
+import org.locationtech.jts.geom.CoordinateSequenceFactory;
+import org.locationtech.jts.geom.Coordinates;
+
+/**
+ * Builds {@link BufferCoordinateSequence}s
+ * whose ordinates are stored in direct (off-heap) buffers.
+ * This allows large datasets to be held outside the Java heap,
+ * which reduces heap size and garbage collection work.
+ * Using this factory in a {@link org.locationtech.jts.geom.GeometryFactory}
+ * causes all geometries created by the factory
+ * (including the results of operations)
+ * to have buffer-backed coordinates.
+ * <p>
+ * Allocating a direct buffer has a significant fixed cost,
+ * so small sequences are allocated as sections of larger buffers ("slabs").
+ * The memory of a slab is released when all the sequences using it
+ * are no longer referenced.
+ * Sequences larger than a quarter of the slab size
+ * are allocated their own buffers.
+ * <p>
+ * Sequences can also be created for existing buffers
+ * (such as memory-mapped files)
+ * via {@link #create(DoubleBuffer, int, int)}.
+ * <p>
+ * This class is thread-safe.
+ *
+ * @see PackedCoordinateSequenceFactory
+ */
+public class BufferCoordinateSequenceFactory implements
+    CoordinateSequenceFactory, Serializable
+{
+  private static final long serialVersionUID = -2164387725395184638L;
+
+  /**
+   * The default number of ordinates in an allocation slab (512 KB)
+   */
+  public static final int DEFAULT_SLAB_SIZE = 64 * 1024;
+
+  private static final int DEFAULT_MEASURES = 0;
+
+  private static final int DEFAULT_DIMENSION = 3;
+
+  private int slabSize;
+  private transient DoubleBuffer slab = null;
+
+  /**
+   * Creates a new factory with the default slab size.
+   */
+  public BufferCoordinateSequenceFactory() {
+    this(DEFAULT_SLAB_SIZE);
+  }
+
+  /**
+   * Creates a new factory with a given slab size.
+   * A slab size of 0 allocates a separate buffer for every sequence.
+   *
+   * @param slabSize the number of ordinates in an allocation slab
+   */
+  public BufferCoordinateSequenceFactory(int slabSize) {
+    this.slabSize = slabSize;
+  }
+
+  /**
+   * Gets the number of ordinates in the allocation slabs used by this factory.
+   *
+   * @return the slab size
+   */
+  public int getSlabSize() {
+    return slabSize;
+  }
+
+  /**
+   * @see CoordinateSequenceFactory#create(Coordinate[])
+   */
+  public CoordinateSequence create(Coordinate[] coordinates) {
+    int dimension = DEFAULT_DIMENSION;
+    int measures = DEFAULT_MEASURES;
+    if (coordinates == null) {
+      coordinates = new Coordinate[0];
+    }
+    if (coordinates.length > 0 && coordinates[0] != null) {
+      Coordinate first = coordinates[0];
+      dimension = Coordinates.dimension(first);
+      measures = Coordinates.measures(first);
+    }
+    BufferCoordinateSequence seq = create(coordinates.length, dimension, measures);
+    for (int i = 0; i < coordinates.length; i++) {
+      seq.setOrdinate(i, 0, coordinates[i].x);
+      seq.setOrdinate(i, 1, coordinates[i].y);
+      if (dimension >= 3)
+        seq.setOrdinate(i, 2, coordinates[i].getOrdinate(2)); // Z or M
+      if (dimension >= 4)
+        seq.setOrdinate(i, 3, coordinates[i].getOrdinate(3)); // M
+    }
+    return seq;
+  }
+
+  /**
+   * @see CoordinateSequenceFactory#create(CoordinateSequence)
+   */
+  public CoordinateSequence create(CoordinateSequence coordSeq) {
+    int size = coordSeq.size();
+    int dimension = coordSeq.getDimension();
+    BufferCoordinateSequence seq = create(size, dimension, coordSeq.getMeasures());
+    for (int i = 0; i < size; i++) {
+      for (int j = 0; j < dimension; j++) {
+        seq.setOrdinate(i, j, coordSeq.getOrdinate(i, j));
+      }
+    }
+    return seq;
+  }
+
+  /**
+   * Creates a sequence backed by the remaining content of an existing buffer.
+   * The buffer contents are not copied.
+   *
+   * @param coords the buffer containing the ordinate values
+   * @param dimension the coordinate dimension
+   * @param measures the coordinate measure count
+   * @return a sequence backed by the buffer
+   */
+  public CoordinateSequence create(DoubleBuffer coords, int dimension, int measures) {
+    return new BufferCoordinateSequence(coords, dimension, measures);
+  }
+
+  /**
+   * Creates a sequence backed by the remaining content of an existing buffer,
+   * using the buffer byte order.
+   * The buffer contents are not copied.
+   *
+   * @param coords the buffer containing the ordinate values
+   * @param dimension the coordinate dimension
+   * @param measures the coordinate measure count
+   * @return a sequence backed by the buffer
+   */
+  public CoordinateSequence create(ByteBuffer coords, int dimension, int measures) {
+    return new BufferCoordinateSequence(coords, dimension, measures);
+  }
+
+  /**
+   * @see CoordinateSequenceFactory#create(int, int)
+   */
+  public CoordinateSequence create(int size, int dimension) {
+    return create(size, dimension, Math.max(DEFAULT_MEASURES, dimension - 3));
+  }
+
+  /**
+   * @see CoordinateSequenceFactory#create(int, int, int)
+   */
+  public BufferCoordinateSequence create(int size, int dimension, int measures) {
+    BufferCoordinateSequence seq = new BufferCoordinateSequence(allocate(size * dimension), dimension, measures);
+    seq.setFactory(this);
+    return seq;
+  }
+
+  /**
+   * Allocates a buffer for a given number of ordinates,
+   * either from the current slab or as a new direct buffer.
+   *
+   * @param numOrdinates the number of ordinates required
+   * @return a buffer holding the required number of ordinates
+   */
+  private synchronized DoubleBuffer allocate(int numOrdinates) {
+    if (numOrdinates > slabSize / 4) {
+      return BufferCoordinateSequence.allocateDirect(numOrdinates);
+    }
+    if (slab == null || slab.remaining() < numOrdinates) {
+      slab = BufferCoordinateSequence.allocateDirect(slabSize);
+    }
+    DoubleBuffer buf = slab.slice();
+    buf.limit(numOrdinates);
+    slab.position(slab.position() + numOrdinates);
+    return buf;
+  }
+}
@@ -0,0 +1,130 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.geom.prep;
+
+import org.locationtech.jts.algorithm.locate.IndexedPointInAreaLocator;
+import org.locationtech.jts.algorithm.locate.PointOnGeometryLocator;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.operation.distance.DistanceOp;
+import org.locationtech.jts.operation.distance.IndexedFacetDistance;
+import org.locationtech.jts.operation.overlayng.OverlayNG;
+import org.locationtech.jts.operation.relateng.RelateNG;
+
+/**
+ * Caches the spatial indexes built on a {@link Geometry},
+ * so that they can be reused by repeated operations on it.
+ * A cache is attached to a geometry via {@link Geometry#setIndexCached(boolean)}.
+ * Operations which support it detect the cache
+ * and use the cached structures instead of building them again.
+ * This makes repeated operations against a single large geometry
+ * (such as overlaying many small polygons with one large one)
+ * much faster.
+ * <p>
+ * The operations which use the cache are:
+ * <ul>
+ * <li>{@link RelateNG} uses a prepared instance,
+ * which caches the monotone chain index of the edges
+ * and the point locators of the geometry
+ * <li>{@link DistanceOp} uses an {@link IndexedFacetDistance},
+ * along with the prepared {@link RelateNG} to detect intersection
+ * <li>{@link OverlayNG} uses the prepared {@link RelateNG} to detect disjoint inputs
+ * for intersection, and a cached point-in-area locator to label edges
+ * </ul>
+ * The results of the operations are the same whether or not a cache is used.
+ * <p>
+ * The cached structures are created lazily, when first used.
+ * They are discarded when the geometry is notified of changes to
+ * its coordinates via {@link Geometry#geometryChanged()}.
+ * <p>
+ * Like {@link PreparedGeometry}, this class is thread-safe.
+ *
+ * @see PreparedGeometry
+ */
+public class GeometryIndexCache
+{
+  private Geometry geom;
+  private volatile RelateNG relate = null;
+  private volatile IndexedFacetDistance facetDistance = null;
+  private volatile PointOnGeometryLocator areaLocator = null;
+
+  /**
+   * Creates a new cache for a geometry.
+   *
+   * @param geom the geometry to cache indexes for
+   *
+   * @see Geometry#setIndexCached(boolean)
+   */
+  public GeometryIndexCache(Geometry geom) {
+    this.geom = geom;
+  }
+
+  /**
+   * Gets the geometry the indexes are cached for.
+   *
+   * @return the cached geometry
+   */
+  public Geometry getGeometry() {
+    return geom;
+  }
+
+  /**
+   * Gets a prepared {@link RelateNG} for the geometry,
+   * using the default Boundary Node Rule.
+   *
+   * @return a prepared RelateNG instance
+   */
+  public RelateNG getRelate() {
+    // avoid calling synchronized method improves performance
+    if (relate == null) createRelate();
+    return relate;
+  }
+
+  private synchronized void createRelate() {
+    if (relate == null) {
+      relate = RelateNG.prepare(geom);
+    }
+  }
+
+  /**
+   * Gets an {@link IndexedFacetDistance} for the geometry.
+   *
+   * @return an indexed facet distance
+   */
+  public IndexedFacetDistance getFacetDistance() {
+    if (facetDistance == null) createFacetDistance();
+    return facetDistance;
+  }
+
+  private synchronized void createFacetDistance() {
+    if (facetDistance == null) {
+      facetDistance = new IndexedFacetDistance(geom);
+    }
+  }
+
+  /**
+   * Gets an indexed point-in-area locator for the geometry.
+   * The geometry must be an area (containing {@link org.locationtech.jts.geom.Polygon}s
+   * or {@link org.locationtech.jts.geom.LinearRing}s).
+   *
+   * @return a point locator for the area geometry
+   */
+  public PointOnGeometryLocator getPointInAreaLocator() {
+    if (areaLocator == null) createPointInAreaLocator();
+    return areaLocator;
+  }
+
+  private synchronized void createPointInAreaLocator() {
+    if (areaLocator == null) {
+      areaLocator = new IndexedPointInAreaLocator(geom);
+    }
+  }
+}
@@ -27,13 +27,23 @@ import org.locationtech.jts.noding.SegmentStringUtil;
 public class PreparedLineString
   extends BasicPreparedGeometry
 {
-  private FastSegmentSetIntersectionFinder segIntFinder = null;
+  // volatile so that it can be read without locking once created
+  private volatile FastSegmentSetIntersectionFinder segIntFinder = null;
 
   public PreparedLineString(Lineal line) {
     super((Geometry) line);
   }
 
-  public synchronized FastSegmentSetIntersectionFinder getIntersectionFinder()
+  public FastSegmentSetIntersectionFinder getIntersectionFinder()
+  {
+    // avoid calling synchronized method improves performance
+    FastSegmentSetIntersectionFinder finder = segIntFinder;
+    if (finder == null) 
+      finder = createIntersectionFinder();
+    return finder;
+  }
+  
+  private synchronized FastSegmentSetIntersectionFinder createIntersectionFinder()
   {
   	/**
   	 * MD - Another option would be to use a simple scan for 
@@ -40,8 +40,9 @@ public class PreparedPolygon
 {
 	private final boolean isRectangle;
 	// create these lazily, since they are expensive
-	private FastSegmentSetIntersectionFinder segIntFinder = null;
-	private PointOnGeometryLocator pia = null;
+	// (volatile so that they can be read without locking once created)
+	private volatile FastSegmentSetIntersectionFinder segIntFinder = null;
+	private volatile PointOnGeometryLocator pia = null;
 
   public PreparedPolygon(Polygonal poly) {
     super((Geometry) poly);
@@ -53,7 +54,16 @@ public class PreparedPolygon
    * 
    * @return the intersection finder
    */
-  public synchronized FastSegmentSetIntersectionFinder getIntersectionFinder()
+  public FastSegmentSetIntersectionFinder getIntersectionFinder()
+  {
+    // avoid calling synchronized method improves performance
+    FastSegmentSetIntersectionFinder finder = segIntFinder;
+    if (finder == null) 
+      finder = createIntersectionFinder();
+    return finder;
+  }
+  
+  private synchronized FastSegmentSetIntersectionFinder createIntersectionFinder()
   {
   	/**
   	 * MD - Another option would be to use a simple scan for 
@@ -66,11 +76,19 @@ public class PreparedPolygon
   	return segIntFinder;
   }
   
-  public synchronized PointOnGeometryLocator getPointLocator()
+  public PointOnGeometryLocator getPointLocator()
+  {
+    // avoid calling synchronized method improves performance
+    PointOnGeometryLocator locator = pia;
+    if (locator == null) 
+      locator = createPointLocator();
+    return locator;
+  }
+  
+  private synchronized PointOnGeometryLocator createPointLocator()
   {
   	if (pia == null)
       pia = new IndexedPointInAreaLocator(getGeometry());
- 		
     return pia;
   }
   
@@ -0,0 +1,460 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.index.hprtree;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.index.ArrayListVisitor;
+import org.locationtech.jts.index.ItemVisitor;
+import org.locationtech.jts.index.SpatialIndex;
+
+/**
+ * A dynamic version of the {@link HPRtree},
+ * which supports inserting and removing items after the tree is built.
+ * <p>
+ * The items are held in a packed {@link HPRtree}
+ * plus a small <i>delta</i> of changes made since it was packed:
+ * <ul>
+ * <li>inserted items are kept in a buffer
+ * (indexed by a {@link org.locationtech.jts.index.quadtree.Quadtree})
+ * which is queried along with the packed tree
+ * <li>items removed from the packed tree are recorded,
+ * and are filtered from query results
+ * </ul>
+ * When the number of changes exceeds a fraction of the packed tree size
+ * (see {@link #setRepackFraction(double)})
+ * the current items are packed into a new {@link HPRtree},
+ * which replaces the old one.
+ * If a pool is provided via {@link #setPool(ForkJoinPool)}
+ * the new tree is built in the background,
+ * and the index remains available for queries and updates while it is built.
+ * Otherwise the tree is re-packed by the thread making the update.
+ * <p>
+ * Items inserted before the tree is built
+ * (by calling {@link #build()} or by the first query)
+ * are packed when it is built, as for an {@link HPRtree}.
+ * <p>
+ * Items are identified by object identity
+ * (in the same way as for the {@link org.locationtech.jts.index.strtree.STRtree}).
+ * An item object must be present in the index at most once at a time,
+ * but it may be removed and then inserted again with a different envelope.
+ * <p>
+ * This class is thread-safe.
+ * Query visitors must not modify the index.
+ *
+ * @see HPRtree
+ */
+public class DynamicHPRtree
+  implements SpatialIndex
+{
+  private static final int DEFAULT_NODE_CAPACITY = 16;
+
+  private static final double DEFAULT_REPACK_FRACTION = 0.1;
+
+  private final int nodeCapacity;
+
+  private double repackFraction = DEFAULT_REPACK_FRACTION;
+
+  private ForkJoinPool pool = null;
+
+  private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+  /**
+   * The packed tree, or null if the tree has not been built.
+   */
+  private HPRtree packed = null;
+
+  /**
+   * The items in the packed tree which have been removed.
+   */
+  private Set<Object> packedRemoved = newIdentitySet();
+
+  /**
+   * The items inserted since the last re-pack was started.
+   */
+  private ItemBuffer inserted = new ItemBuffer();
+
+  /**
+   * The inserted items being packed by a re-pack in progress, or null.
+   * This buffer is not modified while the re-pack runs.
+   */
+  private ItemBuffer packing = null;
+
+  /**
+   * The items in the buffer being packed which have been removed.
+   */
+  private Set<Object> packingRemoved = newIdentitySet();
+
+  /**
+   * The items removed during a re-pack in progress
+   * which are present in the tree being built.
+   */
+  private Set<Object> repackRemoved = null;
+
+  private int numItems = 0;
+
+  /**
+   * Creates a new index with the default node capacity.
+   */
+  public DynamicHPRtree() {
+    this(DEFAULT_NODE_CAPACITY);
+  }
+
+  /**
+   * Creates a new index with the given node capacity.
+   *
+   * @param nodeCapacity the node capacity to use
+   */
+  public DynamicHPRtree(int nodeCapacity) {
+    this.nodeCapacity = nodeCapacity;
+  }
+
+  /**
+   * Sets the fraction of the packed tree size
+   * which the number of changes must exceed to trigger a re-pack.
+   * The default is 0.1.
+   *
+   * @param repackFraction the fraction of the packed size to re-pack at
+   */
+  public void setRepackFraction(double repackFraction) {
+    this.repackFraction = repackFraction;
+  }
+
+  /**
+   * Sets the pool used to re-pack the tree in the background.
+   * If the pool is <code>null</code> (the default)
+   * the tree is re-packed by the thread whose update triggers it.
+   *
+   * @param pool the pool to use, or null
+   */
+  public void setPool(ForkJoinPool pool) {
+    this.pool = pool;
+  }
+
+  /**
+   * Gets the number of items in the index.
+   *
+   * @return the number of items
+   */
+  public int size() {
+    lock.readLock().lock();
+    try {
+      return numItems;
+    }
+    finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  /**
+   * Tests whether a re-pack of the tree is in progress.
+   *
+   * @return true if the tree is being re-packed
+   */
+  public boolean isRepacking() {
+    lock.readLock().lock();
+    try {
+      return packing != null;
+    }
+    finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  /**
+   * Builds the index, if not already built.
+   * The items inserted so far are packed.
+   */
+  public void build() {
+    if (isBuilt()) return;
+    repack();
+  }
+
+  private boolean isBuilt() {
+    lock.readLock().lock();
+    try {
+      return packed != null;
+    }
+    finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  /**
+   * Packs the current items into a new tree.
+   * If a re-pack is already in progress this has no effect.
+   */
+  public void repack() {
+    Repack repack = startRepack();
+    if (repack != null) {
+      repack.run();
+    }
+  }
+
+  @Override
+  public void insert(Envelope itemEnv, Object item) {
+    Repack repack;
+    lock.writeLock().lock();
+    try {
+      inserted.add(itemEnv, item);
+      numItems++;
+      repack = isRepackRequired() ? startRepackLocked() : null;
+    }
+    finally {
+      lock.writeLock().unlock();
+    }
+    runRepack(repack);
+  }
+
+  /**
+   * Removes a single item from the tree.
+   *
+   * @param itemEnv the Envelope of the item to remove
+   * @param item the item to remove
+   * @return <code>true</code> if the item was found
+   */
+  @Override
+  public boolean remove(Envelope itemEnv, Object item) {
+    Repack repack;
+    lock.writeLock().lock();
+    try {
+      if (! removeLocked(itemEnv, item))
+        return false;
+      numItems--;
+      repack = isRepackRequired() ? startRepackLocked() : null;
+    }
+    finally {
+      lock.writeLock().unlock();
+    }
+    runRepack(repack);
+    return true;
+  }
+
+  private boolean removeLocked(Envelope itemEnv, Object item) {
+    if (inserted.remove(itemEnv, item))
+      return true;
+    if (packing != null && ! packingRemoved.contains(item)
+        && packing.contains(itemEnv, item)) {
+      packingRemoved.add(item);
+      repackRemoved.add(item);
+      return true;
+    }
+    if (packed != null && ! packedRemoved.contains(item)
+        && containsItem(packed, itemEnv, item)) {
+      packedRemoved.add(item);
+      if (repackRemoved != null) {
+        repackRemoved.add(item);
+      }
+      return true;
+    }
+    return false;
+  }
+
+  private static boolean containsItem(HPRtree tree, Envelope itemEnv, Object item) {
+    boolean[] isFound = new boolean[1];
+    tree.query(itemEnv, new ItemVisitor() {
+      public void visitItem(Object treeItem) {
+        if (treeItem == item) isFound[0] = true;
+      }
+    });
+    return isFound[0];
+  }
+
+  @Override
+  public List query(Envelope searchEnv) {
+    ArrayListVisitor visitor = new ArrayListVisitor();
+    query(searchEnv, visitor);
+    return visitor.getItems();
+  }
+
+  @Override
+  public void query(Envelope searchEnv, ItemVisitor visitor) {
+    build();
+    lock.readLock().lock();
+    try {
+      queryPacked(searchEnv, visitor);
+      if (packing != null) {
+        packing.query(searchEnv, packingRemoved, visitor);
+      }
+      inserted.query(searchEnv, null, visitor);
+    }
+    finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  private void queryPacked(Envelope searchEnv, ItemVisitor visitor) {
+    // the tree may be being built by another thread
+    if (packed == null) return;
+    if (packedRemoved.isEmpty()) {
+      packed.query(searchEnv, visitor);
+      return;
+    }
+    packed.query(searchEnv, new ItemVisitor() {
+      public void visitItem(Object item) {
+        if (! packedRemoved.contains(item)) {
+          visitor.visitItem(item);
+        }
+      }
+    });
+  }
+
+  /**
+   * Tests whether the number of changes since the last re-pack
+   * is large enough to require a re-pack.
+   * Changes made before the tree is built do not trigger a re-pack.
+   */
+  private boolean isRepackRequired() {
+    if (packed == null || packing != null) return false;
+    int numChanges = inserted.size() + packedRemoved.size();
+    int minChanges = Math.max(nodeCapacity * nodeCapacity,
+        (int) (repackFraction * packed.size()));
+    return numChanges > minChanges;
+  }
+
+  private Repack startRepack() {
+    lock.writeLock().lock();
+    try {
+      return startRepackLocked();
+    }
+    finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  /**
+   * Starts a re-pack, by freezing the current changes.
+   * Changes made while the new tree is built are recorded separately.
+   *
+   * @return the re-pack to run, or null if one is already in progress
+   */
+  private Repack startRepackLocked() {
+    if (packing != null) return null;
+    Repack repack = new Repack(packed, newIdentitySet(packedRemoved), inserted);
+    packing = inserted;
+    inserted = new ItemBuffer();
+    repackRemoved = newIdentitySet();
+    return repack;
+  }
+
+  private void runRepack(Repack repack) {
+    if (repack == null) return;
+    if (pool == null) {
+      repack.run();
+    }
+    else {
+      pool.execute(repack);
+    }
+  }
+
+  private void finishRepack(HPRtree tree) {
+    lock.writeLock().lock();
+    try {
+      packed = tree;
+      packedRemoved = repackRemoved;
+      packing = null;
+      packingRemoved = newIdentitySet();
+      repackRemoved = null;
+    }
+    finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  /**
+   * Abandons a re-pack which failed.
+   * The items being packed which have not been removed
+   * are returned to the inserted items,
+   * so that the index contents are unchanged
+   * and a later re-pack can be started.
+   */
+  private void abortRepack() {
+    lock.writeLock().lock();
+    try {
+      for (Item item : packing.getItems()) {
+        if (! packingRemoved.contains(item.getItem())) {
+          inserted.add(item.getEnvelope(), item.getItem());
+        }
+      }
+      packing = null;
+      packingRemoved = newIdentitySet();
+      repackRemoved = null;
+    }
+    finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  private static Set<Object> newIdentitySet() {
+    return Collections.newSetFromMap(new IdentityHashMap<Object, Boolean>());
+  }
+
+  private static Set<Object> newIdentitySet(Set<Object> items) {
+    Set<Object> set = newIdentitySet();
+    set.addAll(items);
+    return set;
+  }
+
+  /**
+   * Builds a new packed tree from a frozen copy of the index contents.
+   * The packed tree and the inserted items are not modified while
+   * the new tree is built, so this can run without holding the lock.
+   */
+  private class Repack implements Runnable {
+    private HPRtree tree;
+    private Set<Object> treeRemoved;
+    private ItemBuffer items;
+
+    Repack(HPRtree tree, Set<Object> treeRemoved, ItemBuffer items) {
+      this.tree = tree;
+      this.treeRemoved = treeRemoved;
+      this.items = items;
+    }
+
+    @Override
+    public void run() {
+      HPRtree newTree = null;
+      try {
+        newTree = buildTree();
+      }
+      finally {
+        if (newTree == null) {
+          abortRepack();
+        }
+      }
+      finishRepack(newTree);
+    }
+
+    private HPRtree buildTree() {
+      HPRtree newTree = new HPRtree(nodeCapacity);
+      if (tree != null) {
+        for (int i = 0; i < tree.size(); i++) {
+          Object item = tree.getItem(i);
+          if (treeRemoved.contains(item)) continue;
+          newTree.insert(tree.getItemEnvelope(i), item);
+        }
+      }
+      for (Item item : items.getItems()) {
+        newTree.insert(item.getEnvelope(), item.getItem());
+      }
+      newTree.build();
+      return newTree;
+    }
+  }
+}
@@ -13,11 +13,14 @@ package org.locationtech.jts.index.hprtree;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.PriorityQueue;
 
 import org.locationtech.jts.geom.Envelope;
 import org.locationtech.jts.index.ArrayListVisitor;
 import org.locationtech.jts.index.ItemVisitor;
 import org.locationtech.jts.index.SpatialIndex;
+import org.locationtech.jts.index.strtree.ItemBoundable;
+import org.locationtech.jts.index.strtree.ItemDistance;
 import org.locationtech.jts.index.strtree.STRtree;
 import org.locationtech.jts.util.IntArrayList;
 
@@ -50,8 +53,16 @@ import org.locationtech.jts.util.IntArrayList;
  * However, it is not clear whether this 
  * will produce a significant improvement 
  * for use in JTS operations.
+ * <p>
+ * Nearest-neighbour searches are supported
+ * using an {@link ItemDistance} metric,
+ * in the same way as for the {@link STRtree}.
+ * <p>
+ * Items cannot be inserted or removed once the tree is built.
+ * A {@link DynamicHPRtree} supports updates after building.
  * 
  * @see STRtree
+ * @see DynamicHPRtree
  * 
  * 
  * @author Martin Davis
@@ -82,6 +93,11 @@ public class HPRtree
 
   private Object[] itemValues;
 
+  /**
+   * The bounds of the (implicit) root node
+   */
+  private double[] rootBounds;
+
   private volatile boolean isBuilt = false;
 
   /**
@@ -204,12 +220,266 @@ public class HPRtree
     return layerEnd - layerStart;
   }
 
+  /**
+   * Removal is not supported by this static index.
+   * Use a {@link DynamicHPRtree} to support removing items.
+   * 
+   * @return false, since items cannot be removed
+   */
   @Override
   public boolean remove(Envelope itemEnv, Object item) {
-    // TODO Auto-generated method stub
     return false;
   }
   
+  /**
+   * Finds the item in this tree which is nearest to the given {@link Object}, 
+   * using {@link ItemDistance} as the distance metric.
+   * A Branch-and-Bound tree traversal algorithm is used
+   * to provide an efficient search.
+   * <p>
+   * The query <tt>object</tt> does <b>not</b> have to be 
+   * contained in the tree, but it does 
+   * have to be compatible with the <tt>itemDist</tt> 
+   * distance metric. 
+   * 
+   * @param env the envelope of the query item
+   * @param item the item to find the nearest neighbour of
+   * @param itemDist a distance metric applicable to the items in this tree and the query item
+   * @return the nearest item in this tree
+   *    or <code>null</code> if the tree is empty
+   */
+  public Object nearestNeighbour(Envelope env, Object item, ItemDistance itemDist)
+  {
+    build();
+    if (numItems == 0) return null;
+    NodePair bp = new NodePair(this, getRootLevel(), 0, createQueryTree(env, item), 1, 0, itemDist);
+    return nearestNeighbour(bp)[0];
+  }
+
+  /**
+   * Finds the two nearest items in the tree, 
+   * using {@link ItemDistance} as the distance metric.
+   * A Branch-and-Bound tree traversal algorithm is used
+   * to provide an efficient search.
+   * <p>
+   * If the tree is empty, the return value is <code>null</code>.
+   * If it is required to find only pairs of distinct items,
+   * the {@link ItemDistance} function must be <b>anti-reflexive</b>.
+   * 
+   * @param itemDist a distance metric applicable to the items in this tree
+   * @return the pair of the nearest items
+   *    or <code>null</code> if the tree is empty
+   */
+  public Object[] nearestNeighbour(ItemDistance itemDist)
+  {
+    build();
+    if (numItems == 0) return null;
+    NodePair bp = new NodePair(this, getRootLevel(), 0, this, getRootLevel(), 0, itemDist);
+    return nearestNeighbour(bp);
+  }
+
+  /**
+   * Finds the two nearest items from this tree 
+   * and another tree,
+   * using {@link ItemDistance} as the distance metric.
+   * A Branch-and-Bound tree traversal algorithm is used
+   * to provide an efficient search.
+   * The result value is a pair of items, 
+   * the first from this tree and the second
+   * from the argument tree.
+   * 
+   * @param tree another tree
+   * @param itemDist a distance metric applicable to the items in the trees
+   * @return the pair of the nearest items, one from each tree
+   *    or <code>null</code> if no pair of distinct items can be found
+   */
+  public Object[] nearestNeighbour(HPRtree tree, ItemDistance itemDist)
+  {
+    build();
+    tree.build();
+    if (numItems == 0 || tree.numItems == 0) return null;
+    NodePair bp = new NodePair(this, getRootLevel(), 0, tree, tree.getRootLevel(), 0, itemDist);
+    return nearestNeighbour(bp);
+  }
+
+  private static Object[] nearestNeighbour(NodePair initPair) 
+  {
+    double distanceLowerBound = Double.POSITIVE_INFINITY;
+    NodePair minPair = null;
+    
+    PriorityQueue<NodePair> priQ = new PriorityQueue<NodePair>();
+    priQ.add(initPair);
+
+    while (! priQ.isEmpty() && distanceLowerBound > 0.0) {
+      NodePair pair = priQ.poll();
+      double pairDistance = pair.getDistance();
+      
+      /**
+       * If the distance for the first pair in the queue
+       * is >= current minimum distance, other nodes
+       * in the queue must also have a greater distance.
+       * So the current minDistance must be the true minimum.
+       */
+      if (pairDistance >= distanceLowerBound) 
+        break;  
+
+      if (pair.isLeaves()) {
+        distanceLowerBound = pairDistance;
+        minPair = pair;
+      }
+      else {
+        pair.expandToQueue(priQ, distanceLowerBound);
+      }
+    }
+    if (minPair == null) 
+      return null;
+    return new Object[] { minPair.getItem(0), minPair.getItem(1) };
+  }
+
+  /**
+   * Finds up to k items in this tree which are the nearest neighbors to the given {@code item}, 
+   * using {@code itemDist} as the distance metric.
+   * A Branch-and-Bound tree traversal algorithm is used
+   * to provide an efficient search.
+   * <p>
+   * The query {@code item} does <b>not</b> have to be 
+   * contained in the tree, but it does 
+   * have to be compatible with the {@code itemDist} 
+   * distance metric. 
+   * <p>
+   * If the tree size is smaller than k fewer items will be returned.
+   * If the tree is empty an array of size 0 is returned.
+   * 
+   * @param env the envelope of the query item
+   * @param item the item to find the nearest neighbours of
+   * @param itemDist a distance metric applicable to the items in this tree and the query item
+   * @param k the maximum number of nearest items to search for
+   * @return an array of the nearest items found, in order of increasing distance
+   */
+  public Object[] nearestNeighbour(Envelope env, Object item, ItemDistance itemDist, int k)
+  {
+    build();
+    if (numItems == 0 || k <= 0) return new Object[0];
+    NodePair initPair = new NodePair(this, getRootLevel(), 0, createQueryTree(env, item), 1, 0, itemDist);
+    
+    PriorityQueue<NodePair> priQ = new PriorityQueue<NodePair>();
+    priQ.add(initPair);
+    List<Object> items = new ArrayList<Object>();
+    /**
+     * Pairs are removed from the queue in order of increasing distance,
+     * so the first k leaf pairs found are the k nearest.
+     */
+    while (! priQ.isEmpty() && items.size() < k) {
+      NodePair pair = priQ.poll();
+      if (pair.isLeaves()) {
+        items.add(pair.getItem(0));
+      }
+      else {
+        pair.expandToQueue(priQ, Double.POSITIVE_INFINITY);
+      }
+    }
+    return items.toArray();
+  }
+
+  /**
+   * Tests whether some two items from this tree and another tree
+   * lie within a given distance.
+   * {@link ItemDistance} is used as the distance metric.
+   * A Branch-and-Bound tree traversal algorithm is used
+   * to provide an efficient search.
+   * 
+   * @param tree another tree
+   * @param itemDist a distance metric applicable to the items in the trees
+   * @param maxDistance the distance limit for the search
+   * @return true if there are items within the distance
+   */
+  public boolean isWithinDistance(HPRtree tree, ItemDistance itemDist, double maxDistance)
+  {
+    build();
+    tree.build();
+    if (numItems == 0 || tree.numItems == 0) return false;
+    
+    PriorityQueue<NodePair> priQ = new PriorityQueue<NodePair>();
+    priQ.add(new NodePair(this, getRootLevel(), 0, tree, tree.getRootLevel(), 0, itemDist));
+
+    while (! priQ.isEmpty()) {
+      NodePair pair = priQ.poll();
+      double pairDistance = pair.getDistance();
+      
+      // all remaining pairs are further away
+      if (pairDistance > maxDistance) 
+        return false;  
+      /**
+       * If the maximum distance between the nodes
+       * is less than the maxDistance,
+       * all items in the nodes must be within the distance
+       */
+      if (pair.maximumDistance() <= maxDistance)
+        return true;
+      if (pair.isLeaves()) {
+        // pairDistance <= maxDistance, due to test above
+        return true;
+      }
+      pair.expandToQueue(priQ, Double.POSITIVE_INFINITY);
+    }
+    return false;
+  }
+
+  private static HPRtree createQueryTree(Envelope env, Object item) {
+    HPRtree tree = new HPRtree();
+    tree.insert(env, item);
+    tree.build();
+    return tree;
+  }
+
+  /*
+   * Accessors used by the nearest-neighbour search.
+   * Entries in the tree are identified by a level and an index in that level.
+   * Level 0 contains the items, and level L > 0 contains the nodes of layer L - 1.
+   * The top level contains a single implicit root node
+   * covering the nodes in the top layer (or the items, if there are no layers).
+   */
+  
+  int getNodeCapacity() {
+    return nodeCapacity;
+  }
+  
+  int getRootLevel() {
+    if (layerStartIndex == null) return 1;
+    return layerStartIndex.length;
+  }
+
+  int getLevelSize(int level) {
+    if (level == 0) return numItems;
+    if (level == getRootLevel()) return 1;
+    return layerSize(level - 1) / ENV_SIZE;
+  }
+  
+  double[] getBoundsArray(int level) {
+    if (level == 0) return itemBounds;
+    if (level == getRootLevel()) return rootBounds;
+    return nodeBounds;
+  }
+  
+  int getBoundsIndex(int level, int index) {
+    if (level == 0) return ENV_SIZE * index;
+    if (level == getRootLevel()) return 0;
+    return layerStartIndex[level - 1] + ENV_SIZE * index;
+  }
+
+  Object getItem(int index) {
+    return itemValues[index];
+  }
+
+  Envelope getItemEnvelope(int index) {
+    int i = ENV_SIZE * index;
+    return new Envelope(itemBounds[i], itemBounds[i+2], itemBounds[i+1], itemBounds[i+3]);
+  }
+
+  ItemBoundable getItemBoundable(int index) {
+    return new ItemBoundable(getItemEnvelope(index), itemValues[index]);
+  }
+  
   /**
    * Builds the index, if not already built.
    */
@@ -220,6 +490,8 @@ public class HPRtree
         if (!isBuilt) {
           prepareIndex();
           prepareItems();
+          rootBounds = new double[] { totalExtent.getMinX(), totalExtent.getMinY(), 
+              totalExtent.getMaxX(), totalExtent.getMaxY() };
           this.isBuilt = true;
         }
       }
@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.index.hprtree;
+
+import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.index.ItemVisitor;
+import org.locationtech.jts.index.quadtree.Quadtree;
+
+/**
+ * A buffer of items which supports fast insertion and removal,
+ * used to hold the changes made to a {@link DynamicHPRtree}.
+ * Items are identified by object identity.
+ * The items are indexed by a {@link Quadtree},
+ * so that queries do not have to scan the entire buffer.
+ *
+ * @see DynamicHPRtree
+ */
+class ItemBuffer {
+
+  private final Map<Object, Item> items = new IdentityHashMap<Object, Item>();
+
+  private final Quadtree index = new Quadtree();
+
+  public int size() {
+    return items.size();
+  }
+
+  public Collection<Item> getItems() {
+    return items.values();
+  }
+
+  public void add(Envelope env, Object item) {
+    Item bufItem = new Item(env, item);
+    items.put(item, bufItem);
+    index.insert(env, bufItem);
+  }
+
+  /**
+   * Tests whether the buffer contains an item
+   * with an envelope intersecting a given envelope.
+   *
+   * @param env the envelope of the item
+   * @param item the item
+   * @return true if the item is in the buffer
+   */
+  public boolean contains(Envelope env, Object item) {
+    Item bufItem = items.get(item);
+    return bufItem != null && bufItem.getEnvelope().intersects(env);
+  }
+
+  /**
+   * Removes an item with an envelope intersecting a given envelope.
+   *
+   * @param env the envelope of the item
+   * @param item the item to remove
+   * @return true if the item was found
+   */
+  public boolean remove(Envelope env, Object item) {
+    if (! contains(env, item)) return false;
+    Item bufItem = items.remove(item);
+    index.remove(bufItem.getEnvelope(), bufItem);
+    return true;
+  }
+
+  /**
+   * Queries the buffer for items intersecting an envelope,
+   * skipping items in a set of removed items.
+   *
+   * @param searchEnv the envelope to query
+   * @param removed the removed items, or null
+   * @param visitor the visitor to pass the items to
+   */
+  public void query(Envelope searchEnv, Set<Object> removed, ItemVisitor visitor) {
+    index.query(searchEnv, new ItemVisitor() {
+      public void visitItem(Object indexItem) {
+        Item bufItem = (Item) indexItem;
+        if (! bufItem.getEnvelope().intersects(searchEnv)) return;
+        if (removed != null && removed.contains(bufItem.getItem())) return;
+        visitor.visitItem(bufItem.getItem());
+      }
+    });
+  }
+}
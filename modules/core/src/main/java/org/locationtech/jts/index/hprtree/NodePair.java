@@ -0,0 +1,221 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.index.hprtree;
+
+import java.util.PriorityQueue;
+
+import org.locationtech.jts.index.strtree.ItemBoundable;
+import org.locationtech.jts.index.strtree.ItemDistance;
+import org.locationtech.jts.math.MathUtil;
+
+/**
+ * A pair of entries (nodes or items) from {@link HPRtree}s,
+ * used in the Branch-and-Bound nearest-neighbour searches.
+ * Entries are referenced by their level and index in the tree,
+ * so that the search works directly on the packed bounds arrays.
+ * Provides an ordering based on the distance between the members,
+ * which allows building a priority queue by minimum distance.
+ *
+ * @see org.locationtech.jts.index.strtree.STRtree
+ */
+class NodePair
+  implements Comparable<NodePair>
+{
+  private final HPRtree tree1;
+  private final int level1;
+  private final int index1;
+  private final HPRtree tree2;
+  private final int level2;
+  private final int index2;
+  private final ItemDistance itemDistance;
+  private final double distance;
+
+  public NodePair(HPRtree tree1, int level1, int index1,
+      HPRtree tree2, int level2, int index2,
+      ItemDistance itemDistance)
+  {
+    this.tree1 = tree1;
+    this.level1 = level1;
+    this.index1 = index1;
+    this.tree2 = tree2;
+    this.level2 = level2;
+    this.index2 = index2;
+    this.itemDistance = itemDistance;
+    distance = distance();
+  }
+
+  /**
+   * Gets the item for one of the members of the pair
+   * (indexed by [0, 1]).
+   * The pair must be a pair of leaves.
+   *
+   * @param i the index of the member to return (0 or 1)
+   * @return the item of the chosen member
+   */
+  public Object getItem(int i)
+  {
+    if (i == 0) return tree1.getItem(index1);
+    return tree2.getItem(index2);
+  }
+
+  /**
+   * Gets the minimum possible distance between the entries in
+   * this pair.
+   * If the members are both items, this is the
+   * exact distance between them.
+   * Otherwise, this distance is a lower bound on
+   * the distances between the items in the members.
+   *
+   * @return the exact or lower bound distance for this pair
+   */
+  public double getDistance() { return distance; }
+
+  /**
+   * Tests if both members of the pair are items.
+   *
+   * @return true if both pair members are items
+   */
+  public boolean isLeaves()
+  {
+    return level1 == 0 && level2 == 0;
+  }
+
+  private double distance()
+  {
+    if (isLeaves()) {
+      ItemBoundable item1 = tree1.getItemBoundable(index1);
+      // use the same instance for identical items, to support anti-reflexive distances
+      ItemBoundable item2 = (tree1 == tree2 && index1 == index2) 
+          ? item1 : tree2.getItemBoundable(index2);
+      return itemDistance.distance(item1, item2);
+    }
+    double[] b1 = tree1.getBoundsArray(level1);
+    int i1 = tree1.getBoundsIndex(level1, index1);
+    double[] b2 = tree2.getBoundsArray(level2);
+    int i2 = tree2.getBoundsIndex(level2, index2);
+
+    double dx = 0.0;
+    if (b1[i1+2] < b2[i2])        dx = b2[i2] - b1[i1+2];
+    else if (b1[i1] > b2[i2+2])   dx = b1[i1] - b2[i2+2];
+    double dy = 0.0;
+    if (b1[i1+3] < b2[i2+1])      dy = b2[i2+1] - b1[i1+3];
+    else if (b1[i1+1] > b2[i2+3]) dy = b1[i1+1] - b2[i2+3];
+
+    if (dx == 0.0) return dy;
+    if (dy == 0.0) return dx;
+    return Math.sqrt(dx * dx + dy * dy);
+  }
+
+  /**
+   * Computes the maximum distance between any
+   * two items in the pair of entries.
+   * This is the length of the diagonal of
+   * the envelope containing both entry bounds.
+   *
+   * @return the maximum distance between items in the pair
+   */
+  public double maximumDistance()
+  {
+    double[] b1 = tree1.getBoundsArray(level1);
+    int i1 = tree1.getBoundsIndex(level1, index1);
+    double[] b2 = tree2.getBoundsArray(level2);
+    int i2 = tree2.getBoundsIndex(level2, index2);
+
+    double minx = Math.min(b1[i1], b2[i2]);
+    double miny = Math.min(b1[i1+1], b2[i2+1]);
+    double maxx = Math.max(b1[i1+2], b2[i2+2]);
+    double maxy = Math.max(b1[i1+3], b2[i2+3]);
+    return MathUtil.hypot(maxx - minx, maxy - miny);
+  }
+
+  /**
+   * Compares two pairs based on their minimum distances
+   */
+  public int compareTo(NodePair o)
+  {
+    if (distance < o.distance) return -1;
+    if (distance > o.distance) return 1;
+    return 0;
+  }
+
+  private static double area(HPRtree tree, int level, int index)
+  {
+    double[] b = tree.getBoundsArray(level);
+    int i = tree.getBoundsIndex(level, index);
+    return (b[i+2] - b[i]) * (b[i+3] - b[i+1]);
+  }
+
+  /**
+   * For a pair which is not a leaf
+   * (i.e. has at least one node member)
+   * adds the pairs formed by expanding the larger member
+   * which have distance less than minDistance
+   * to a priority queue.
+   *
+   * @param priQ the priority queue to add the new pairs to
+   * @param minDistance the limit on the distance between added pairs
+   */
+  public void expandToQueue(PriorityQueue<NodePair> priQ, double minDistance)
+  {
+    boolean isNode1 = level1 > 0;
+    boolean isNode2 = level2 > 0;
+
+    /**
+     * HEURISTIC: If both members are nodes,
+     * choose the one with largest area to expand.
+     * Otherwise, simply expand whichever is a node.
+     */
+    if (isNode1 && isNode2) {
+      if (area(tree1, level1, index1) > area(tree2, level2, index2)) {
+        expand1(priQ, minDistance);
+      }
+      else {
+        expand2(priQ, minDistance);
+      }
+    }
+    else if (isNode1) {
+      expand1(priQ, minDistance);
+    }
+    else if (isNode2) {
+      expand2(priQ, minDistance);
+    }
+    else {
+      throw new IllegalArgumentException("neither pair member is a node");
+    }
+  }
+
+  private void expand1(PriorityQueue<NodePair> priQ, double minDistance)
+  {
+    int childLevel = level1 - 1;
+    int start = index1 * tree1.getNodeCapacity();
+    int end = Math.min(start + tree1.getNodeCapacity(), tree1.getLevelSize(childLevel));
+    for (int i = start; i < end; i++) {
+      NodePair pair = new NodePair(tree1, childLevel, i, tree2, level2, index2, itemDistance);
+      if (pair.getDistance() < minDistance) {
+        priQ.add(pair);
+      }
+    }
+  }
+
+  private void expand2(PriorityQueue<NodePair> priQ, double minDistance)
+  {
+    int childLevel = level2 - 1;
+    int start = index2 * tree2.getNodeCapacity();
+    int end = Math.min(start + tree2.getNodeCapacity(), tree2.getLevelSize(childLevel));
+    for (int i = start; i < end; i++) {
+      NodePair pair = new NodePair(tree1, level1, index1, tree2, childLevel, i, itemDistance);
+      if (pair.getDistance() < minDistance) {
+        priQ.add(pair);
+      }
+    }
+  }
+}
@@ -146,6 +146,11 @@ public class KdNode {
         count = count + 1;
     }
 
+    // Sets the count of points at this location
+    void setCount(int count) {
+        this.count = count;
+    }
+
     /**
      * Returns the number of inserted points that are coincident at this location.
      * 
@@ -14,6 +14,7 @@ package org.locationtech.jts.index.kdtree;
 
 import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Deque;
@@ -24,6 +25,7 @@ import java.util.PriorityQueue;
 import org.locationtech.jts.geom.Coordinate;
 import org.locationtech.jts.geom.CoordinateList;
 import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.util.IntArrayList;
 
 /**
  * A 2D <a href='https://en.wikipedia.org/wiki/K-d_tree'>KD-Tree</a> spatial
@@ -51,6 +53,11 @@ import org.locationtech.jts.geom.Envelope;
  * points before insertion (e.g. by using <a href=
  * "https://en.wikipedia.org/wiki/Fisher%E2%80%93Yates_shuffle">Fisher-Yates
  * shuffling</a>).
+ * A better solution, if all the points are available up front,
+ * is to load them using {@link #build(Coordinate[], Object[])}.
+ * This creates a balanced tree by recursively splitting the points at the median
+ * of the splitting axis, in O(N log N) time.
+ * The points are snapped in the same way as if they were inserted in order.
  * 
  * @author David Skea
  * @author Martin Davis
@@ -181,6 +188,362 @@ public class KdTree {
     return insertExact(p, data);
   }
   
+  /**
+   * Loads a set of points with no data into an empty tree,
+   * creating a balanced tree.
+   * 
+   * @param pts the points to load
+   * @throws IllegalStateException if the tree is not empty
+   * 
+   * @see #build(Coordinate[], Object[])
+   */
+  public void build(Coordinate[] pts) {
+    build(pts, null);
+  }
+
+  /**
+   * Loads a set of points into an empty tree,
+   * creating a balanced tree.
+   * The points are snapped to each other in the same way as
+   * if they were inserted in array order, 
+   * so the tree contains the same nodes (with the same counts and data)
+   * as one created by {@link #insert(Coordinate, Object)}.
+   * The tree is built by recursively splitting the nodes 
+   * at the median value of the splitting axis.
+   * The nodes are created in depth-first order,
+   * which improves memory locality for queries.
+   * 
+   * @param pts the points to load
+   * @param data the data items for the points, or null
+   * @throws IllegalStateException if the tree is not empty
+   */
+  public void build(Coordinate[] pts, Object[] data) {
+    if (root != null)
+      throw new IllegalStateException("Cannot build a tree which is not empty");
+    /**
+     * With a zero tolerance only identical points are merged,
+     * which is done while building the tree.
+     * Otherwise points are snapped to nodes before building.
+     */
+    int[] counts = null;
+    int[] nodePts;
+    if (tolerance > 0) {
+      counts = new int[pts.length];
+      nodePts = findSnappedNodes(pts, counts);
+    }
+    else {
+      nodePts = new int[pts.length];
+      for (int i = 0; i < pts.length; i++) {
+        nodePts[i] = i;
+      }
+    }
+    Builder builder = new Builder(pts, data, counts, nodePts);
+    root = builder.build();
+    numberOfNodes = builder.getNumNodes();
+  }
+
+  /**
+   * Finds the points which become nodes with a non-zero tolerance.
+   * Each point is snapped to the best matching node created by the previous points,
+   * as for {@link #findBestMatchNode(Coordinate)}.
+   * Nodes are located by using a grid with cells twice the size of the tolerance,
+   * so that all nodes within tolerance of a point lie in at most 4 cells.
+   * 
+   * @param pts the points
+   * @param counts the array to record the count of points for each node
+   * @return the indexes of the node points
+   */
+  private int[] findSnappedNodes(Coordinate[] pts, int[] counts) {
+    NodeGrid grid = new NodeGrid(2 * tolerance, pts.length);
+    IntArrayList nodePts = new IntArrayList();
+    for (int i = 0; i < pts.length; i++) {
+      Coordinate p = pts[i];
+      int matchNode = -1;
+      double matchDist = 0.0;
+      long minCellX = grid.cell(p.x - tolerance);
+      long maxCellX = grid.cell(p.x + tolerance);
+      long minCellY = grid.cell(p.y - tolerance);
+      long maxCellY = grid.cell(p.y + tolerance);
+      //-- loops are written to avoid overflow for very large ordinates
+      for (long cx = minCellX; ; cx++) {
+        for (long cy = minCellY; ; cy++) {
+          for (int node = grid.first(cx, cy); node >= 0; node = grid.next(node)) {
+            double dist = p.distance(pts[node]);
+            if (! (dist <= tolerance)) continue;
+            // if distances are the same, use the lesser coordinate
+            if (matchNode < 0 
+                || dist < matchDist
+                || (dist == matchDist && pts[node].compareTo(pts[matchNode]) < 1)) {
+              matchNode = node;
+              matchDist = dist;
+            }
+          }
+          if (cy >= maxCellY) break;
+        }
+        if (cx >= maxCellX) break;
+      }
+      if (matchNode >= 0) {
+        counts[matchNode]++;
+        continue;
+      }
+      grid.add(grid.cell(p.x), grid.cell(p.y), i);
+      counts[i] = 1;
+      nodePts.add(i);
+    }
+    return nodePts.toArray();
+  }
+
+  /**
+   * A grid of cells containing lists of nodes,
+   * stored in an open-addressing hash table keyed by cell.
+   * Widely separated cells may have the same key, 
+   * but this just adds candidate nodes to check.
+   */
+  private static class NodeGrid {
+    private double cellSize;
+    private long[] keys;
+    private int[] heads;
+    private int[] next;
+    private int mask;
+
+    /**
+     * Creates a grid
+     * 
+     * @param cellSize the size of the grid cells
+     * @param numPts the number of points which may be added
+     */
+    NodeGrid(double cellSize, int numPts) {
+      this.cellSize = cellSize;
+      int capacity = Integer.highestOneBit(Math.max(numPts, 1)) * 4;
+      keys = new long[capacity];
+      heads = new int[capacity];
+      Arrays.fill(heads, -1);
+      mask = capacity - 1;
+      next = new int[numPts];
+    }
+
+    public long cell(double ord) {
+      return (long) Math.floor(ord / cellSize);
+    }
+
+    /**
+     * Gets the first node in a cell.
+     * 
+     * @return the index of the node, or -1 if the cell is empty
+     */
+    public int first(long cellX, long cellY) {
+      long key = key(cellX, cellY);
+      int slot = slot(key);
+      while (heads[slot] >= 0) {
+        if (keys[slot] == key) return heads[slot];
+        slot = (slot + 1) & mask;
+      }
+      return -1;
+    }
+
+    /**
+     * Gets the next node in the cell of a node.
+     * 
+     * @return the index of the next node, or -1 if there are no more nodes
+     */
+    public int next(int node) {
+      return next[node];
+    }
+
+    public void add(long cellX, long cellY, int node) {
+      long key = key(cellX, cellY);
+      int slot = slot(key);
+      while (heads[slot] >= 0 && keys[slot] != key) {
+        slot = (slot + 1) & mask;
+      }
+      keys[slot] = key;
+      next[node] = heads[slot];
+      heads[slot] = node;
+    }
+
+    private static long key(long cellX, long cellY) {
+      return (cellX << 32) ^ (cellY & 0xffffffffL);
+    }
+
+    private int slot(long key) {
+      long hash = key * 0x9E3779B97F4A7C15L;
+      return (int) (hash >>> 32) & mask;
+    }
+  }
+
+  /**
+   * Builds a balanced tree from a set of points.
+   * The ordinates of the points are copied into arrays,
+   * which are permuted along with the point indexes 
+   * to partition the points.
+   * The tree nodes are created in depth-first order.
+   */
+  private static class Builder {
+    private Coordinate[] pts;
+    private Object[] data;
+    private int[] counts;
+    private int[] index;
+    private double[] x;
+    private double[] y;
+    private int numNodes = 0;
+
+    /**
+     * Creates a builder for a set of node points.
+     * If the point counts are not provided,
+     * identical points are merged into a single node.
+     * 
+     * @param pts the points
+     * @param data the point data items, or null
+     * @param counts the count of points for each node, or null
+     * @param nodePts the indexes of the points to create nodes for
+     */
+    Builder(Coordinate[] pts, Object[] data, int[] counts, int[] nodePts) {
+      this.pts = pts;
+      this.data = data;
+      this.counts = counts;
+      this.index = nodePts;
+      x = new double[nodePts.length];
+      y = new double[nodePts.length];
+      for (int i = 0; i < nodePts.length; i++) {
+        Coordinate p = pts[nodePts[i]];
+        x[i] = p.x;
+        y[i] = p.y;
+      }
+    }
+
+    public KdNode build() {
+      return buildNode(0, index.length, true);
+    }
+
+    public int getNumNodes() {
+      return numNodes;
+    }
+
+    /**
+     * Creates a balanced subtree for a section of the node points.
+     * The median point along the split axis is used as the subtree root.
+     * The nodes in the left subtree must have a split ordinate
+     * strictly less than the root, 
+     * so points equal to the median are moved to the right subtree.
+     * 
+     * @return the root of the subtree, or null if the section is empty
+     */
+    private KdNode buildNode(int start, int end, boolean isAxisX) {
+      if (start >= end) 
+        return null;
+      double[] ord = isAxisX ? x : y;
+      int mid = (start + end) >>> 1;
+      select(ord, start, end, mid);
+      double split = ord[mid];
+
+      //-- move points not strictly less than the split value to the end of the left section
+      int rootIndex = mid;
+      for (int i = mid - 1; i >= start; i--) {
+        if (! (ord[i] < split)) {
+          rootIndex--;
+          swap(i, rootIndex);
+        }
+      }
+      swap(rootIndex, mid);
+
+      int pt = index[rootIndex];
+      int count;
+      if (counts != null) {
+        count = counts[pt];
+      }
+      else {
+        /**
+         * Merge points identical to the root into it.
+         * These can only be in the right section.
+         * The first point in input order is used for the node.
+         */
+        count = 1;
+        double rootX = x[rootIndex];
+        double rootY = y[rootIndex];
+        int i = rootIndex + 1;
+        while (i < end) {
+          if (x[i] == rootX && y[i] == rootY) {
+            count++;
+            if (index[i] < pt) pt = index[i];
+            end--;
+            swap(i, end);
+          }
+          else {
+            i++;
+          }
+        }
+      }
+
+      KdNode node = new KdNode(pts[pt], data == null ? null : data[pt], isAxisX);
+      node.setCount(count);
+      numNodes++;
+      node.setLeft(buildNode(start, rootIndex, ! isAxisX));
+      node.setRight(buildNode(rootIndex + 1, end, ! isAxisX));
+      return node;
+    }
+
+    /**
+     * Partially sorts a section of the points 
+     * so that the k'th position contains the point which would be there if the
+     * section was sorted by the given ordinate,
+     * with lesser points before it and greater points after it.
+     * NaN values are ordered after all other values.
+     */
+    private void select(double[] ord, int start, int end, int k) {
+      int left = start;
+      int right = end - 1;
+      while (right > left) {
+        double pivot = ord[(left + right) >>> 1];
+        int i = left;
+        int j = right;
+        while (i <= j) {
+          while (compare(ord[i], pivot) < 0) i++;
+          while (compare(ord[j], pivot) > 0) j--;
+          if (i <= j) {
+            swap(i, j);
+            i++;
+            j--;
+          }
+        }
+        if (k <= j) {
+          right = j;
+        }
+        else if (k >= i) {
+          left = i;
+        }
+        else {
+          return;
+        }
+      }
+    }
+
+    /**
+     * Compares ordinates consistently with the &lt; operator used to 
+     * search the tree, but with NaN ordered last.
+     */
+    private static int compare(double a, double b) {
+      if (a < b) return -1;
+      if (a > b) return 1;
+      if (a == b) return 0;
+      boolean isNaNa = Double.isNaN(a);
+      boolean isNaNb = Double.isNaN(b);
+      if (isNaNa && isNaNb) return 0;
+      return isNaNa ? 1 : -1;
+    }
+
+    private void swap(int i, int j) {
+      int tmpIndex = index[i];
+      index[i] = index[j];
+      index[j] = tmpIndex;
+      double tmp = x[i];
+      x[i] = x[j];
+      x[j] = tmp;
+      tmp = y[i];
+      y[i] = y[j];
+      y[j] = tmp;
+    }
+  }
+
   /**
    * Finds the nearest node in the tree to the given query point.
    * 
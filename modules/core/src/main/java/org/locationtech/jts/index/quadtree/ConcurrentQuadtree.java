@@ -0,0 +1,574 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.index.quadtree;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.index.ArrayListVisitor;
+import org.locationtech.jts.index.ItemVisitor;
+import org.locationtech.jts.index.SpatialIndex;
+
+/**
+ * A {@link Quadtree} which supports queries concurrently with updates.
+ * The tree has the same structure and query semantics as {@link Quadtree}.
+ * <p>
+ * The tree nodes are copy-on-write.
+ * An update copies the nodes on the path to the changed nodes,
+ * and then publishes the new tree root.
+ * Published nodes are never modified.
+ * So queries do not lock, and see a consistent snapshot of the tree
+ * as of the last completed update.
+ * A query which starts during an update does not see any of its changes.
+ * <p>
+ * Updates are serialized by a lock.
+ * Since the cost of an update is dominated by copying nodes,
+ * groups of items can be inserted or removed in a single update
+ * via {@link #insertAll(Envelope[], Object[])} and
+ * {@link #removeAll(Envelope[], Object[])}.
+ * Each node is copied at most once per update,
+ * and the changes become visible to queries together.
+ *
+ * @see Quadtree
+ */
+public class ConcurrentQuadtree
+    implements SpatialIndex
+{
+  private volatile QuadNode root = new QuadNode(null, 0, -1);
+
+  private final ReentrantLock updateLock = new ReentrantLock();
+  /**
+   * The version of the nodes created by the current update.
+   * Only these nodes can be modified.
+   */
+  private long version = 0;
+  /**
+   * The minimum non-zero extent of the inserted items,
+   * used to pad zero-extent envelopes (see {@link Quadtree}).
+   */
+  private double minExtent = 1.0;
+
+  /**
+   * Constructs a tree with no items.
+   */
+  public ConcurrentQuadtree()
+  {
+  }
+
+  /**
+   * Returns the number of levels in the tree.
+   *
+   * @return the number of levels in the tree
+   */
+  public int depth()
+  {
+    return root.depth();
+  }
+
+  /**
+   * Tests whether the index contains any items.
+   *
+   * @return true if the index does not contain any items
+   */
+  public boolean isEmpty()
+  {
+    return root.isEmpty();
+  }
+
+  /**
+   * Returns the number of items in the tree.
+   *
+   * @return the number of items in the tree
+   */
+  public int size()
+  {
+    return root.size();
+  }
+
+  public void insert(Envelope itemEnv, Object item)
+  {
+    updateLock.lock();
+    try {
+      QuadNode newRoot = startUpdate();
+      insert(newRoot, itemEnv, item);
+      root = newRoot;
+    }
+    finally {
+      updateLock.unlock();
+    }
+  }
+
+  /**
+   * Inserts a group of items into the tree in a single update.
+   * The items become visible to queries together.
+   *
+   * @param itemEnvs the envelopes of the items
+   * @param items the items to insert
+   */
+  public void insertAll(Envelope[] itemEnvs, Object[] items)
+  {
+    if (itemEnvs.length != items.length)
+      throw new IllegalArgumentException("number of envelopes does not match number of items");
+    updateLock.lock();
+    try {
+      QuadNode newRoot = startUpdate();
+      for (int i = 0; i < items.length; i++) {
+        insert(newRoot, itemEnvs[i], items[i]);
+      }
+      root = newRoot;
+    }
+    finally {
+      updateLock.unlock();
+    }
+  }
+
+  /**
+   * Removes a single item from the tree.
+   *
+   * @param itemEnv the Envelope of the item to be removed
+   * @param item the item to remove
+   * @return <code>true</code> if the item was found (and thus removed)
+   */
+  public boolean remove(Envelope itemEnv, Object item)
+  {
+    updateLock.lock();
+    try {
+      QuadNode newRoot = startUpdate();
+      boolean isFound = remove(newRoot, itemEnv, item);
+      if (isFound) {
+        root = newRoot;
+      }
+      return isFound;
+    }
+    finally {
+      updateLock.unlock();
+    }
+  }
+
+  /**
+   * Removes a group of items from the tree in a single update.
+   * The removals become visible to queries together.
+   *
+   * @param itemEnvs the envelopes of the items
+   * @param items the items to remove
+   * @return the number of items found (and thus removed)
+   */
+  public int removeAll(Envelope[] itemEnvs, Object[] items)
+  {
+    if (itemEnvs.length != items.length)
+      throw new IllegalArgumentException("number of envelopes does not match number of items");
+    updateLock.lock();
+    try {
+      QuadNode newRoot = startUpdate();
+      int numFound = 0;
+      for (int i = 0; i < items.length; i++) {
+        if (remove(newRoot, itemEnvs[i], items[i]))
+          numFound++;
+      }
+      if (numFound > 0) {
+        root = newRoot;
+      }
+      return numFound;
+    }
+    finally {
+      updateLock.unlock();
+    }
+  }
+
+  /**
+   * Queries the tree and returns items which may lie in the given search envelope.
+   * Precisely, the items that are returned are all items in the tree
+   * whose envelope <b>may</b> intersect the search Envelope.
+   * Note that some items with non-intersecting envelopes may be returned as well;
+   * the client is responsible for filtering these out.
+   * This method may be called concurrently with updates.
+   *
+   * @param searchEnv the envelope of the desired query area.
+   * @return a List of items which may intersect the search envelope
+   */
+  public List query(Envelope searchEnv)
+  {
+    ArrayListVisitor visitor = new ArrayListVisitor();
+    query(searchEnv, visitor);
+    return visitor.getItems();
+  }
+
+  /**
+   * Queries the tree and visits items which may lie in the given search envelope.
+   * Precisely, the items that are visited are all items in the tree
+   * whose envelope <b>may</b> intersect the search Envelope.
+   * Note that some items with non-intersecting envelopes may be visited as well;
+   * the client is responsible for filtering these out.
+   * This method may be called concurrently with updates.
+   *
+   * @param searchEnv the envelope of the desired query area.
+   * @param visitor a visitor object which is passed the visited items
+   */
+  public void query(Envelope searchEnv, ItemVisitor visitor)
+  {
+    root.visit(searchEnv, visitor);
+  }
+
+  /**
+   * Return a list of all items in the tree.
+   *
+   * @return a list of all items in the tree
+   */
+  public List queryAll()
+  {
+    List<Object> foundItems = new ArrayList<Object>();
+    root.addAllItems(foundItems);
+    return foundItems;
+  }
+
+  /**
+   * Starts an update by creating a new version,
+   * and a copy of the root node which can be modified.
+   *
+   * @return the root node for the update
+   */
+  private QuadNode startUpdate()
+  {
+    version++;
+    return copyForUpdate(root);
+  }
+
+  private QuadNode copyForUpdate(QuadNode node)
+  {
+    if (node.version == version)
+      return node;
+    return new QuadNode(node, version);
+  }
+
+  private void insert(QuadNode newRoot, Envelope itemEnv, Object item)
+  {
+    collectStats(itemEnv);
+    Envelope insertEnv = Quadtree.ensureExtent(itemEnv, minExtent);
+
+    int index = NodeBase.getSubnodeIndex(insertEnv, 0.0, 0.0);
+    // if index is -1, itemEnv must cross the X or Y axis.
+    if (index == -1) {
+      newRoot.addItem(item);
+      return;
+    }
+    QuadNode node = newRoot.subnode[index];
+    // expand the tree upward if the quadrant does not contain the item
+    if (node == null || ! node.env.contains(insertEnv)) {
+      node = createExpanded(node, insertEnv);
+    }
+    newRoot.subnode[index] = copyForUpdate(node);
+    insertContained(newRoot.subnode[index], insertEnv, item);
+  }
+
+  /**
+   * Inserts an item into a modifiable subtree which contains it,
+   * copying or creating the nodes on the path to the item node.
+   */
+  private void insertContained(QuadNode tree, Envelope itemEnv, Object item)
+  {
+    /**
+     * Do NOT create a new quad for zero-area envelopes - this would lead
+     * to infinite recursion. Instead, use a heuristic of simply returning
+     * the smallest existing quad containing the query
+     */
+    boolean isZeroX = IntervalSize.isZeroWidth(itemEnv.getMinX(), itemEnv.getMaxX());
+    boolean isZeroY = IntervalSize.isZeroWidth(itemEnv.getMinY(), itemEnv.getMaxY());
+    boolean isCreate = ! (isZeroX || isZeroY);
+
+    QuadNode node = tree;
+    while (true) {
+      int index = NodeBase.getSubnodeIndex(itemEnv, node.centrex, node.centrey);
+      if (index == -1)
+        break;
+      QuadNode child = node.subnode[index];
+      if (child == null) {
+        if (! isCreate)
+          break;
+        child = node.createSubnode(index, version);
+      }
+      else {
+        child = copyForUpdate(child);
+      }
+      node.subnode[index] = child;
+      node = child;
+    }
+    node.addItem(item);
+  }
+
+  private QuadNode createExpanded(QuadNode node, Envelope addEnv)
+  {
+    Envelope expandEnv = new Envelope(addEnv);
+    if (node != null) expandEnv.expandToInclude(node.env);
+    Key key = new Key(expandEnv);
+    QuadNode largerNode = new QuadNode(key.getEnvelope(), key.getLevel(), version);
+    if (node != null) insertNode(largerNode, node);
+    return largerNode;
+  }
+
+  /**
+   * Inserts an existing node as a descendant of a new node.
+   * The existing node is shared, not modified.
+   */
+  private void insertNode(QuadNode parent, QuadNode node)
+  {
+    int index = NodeBase.getSubnodeIndex(node.env, parent.centrex, parent.centrey);
+    if (node.level == parent.level - 1) {
+      parent.subnode[index] = node;
+    }
+    else {
+      // the node is not a direct child, so make a new child node to contain it
+      QuadNode childNode = parent.createSubnode(index, version);
+      insertNode(childNode, node);
+      parent.subnode[index] = childNode;
+    }
+  }
+
+  private boolean remove(QuadNode newRoot, Envelope itemEnv, Object item)
+  {
+    Envelope posEnv = Quadtree.ensureExtent(itemEnv, minExtent);
+    List<QuadNode> path = new ArrayList<QuadNode>();
+    if (! findPath(newRoot, posEnv, item, path))
+      return false;
+
+    //-- copy the path to the item node
+    for (int i = 1; i < path.size(); i++) {
+      QuadNode parent = path.get(i - 1);
+      QuadNode node = copyForUpdate(path.get(i));
+      parent.subnode[parent.subnodeIndex(path.get(i))] = node;
+      path.set(i, node);
+    }
+    path.get(path.size() - 1).removeItem(item);
+
+    //-- trim empty nodes, but never the root
+    for (int i = path.size() - 1; i > 0; i--) {
+      QuadNode node = path.get(i);
+      if (! node.isPrunable())
+        break;
+      QuadNode parent = path.get(i - 1);
+      parent.subnode[parent.subnodeIndex(node)] = null;
+    }
+    return true;
+  }
+
+  /**
+   * Finds the path from a node to the node containing an item,
+   * searching subnodes before the node items (as {@link NodeBase} does).
+   */
+  private static boolean findPath(QuadNode node, Envelope itemEnv, Object item, List<QuadNode> path)
+  {
+    if (! node.isSearchMatch(itemEnv))
+      return false;
+    path.add(node);
+    for (int i = 0; i < 4; i++) {
+      if (node.subnode[i] != null
+          && findPath(node.subnode[i], itemEnv, item, path))
+        return true;
+    }
+    if (node.items.contains(item))
+      return true;
+    path.remove(path.size() - 1);
+    return false;
+  }
+
+  private void collectStats(Envelope itemEnv)
+  {
+    double delX = itemEnv.getWidth();
+    if (delX < minExtent && delX > 0.0)
+      minExtent = delX;
+
+    double delY = itemEnv.getHeight();
+    if (delY < minExtent && delY > 0.0)
+      minExtent = delY;
+  }
+
+  /**
+   * A node of the tree.
+   * The root node has a null envelope and is centred at the origin.
+   * A node may be modified only if it was created by the current update
+   * (so it is not yet reachable from the published root).
+   * A copied node shares the item list of the original,
+   * and copies it only if its items are modified.
+   */
+  private static class QuadNode
+  {
+    final Envelope env;
+    final double centrex;
+    final double centrey;
+    final int level;
+    final long version;
+    ArrayList<Object> items;
+    boolean isItemsOwned;
+    /**
+     * subquads are numbered as follows:
+     * <pre>
+     *  2 | 3
+     *  --+--
+     *  0 | 1
+     * </pre>
+     */
+    final QuadNode[] subnode;
+
+    QuadNode(Envelope env, int level, long version)
+    {
+      this.env = env;
+      this.level = level;
+      this.version = version;
+      if (env != null) {
+        centrex = (env.getMinX() + env.getMaxX()) / 2;
+        centrey = (env.getMinY() + env.getMaxY()) / 2;
+      }
+      else {
+        centrex = 0.0;
+        centrey = 0.0;
+      }
+      items = new ArrayList<Object>();
+      isItemsOwned = true;
+      subnode = new QuadNode[4];
+    }
+
+    /**
+     * Creates a modifiable copy of a node.
+     */
+    QuadNode(QuadNode node, long version)
+    {
+      env = node.env;
+      centrex = node.centrex;
+      centrey = node.centrey;
+      level = node.level;
+      this.version = version;
+      items = node.items;
+      isItemsOwned = false;
+      subnode = node.subnode.clone();
+    }
+
+    void addItem(Object item)
+    {
+      ownItems();
+      items.add(item);
+    }
+
+    void removeItem(Object item)
+    {
+      ownItems();
+      items.remove(item);
+    }
+
+    /**
+     * Copies the item list if it is shared with the node this was copied from.
+     */
+    private void ownItems()
+    {
+      if (! isItemsOwned) {
+        items = new ArrayList<Object>(items);
+        isItemsOwned = true;
+      }
+    }
+
+    QuadNode createSubnode(int index, long version)
+    {
+      double minx = (index == 0 || index == 2) ? env.getMinX() : centrex;
+      double maxx = (index == 0 || index == 2) ? centrex : env.getMaxX();
+      double miny = (index == 0 || index == 1) ? env.getMinY() : centrey;
+      double maxy = (index == 0 || index == 1) ? centrey : env.getMaxY();
+      return new QuadNode(new Envelope(minx, maxx, miny, maxy), level - 1, version);
+    }
+
+    int subnodeIndex(QuadNode node)
+    {
+      for (int i = 0; i < 4; i++) {
+        if (subnode[i] == node)
+          return i;
+      }
+      return -1;
+    }
+
+    boolean isSearchMatch(Envelope searchEnv)
+    {
+      if (searchEnv == null) return false;
+      //-- the root matches any search
+      if (env == null) return true;
+      return env.intersects(searchEnv);
+    }
+
+    boolean isPrunable()
+    {
+      if (! items.isEmpty())
+        return false;
+      for (int i = 0; i < 4; i++) {
+        if (subnode[i] != null)
+          return false;
+      }
+      return true;
+    }
+
+    boolean isEmpty()
+    {
+      if (! items.isEmpty())
+        return false;
+      for (int i = 0; i < 4; i++) {
+        if (subnode[i] != null && ! subnode[i].isEmpty())
+          return false;
+      }
+      return true;
+    }
+
+    void visit(Envelope searchEnv, ItemVisitor visitor)
+    {
+      if (! isSearchMatch(searchEnv))
+        return;
+      for (int i = 0; i < items.size(); i++) {
+        visitor.visitItem(items.get(i));
+      }
+      for (int i = 0; i < 4; i++) {
+        if (subnode[i] != null) {
+          subnode[i].visit(searchEnv, visitor);
+        }
+      }
+    }
+
+    void addAllItems(List<Object> resultItems)
+    {
+      resultItems.addAll(items);
+      for (int i = 0; i < 4; i++) {
+        if (subnode[i] != null) {
+          subnode[i].addAllItems(resultItems);
+        }
+      }
+    }
+
+    int depth()
+    {
+      int maxSubDepth = 0;
+      for (int i = 0; i < 4; i++) {
+        if (subnode[i] != null) {
+          int sqd = subnode[i].depth();
+          if (sqd > maxSubDepth)
+            maxSubDepth = sqd;
+        }
+      }
+      return maxSubDepth + 1;
+    }
+
+    int size()
+    {
+      int subSize = 0;
+      for (int i = 0; i < 4; i++) {
+        if (subnode[i] != null) {
+          subSize += subnode[i].size();
+        }
+      }
+      return subSize + items.size();
+    }
+  }
+}
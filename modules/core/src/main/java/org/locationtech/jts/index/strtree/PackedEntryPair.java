@@ -0,0 +1,209 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.index.strtree;
+
+import java.util.PriorityQueue;
+
+import org.locationtech.jts.math.MathUtil;
+
+/**
+ * A pair of entries (nodes or items) from {@link PackedSTRtree}s,
+ * used in the Branch-and-Bound nearest-neighbour searches.
+ * Provides an ordering based on the distance between the members,
+ * which allows building a priority queue by minimum distance.
+ *
+ * @see BoundablePair
+ */
+class PackedEntryPair
+  implements Comparable<PackedEntryPair>
+{
+  private final PackedSTRtree tree1;
+  private final int entry1;
+  private final PackedSTRtree tree2;
+  private final int entry2;
+  private final ItemDistance itemDistance;
+  private final double distance;
+
+  public PackedEntryPair(PackedSTRtree tree1, int entry1,
+      PackedSTRtree tree2, int entry2,
+      ItemDistance itemDistance)
+  {
+    this.tree1 = tree1;
+    this.entry1 = entry1;
+    this.tree2 = tree2;
+    this.entry2 = entry2;
+    this.itemDistance = itemDistance;
+    distance = distance();
+  }
+
+  /**
+   * Gets the item for one of the members of the pair
+   * (indexed by [0, 1]).
+   * The pair must be a pair of leaves.
+   *
+   * @param i the index of the member to return (0 or 1)
+   * @return the item of the chosen member
+   */
+  public Object getItem(int i)
+  {
+    if (i == 0) return tree1.getItem(entry1);
+    return tree2.getItem(entry2);
+  }
+
+  /**
+   * Gets the minimum possible distance between the entries in
+   * this pair.
+   * If the members are both items, this is the
+   * exact distance between them.
+   * Otherwise, this distance is a lower bound on
+   * the distances between the items in the members.
+   *
+   * @return the exact or lower bound distance for this pair
+   */
+  public double getDistance() { return distance; }
+
+  /**
+   * Tests if both members of the pair are items.
+   *
+   * @return true if both pair members are items
+   */
+  public boolean isLeaves()
+  {
+    return ! tree1.isNode(entry1) && ! tree2.isNode(entry2);
+  }
+
+  private double distance()
+  {
+    if (isLeaves()) {
+      ItemBoundable item1 = tree1.getItemBoundable(entry1);
+      // use the same instance for identical items, to support anti-reflexive distances
+      ItemBoundable item2 = (tree1 == tree2 && entry1 == entry2)
+          ? item1 : tree2.getItemBoundable(entry2);
+      return itemDistance.distance(item1, item2);
+    }
+    double[] b1 = tree1.getBounds();
+    int i1 = 4 * entry1;
+    double[] b2 = tree2.getBounds();
+    int i2 = 4 * entry2;
+
+    double dx = 0.0;
+    if (b1[i1+2] < b2[i2])        dx = b2[i2] - b1[i1+2];
+    else if (b1[i1] > b2[i2+2])   dx = b1[i1] - b2[i2+2];
+    double dy = 0.0;
+    if (b1[i1+3] < b2[i2+1])      dy = b2[i2+1] - b1[i1+3];
+    else if (b1[i1+1] > b2[i2+3]) dy = b1[i1+1] - b2[i2+3];
+
+    if (dx == 0.0) return dy;
+    if (dy == 0.0) return dx;
+    return Math.sqrt(dx * dx + dy * dy);
+  }
+
+  /**
+   * Computes the maximum distance between any
+   * two items in the pair of entries.
+   * This is the length of the diagonal of
+   * the envelope containing both entry bounds.
+   *
+   * @return the maximum distance between items in the pair
+   */
+  public double maximumDistance()
+  {
+    double[] b1 = tree1.getBounds();
+    int i1 = 4 * entry1;
+    double[] b2 = tree2.getBounds();
+    int i2 = 4 * entry2;
+
+    double minx = Math.min(b1[i1], b2[i2]);
+    double miny = Math.min(b1[i1+1], b2[i2+1]);
+    double maxx = Math.max(b1[i1+2], b2[i2+2]);
+    double maxy = Math.max(b1[i1+3], b2[i2+3]);
+    return MathUtil.hypot(maxx - minx, maxy - miny);
+  }
+
+  /**
+   * Compares two pairs based on their minimum distances
+   */
+  public int compareTo(PackedEntryPair o)
+  {
+    if (distance < o.distance) return -1;
+    if (distance > o.distance) return 1;
+    return 0;
+  }
+
+  private static double area(PackedSTRtree tree, int entry)
+  {
+    double[] b = tree.getBounds();
+    int i = 4 * entry;
+    return (b[i+2] - b[i]) * (b[i+3] - b[i+1]);
+  }
+
+  /**
+   * For a pair which is not a leaf
+   * (i.e. has at least one node member)
+   * adds the pairs formed by expanding the larger member
+   * which have distance less than minDistance
+   * to a priority queue.
+   *
+   * @param priQ the priority queue to add the new pairs to
+   * @param minDistance the limit on the distance between added pairs
+   */
+  public void expandToQueue(PriorityQueue<PackedEntryPair> priQ, double minDistance)
+  {
+    boolean isNode1 = tree1.isNode(entry1);
+    boolean isNode2 = tree2.isNode(entry2);
+
+    /**
+     * HEURISTIC: If both members are nodes,
+     * choose the one with largest area to expand.
+     * Otherwise, simply expand whichever is a node.
+     */
+    if (isNode1 && isNode2) {
+      if (area(tree1, entry1) > area(tree2, entry2)) {
+        expand1(priQ, minDistance);
+      }
+      else {
+        expand2(priQ, minDistance);
+      }
+    }
+    else if (isNode1) {
+      expand1(priQ, minDistance);
+    }
+    else if (isNode2) {
+      expand2(priQ, minDistance);
+    }
+    else {
+      throw new IllegalArgumentException("neither pair member is a node");
+    }
+  }
+
+  private void expand1(PriorityQueue<PackedEntryPair> priQ, double minDistance)
+  {
+    int end = tree1.getChildEnd(entry1);
+    for (int i = tree1.getChildStart(entry1); i < end; i++) {
+      PackedEntryPair pair = new PackedEntryPair(tree1, i, tree2, entry2, itemDistance);
+      if (pair.getDistance() < minDistance) {
+        priQ.add(pair);
+      }
+    }
+  }
+
+  private void expand2(PriorityQueue<PackedEntryPair> priQ, double minDistance)
+  {
+    int end = tree2.getChildEnd(entry2);
+    for (int i = tree2.getChildStart(entry2); i < end; i++) {
+      PackedEntryPair pair = new PackedEntryPair(tree1, entry1, tree2, i, itemDistance);
+      if (pair.getDistance() < minDistance) {
+        priQ.add(pair);
+      }
+    }
+  }
+}
@@ -0,0 +1,452 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.index.strtree;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.PriorityQueue;
+
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.index.ArrayListVisitor;
+import org.locationtech.jts.index.ItemVisitor;
+import org.locationtech.jts.index.SpatialIndex;
+
+/**
+ * A compact, read-only copy of a built {@link STRtree}.
+ * The tree structure is stored in arrays rather than as node objects:
+ * <ul>
+ * <li>The nodes and items are numbered as <i>entries</i>,
+ * with the nodes first (in breadth-first order) followed by the items.
+ * <li>The bounds of all entries are stored in a single array,
+ * as <code>[minX, minY, maxX, maxY]</code> for each entry.
+ * <li>The children of each node are a contiguous range of entries,
+ * which is recorded by its start and end.
+ * </ul>
+ * This uses much less memory than the {@link STRtree},
+ * and improves the memory locality of queries.
+ * <p>
+ * The tree answers queries and nearest-neighbour searches
+ * in the same way as the {@link STRtree} it is created from.
+ * In particular, query results are returned in the same order.
+ * Items cannot be inserted or removed.
+ * <p>
+ * Querying the tree is thread-safe.
+ *
+ * @see STRtree#pack()
+ */
+public class PackedSTRtree
+  implements SpatialIndex
+{
+  private static final int ENV_SIZE = 4;
+
+  private int numNodes;
+
+  private int numItems;
+
+  /**
+   * The bounds of the nodes and items
+   */
+  private double[] bounds;
+
+  /**
+   * The start and end of the child entry range of each node
+   */
+  private int[] childStart;
+
+  private int[] childEnd;
+
+  private Object[] itemValues;
+
+  /**
+   * Creates a packed copy of an {@link STRtree}.
+   * The tree is built if it has not already been built.
+   *
+   * @param tree the tree to copy
+   */
+  public PackedSTRtree(STRtree tree)
+  {
+    tree.build();
+    pack(tree.getRoot());
+  }
+
+  private void pack(AbstractNode root)
+  {
+    // number the nodes in breadth-first order, and count the items
+    List<AbstractNode> nodes = new ArrayList<AbstractNode>();
+    nodes.add(root);
+    numItems = 0;
+    for (int i = 0; i < nodes.size(); i++) {
+      for (Object child : nodes.get(i).getChildBoundables()) {
+        if (child instanceof AbstractNode) {
+          nodes.add((AbstractNode) child);
+        }
+        else {
+          numItems++;
+        }
+      }
+    }
+    numNodes = nodes.size();
+    bounds = new double[ENV_SIZE * (numNodes + numItems)];
+    childStart = new int[numNodes];
+    childEnd = new int[numNodes];
+    itemValues = new Object[numItems];
+
+    int nextNode = 1;
+    int nextItem = numNodes;
+    for (int i = 0; i < numNodes; i++) {
+      AbstractNode node = nodes.get(i);
+      setBounds(i, (Envelope) node.getBounds());
+      List children = node.getChildBoundables();
+      boolean isLeaf = children.isEmpty() || children.get(0) instanceof ItemBoundable;
+      int start = isLeaf ? nextItem : nextNode;
+      childStart[i] = start;
+      childEnd[i] = start + children.size();
+      if (isLeaf) {
+        for (Object child : children) {
+          ItemBoundable item = (ItemBoundable) child;
+          setBounds(nextItem, (Envelope) item.getBounds());
+          itemValues[nextItem - numNodes] = item.getItem();
+          nextItem++;
+        }
+      }
+      else {
+        nextNode += children.size();
+      }
+    }
+  }
+
+  private void setBounds(int entry, Envelope env)
+  {
+    int i = ENV_SIZE * entry;
+    if (env == null) {
+      // an empty node, which does not intersect anything
+      bounds[i] = Double.MAX_VALUE;
+      bounds[i+1] = Double.MAX_VALUE;
+      bounds[i+2] = -Double.MAX_VALUE;
+      bounds[i+3] = -Double.MAX_VALUE;
+      return;
+    }
+    bounds[i] = env.getMinX();
+    bounds[i+1] = env.getMinY();
+    bounds[i+2] = env.getMaxX();
+    bounds[i+3] = env.getMaxY();
+  }
+
+  /**
+   * Gets the number of items in the index.
+   *
+   * @return the number of items
+   */
+  public int size()
+  {
+    return numItems;
+  }
+
+  /**
+   * Tests whether the index contains any items.
+   *
+   * @return true if the index does not contain any items
+   */
+  public boolean isEmpty()
+  {
+    return numItems == 0;
+  }
+
+  /**
+   * Inserting is not supported by this read-only index.
+   *
+   * @throws IllegalStateException always, since the tree is already built
+   */
+  @Override
+  public void insert(Envelope itemEnv, Object item)
+  {
+    throw new IllegalStateException("Cannot insert items into a packed tree.");
+  }
+
+  /**
+   * Removal is not supported by this read-only index,
+   * so items are never removed.
+   *
+   * @return false, since items cannot be removed
+   */
+  @Override
+  public boolean remove(Envelope itemEnv, Object item)
+  {
+    return false;
+  }
+
+  /**
+   * Returns items whose bounds intersect the given envelope.
+   */
+  @Override
+  public List query(Envelope searchEnv)
+  {
+    ArrayListVisitor visitor = new ArrayListVisitor();
+    query(searchEnv, visitor);
+    return visitor.getItems();
+  }
+
+  /**
+   * Visits items whose bounds intersect the given envelope.
+   */
+  @Override
+  public void query(Envelope searchEnv, ItemVisitor visitor)
+  {
+    if (isEmpty()) return;
+    if (! intersects(0, searchEnv)) return;
+    queryNode(0, searchEnv, visitor);
+  }
+
+  private void queryNode(int node, Envelope searchEnv, ItemVisitor visitor)
+  {
+    int end = childEnd[node];
+    for (int entry = childStart[node]; entry < end; entry++) {
+      if (! intersects(entry, searchEnv)) continue;
+      if (entry < numNodes) {
+        queryNode(entry, searchEnv, visitor);
+      }
+      else {
+        visitor.visitItem(itemValues[entry - numNodes]);
+      }
+    }
+  }
+
+  private boolean intersects(int entry, Envelope env)
+  {
+    int i = ENV_SIZE * entry;
+    boolean isBeyond = (env.getMaxX() < bounds[i])
+    || (env.getMaxY() < bounds[i+1])
+    || (env.getMinX() > bounds[i+2])
+    || (env.getMinY() > bounds[i+3]);
+    return ! isBeyond;
+  }
+
+  /**
+   * Finds the two nearest items in the tree,
+   * using {@link ItemDistance} as the distance metric.
+   * A Branch-and-Bound tree traversal algorithm is used
+   * to provide an efficient search.
+   * <p>
+   * If the tree is empty, the return value is <code>null</code>.
+   * If it is required to find only pairs of distinct items,
+   * the {@link ItemDistance} function must be <b>anti-reflexive</b>.
+   *
+   * @param itemDist a distance metric applicable to the items in this tree
+   * @return the pair of the nearest items
+   *    or <code>null</code> if the tree is empty
+   */
+  public Object[] nearestNeighbour(ItemDistance itemDist)
+  {
+    if (isEmpty()) return null;
+    return nearestNeighbour(new PackedEntryPair(this, 0, this, 0, itemDist));
+  }
+
+  /**
+   * Finds the item in this tree which is nearest to the given {@link Object},
+   * using {@link ItemDistance} as the distance metric.
+   * A Branch-and-Bound tree traversal algorithm is used
+   * to provide an efficient search.
+   * <p>
+   * The query <tt>object</tt> does <b>not</b> have to be
+   * contained in the tree, but it does
+   * have to be compatible with the <tt>itemDist</tt>
+   * distance metric.
+   *
+   * @param env the envelope of the query item
+   * @param item the item to find the nearest neighbour of
+   * @param itemDist a distance metric applicable to the items in this tree and the query item
+   * @return the nearest item in this tree
+   *    or <code>null</code> if the tree is empty
+   */
+  public Object nearestNeighbour(Envelope env, Object item, ItemDistance itemDist)
+  {
+    if (isEmpty()) return null;
+    PackedSTRtree queryTree = createQueryTree(env, item);
+    return nearestNeighbour(new PackedEntryPair(this, 0, queryTree, 0, itemDist))[0];
+  }
+
+  /**
+   * Finds the two nearest items from this tree
+   * and another tree,
+   * using {@link ItemDistance} as the distance metric.
+   * A Branch-and-Bound tree traversal algorithm is used
+   * to provide an efficient search.
+   * The result value is a pair of items,
+   * the first from this tree and the second
+   * from the argument tree.
+   *
+   * @param tree another tree
+   * @param itemDist a distance metric applicable to the items in the trees
+   * @return the pair of the nearest items, one from each tree
+   *    or <code>null</code> if no pair of distinct items can be found
+   */
+  public Object[] nearestNeighbour(PackedSTRtree tree, ItemDistance itemDist)
+  {
+    if (isEmpty() || tree.isEmpty()) return null;
+    return nearestNeighbour(new PackedEntryPair(this, 0, tree, 0, itemDist));
+  }
+
+  private static Object[] nearestNeighbour(PackedEntryPair initPair)
+  {
+    double distanceLowerBound = Double.POSITIVE_INFINITY;
+    PackedEntryPair minPair = null;
+
+    PriorityQueue<PackedEntryPair> priQ = new PriorityQueue<PackedEntryPair>();
+    priQ.add(initPair);
+
+    while (! priQ.isEmpty() && distanceLowerBound > 0.0) {
+      PackedEntryPair pair = priQ.poll();
+      double pairDistance = pair.getDistance();
+
+      /**
+       * If the distance for the first pair in the queue
+       * is >= current minimum distance, other nodes
+       * in the queue must also have a greater distance.
+       * So the current minDistance must be the true minimum.
+       */
+      if (pairDistance >= distanceLowerBound)
+        break;
+
+      if (pair.isLeaves()) {
+        distanceLowerBound = pairDistance;
+        minPair = pair;
+      }
+      else {
+        pair.expandToQueue(priQ, distanceLowerBound);
+      }
+    }
+    if (minPair == null)
+      return null;
+    return new Object[] { minPair.getItem(0), minPair.getItem(1) };
+  }
+
+  /**
+   * Finds up to k items in this tree which are the nearest neighbors to the given {@code item},
+   * using {@code itemDist} as the distance metric.
+   * A Branch-and-Bound tree traversal algorithm is used
+   * to provide an efficient search.
+   * <p>
+   * If the tree size is smaller than k fewer items will be returned.
+   * If the tree is empty an array of size 0 is returned.
+   *
+   * @param env the envelope of the query item
+   * @param item the item to find the nearest neighbours of
+   * @param itemDist a distance metric applicable to the items in this tree and the query item
+   * @param k the maximum number of nearest items to search for
+   * @return an array of the nearest items found, in order of increasing distance
+   */
+  public Object[] nearestNeighbour(Envelope env, Object item, ItemDistance itemDist, int k)
+  {
+    if (isEmpty() || k <= 0) return new Object[0];
+    PackedSTRtree queryTree = createQueryTree(env, item);
+    PriorityQueue<PackedEntryPair> priQ = new PriorityQueue<PackedEntryPair>();
+    priQ.add(new PackedEntryPair(this, 0, queryTree, 0, itemDist));
+    List<Object> items = new ArrayList<Object>();
+    /**
+     * Pairs are removed from the queue in order of increasing distance,
+     * so the first k leaf pairs found are the k nearest.
+     */
+    while (! priQ.isEmpty() && items.size() < k) {
+      PackedEntryPair pair = priQ.poll();
+      if (pair.isLeaves()) {
+        items.add(pair.getItem(0));
+      }
+      else {
+        pair.expandToQueue(priQ, Double.POSITIVE_INFINITY);
+      }
+    }
+    return items.toArray();
+  }
+
+  /**
+   * Tests whether some two items from this tree and another tree
+   * lie within a given distance.
+   * {@link ItemDistance} is used as the distance metric.
+   * A Branch-and-Bound tree traversal algorithm is used
+   * to provide an efficient search.
+   *
+   * @param tree another tree
+   * @param itemDist a distance metric applicable to the items in the trees
+   * @param maxDistance the distance limit for the search
+   * @return true if there are items within the distance
+   */
+  public boolean isWithinDistance(PackedSTRtree tree, ItemDistance itemDist, double maxDistance)
+  {
+    if (isEmpty() || tree.isEmpty()) return false;
+
+    PriorityQueue<PackedEntryPair> priQ = new PriorityQueue<PackedEntryPair>();
+    priQ.add(new PackedEntryPair(this, 0, tree, 0, itemDist));
+
+    while (! priQ.isEmpty()) {
+      PackedEntryPair pair = priQ.poll();
+      // all remaining pairs are further away
+      if (pair.getDistance() > maxDistance)
+        return false;
+      /**
+       * If the maximum distance between the entries
+       * is less than the maxDistance,
+       * all items in the entries must be within the distance
+       */
+      if (pair.maximumDistance() <= maxDistance)
+        return true;
+      if (pair.isLeaves()) {
+        // pair distance <= maxDistance, due to test above
+        return true;
+      }
+      pair.expandToQueue(priQ, Double.POSITIVE_INFINITY);
+    }
+    return false;
+  }
+
+  private static PackedSTRtree createQueryTree(Envelope env, Object item)
+  {
+    STRtree tree = new STRtree();
+    tree.insert(env, item);
+    return new PackedSTRtree(tree);
+  }
+
+  /*
+   * Accessors used by the nearest-neighbour search.
+   */
+
+  double[] getBounds()
+  {
+    return bounds;
+  }
+
+  boolean isNode(int entry)
+  {
+    return entry < numNodes;
+  }
+
+  int getChildStart(int node)
+  {
+    return childStart[node];
+  }
+
+  int getChildEnd(int node)
+  {
+    return childEnd[node];
+  }
+
+  Object getItem(int entry)
+  {
+    return itemValues[entry - numNodes];
+  }
+
+  ItemBoundable getItemBoundable(int entry)
+  {
+    int i = ENV_SIZE * entry;
+    Envelope env = new Envelope(bounds[i], bounds[i+2], bounds[i+1], bounds[i+3]);
+    return new ItemBoundable(env, getItem(entry));
+  }
+}
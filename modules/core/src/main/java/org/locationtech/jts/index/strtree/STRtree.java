@@ -18,6 +18,7 @@ import java.util.Comparator;
 import java.util.Iterator;
 import java.util.List;
 import java.util.PriorityQueue;
+import java.util.concurrent.ForkJoinPool;
 
 import org.locationtech.jts.geom.Envelope;
 import org.locationtech.jts.index.ItemVisitor;
@@ -47,6 +48,13 @@ import org.locationtech.jts.util.Assert;
  * Querying a tree is thread-safe.  
  * The building phase is done synchronously, 
  * and querying is stateless.
+ * <p>
+ * If a {@link ForkJoinPool} is provided via {@link #setPool(ForkJoinPool)}
+ * the tree is built in parallel.
+ * The boundables of each level are sorted using primitive arrays 
+ * of their centre coordinates,
+ * and the vertical slices are sorted and packed into nodes concurrently.
+ * The tree built is identical to the one built sequentially.
  *
  * @version 1.7
  */
@@ -166,6 +174,8 @@ implements SpatialIndex, Serializable
 
   private static final int DEFAULT_NODE_CAPACITY = 10;
   
+  private transient ForkJoinPool pool = null;
+  
   /**
    * Constructs an STRtree with the default node capacity.
    */
@@ -207,10 +217,29 @@ implements SpatialIndex, Serializable
     super(nodeCapacity, itemBoundables);
   }
 
+  /**
+   * Sets the pool used to build the tree in parallel.
+   * If the pool is <code>null</code> (the default)
+   * the tree is built sequentially.
+   * 
+   * @param pool the pool to use, or null
+   */
+  public void setPool(ForkJoinPool pool)
+  {
+    this.pool = pool;
+  }
+
   protected AbstractNode createNode(int level) {
     return new STRtreeNode(level);
   }
 
+  protected AbstractNode createHigherLevels(List boundablesOfALevel, int level) {
+    if (pool == null) {
+      return super.createHigherLevels(boundablesOfALevel, level);
+    }
+    return new STRtreeParallelBuilder(this, pool).build(boundablesOfALevel, level);
+  }
+
   protected IntersectsOp getIntersectsOp() {
     return intersectsOp;
   }
@@ -276,6 +305,20 @@ implements SpatialIndex, Serializable
     return yComparator;
   }
 
+  /**
+   * Creates a compact, read-only copy of this tree,
+   * which stores the tree structure in arrays.
+   * The tree is built if it has not already been built.
+   * 
+   * @return a packed copy of this tree
+   * 
+   * @see PackedSTRtree
+   */
+  public PackedSTRtree pack()
+  {
+    return new PackedSTRtree(this);
+  }
+
   /**
    * Finds the two nearest items in the tree, 
    * using {@link ItemDistance} as the distance metric.
@@ -0,0 +1,288 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.index.strtree;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.util.Assert;
+
+/**
+ * Builds the nodes of an {@link STRtree} in parallel,
+ * using a {@link ForkJoinPool}.
+ * <p>
+ * Each level is built from arrays of the centre coordinates of its boundables,
+ * which are ordered by sorting an array of indexes.
+ * The boundables are sorted by X using a parallel merge sort,
+ * and then the vertical slices are sorted by Y and packed into nodes
+ * in parallel.
+ * <p>
+ * The sorts are stable, and the slices and nodes are determined in the same way
+ * as by {@link STRtree#createParentBoundables(List, int)}.
+ * So the tree built is identical to the one built sequentially.
+ *
+ */
+class STRtreeParallelBuilder
+{
+  /**
+   * The number of boundables sorted sequentially by a task.
+   */
+  private static final int SEQUENTIAL_SIZE = 8192;
+
+  /**
+   * The size of ranges which are sorted by insertion sort.
+   */
+  private static final int INSERTION_SORT_SIZE = 16;
+
+  private STRtree tree;
+  private ForkJoinPool pool;
+  private int nodeCapacity;
+
+  /**
+   * Creates a builder for a tree.
+   *
+   * @param tree the tree to create the nodes for
+   * @param pool the pool to use
+   */
+  STRtreeParallelBuilder(STRtree tree, ForkJoinPool pool)
+  {
+    this.tree = tree;
+    this.pool = pool;
+    this.nodeCapacity = tree.getNodeCapacity();
+  }
+
+  /**
+   * Creates the levels higher than the given level.
+   *
+   * @param boundablesOfALevel the level to build on
+   * @param level the level of the boundables, or -1 for item boundables
+   * @return the root node
+   */
+  AbstractNode build(List boundablesOfALevel, int level)
+  {
+    Assert.isTrue(! boundablesOfALevel.isEmpty());
+    @SuppressWarnings("unchecked")
+    Boundable[] boundables = (Boundable[]) boundablesOfALevel.toArray(new Boundable[0]);
+    int n = boundables.length;
+    double[] centreX = new double[n];
+    double[] centreY = new double[n];
+    for (int i = 0; i < n; i++) {
+      Envelope env = (Envelope) boundables[i].getBounds();
+      centreX[i] = (env.getMinX() + env.getMaxX()) / 2d;
+      centreY[i] = (env.getMinY() + env.getMaxY()) / 2d;
+    }
+    Level lev = new Level(boundables, centreX, centreY);
+    do {
+      lev = createParentLevel(lev, ++level);
+    } while (lev.boundables.length > 1);
+    return (AbstractNode) lev.boundables[0];
+  }
+
+  private Level createParentLevel(Level lev, int newLevel)
+  {
+    int n = lev.boundables.length;
+    int[] order = new int[n];
+    for (int i = 0; i < n; i++) {
+      order[i] = i;
+    }
+    int[] tmp = new int[n];
+    pool.invoke(new SortTask(order, tmp, lev.centreX, 0, n));
+
+    int minLeafCount = (int) Math.ceil(n / (double) nodeCapacity);
+    int sliceCount = (int) Math.ceil(Math.sqrt(minLeafCount));
+    int sliceCapacity = (int) Math.ceil(n / (double) sliceCount);
+
+    // the parent nodes of each slice start at an offset in the parent level
+    int[] parentOffset = new int[sliceCount + 1];
+    for (int j = 0; j < sliceCount; j++) {
+      int sliceSize = Math.max(0, Math.min(n, (j + 1) * sliceCapacity) - j * sliceCapacity);
+      parentOffset[j + 1] = parentOffset[j] + (sliceSize + nodeCapacity - 1) / nodeCapacity;
+    }
+    Level parent = new Level(parentOffset[sliceCount]);
+    pool.invoke(new SliceTask(lev, order, tmp, sliceCapacity, parentOffset, parent, newLevel, 0, sliceCount));
+    return parent;
+  }
+
+  /**
+   * The boundables of a level of the tree,
+   * with the coordinates of their centres.
+   */
+  private static class Level
+  {
+    Boundable[] boundables;
+    double[] centreX;
+    double[] centreY;
+
+    Level(int size)
+    {
+      this(new Boundable[size], new double[size], new double[size]);
+    }
+
+    Level(Boundable[] boundables, double[] centreX, double[] centreY)
+    {
+      this.boundables = boundables;
+      this.centreX = centreX;
+      this.centreY = centreY;
+    }
+  }
+
+  /**
+   * Sorts a section of an index array by a key,
+   * splitting the section until it is small enough to sort sequentially
+   * and then merging the sorted halves.
+   */
+  private static class SortTask extends RecursiveAction
+  {
+    private int[] order;
+    private int[] tmp;
+    private double[] key;
+    private int start;
+    private int end;
+
+    SortTask(int[] order, int[] tmp, double[] key, int start, int end)
+    {
+      this.order = order;
+      this.tmp = tmp;
+      this.key = key;
+      this.start = start;
+      this.end = end;
+    }
+
+    @Override
+    protected void compute()
+    {
+      if (end - start <= SEQUENTIAL_SIZE) {
+        sort(order, tmp, key, start, end);
+        return;
+      }
+      int mid = (start + end) >>> 1;
+      invokeAll(new SortTask(order, tmp, key, start, mid),
+          new SortTask(order, tmp, key, mid, end));
+      merge(order, tmp, key, start, mid, end);
+    }
+  }
+
+  /**
+   * Creates the parent nodes for a range of vertical slices,
+   * splitting the range until it contains a single slice.
+   * Each task writes only to its own section of the parent level
+   * (and of the index array).
+   */
+  private class SliceTask extends RecursiveAction
+  {
+    private Level lev;
+    private int[] order;
+    private int[] tmp;
+    private int sliceCapacity;
+    private int[] parentOffset;
+    private Level parent;
+    private int newLevel;
+    private int startSlice;
+    private int endSlice;
+
+    SliceTask(Level lev, int[] order, int[] tmp, int sliceCapacity, int[] parentOffset,
+        Level parent, int newLevel, int startSlice, int endSlice)
+    {
+      this.lev = lev;
+      this.order = order;
+      this.tmp = tmp;
+      this.sliceCapacity = sliceCapacity;
+      this.parentOffset = parentOffset;
+      this.parent = parent;
+      this.newLevel = newLevel;
+      this.startSlice = startSlice;
+      this.endSlice = endSlice;
+    }
+
+    @Override
+    protected void compute()
+    {
+      if (endSlice - startSlice == 1) {
+        createParents(startSlice);
+        return;
+      }
+      int mid = (startSlice + endSlice) >>> 1;
+      invokeAll(new SliceTask(lev, order, tmp, sliceCapacity, parentOffset, parent, newLevel, startSlice, mid),
+          new SliceTask(lev, order, tmp, sliceCapacity, parentOffset, parent, newLevel, mid, endSlice));
+    }
+
+    private void createParents(int slice)
+    {
+      int n = order.length;
+      int start = Math.min(n, slice * sliceCapacity);
+      int end = Math.min(n, start + sliceCapacity);
+      if (start >= end) return;
+      sort(order, tmp, lev.centreY, start, end);
+
+      int parentIndex = parentOffset[slice];
+      for (int i = start; i < end; i += nodeCapacity) {
+        AbstractNode node = tree.createNode(newLevel);
+        int nodeEnd = Math.min(end, i + nodeCapacity);
+        for (int k = i; k < nodeEnd; k++) {
+          node.addChildBoundable(lev.boundables[order[k]]);
+        }
+        Envelope env = (Envelope) node.getBounds();
+        parent.boundables[parentIndex] = node;
+        parent.centreX[parentIndex] = (env.getMinX() + env.getMaxX()) / 2d;
+        parent.centreY[parentIndex] = (env.getMinY() + env.getMaxY()) / 2d;
+        parentIndex++;
+      }
+    }
+  }
+
+  /**
+   * Sorts a section of an index array by a key, using a stable merge sort.
+   */
+  private static void sort(int[] order, int[] tmp, double[] key, int start, int end)
+  {
+    if (end - start <= INSERTION_SORT_SIZE) {
+      for (int i = start + 1; i < end; i++) {
+        int index = order[i];
+        double k = key[index];
+        int j = i - 1;
+        while (j >= start && key[order[j]] > k) {
+          order[j + 1] = order[j];
+          j--;
+        }
+        order[j + 1] = index;
+      }
+      return;
+    }
+    int mid = (start + end) >>> 1;
+    sort(order, tmp, key, start, mid);
+    sort(order, tmp, key, mid, end);
+    merge(order, tmp, key, start, mid, end);
+  }
+
+  /**
+   * Merges two adjacent sorted sections of an index array.
+   * Indexes with equal keys are kept in their existing order.
+   */
+  private static void merge(int[] order, int[] tmp, double[] key, int start, int mid, int end)
+  {
+    // already in order
+    if (key[order[mid - 1]] <= key[order[mid]]) return;
+    System.arraycopy(order, start, tmp, start, end - start);
+    int i = start;
+    int j = mid;
+    for (int k = start; k < end; k++) {
+      if (j >= end || (i < mid && key[tmp[i]] <= key[tmp[j]])) {
+        order[k] = tmp[i++];
+      }
+      else {
+        order[k] = tmp[j++];
+      }
+    }
+  }
+}
@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.io;
+
+/**
+ * Converts decimal number text to double values
+ * without creating strings,
+ * for numbers which can be converted exactly.
+ * Numbers which are not in this form
+ * (or are not valid numbers)
+ * must be converted by {@link Double#parseDouble(String)}.
+ * This is used by the text readers
+ * as a fast path for parsing ordinate values.
+ * <p>
+ * <b>Note:</b><br/>
+ * This class is intended for internal use only, and it
+ * might be made package-private in a future version of this library
+ *
+ */
+public class DecimalParser
+{
+  /**
+   * The largest mantissa which can be represented exactly.
+   */
+  private static final long MAX_EXACT_MANTISSA = 1L << 53;
+
+  /**
+   * The powers of ten which can be represented exactly.
+   */
+  private static final double[] POWERS_OF_TEN = {
+      1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+      1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+  };
+
+  /**
+   * Parses a decimal number, if it is in a format which can
+   * be converted exactly by a single floating-point operation.
+   * This is the case if the mantissa and power of ten
+   * both have an exact double-precision representation,
+   * since IEEE-754 operations are correctly rounded.
+   *
+   * @param buf the buffer containing the number text
+   * @param start the index of the first character of the number
+   * @param end the index after the last character of the number
+   * @return the value of the number, or NaN if it cannot be parsed
+   */
+  public static double parse(char[] buf, int start, int end)
+  {
+    if (start >= end) return Double.NaN;
+    int i = start;
+    boolean isNegative = false;
+    if (buf[i] == '-' || buf[i] == '+') {
+      isNegative = buf[i] == '-';
+      i++;
+    }
+    long mantissa = 0;
+    int numDigits = 0;
+    int numSigDigits = 0;
+    int exp = 0;
+    boolean isFraction = false;
+    for (; i < end; i++) {
+      char c = buf[i];
+      if (c >= '0' && c <= '9') {
+        numDigits++;
+        if (mantissa > 0 || c != '0') {
+          // too many digits to represent exactly
+          if (++numSigDigits > 18) return Double.NaN;
+          mantissa = 10 * mantissa + (c - '0');
+        }
+        if (isFraction) exp--;
+      }
+      else if (c == '.' && ! isFraction) {
+        isFraction = true;
+      }
+      else {
+        break;
+      }
+    }
+    if (numDigits == 0) return Double.NaN;
+    if (i < end) {
+      char c = buf[i++];
+      if (c != 'e' && c != 'E') return Double.NaN;
+      boolean isExpNegative = false;
+      if (i < end && (buf[i] == '-' || buf[i] == '+')) {
+        isExpNegative = buf[i] == '-';
+        i++;
+      }
+      if (i >= end) return Double.NaN;
+      int expVal = 0;
+      for (; i < end; i++) {
+        c = buf[i];
+        if (c < '0' || c > '9' || expVal > 1000) return Double.NaN;
+        expVal = 10 * expVal + (c - '0');
+      }
+      exp += isExpNegative ? -expVal : expVal;
+    }
+    if (mantissa > MAX_EXACT_MANTISSA) return Double.NaN;
+    double val;
+    if (mantissa == 0) {
+      val = 0.0;
+    }
+    else if (exp >= 0 && exp < POWERS_OF_TEN.length) {
+      val = mantissa * POWERS_OF_TEN[exp];
+    }
+    else if (exp < 0 && -exp < POWERS_OF_TEN.length) {
+      val = mantissa / POWERS_OF_TEN[-exp];
+    }
+    else {
+      return Double.NaN;
+    }
+    return isNegative ? -val : val;
+  }
+}
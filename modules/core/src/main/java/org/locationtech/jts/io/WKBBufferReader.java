@@ -0,0 +1,133 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.io;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.locationtech.jts.geom.Geometry;
+
+/**
+ * Reads a sequence of {@link Geometry}s in WKB format
+ * from a {@link ByteBuffer} containing consecutive WKB records.
+ * The buffer may be direct or memory-mapped
+ * (see {@link #map(File)}).
+ * Geometries are read starting at the buffer position,
+ * and the buffer position is advanced as each geometry is read.
+ * <p>
+ * The data is decoded directly from the buffer.
+ * If the {@link WKBReader} is set to zero-copy mode
+ * the geometry coordinates remain in the buffer
+ * (see {@link WKBReader#setZeroCopy(boolean)}).
+ * <p>
+ * Typical usage is:
+ * <pre>
+ * WKBBufferReader rdr = new WKBBufferReader(buffer, new WKBReader());
+ * while (rdr.hasNext()) {
+ *   Geometry geom = rdr.next();
+ *   ...
+ * }
+ * </pre>
+ *
+ * @see WKBHexFileReader
+ */
+public class WKBBufferReader
+{
+  /**
+   * Maps a file into memory as a read-only buffer.
+   * The file size must be less than 2 GB.
+   * Larger files can be read by mapping regions
+   * which contain whole WKB records.
+   *
+   * @param file the file to map
+   * @return a buffer containing the file contents
+   * @throws IOException if an I/O error occurs
+   */
+  public static MappedByteBuffer map(File file) throws IOException
+  {
+    try (RandomAccessFile raf = new RandomAccessFile(file, "r")) {
+      FileChannel channel = raf.getChannel();
+      return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+    }
+  }
+
+  private ByteBuffer buffer;
+  private WKBReader wkbReader;
+  private int count = 0;
+
+  /**
+   * Creates a new reader for the WKB records
+   * between the position and the limit of a buffer.
+   *
+   * @param buffer the buffer to read from
+   * @param wkbReader the geometry reader to use
+   */
+  public WKBBufferReader(ByteBuffer buffer, WKBReader wkbReader)
+  {
+    this.buffer = buffer;
+    this.wkbReader = wkbReader;
+  }
+
+  /**
+   * Tests whether there are more geometries to read.
+   *
+   * @return true if the buffer contains more data
+   */
+  public boolean hasNext()
+  {
+    return buffer.hasRemaining();
+  }
+
+  /**
+   * Reads the next geometry from the buffer.
+   *
+   * @return the geometry read
+   * @throws ParseException if the WKB is ill-formed
+   */
+  public Geometry next() throws ParseException
+  {
+    Geometry geom = wkbReader.read(buffer);
+    count++;
+    return geom;
+  }
+
+  /**
+   * Gets the number of geometries read.
+   *
+   * @return the number of geometries read
+   */
+  public int getCount()
+  {
+    return count;
+  }
+
+  /**
+   * Reads all the remaining geometries in the buffer.
+   *
+   * @return a list of the geometries read
+   * @throws ParseException if the WKB is ill-formed
+   */
+  public List<Geometry> read() throws ParseException
+  {
+    List<Geometry> geoms = new ArrayList<Geometry>();
+    while (hasNext()) {
+      geoms.add(next());
+    }
+    return geoms;
+  }
+}
@@ -12,6 +12,9 @@
 package org.locationtech.jts.io;
 
 import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 import java.util.EnumSet;
 
 import org.locationtech.jts.geom.CoordinateSequence;
@@ -28,12 +31,22 @@ import org.locationtech.jts.geom.MultiPolygon;
 import org.locationtech.jts.geom.Point;
 import org.locationtech.jts.geom.Polygon;
 import org.locationtech.jts.geom.PrecisionModel;
+import org.locationtech.jts.geom.impl.BufferCoordinateSequence;
 
 /**
  * Reads a {@link Geometry}from a byte stream in Well-Known Binary format.
  * Supports use of an {@link InStream}, which allows easy use
  * with arbitrary byte stream sources.
  * <p>
+ * WKB can also be read directly from a {@link ByteBuffer} 
+ * (which may be direct or memory-mapped)
+ * via {@link #read(ByteBuffer)}.
+ * This avoids copying the data into intermediate arrays.
+ * In zero-copy mode (see {@link #setZeroCopy(boolean)})
+ * the coordinates of the geometries are not copied at all,
+ * but are accessed in the buffer by {@link BufferCoordinateSequence}s.
+ * {@link WKBBufferReader} reads a sequence of consecutive WKB records from a buffer.
+ * <p>
  * This class reads the format describe in {@link WKBWriter}.  
  * It partially handles
  * the <b>Extended WKB</b> format used by PostGIS, 
@@ -131,6 +144,12 @@ public class WKBReader
    */
   private boolean isStrict = false;
   private ByteOrderDataInStream dis = new ByteOrderDataInStream();
+  /**
+   * The buffer being read from, if any.
+   * If set it is used instead of the data stream.
+   */
+  private ByteBuffer buf = null;
+  private boolean isZeroCopy = false;
   private double[] ordValues;
 
   private int maxNumFieldValue;
@@ -145,6 +164,28 @@ public class WKBReader
     csFactory = factory.getCoordinateSequenceFactory();
   }
 
+  /**
+   * Sets whether geometries read from a {@link ByteBuffer}
+   * have coordinate sequences which are views of the buffer
+   * (see {@link BufferCoordinateSequence}),
+   * rather than copies created by the {@link CoordinateSequenceFactory} of the 
+   * geometry factory.
+   * This avoids copying coordinate data,
+   * but the buffer contents must not be changed while the geometries are in use.
+   * If the buffer is read-only the geometry coordinates cannot be modified.
+   * <p>
+   * Zero-copy mode is only used if the geometry factory 
+   * has a floating precision model, 
+   * since otherwise the coordinates must be made precise.
+   * Rings and lines which are repaired are copied.
+   * The default is to copy coordinates.
+   * 
+   * @param isZeroCopy true if coordinates should not be copied from buffers
+   */
+  public void setZeroCopy(boolean isZeroCopy) {
+    this.isZeroCopy = isZeroCopy;
+  }
+  
   /**
    * Reads a single {@link Geometry} in WKB format from a byte array.
    *
@@ -191,10 +232,57 @@ public class WKBReader
     dis.setInStream(is);
     return readGeometry(0);
   }
+
+  /**
+   * Reads a single {@link Geometry} in WKB format from a {@link ByteBuffer}.
+   * The geometry is read starting at the buffer position,
+   * and the position is advanced to the end of the geometry WKB.
+   * This allows reading consecutive geometries from a buffer.
+   * If the geometry cannot be read the position is left unchanged.
+   * The byte order of the buffer is not changed.
+   * <p>
+   * The data is decoded directly from the buffer, without intermediate copies.
+   * The buffer may be direct or memory-mapped.
+   * If zero-copy mode is set the coordinate sequences of the geometry 
+   * are backed by the buffer.
+   *
+   * @param buffer the buffer to read from
+   * @return the geometry read
+   * @throws ParseException if the WKB is ill-formed
+   * 
+   * @see #setZeroCopy(boolean)
+   */
+  public Geometry read(ByteBuffer buffer) throws ParseException
+  {
+    this.maxNumFieldValue = buffer.remaining() / 8;
+    ByteOrder bufferOrder = buffer.order();
+    int startPos = buffer.position();
+    boolean isRead = false;
+    buf = buffer;
+    try {
+      Geometry geom = readGeometry(0);
+      isRead = true;
+      return geom;
+    }
+    catch (BufferUnderflowException ex) {
+      throw new ParseException("Attempt to read past end of input");
+    }
+    catch (IOException ex) {
+      // buffers do not perform I/O 
+      throw new RuntimeException("Unexpected IOException caught: " + ex.getMessage());
+    }
+    finally {
+      buf = null;
+      buffer.order(bufferOrder);
+      if (! isRead) {
+        buffer.position(startPos);
+      }
+    }
+  }
   
   private int readNumField(String fieldName) throws IOException, ParseException {
     // num field is unsigned int, but Java has only signed int
-    int num = dis.readInt();
+    int num = readInt();
     if (num < 0 || num > maxNumFieldValue) {
       throw new ParseException(fieldName + " value is too large");
     }
@@ -206,16 +294,16 @@ public class WKBReader
   {
 
       // determine byte order
-      byte byteOrderWKB = dis.readByte();
+      byte byteOrderWKB = readByte();
 
       // always set byte order, since it may change from geometry to geometry
      if(byteOrderWKB == WKBConstants.wkbNDR)
      {
-        dis.setOrder(ByteOrderValues.LITTLE_ENDIAN);
+        setOrder(ByteOrderValues.LITTLE_ENDIAN);
      }
      else if(byteOrderWKB == WKBConstants.wkbXDR)
      {
-        dis.setOrder(ByteOrderValues.BIG_ENDIAN);
+        setOrder(ByteOrderValues.BIG_ENDIAN);
      }
      else if(isStrict)
      {
@@ -227,7 +315,7 @@ public class WKBReader
      //specify endian-ness at the start of the multigeometry.
 
 
-    int typeInt = dis.readInt();
+    int typeInt = readInt();
     
     /**
      * To get geometry type mask out EWKB flag bits, 
@@ -257,7 +345,7 @@ public class WKBReader
     // determine if SRIDs are present (EWKB only)
     boolean hasSRID = (typeInt & 0x20000000) != 0;
     if (hasSRID) {
-      SRID = dis.readInt();
+      SRID = readInt();
     }
 
     // only allocate ordValues buffer if necessary
@@ -401,6 +489,9 @@ public class WKBReader
 
   private CoordinateSequence readCoordinateSequence(int size, EnumSet<Ordinate> ordinateFlags) throws IOException, ParseException
   {
+    if (buf != null && isZeroCopy && precisionModel.isFloating()) {
+      return readCoordinateSequenceBuffer(size, ordinateFlags);
+    }
     CoordinateSequence seq = csFactory.create(size, inputDimension, ordinateFlags.contains(Ordinate.M) ? 1 : 0);
     int targetDim = seq.getDimension();
     if (targetDim > inputDimension)
@@ -414,6 +505,25 @@ public class WKBReader
     return seq;
   }
 
+  /**
+   * Creates a coordinate sequence which is a view of the
+   * coordinates in the buffer being read,
+   * and advances the buffer past them.
+   */
+  private CoordinateSequence readCoordinateSequenceBuffer(int size, EnumSet<Ordinate> ordinateFlags) throws ParseException
+  {
+    long numBytes = (long) size * inputDimension * 8;
+    if (numBytes > buf.remaining()) {
+      throw new ParseException("Attempt to read past end of input");
+    }
+    ByteBuffer coordBuf = buf.slice();
+    // a slice has big-endian order, so set the order of the geometry being read
+    coordBuf.order(buf.order());
+    coordBuf.limit((int) numBytes);
+    buf.position(buf.position() + (int) numBytes);
+    return new BufferCoordinateSequence(coordBuf, inputDimension, ordinateFlags.contains(Ordinate.M) ? 1 : 0);
+  }
+
   private CoordinateSequence readCoordinateSequenceLineString(int size, EnumSet<Ordinate> ordinateFlags) throws IOException, ParseException
   {
     CoordinateSequence seq = readCoordinateSequence(size, ordinateFlags);
@@ -440,13 +550,43 @@ public class WKBReader
   {
     for (int i = 0; i < inputDimension; i++) {
       if (i <= 1) {
-        ordValues[i] = precisionModel.makePrecise(dis.readDouble());
+        ordValues[i] = precisionModel.makePrecise(readDouble());
       }
       else {
-        ordValues[i] = dis.readDouble();
+        ordValues[i] = readDouble();
       }
 
     }
   }
+  
+  /*
+   * The following methods read values from the buffer if one is being read,
+   * or otherwise from the data stream.
+   */
+  
+  private void setOrder(int byteOrder) {
+    if (buf != null) {
+      buf.order(byteOrder == ByteOrderValues.LITTLE_ENDIAN 
+          ? ByteOrder.LITTLE_ENDIAN : ByteOrder.BIG_ENDIAN);
+    }
+    else {
+      dis.setOrder(byteOrder);
+    }
+  }
+  
+  private byte readByte() throws IOException, ParseException {
+    if (buf != null) return buf.get();
+    return dis.readByte();
+  }
+  
+  private int readInt() throws IOException, ParseException {
+    if (buf != null) return buf.getInt();
+    return dis.readInt();
+  }
+  
+  private double readDouble() throws IOException, ParseException {
+    if (buf != null) return buf.getDouble();
+    return dis.readDouble();
+  }
 
 }
@@ -0,0 +1,116 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.io;
+
+import java.io.IOException;
+import java.nio.CharBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.locationtech.jts.geom.Geometry;
+
+/**
+ * Reads a sequence of {@link Geometry}s in WKT format
+ * from a {@link CharSequence}.
+ * The geometries may be separated by any amount
+ * of whitespace and newlines.
+ * A character array can be read by wrapping it in a {@link CharBuffer}.
+ * <p>
+ * The text is parsed directly by a single tokenizer,
+ * which avoids the overhead of creating a {@link java.io.Reader}
+ * for each geometry.
+ * The geometries are the same as those read by {@link WKTReader#read(String)}.
+ * Line numbers in parse errors are relative to the start of the text.
+ * <p>
+ * Typical usage is:
+ * <pre>
+ * WKTBufferReader rdr = new WKTBufferReader(text, new WKTReader());
+ * while (rdr.hasNext()) {
+ *   Geometry geom = rdr.next();
+ *   ...
+ * }
+ * </pre>
+ *
+ * @see WKTFileReader
+ */
+public class WKTBufferReader
+{
+  private WKTTokenizer tokenizer;
+  private WKTReader wktReader;
+  private int count = 0;
+
+  /**
+   * Creates a new reader for the WKT geometries in some text.
+   *
+   * @param text the text to read from
+   * @param wktReader the geometry reader to use
+   */
+  public WKTBufferReader(CharSequence text, WKTReader wktReader)
+  {
+    this.tokenizer = new WKTTokenizer(text);
+    this.wktReader = wktReader;
+  }
+
+  /**
+   * Tests whether there are more geometries to read.
+   *
+   * @return true if the text contains more data
+   */
+  public boolean hasNext()
+  {
+    try {
+      return ! tokenizer.isAtEnd();
+    }
+    catch (IOException e) {
+      // does not happen for text in memory
+      return false;
+    }
+  }
+
+  /**
+   * Reads the next geometry from the text.
+   *
+   * @return the geometry read
+   * @throws ParseException if the WKT is ill-formed
+   */
+  public Geometry next() throws ParseException
+  {
+    Geometry geom = wktReader.read(tokenizer);
+    count++;
+    return geom;
+  }
+
+  /**
+   * Gets the number of geometries read.
+   *
+   * @return the number of geometries read
+   */
+  public int getCount()
+  {
+    return count;
+  }
+
+  /**
+   * Reads all the remaining geometries in the text.
+   *
+   * @return a list of the geometries read
+   * @throws ParseException if the WKT is ill-formed
+   */
+  public List<Geometry> read() throws ParseException
+  {
+    List<Geometry> geoms = new ArrayList<Geometry>();
+    while (hasNext()) {
+      geoms.add(next());
+    }
+    return geoms;
+  }
+}
@@ -12,7 +12,6 @@
 
 package org.locationtech.jts.io;
 
-import java.io.BufferedReader;
 import java.io.File;
 import java.io.FileReader;
 import java.io.IOException;
@@ -27,6 +26,7 @@ import org.locationtech.jts.geom.Geometry;
  * from a text file.
  * The geometries in the file may be separated by any amount
  * of whitespace and newlines.
+ * The file is read in large blocks, and parsed by a single tokenizer.
  * 
  * @author Martin Davis
  *
@@ -130,17 +130,17 @@ public class WKTFileReader
         }
 
         count = 0;
-        try (BufferedReader bufferedReader = new BufferedReader(inputReader)) {
-            return read(bufferedReader);
+        try (Reader input = inputReader) {
+            return read(new WKTTokenizer(input, true));
         }
 
     }
 	
-  private List read(BufferedReader bufferedReader) 
+  private List read(WKTTokenizer tokenizer) 
       throws IOException, ParseException {
     List geoms = new ArrayList();
     try {
-      read(bufferedReader, geoms);
+      read(tokenizer, geoms);
     }
     catch (ParseException ex) {
       // throw if strict or error is on first geometry
@@ -150,10 +150,10 @@ public class WKTFileReader
     return geoms;
   }
 
-  private void read(BufferedReader bufferedReader, List geoms) 
+  private void read(WKTTokenizer tokenizer, List geoms) 
       throws IOException, ParseException {
-    while (!isAtEndOfFile(bufferedReader) && !isAtLimit(geoms)) {
-      Geometry g = wktReader.read(bufferedReader);
+    while (!tokenizer.isAtEnd() && !isAtLimit(geoms)) {
+      Geometry g = wktReader.read(tokenizer);
       if ( count >= offset )
         geoms.add(g);
       count++;
@@ -167,21 +167,4 @@ public class WKTFileReader
 		return true;
 	}
  
-  /**
-	 * Tests if reader is at EOF, and skips any leading whitespace
-	 */
-  private boolean isAtEndOfFile(BufferedReader bufferedReader) throws IOException {
-    // skip whitespace
-    int ch;
-    do {
-      bufferedReader.mark(1);
-      ch = bufferedReader.read();
-      // EOF reached
-      if (ch < 0) return true;
-    } while (Character.isWhitespace(ch));
-    bufferedReader.reset();
-    
-    return false;
-  }
-	 
 }
@@ -14,8 +14,6 @@ package org.locationtech.jts.io;
 
 import java.io.IOException;
 import java.io.Reader;
-import java.io.StreamTokenizer;
-import java.io.StringReader;
 import java.util.ArrayList;
 import java.util.EnumSet;
 import java.util.List;
@@ -39,8 +37,6 @@ import org.locationtech.jts.geom.Point;
 import org.locationtech.jts.geom.Polygon;
 import org.locationtech.jts.geom.PrecisionModel;
 import org.locationtech.jts.geom.impl.CoordinateArraySequenceFactory;
-import org.locationtech.jts.util.Assert;
-import org.locationtech.jts.util.AssertionFailedException;
 
 /**
  * Converts a geometry in Well-Known Text format to a {@link Geometry}.
@@ -59,6 +55,9 @@ import org.locationtech.jts.util.AssertionFailedException;
  *  The <code>WKTReader</code> converts all input numbers to the precise
  *  internal representation.
  *  <p>
+ * Text containing many geometries can be read efficiently
+ * using a {@link WKTBufferReader} or a {@link WKTFileReader}.
+ * <p>
  * As of version 1.15, JTS can read (but not write) WKT syntax
  * which specifies coordinate dimension Z, M or ZM as modifiers (e.g. POINT Z)
  * or in the name of the geometry type (e.g. LINESTRINGZM).
@@ -77,9 +76,10 @@ import org.locationtech.jts.util.AssertionFailedException;
  * <ul>
  * <li>Keywords are case-insensitive.
  * <li>The reader supports non-standard "LINEARRING" tags.
- * <li>The reader uses <tt>Double.parseDouble</tt> to perform the conversion of ASCII
- * numbers to floating point.  This means it supports the Java
+ * <li>Numbers are converted to floating point with the same result as 
+ * <tt>Double.parseDouble</tt>.  This means the reader supports the Java
  * syntax for floating point literals (including scientific notation).
+ * Common number formats are parsed directly from the input text.
  * <li><tt>NaN</tt>, <tt>Inf</tt> and <tt>-Inf</tt> ordinate symbols are supported (case-insensitive), 
  * which convert to the corresponding IEE-754 value
  * </ul>
@@ -174,9 +174,6 @@ public class WKTReader
   private static final String COMMA = ",";
   private static final String L_PAREN = "(";
   private static final String R_PAREN = ")";
-  private static final String NAN_SYMBOL = "NaN";
-  private static final String INF_SYMBOL = "Inf";
-  private static final String NEG_INF_SYMBOL = "-Inf";
 
   private GeometryFactory geometryFactory;
   private CoordinateSequenceFactory csFactory;
@@ -263,13 +260,7 @@ public class WKTReader
    *             if a parsing problem occurs
    */
   public Geometry read(String wellKnownText) throws ParseException {
-    StringReader reader = new StringReader(wellKnownText);
-    try {
-      return read(reader);
-    }
-    finally {
-      reader.close();
-    }
+    return read(new WKTTokenizer(wellKnownText));
   }
 
   /**
@@ -282,7 +273,17 @@ public class WKTReader
    *@throws  ParseException  if a parsing problem occurs
    */
   public Geometry read(Reader reader) throws ParseException {
-    StreamTokenizer tokenizer = createTokenizer(reader);
+    return read(new WKTTokenizer(reader, false));
+  }
+
+  /**
+   * Reads the next geometry from a tokenizer.
+   * 
+   * @param tokenizer the tokenizer to read from
+   * @return the geometry read
+   * @throws ParseException if a parsing problem occurs
+   */
+  Geometry read(WKTTokenizer tokenizer) throws ParseException {
     try {
       return readGeometryTaggedText(tokenizer);
     }
@@ -292,30 +293,7 @@ public class WKTReader
   }
 
   /**
-   * Utility function to create the tokenizer
-   * @param reader a reader
-   *
-   * @return a WKT Tokenizer.
-   */
-  private static StreamTokenizer createTokenizer(Reader reader) {
-    StreamTokenizer tokenizer = new StreamTokenizer(reader);
-    // set tokenizer to NOT parse numbers
-    tokenizer.resetSyntax();
-    tokenizer.wordChars('a', 'z');
-    tokenizer.wordChars('A', 'Z');
-    tokenizer.wordChars(128 + 32, 255);
-    tokenizer.wordChars('0', '9');
-    tokenizer.wordChars('-', '-');
-    tokenizer.wordChars('+', '+');
-    tokenizer.wordChars('.', '.');
-    tokenizer.whitespaceChars(0, ' ');
-    tokenizer.commentChar('#');
-
-    return tokenizer;
-  }
-
-  /**
-   * Reads a <code>Coordinate</Code> from a stream using the given {@link StreamTokenizer}.
+   * Reads a <code>Coordinate</Code> from a stream using the given {@link WKTTokenizer}.
    * <p>
    * All ordinate values are read, but -depending on the {@link CoordinateSequenceFactory} of the
    * underlying {@link GeometryFactory}- not necessarily all can be handled. Those are silently dropped.
@@ -328,7 +306,7 @@ public class WKTReader
    *@throws  IOException     if an I/O error occurs
    *@throws  ParseException  if an unexpected token was encountered
    */
-  private Coordinate getCoordinate(StreamTokenizer tokenizer, EnumSet<Ordinate> ordinateFlags, boolean tryParen)
+  private Coordinate getCoordinate(WKTTokenizer tokenizer, EnumSet<Ordinate> ordinateFlags, boolean tryParen)
       throws IOException, ParseException
   {
     boolean opened = false;
@@ -374,7 +352,7 @@ public class WKTReader
   }
 
   /**
-   * Reads a <code>Coordinate</Code> from a stream using the given {@link StreamTokenizer}.
+   * Reads a <code>Coordinate</Code> from a stream using the given {@link WKTTokenizer}.
    * <p>
    *   All ordinate values are read, but -depending on the {@link CoordinateSequenceFactory} of the
    *   underlying {@link GeometryFactory}- not necessarily all can be handled. Those are silently dropped.
@@ -389,7 +367,7 @@ public class WKTReader
    *@throws  IOException     if an I/O error occurs
    *@throws  ParseException  if an unexpected token was encountered
    */
-  private CoordinateSequence getCoordinateSequence(StreamTokenizer tokenizer, EnumSet<Ordinate> ordinateFlags, int minSize, boolean isRing)
+  private CoordinateSequence getCoordinateSequence(WKTTokenizer tokenizer, EnumSet<Ordinate> ordinateFlags, int minSize, boolean isRing)
           throws IOException, ParseException {
     if (getNextEmptyOrOpener(tokenizer).equals(WKTConstants.EMPTY))
       return createCoordinateSequenceEmpty(ordinateFlags);
@@ -432,7 +410,7 @@ public class WKTReader
   }
 
   /**
-   * Reads a <code>CoordinateSequence</Code> from a stream using the given {@link StreamTokenizer}
+   * Reads a <code>CoordinateSequence</Code> from a stream using the given {@link WKTTokenizer}
    * for an old-style JTS MultiPoint (Point coordinates not enclosed in parentheses).
    * <p>
    * All ordinate values are read, but -depending on the {@link CoordinateSequenceFactory} of the
@@ -447,7 +425,7 @@ public class WKTReader
    * @throws  IOException     if an I/O error occurs
    * @throws  ParseException  if an unexpected token was encountered
 S  */
-  private CoordinateSequence getCoordinateSequenceOldMultiPoint(StreamTokenizer tokenizer, EnumSet<Ordinate> ordinateFlags)
+  private CoordinateSequence getCoordinateSequenceOldMultiPoint(WKTTokenizer tokenizer, EnumSet<Ordinate> ordinateFlags)
           throws IOException, ParseException {
 
     List<Coordinate> coordinates = new ArrayList<Coordinate>();
@@ -485,10 +463,10 @@ S  */
    * @return {@code true} if the next token is a number, otherwise {@code false}
    * @throws  IOException     if an I/O error occurs
    */
-  private static boolean isNumberNext(StreamTokenizer tokenizer) throws IOException {
+  private static boolean isNumberNext(WKTTokenizer tokenizer) throws IOException {
     int type = tokenizer.nextToken();
     tokenizer.pushBack();
-    return type == StreamTokenizer.TT_WORD;
+    return type == WKTTokenizer.TT_WORD;
   }
 
   /**
@@ -498,7 +476,7 @@ S  */
    * @return {@code true} if the next token is a {@link #L_PAREN}, otherwise {@code false}
    * @throws  IOException     if an I/O error occurs
    */
-  private static boolean isOpenerNext(StreamTokenizer tokenizer) throws IOException {
+  private static boolean isOpenerNext(WKTTokenizer tokenizer) throws IOException {
     int type = tokenizer.nextToken();
     tokenizer.pushBack();
     return type == '(';
@@ -515,30 +493,15 @@ S  */
    * @throws  ParseException  if the next token is not a valid number
    * @throws  IOException     if an I/O error occurs
    */
-  private double getNextNumber(StreamTokenizer tokenizer) throws IOException,
+  private double getNextNumber(WKTTokenizer tokenizer) throws IOException,
       ParseException {
     int type = tokenizer.nextToken();
-    switch (type) {
-      case StreamTokenizer.TT_WORD:
-      {
-        if (tokenizer.sval.equalsIgnoreCase(NAN_SYMBOL)) {
-          return Double.NaN;
-        }
-        if (tokenizer.sval.equalsIgnoreCase(INF_SYMBOL)) {
-          return Double.POSITIVE_INFINITY;
-        }
-        if (tokenizer.sval.equalsIgnoreCase(NEG_INF_SYMBOL)) {
-          return Double.NEGATIVE_INFINITY;
-        }
-        //TODO: handle -Inf ?
-        else {
-          try {
-            return Double.parseDouble(tokenizer.sval);
-          }
-          catch (NumberFormatException ex) {
-            throw parseErrorWithLine(tokenizer, "Invalid number: " + tokenizer.sval);
-          }
-        }
+    if (type == WKTTokenizer.TT_WORD) {
+      try {
+        return tokenizer.getNumber();
+      }
+      catch (NumberFormatException ex) {
+        throw parseErrorWithLine(tokenizer, "Invalid number: " + tokenizer.getWord());
       }
     }
     throw parseErrorExpected(tokenizer, "number");
@@ -553,7 +516,7 @@ S  */
    *@throws  IOException     if an I/O error occurs
    * @param  tokenizer        tokenizer over a stream of text in Well-known Text
    */
-  private static String getNextEmptyOrOpener(StreamTokenizer tokenizer) throws IOException, ParseException {
+  private static String getNextEmptyOrOpener(WKTTokenizer tokenizer) throws IOException, ParseException {
     String nextWord = getNextWord(tokenizer);
     if (nextWord.equalsIgnoreCase(WKTConstants.Z)) {
       //z = true;
@@ -584,7 +547,7 @@ S  */
    *@throws  IOException     if an I/O error occurs
    * @param  tokenizer        tokenizer over a stream of text in Well-known Text
    */
-  private static EnumSet<Ordinate> getNextOrdinateFlags(StreamTokenizer tokenizer) throws IOException, ParseException {
+  private static EnumSet<Ordinate> getNextOrdinateFlags(WKTTokenizer tokenizer) throws IOException, ParseException {
 
     EnumSet<Ordinate> result = EnumSet.of(Ordinate.X, Ordinate.Y);
 
@@ -614,7 +577,7 @@ S  */
    *@throws  ParseException  if the next token is not a word
    *@throws  IOException     if an I/O error occurs
    */
-  private static String lookAheadWord(StreamTokenizer tokenizer) throws IOException, ParseException {
+  private static String lookAheadWord(WKTTokenizer tokenizer) throws IOException, ParseException {
     String nextWord = getNextWord(tokenizer);
     tokenizer.pushBack();
     return nextWord;
@@ -628,7 +591,7 @@ S  */
    *@throws  IOException     if an I/O error occurs
    * @param  tokenizer        tokenizer over a stream of text in Well-known Text
    */
-  private static String getNextCloserOrComma(StreamTokenizer tokenizer) throws IOException, ParseException {
+  private static String getNextCloserOrComma(WKTTokenizer tokenizer) throws IOException, ParseException {
     String nextWord = getNextWord(tokenizer);
     if (nextWord.equals(COMMA) || nextWord.equals(R_PAREN)) {
       return nextWord;
@@ -645,7 +608,7 @@ S  */
    *@throws  ParseException  if the next token is not R_PAREN
    *@throws  IOException     if an I/O error occurs
    */
-  private String getNextCloser(StreamTokenizer tokenizer) throws IOException, ParseException {
+  private String getNextCloser(WKTTokenizer tokenizer) throws IOException, ParseException {
     String nextWord = getNextWord(tokenizer);
     if (nextWord.equals(R_PAREN)) {
       return nextWord;
@@ -661,12 +624,12 @@ S  */
    *@throws  IOException     if an I/O error occurs
    * @param  tokenizer        tokenizer over a stream of text in Well-known Text
    */
-  private static String getNextWord(StreamTokenizer tokenizer) throws IOException, ParseException {
+  private static String getNextWord(WKTTokenizer tokenizer) throws IOException, ParseException {
     int type = tokenizer.nextToken();
     switch (type) {
-    case StreamTokenizer.TT_WORD:
+    case WKTTokenizer.TT_WORD:
 
-      String word = tokenizer.sval;
+      String word = tokenizer.getWord();
       if (word.equalsIgnoreCase(WKTConstants.EMPTY))
           return WKTConstants.EMPTY;
       return word;
@@ -683,16 +646,9 @@ S  */
    * was unexpected.
    *
    * @param expected a description of what was expected
-   * @throws AssertionFailedException if an invalid token is encountered
    */
-  private static ParseException parseErrorExpected(StreamTokenizer tokenizer, String expected)
+  private static ParseException parseErrorExpected(WKTTokenizer tokenizer, String expected)
   {
-    // throws Asserts for tokens that should never be seen
-    if (tokenizer.ttype == StreamTokenizer.TT_NUMBER)
-      Assert.shouldNeverReachHere("Unexpected NUMBER token");
-    if (tokenizer.ttype == StreamTokenizer.TT_EOL)
-      Assert.shouldNeverReachHere("Unexpected EOL token");
-
     String tokenStr = tokenString(tokenizer);
     return parseErrorWithLine(tokenizer, "Expected " + expected + " but found " + tokenStr);
   }
@@ -702,9 +658,8 @@ S  */
    * was unexpected.
    *
    * @param msg a description of what was expected
-   * @throws AssertionFailedException if an invalid token is encountered
    */
-  private static ParseException parseErrorWithLine(StreamTokenizer tokenizer, String msg)
+  private static ParseException parseErrorWithLine(WKTTokenizer tokenizer, String msg)
   {
     return new ParseException(msg + " (line " + tokenizer.lineno() + ")");
   }
@@ -714,17 +669,13 @@ S  */
    * @param tokenizer the tokenizer
    * @return a description of the current token
    */
-  private static String tokenString(StreamTokenizer tokenizer)
+  private static String tokenString(WKTTokenizer tokenizer)
   {
-    switch (tokenizer.ttype) {
-      case StreamTokenizer.TT_NUMBER:
-        return "<NUMBER>";
-      case StreamTokenizer.TT_EOL:
-        return "End-of-Line";
-      case StreamTokenizer.TT_EOF: return "End-of-Stream";
-      case StreamTokenizer.TT_WORD: return "'" + tokenizer.sval + "'";
+    switch (tokenizer.getType()) {
+      case WKTTokenizer.TT_EOF: return "End-of-Stream";
+      case WKTTokenizer.TT_WORD: return "'" + tokenizer.getWord() + "'";
     }
-    return "'" + (char) tokenizer.ttype + "'";
+    return "'" + (char) tokenizer.getType() + "'";
   }
 
   /**
@@ -738,7 +689,7 @@ S  */
    *@throws  IOException     if an I/O error occurs
    * @param  tokenizer        tokenizer over a stream of text in Well-known Text
    */
-  private Geometry readGeometryTaggedText(StreamTokenizer tokenizer) throws IOException, ParseException {
+  private Geometry readGeometryTaggedText(WKTTokenizer tokenizer) throws IOException, ParseException {
     String type;
 
     EnumSet<Ordinate> ordinateFlags = EnumSet.of(Ordinate.X, Ordinate.Y);
@@ -754,7 +705,7 @@ S  */
     return readGeometryTaggedText(tokenizer, type, ordinateFlags);
   }
 
-  private Geometry readGeometryTaggedText(StreamTokenizer tokenizer, String type, EnumSet<Ordinate> ordinateFlags)
+  private Geometry readGeometryTaggedText(WKTTokenizer tokenizer, String type, EnumSet<Ordinate> ordinateFlags)
           throws IOException, ParseException {
 
     if (ordinateFlags.size() == 2) {
@@ -801,7 +752,7 @@ S  */
     throw parseErrorWithLine(tokenizer, "Unknown geometry type: " + type);
   }
 
-  private boolean isTypeName(StreamTokenizer tokenizer, String type, String typeName) throws ParseException {
+  private boolean isTypeName(WKTTokenizer tokenizer, String type, String typeName) throws ParseException {
     if (! type.startsWith(typeName))
       return false;
     
@@ -828,7 +779,7 @@ S  */
    *@throws  IOException     if an I/O error occurs
    *@throws  ParseException  if an unexpected token was encountered
    */
-  private Point readPointText(StreamTokenizer tokenizer, EnumSet<Ordinate> ordinateFlags) throws IOException, ParseException {
+  private Point readPointText(WKTTokenizer tokenizer, EnumSet<Ordinate> ordinateFlags) throws IOException, ParseException {
     Point point = geometryFactory.createPoint(getCoordinateSequence(tokenizer, ordinateFlags, 1, false));
     return point;
   }
@@ -843,7 +794,7 @@ S  */
    *@throws  IOException     if an I/O error occurs
    *@throws  ParseException  if an unexpected token was encountered
    */
-  private LineString readLineStringText(StreamTokenizer tokenizer, EnumSet<Ordinate> ordinateFlags) throws IOException, ParseException {
+  private LineString readLineStringText(WKTTokenizer tokenizer, EnumSet<Ordinate> ordinateFlags) throws IOException, ParseException {
     return geometryFactory.createLineString(getCoordinateSequence(tokenizer, ordinateFlags, LineString.MINIMUM_VALID_SIZE, false));
   }
 
@@ -859,7 +810,7 @@ S  */
    *      do not form a closed linestring, or if an unexpected token was
    *      encountered
    */
-  private LinearRing readLinearRingText(StreamTokenizer tokenizer, EnumSet<Ordinate> ordinateFlags)
+  private LinearRing readLinearRingText(WKTTokenizer tokenizer, EnumSet<Ordinate> ordinateFlags)
     throws IOException, ParseException
   {
     return geometryFactory.createLinearRing(getCoordinateSequence(tokenizer, ordinateFlags, LinearRing.MINIMUM_VALID_SIZE, true));
@@ -875,7 +826,7 @@ S  */
    *@throws  IOException     if an I/O error occurs
    *@throws  ParseException  if an unexpected token was encountered
    */
-  private MultiPoint readMultiPointText(StreamTokenizer tokenizer, EnumSet<Ordinate> ordinateFlags) throws IOException, ParseException
+  private MultiPoint readMultiPointText(WKTTokenizer tokenizer, EnumSet<Ordinate> ordinateFlags) throws IOException, ParseException
   {
     String nextToken = getNextEmptyOrOpener(tokenizer);
     if (nextToken.equals(WKTConstants.EMPTY)) {
@@ -918,7 +869,7 @@ S  */
    *      token was encountered.
    *@throws  IOException     if an I/O error occurs
    */
-  private Polygon readPolygonText(StreamTokenizer tokenizer, EnumSet<Ordinate> ordinateFlags) throws IOException, ParseException {
+  private Polygon readPolygonText(WKTTokenizer tokenizer, EnumSet<Ordinate> ordinateFlags) throws IOException, ParseException {
     String nextToken = getNextEmptyOrOpener(tokenizer);
     if (nextToken.equals(WKTConstants.EMPTY)) {
         return geometryFactory.createPolygon(createCoordinateSequenceEmpty(ordinateFlags));
@@ -945,7 +896,7 @@ S  */
    *@throws  IOException     if an I/O error occurs
    *@throws  ParseException  if an unexpected token was encountered
    */
-  private MultiLineString readMultiLineStringText(StreamTokenizer tokenizer, EnumSet<Ordinate> ordinateFlags)
+  private MultiLineString readMultiLineStringText(WKTTokenizer tokenizer, EnumSet<Ordinate> ordinateFlags)
           throws IOException, ParseException {
     String nextToken = getNextEmptyOrOpener(tokenizer);
     if (nextToken.equals(WKTConstants.EMPTY)) {
@@ -974,7 +925,7 @@ S  */
    *@throws  IOException     if an I/O error occurs
    *@throws  ParseException  if an unexpected token was encountered
    */
-  private MultiPolygon readMultiPolygonText(StreamTokenizer tokenizer, EnumSet<Ordinate> ordinateFlags) throws IOException, ParseException {
+  private MultiPolygon readMultiPolygonText(WKTTokenizer tokenizer, EnumSet<Ordinate> ordinateFlags) throws IOException, ParseException {
     String nextToken = getNextEmptyOrOpener(tokenizer);
     if (nextToken.equals(WKTConstants.EMPTY)) {
       return geometryFactory.createMultiPolygon();
@@ -1002,7 +953,7 @@ S  */
    *      token was encountered
    *@throws  IOException     if an I/O error occurs
    */
-  private GeometryCollection readGeometryCollectionText(StreamTokenizer tokenizer, EnumSet<Ordinate> ordinateFlags) throws IOException, ParseException {
+  private GeometryCollection readGeometryCollectionText(WKTTokenizer tokenizer, EnumSet<Ordinate> ordinateFlags) throws IOException, ParseException {
     String nextToken = getNextEmptyOrOpener(tokenizer);
     if (nextToken.equals(WKTConstants.EMPTY)) {
       return geometryFactory.createGeometryCollection();
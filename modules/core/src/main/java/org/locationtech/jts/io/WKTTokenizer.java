@@ -0,0 +1,348 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.io;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StreamTokenizer;
+import java.nio.CharBuffer;
+
+/**
+ * Splits WKT text into tokens.
+ * The tokens are the same as those produced by a {@link StreamTokenizer}
+ * with the syntax used by {@link WKTReader}:
+ * <ul>
+ * <li>words are sequences of letters, digits, and the characters <tt>+-.</tt>
+ * (as well as characters above 159)
+ * <li>the characters 0 to 32 are whitespace
+ * <li><tt>#</tt> starts a comment extending to the end of the line
+ * <li>all other characters are single-character tokens
+ * </ul>
+ * The text is read into a buffer in chunks,
+ * and words are kept in the buffer rather than being converted to strings.
+ * Numbers are parsed directly from the buffer by {@link #getNumber()}.
+ * <p>
+ * The text can be read from a {@link CharSequence} or a {@link Reader}.
+ * A reader can be read one character at a time,
+ * so that characters beyond the end of the WKT are not consumed
+ * (as for a {@link StreamTokenizer}).
+ *
+ */
+class WKTTokenizer
+{
+  public static final int TT_EOF = StreamTokenizer.TT_EOF;
+  public static final int TT_WORD = StreamTokenizer.TT_WORD;
+  private static final int TT_NOTHING = -4;
+
+  private static final int CHUNK_SIZE = 8192;
+
+  private static final String NAN_SYMBOL = "NaN";
+  private static final String INF_SYMBOL = "Inf";
+  private static final String NEG_INF_SYMBOL = "-Inf";
+
+  private Reader reader = null;
+  private CharSequence text = null;
+  private int textPos = 0;
+  private int chunkSize;
+
+  private char[] buf;
+  private int pos = 0;
+  private int limit = 0;
+  /**
+   * The start of the text which must be kept in the buffer when it is refilled.
+   */
+  private int keepPos = 0;
+  private boolean isEndOfInput = false;
+
+  private int ttype = TT_NOTHING;
+  private int wordStart;
+  private int wordEnd;
+  private String word;
+  private boolean isPushedBack = false;
+  private int lineno = 1;
+
+  /**
+   * Creates a tokenizer for a sequence of characters.
+   *
+   * @param text the text to read
+   */
+  public WKTTokenizer(CharSequence text)
+  {
+    this.text = text;
+    chunkSize = CHUNK_SIZE;
+    buf = new char[Math.min(chunkSize, text.length())];
+  }
+
+  /**
+   * Creates a tokenizer which reads from a {@link Reader}.
+   * If the reader is not buffered then only the characters of
+   * the tokens read (and one following character) are consumed.
+   *
+   * @param reader the reader to read from
+   * @param isBuffered whether the reader can be read ahead of the tokens
+   */
+  public WKTTokenizer(Reader reader, boolean isBuffered)
+  {
+    this.reader = reader;
+    chunkSize = isBuffered ? CHUNK_SIZE : 1;
+    buf = new char[isBuffered ? CHUNK_SIZE : 32];
+  }
+
+  /**
+   * Gets the current line number.
+   *
+   * @return the current line number
+   */
+  public int lineno()
+  {
+    return lineno;
+  }
+
+  /**
+   * Gets the type of the current token.
+   * This is {@link #TT_EOF}, {@link #TT_WORD} or the token character.
+   *
+   * @return the type of the current token
+   */
+  public int getType()
+  {
+    return ttype;
+  }
+
+  /**
+   * Causes the next call to {@link #nextToken()} to return the current token.
+   */
+  public void pushBack()
+  {
+    if (ttype != TT_NOTHING)
+      isPushedBack = true;
+  }
+
+  /**
+   * Tests whether there are any characters remaining in the input
+   * other than whitespace
+   * (as determined by {@link Character#isWhitespace(int)}).
+   * The whitespace is skipped.
+   *
+   * @return true if the end of the input has been reached
+   * @throws IOException if an I/O error occurs
+   */
+  public boolean isAtEnd() throws IOException
+  {
+    if (isPushedBack)
+      return ttype == TT_EOF;
+    int c;
+    while ((c = peek()) >= 0 && Character.isWhitespace(c)) {
+      skipWhitespaceChar();
+    }
+    return c < 0;
+  }
+
+  /**
+   * Reads the next token.
+   *
+   * @return the type of the token read
+   * @throws IOException if an I/O error occurs
+   */
+  public int nextToken() throws IOException
+  {
+    if (isPushedBack) {
+      isPushedBack = false;
+      return ttype;
+    }
+    word = null;
+    int c;
+    while (true) {
+      c = peek();
+      if (c < 0)
+        return ttype = TT_EOF;
+      if (c <= ' ') {
+        skipWhitespaceChar();
+      }
+      else if (c == '#') {
+        // skip comment up to end of line
+        while ((c = peek()) >= 0 && c != '\n' && c != '\r') {
+          pos++;
+        }
+      }
+      else {
+        break;
+      }
+    }
+    if (! isWordChar(c)) {
+      pos++;
+      return ttype = c;
+    }
+    wordStart = pos;
+    keepPos = pos;
+    pos++;
+    while (true) {
+      if (pos >= limit) {
+        // refill moves the word to the start of the buffer
+        int shift = keepPos;
+        boolean isFilled = fill();
+        wordStart -= shift;
+        if (! isFilled) break;
+      }
+      if (! isWordChar(buf[pos])) break;
+      pos++;
+    }
+    wordEnd = pos;
+    keepPos = pos;
+    return ttype = TT_WORD;
+  }
+
+  /**
+   * Gets the current word token.
+   *
+   * @return the word
+   */
+  public String getWord()
+  {
+    if (word == null) {
+      word = new String(buf, wordStart, wordEnd - wordStart);
+    }
+    return word;
+  }
+
+  /**
+   * Parses the current word as a number.
+   * The value is the same as that of {@link Double#parseDouble(String)},
+   * but common number formats are parsed without creating a string.
+   * The symbols <tt>NaN</tt>, <tt>Inf</tt> and <tt>-Inf</tt>
+   * are also supported (case-insensitive).
+   *
+   * @return the value of the number
+   * @throws NumberFormatException if the word is not a valid number
+   */
+  public double getNumber()
+  {
+    int len = wordEnd - wordStart;
+    if (len <= 4 && buf[wordEnd - 1] > '9') {
+      if (isWord(NAN_SYMBOL)) return Double.NaN;
+      if (isWord(INF_SYMBOL)) return Double.POSITIVE_INFINITY;
+      if (isWord(NEG_INF_SYMBOL)) return Double.NEGATIVE_INFINITY;
+    }
+    double num = DecimalParser.parse(buf, wordStart, wordEnd);
+    if (! Double.isNaN(num))
+      return num;
+    return Double.parseDouble(getWord());
+  }
+
+  private boolean isWord(String symbol)
+  {
+    int len = wordEnd - wordStart;
+    if (len != symbol.length()) return false;
+    return symbol.regionMatches(true, 0, getWord(), 0, len);
+  }
+
+  /**
+   * Tests whether a character is part of a word.
+   * This matches the syntax set for the {@link StreamTokenizer}
+   * used by the {@link WKTReader}.
+   */
+  private static boolean isWordChar(int c)
+  {
+    return (c >= 'a' && c <= 'z')
+        || (c >= 'A' && c <= 'Z')
+        || (c >= '0' && c <= '9')
+        || c == '-' || c == '+' || c == '.'
+        || c >= 128 + 32;
+  }
+
+  private void skipWhitespaceChar() throws IOException
+  {
+    int c = buf[pos++];
+    if (c == '\r') {
+      lineno++;
+      if (peek() == '\n') pos++;
+    }
+    else if (c == '\n') {
+      lineno++;
+    }
+  }
+
+  /**
+   * Gets the next character without consuming it.
+   *
+   * @return the next character, or -1 if at the end of the input
+   */
+  private int peek() throws IOException
+  {
+    if (pos >= limit) {
+      keepPos = pos;
+      if (! fill()) return -1;
+    }
+    return buf[pos];
+  }
+
+  /**
+   * Reads more input into the buffer,
+   * discarding any text before the keep position.
+   *
+   * @return true if more input was read
+   */
+  private boolean fill() throws IOException
+  {
+    // discard the text before the keep position
+    int numKeep = limit - keepPos;
+    if (keepPos > 0) {
+      System.arraycopy(buf, keepPos, buf, 0, numKeep);
+      pos -= keepPos;
+      limit = numKeep;
+      keepPos = 0;
+    }
+    if (isEndOfInput) return false;
+    if (limit + chunkSize > buf.length) {
+      char[] newBuf = new char[Math.max(2 * buf.length, limit + chunkSize)];
+      System.arraycopy(buf, 0, newBuf, 0, limit);
+      buf = newBuf;
+    }
+    int n = reader != null ? readReader() : readText();
+    if (n <= 0) {
+      isEndOfInput = true;
+      return false;
+    }
+    limit += n;
+    return true;
+  }
+
+  private int readReader() throws IOException
+  {
+    int n;
+    do {
+      n = reader.read(buf, limit, chunkSize);
+    } while (n == 0);
+    return n;
+  }
+
+  private int readText()
+  {
+    int n = Math.min(chunkSize, text.length() - textPos);
+    if (n <= 0) return -1;
+    if (text instanceof String) {
+      ((String) text).getChars(textPos, textPos + n, buf, limit);
+    }
+    else if (text instanceof CharBuffer) {
+      CharBuffer cb = ((CharBuffer) text).duplicate();
+      cb.position(cb.position() + textPos);
+      cb.get(buf, limit, n);
+    }
+    else {
+      for (int i = 0; i < n; i++) {
+        buf[limit + i] = text.charAt(textPos + i);
+      }
+    }
+    textPos += n;
+    return n;
+  }
+}
@@ -12,9 +12,12 @@
 package org.locationtech.jts.noding;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Iterator;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
 
 import org.locationtech.jts.geom.Envelope;
 import org.locationtech.jts.index.SpatialIndex;
@@ -22,6 +25,8 @@ import org.locationtech.jts.index.chain.MonotoneChain;
 import org.locationtech.jts.index.chain.MonotoneChainBuilder;
 import org.locationtech.jts.index.chain.MonotoneChainOverlapAction;
 import org.locationtech.jts.index.hprtree.HPRtree;
+import org.locationtech.jts.index.hprtree.HilbertEncoder;
+import org.locationtech.jts.util.IntArrayList;
 
 /**
  * Nodes a set of {@link SegmentString}s using a index based
@@ -33,6 +38,15 @@ import org.locationtech.jts.index.hprtree.HPRtree;
  * The noder supports using an overlap tolerance distance .
  * This allows determining segment intersection using a buffer for uses
  * involving snapping with a distance tolerance.
+ * <p>
+ * If a {@link ForkJoinPool} is provided via {@link #setPool(ForkJoinPool)}
+ * the overlapping chain segments are found in parallel.
+ * The chains are partitioned spatially (by the Hilbert order of their envelopes),
+ * so that each task queries a compact region of the index.
+ * The overlapping segments are passed to the {@link SegmentIntersector} 
+ * afterwards, in the same order as for sequential noding,
+ * so the intersector does not need to be thread-safe
+ * and the noding result is identical.
  *
  * @version 1.7
  */
@@ -46,6 +60,7 @@ public class MCIndexNoder
   // statistics
   private int nOverlaps = 0;
   private double overlapTolerance = 0;
+  private ForkJoinPool pool = null;
 
   public MCIndexNoder()
   {
@@ -69,6 +84,18 @@ public class MCIndexNoder
     this.overlapTolerance = overlapTolerance;
   }
 
+  /**
+   * Sets the pool used to find the overlapping chain segments in parallel.
+   * If the pool is <code>null</code> (the default)
+   * the noding is computed sequentially.
+   * 
+   * @param pool the pool to use, or null
+   */
+  public void setPool(ForkJoinPool pool)
+  {
+    this.pool = pool;
+  }
+
   public List getMonotoneChains() { return monoChains; }
 
   public SpatialIndex getIndex() { return index; }
@@ -84,7 +111,12 @@ public class MCIndexNoder
     for (Iterator i = inputSegStrings.iterator(); i.hasNext(); ) {
       add((SegmentString) i.next());
     }
-    intersectChains();
+    if (pool == null) {
+      intersectChains();
+    }
+    else {
+      intersectChainsParallel();
+    }
 //System.out.println("MCIndexNoder: # chain overlaps = " + nOverlaps);
   }
 
@@ -113,6 +145,68 @@ public class MCIndexNoder
     }
   }
 
+  /**
+   * Finds the overlapping segments of each chain in parallel,
+   * and then processes them in chain order.
+   * The chain id is its index in the list of chains.
+   */
+  private void intersectChainsParallel()
+  {
+    @SuppressWarnings("unchecked")
+    MonotoneChain[] chains = (MonotoneChain[]) monoChains.toArray(new MonotoneChain[0]);
+    int[][] chainOverlaps = new int[chains.length][];
+    int[] chainOverlapCount = new int[chains.length];
+    pool.invoke(new OverlapTask(chains, spatialOrder(chains), chainOverlaps, chainOverlapCount, 0, chains.length));
+    for (int count : chainOverlapCount) {
+      nOverlaps += count;
+    }
+
+    for (int i = 0; i < chains.length; i++) {
+      int[] overlaps = chainOverlaps[i];
+      if (overlaps == null) continue;
+      SegmentString ss1 = (SegmentString) chains[i].getContext();
+      for (int k = 0; k < overlaps.length; k += 3) {
+        SegmentString ss2 = (SegmentString) chains[overlaps[k]].getContext();
+        segInt.processIntersections(ss1, overlaps[k+1], ss2, overlaps[k+2]);
+        /**
+         * Short-circuit after all the segments of a pair of chains are processed,
+         * as for the sequential case
+         */
+        boolean isChainEnd = k + 3 >= overlaps.length || overlaps[k+3] != overlaps[k];
+        if (isChainEnd && segInt.isDone())
+          return;
+      }
+    }
+  }
+
+  /**
+   * Computes an ordering of the chains which is spatially coherent,
+   * using the Hilbert code of the chain envelopes.
+   * 
+   * @param chains the chains to order
+   * @return the chain indexes in Hilbert order
+   */
+  private static int[] spatialOrder(MonotoneChain[] chains)
+  {
+    Envelope extent = new Envelope();
+    for (MonotoneChain mc : chains) {
+      extent.expandToInclude(mc.getEnvelope());
+    }
+    HilbertEncoder encoder = new HilbertEncoder(HILBERT_LEVEL, extent);
+    // sort the indexes by packing them with the codes
+    long[] keys = new long[chains.length];
+    for (int i = 0; i < chains.length; i++) {
+      keys[i] = ((long) encoder.encode(chains[i].getEnvelope()) << 32) | i;
+    }
+    Arrays.sort(keys);
+    int[] order = new int[chains.length];
+    for (int i = 0; i < chains.length; i++) {
+      order[i] = (int) keys[i];
+    }
+    return order;
+  }
+
+  @SuppressWarnings("unchecked")
   private void add(SegmentString segStr)
   {
     List segChains = MonotoneChainBuilder.getChains(segStr.getCoordinates(), segStr);
@@ -125,6 +219,95 @@ public class MCIndexNoder
     }
   }
 
+  /**
+   * The number of chains processed sequentially by a task.
+   */
+  private static final int SEQUENTIAL_SIZE = 256;
+
+  private static final int HILBERT_LEVEL = 12;
+
+  /**
+   * Finds the overlapping segments for a section of the chains
+   * (in spatial order),
+   * splitting the section until it is small enough to process sequentially.
+   * The overlaps for each chain are recorded as triples of
+   * (test chain id, query chain segment index, test chain segment index),
+   * along with the number of chain pairs tested for overlap.
+   * Each task writes only to the result array entries for its own chains.
+   */
+  private class OverlapTask extends RecursiveAction
+  {
+    private MonotoneChain[] chains;
+    private int[] order;
+    private int[][] chainOverlaps;
+    private int[] chainOverlapCount;
+    private int start;
+    private int end;
+
+    OverlapTask(MonotoneChain[] chains, int[] order, int[][] chainOverlaps, int[] chainOverlapCount,
+        int start, int end)
+    {
+      this.chains = chains;
+      this.order = order;
+      this.chainOverlaps = chainOverlaps;
+      this.chainOverlapCount = chainOverlapCount;
+      this.start = start;
+      this.end = end;
+    }
+
+    @Override
+    protected void compute()
+    {
+      if (end - start <= SEQUENTIAL_SIZE) {
+        findOverlaps();
+        return;
+      }
+      int mid = (start + end) >>> 1;
+      invokeAll(new OverlapTask(chains, order, chainOverlaps, chainOverlapCount, start, mid),
+          new OverlapTask(chains, order, chainOverlaps, chainOverlapCount, mid, end));
+    }
+
+    void findOverlaps()
+    {
+      for (int i = start; i < end; i++) {
+        MonotoneChain queryChain = chains[order[i]];
+        IntArrayList overlaps = new IntArrayList();
+        OverlapRecorder overlapAction = new OverlapRecorder(overlaps);
+        List overlapChains = index.query(queryChain.getEnvelope(overlapTolerance));
+        int count = 0;
+        for (Iterator j = overlapChains.iterator(); j.hasNext(); ) {
+          MonotoneChain testChain = (MonotoneChain) j.next();
+          if (testChain.getId() > queryChain.getId()) {
+            queryChain.computeOverlaps(testChain, overlapTolerance, overlapAction);
+            count++;
+          }
+        }
+        chainOverlapCount[order[i]] = count;
+        if (overlaps.size() > 0) {
+          chainOverlaps[order[i]] = overlaps.toArray();
+        }
+      }
+    }
+  }
+
+  private static class OverlapRecorder
+      extends MonotoneChainOverlapAction
+  {
+    private IntArrayList overlaps;
+
+    OverlapRecorder(IntArrayList overlaps)
+    {
+      this.overlaps = overlaps;
+    }
+
+    public void overlap(MonotoneChain mc1, int start1, MonotoneChain mc2, int start2)
+    {
+      overlaps.add(mc2.getId());
+      overlaps.add(start1);
+      overlaps.add(start2);
+    }
+  }
+
   public static class SegmentOverlapAction
       extends MonotoneChainOverlapAction
   {
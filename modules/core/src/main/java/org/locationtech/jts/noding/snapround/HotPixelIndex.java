@@ -11,14 +11,14 @@
  */
 package org.locationtech.jts.noding.snapround;
 
-import java.util.Iterator;
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.Random;
+import java.util.Map;
 
 import org.locationtech.jts.geom.Coordinate;
 import org.locationtech.jts.geom.Envelope;
 import org.locationtech.jts.geom.PrecisionModel;
-import org.locationtech.jts.index.kdtree.KdNode;
 import org.locationtech.jts.index.kdtree.KdNodeVisitor;
 import org.locationtech.jts.index.kdtree.KdTree;
 
@@ -28,6 +28,9 @@ import org.locationtech.jts.index.kdtree.KdTree;
  * The points passed to the index do not needed to be 
  * rounded to the specified scale factor; this is done internally
  * when creating the HotPixels for them.
+ * <p>
+ * The index can be queried concurrently by multiple threads,
+ * as long as no points are added while querying.
  *
  * @author mdavis
  *
@@ -36,73 +39,34 @@ class HotPixelIndex {
   private PrecisionModel precModel;
   private double scaleFactor;
 
+  /**
+   * The hot pixels, keyed by pixel center.
+   */
+  private Map<Coordinate, HotPixel> pixelMap = new LinkedHashMap<Coordinate, HotPixel>();
+  
   /**
    * Use a kd-tree to index the pixel centers for optimum performance.
    * Since HotPixels have an extent, range queries to the
    * index must enlarge the query range by a suitable value
    * (using the pixel width is safest).
+   * The tree is bulk-loaded when it is first queried,
+   * which creates a balanced tree.
    */
-  private KdTree index = new KdTree();
+  private volatile KdTree index = null;
 
   public HotPixelIndex(PrecisionModel pm) {
     this.precModel = pm;
     scaleFactor = pm.getScale();
   }
 
-  /**
-   * Utility class to shuffle an array of {@link Coordinate}s using
-   * the Fisher-Yates shuffle algorithm
-   *
-   * @see <a href="https://en.wikipedia.org/wiki/Fisher%E2%80%93Yates_shuffle">Fihser-Yates shuffle</a>
-   */
-  private static final class CoordinateShuffler implements Iterator<Coordinate> {
-
-    private final Random rnd = new Random(13);
-    private final Coordinate[] coordinates;
-    private final int[] indices;
-    private int index;
-
-    /**
-     * Creates an instance of this class
-     * @param pts An array of {@link Coordinate}s.
-     */
-    public CoordinateShuffler(Coordinate[] pts) {
-      coordinates = pts;
-      indices = new int[pts.length];
-      for (int i = 0; i < pts.length; i++)
-        indices[i] = i;
-      index = pts.length - 1;
-    }
-
-    @Override
-    public boolean hasNext() {
-      return index >= 0;
-    }
-
-    @Override
-    public Coordinate next() {
-      int j = rnd.nextInt(index + 1);
-      Coordinate res = coordinates[indices[j]];
-      indices[j] = indices[index--];
-      return res;
-    }
-  }
-
   /**
    * Adds a list of points as non-node pixels.
    *
    * @param pts the points to add
    */
   public void add(Coordinate[] pts) {
-    /**
-     * Shuffle the points before adding.
-     * This avoids having long monontic runs of points
-     * causing an unbalanced KD-tree, which would create
-     * performance and robustness issues.
-     */
-    Iterator<Coordinate> it = new CoordinateShuffler(pts);
-    while (it.hasNext()) {
-      add(it.next());
+    for (Coordinate pt : pts) {
+      add(pt);
     }
   }
 
@@ -112,11 +76,6 @@ class HotPixelIndex {
    * @param pts the points to add
    */
   public void addNodes(List<Coordinate> pts) {
-    /**
-     * Node points are not shuffled, since they are
-     * added after the vertex points, and hence the KD-tree should 
-     * be reasonably balanced already.
-     */
     for (Coordinate pt : pts) {
       HotPixel hp = add(pt);
       hp.setToNode();
@@ -131,10 +90,10 @@ class HotPixelIndex {
    * @return the HotPixel for the point
    */
   public HotPixel add(Coordinate p) {
-    // TODO: is there a faster way of doing this?
     Coordinate pRound = round(p);
+    Coordinate key = pixelKey(pRound);
 
-    HotPixel hp = find(pRound);
+    HotPixel hp = pixelMap.get(key);
     /**
      * Hot Pixels which are added more than once
      * must have more than one vertex in them
@@ -151,15 +110,22 @@ class HotPixelIndex {
      * (but may become one later on).
      */
     hp = new HotPixel(pRound, scaleFactor);
-    index.insert(hp.getCoordinate(), hp);
+    pixelMap.put(key, hp);
+    // the index must be rebuilt to include the new pixel
+    index = null;
     return hp;
   }
 
-  private HotPixel find(Coordinate pixelPt) {
-    KdNode kdNode = index.query(pixelPt);
-    if (kdNode == null)
-      return null;
-    return (HotPixel) kdNode.getData();
+  /**
+   * Gets the key for a pixel center.
+   * Negative zero is equal to zero, but has a different hash code,
+   * so it is normalized.
+   */
+  private static Coordinate pixelKey(Coordinate pixelPt) {
+    if (pixelPt.x == 0 || pixelPt.y == 0) {
+      return new Coordinate(pixelPt.x + 0.0, pixelPt.y + 0.0);
+    }
+    return pixelPt;
   }
 
   private Coordinate round(Coordinate pt) {
@@ -168,6 +134,28 @@ class HotPixelIndex {
     return p2;
   }
 
+  private KdTree getIndex() {
+    // avoid calling synchronized method improves performance
+    if (index == null) createIndex();
+    return index;
+  }
+
+  private synchronized void createIndex() {
+    if (index != null) return;
+    Collection<HotPixel> pixels = pixelMap.values();
+    Coordinate[] pts = new Coordinate[pixels.size()];
+    HotPixel[] data = new HotPixel[pixels.size()];
+    int i = 0;
+    for (HotPixel hp : pixels) {
+      pts[i] = hp.getCoordinate();
+      data[i] = hp;
+      i++;
+    }
+    KdTree tree = new KdTree();
+    tree.build(pts, data);
+    index = tree;
+  }
+
   /**
    * Visits all the hot pixels which may intersect a segment (p0-p1).
    * The visitor must determine whether each hot pixel actually intersects
@@ -182,6 +170,6 @@ class HotPixelIndex {
     // expand query range to account for HotPixel extent
     // expand by full width of one pixel to be safe
     queryEnv.expandBy( 1.0 / scaleFactor );
-    index.query(queryEnv, visitor);
+    getIndex().query(queryEnv, visitor);
   }
 }
@@ -14,6 +14,8 @@ package org.locationtech.jts.noding.snapround;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
 
 import org.locationtech.jts.geom.Coordinate;
 import org.locationtech.jts.geom.CoordinateList;
@@ -24,6 +26,7 @@ import org.locationtech.jts.noding.MCIndexNoder;
 import org.locationtech.jts.noding.NodedSegmentString;
 import org.locationtech.jts.noding.Noder;
 import org.locationtech.jts.noding.SegmentString;
+import org.locationtech.jts.util.IntArrayList;
 
 /**
  * Uses Snap Rounding to compute a rounded,
@@ -51,6 +54,12 @@ import org.locationtech.jts.noding.SegmentString;
  * This still provides fully-noded output.
  * This is the same behaviour provided by other noders,
  * such as {@link MCIndexNoder} and {@link org.locationtech.jts.noding.snap.SnappingNoder}.
+ * <p>
+ * If a {@link ForkJoinPool} is provided via {@link #setPool(ForkJoinPool)}
+ * the intersection detection and hot pixel snapping are computed in parallel.
+ * The changes to the shared state (the segment string nodes and the
+ * hot pixel node status) are applied afterwards in the sequential order,
+ * so the noded result is identical to the sequential result.
  * 
  * @version 1.7
  */
@@ -68,11 +77,24 @@ public class SnapRoundingNoder
   
   private List<NodedSegmentString> snappedResult;
 
+  private ForkJoinPool pool = null;
+
   public SnapRoundingNoder(PrecisionModel pm) {
     this.pm = pm;
     pixelIndex = new HotPixelIndex(pm);
   }
 
+  /**
+   * Sets the pool used to compute the noding in parallel.
+   * If the pool is <code>null</code> (the default)
+   * the noding is computed sequentially.
+   * 
+   * @param pool the pool to use, or null
+   */
+  public void setPool(ForkJoinPool pool) {
+    this.pool = pool;
+  }
+
   /**
 	 * @return a Collection of NodedSegmentStrings representing the substrings
 	 * 
@@ -125,6 +147,7 @@ public class SnapRoundingNoder
     
     SnapRoundingIntersectionAdder intAdder = new SnapRoundingIntersectionAdder(nearnessTol);
     MCIndexNoder noder = new MCIndexNoder(intAdder, nearnessTol);
+    noder.setPool(pool);
     noder.computeNodes(segStrings);
     List<Coordinate> intPts = intAdder.getIntersections();
     pixelIndex.addNodes(intPts);
@@ -177,6 +200,9 @@ public class SnapRoundingNoder
    */
   private List<NodedSegmentString> computeSnaps(Collection<NodedSegmentString> segStrings)
   {
+    if (pool != null)
+      return computeSnapsParallel(segStrings);
+    
     List<NodedSegmentString> snapped = new ArrayList<NodedSegmentString>();
     for (NodedSegmentString ss : segStrings ) {
       NodedSegmentString snappedSS = computeSegmentSnaps(ss);
@@ -193,6 +219,37 @@ public class SnapRoundingNoder
     return snapped;
   }
 
+  /**
+   * Computes the snapped segment strings in parallel.
+   * The hot pixels intersecting each segment are found in parallel,
+   * and then added as nodes in the same order as for {@link #computeSnaps(Collection)},
+   * since whether a pixel is snapped to depends on whether 
+   * it was marked as a node by a previous segment.
+   * Finally the vertex nodes are added in parallel, 
+   * since the pixel node status no longer changes.
+   * 
+   * @param segStrings segments to snap
+   * @return the snapped segment strings
+   */
+  private List<NodedSegmentString> computeSnapsParallel(Collection<NodedSegmentString> segStrings)
+  {
+    NodedSegmentString[] inputSS = segStrings.toArray(new NodedSegmentString[0]);
+    NodedSegmentString[] snappedSS = new NodedSegmentString[inputSS.length];
+    PixelSnaps[] pixelSnaps = new PixelSnaps[inputSS.length];
+    pool.invoke(new SnapTask(inputSS, snappedSS, pixelSnaps, 0, inputSS.length));
+    
+    List<NodedSegmentString> snapped = new ArrayList<NodedSegmentString>();
+    for (int i = 0; i < snappedSS.length; i++) {
+      if (snappedSS[i] == null) continue;
+      pixelSnaps[i].addNodes(snappedSS[i]);
+      snapped.add(snappedSS[i]);
+    }
+    
+    NodedSegmentString[] snappedArr = snapped.toArray(new NodedSegmentString[0]);
+    pool.invoke(new VertexNodeTask(snappedArr, 0, snappedArr.length));
+    return snapped;
+  }
+
   /**
    * Add snapped vertices to a segment string.
    * If the segment string collapses completely due to rounding,
@@ -202,6 +259,20 @@ public class SnapRoundingNoder
    * @return the snapped segment string, or null if it collapses completely
    */
   private NodedSegmentString computeSegmentSnaps(NodedSegmentString ss)
+  {
+    return computeSegmentSnaps(ss, null);
+  }
+
+  /**
+   * Add snapped vertices to a segment string.
+   * If a {@link PixelSnaps} is provided, the hot pixel snaps
+   * are recorded in it rather than added to the snapped segment string.
+   * 
+   * @param ss the segment string to snap
+   * @param pixelSnaps the snaps to record, or null
+   * @return the snapped segment string, or null if it collapses completely
+   */
+  private NodedSegmentString computeSegmentSnaps(NodedSegmentString ss, PixelSnaps pixelSnaps)
   {
     //Coordinate[] pts = ss.getCoordinates();
     /**
@@ -238,7 +309,12 @@ public class SnapRoundingNoder
        * (It is important to check original segment because rounding can
        * move it enough to intersect other hot pixels not intersecting original segment)
        */
-      snapSegment( p0, p1, snapSS, snapSSindex);      
+      if (pixelSnaps == null) {
+        snapSegment( p0, p1, snapSS, snapSSindex);
+      }
+      else {
+        pixelSnaps.find( p0, p1, snapSSindex);
+      }
       snapSSindex++;
     }
     return snapSS;
@@ -317,4 +393,115 @@ public class SnapRoundingNoder
     });
   }
 
+  /**
+   * Records the hot pixels which a segment string snaps to,
+   * so that they can be added as nodes later.
+   * A pixel containing a segment endpoint is only snapped to
+   * if it has been marked as a node when the nodes are added
+   * (see {@link SnapRoundingNoder#snapSegment(Coordinate, Coordinate, NodedSegmentString, int)}).
+   */
+  private class PixelSnaps {
+    private List<HotPixel> pixels = new ArrayList<HotPixel>();
+    /**
+     * Pairs of (segment index, 1 if the pixel contains a segment endpoint)
+     */
+    private IntArrayList snapInfo = new IntArrayList();
+
+    void find(Coordinate p0, Coordinate p1, int segIndex) {
+      pixelIndex.query(p0, p1, new KdNodeVisitor() {
+
+        @Override
+        public void visit(KdNode node) {
+          HotPixel hp = (HotPixel) node.getData();
+          if (! hp.intersects(p0, p1)) return;
+          boolean isEndpointPixel = hp.intersects(p0) || hp.intersects(p1);
+          pixels.add(hp);
+          snapInfo.add(segIndex);
+          snapInfo.add(isEndpointPixel ? 1 : 0);
+        }
+      });
+    }
+
+    void addNodes(NodedSegmentString ss) {
+      for (int i = 0; i < pixels.size(); i++) {
+        HotPixel hp = pixels.get(i);
+        boolean isEndpointPixel = snapInfo.get(2 * i + 1) == 1;
+        if (! hp.isNode() && isEndpointPixel)
+          continue;
+        ss.addIntersection( hp.getCoordinate(), snapInfo.get(2 * i) );
+        hp.setToNode();
+      }
+    }
+  }
+
+  /**
+   * The number of segment strings processed sequentially by a task.
+   */
+  private static final int SEQUENTIAL_SIZE = 64;
+
+  /**
+   * Computes the snapped segment strings for a section of the input,
+   * recording the hot pixels they snap to.
+   * Each task writes only to its own section of the result arrays.
+   */
+  private class SnapTask extends RecursiveAction {
+    private NodedSegmentString[] inputSS;
+    private NodedSegmentString[] snappedSS;
+    private PixelSnaps[] pixelSnaps;
+    private int start;
+    private int end;
+
+    SnapTask(NodedSegmentString[] inputSS, NodedSegmentString[] snappedSS, PixelSnaps[] pixelSnaps,
+        int start, int end) {
+      this.inputSS = inputSS;
+      this.snappedSS = snappedSS;
+      this.pixelSnaps = pixelSnaps;
+      this.start = start;
+      this.end = end;
+    }
+
+    @Override
+    protected void compute() {
+      if (end - start <= SEQUENTIAL_SIZE) {
+        for (int i = start; i < end; i++) {
+          PixelSnaps snaps = new PixelSnaps();
+          snappedSS[i] = computeSegmentSnaps(inputSS[i], snaps);
+          pixelSnaps[i] = snaps;
+        }
+        return;
+      }
+      int mid = (start + end) >>> 1;
+      invokeAll(new SnapTask(inputSS, snappedSS, pixelSnaps, start, mid),
+          new SnapTask(inputSS, snappedSS, pixelSnaps, mid, end));
+    }
+  }
+
+  /**
+   * Adds the vertex nodes for a section of the snapped segment strings.
+   * Each task modifies only its own segment strings.
+   */
+  private class VertexNodeTask extends RecursiveAction {
+    private NodedSegmentString[] snapped;
+    private int start;
+    private int end;
+
+    VertexNodeTask(NodedSegmentString[] snapped, int start, int end) {
+      this.snapped = snapped;
+      this.start = start;
+      this.end = end;
+    }
+
+    @Override
+    protected void compute() {
+      if (end - start <= SEQUENTIAL_SIZE) {
+        for (int i = start; i < end; i++) {
+          addVertexNodeSnaps(snapped[i]);
+        }
+        return;
+      }
+      int mid = (start + end) >>> 1;
+      invokeAll(new VertexNodeTask(snapped, start, mid),
+          new VertexNodeTask(snapped, mid, end));
+    }
+  }
 }
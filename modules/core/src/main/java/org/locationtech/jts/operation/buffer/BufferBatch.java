@@ -0,0 +1,279 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.operation.buffer;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.index.strtree.STRtree;
+import org.locationtech.jts.operation.union.UnaryUnionOp;
+
+/**
+ * Computes the buffers of a batch of geometries
+ * using the same distance and {@link BufferParameters},
+ * optionally in parallel using a {@link ForkJoinPool}.
+ * <p>
+ * The buffers can be returned individually
+ * (in the same order as the input geometries),
+ * or dissolved into a single polygonal geometry
+ * via {@link #bufferUnion(Collection, double)}.
+ * Dissolving is computed more efficiently than
+ * buffering each geometry and unioning the results.
+ * For non-negative distances nearby geometries are grouped,
+ * and each group is buffered as a single collection,
+ * which computes the union of the buffers of the group elements
+ * in a single noding pass.
+ * The group buffers are then unioned.
+ * <p>
+ * If no pool is provided (the default) the buffers are computed sequentially.
+ * <p>
+ * This class is thread-safe.
+ *
+ * @see BufferOp
+ */
+public class BufferBatch
+{
+  /**
+   * Computes the buffers of a collection of geometries in parallel
+   * using the common {@link ForkJoinPool}.
+   *
+   * @param geoms the geometries to buffer
+   * @param distance the buffer distance
+   * @param params the buffer parameters to use
+   * @return a list of the buffers, in the same order as the input
+   */
+  public static List<Geometry> buffer(Collection<? extends Geometry> geoms, double distance, BufferParameters params)
+  {
+    BufferBatch batch = new BufferBatch(params);
+    batch.setPool(ForkJoinPool.commonPool());
+    return batch.buffer(geoms, distance);
+  }
+
+  /**
+   * Computes the union of the buffers of a collection of geometries in parallel
+   * using the common {@link ForkJoinPool}.
+   *
+   * @param geoms the geometries to buffer
+   * @param distance the buffer distance
+   * @param params the buffer parameters to use
+   * @return the union of the buffers, or null if the collection is empty
+   */
+  public static Geometry bufferUnion(Collection<? extends Geometry> geoms, double distance, BufferParameters params)
+  {
+    BufferBatch batch = new BufferBatch(params);
+    batch.setPool(ForkJoinPool.commonPool());
+    return batch.bufferUnion(geoms, distance);
+  }
+
+  /**
+   * The number of geometries buffered sequentially by a task.
+   */
+  private static final int SEQUENTIAL_SIZE = 32;
+
+  /**
+   * The number of geometries in a group buffered together when dissolving.
+   */
+  private static final int GROUP_SIZE = 16;
+
+  private BufferParameters bufParams;
+  private ForkJoinPool pool = null;
+
+  /**
+   * Creates a new batch buffer operation
+   * using the default buffer parameters.
+   */
+  public BufferBatch()
+  {
+    this(new BufferParameters());
+  }
+
+  /**
+   * Creates a new batch buffer operation
+   * using the given buffer parameters.
+   * The parameters should not be modified while buffers are being computed.
+   *
+   * @param bufParams the buffer parameters to use
+   */
+  public BufferBatch(BufferParameters bufParams)
+  {
+    this.bufParams = bufParams;
+  }
+
+  /**
+   * Sets the pool used to compute the buffers in parallel.
+   * If the pool is <code>null</code> (the default)
+   * the buffers are computed sequentially.
+   *
+   * @param pool the pool to use, or null
+   */
+  public void setPool(ForkJoinPool pool)
+  {
+    this.pool = pool;
+  }
+
+  /**
+   * Computes the buffers of a collection of geometries.
+   *
+   * @param geoms the geometries to buffer
+   * @param distance the buffer distance
+   * @return a list of the buffers, in the same order as the input
+   */
+  public List<Geometry> buffer(Collection<? extends Geometry> geoms, double distance)
+  {
+    Geometry[] geomArr = geoms.toArray(new Geometry[0]);
+    return Arrays.asList(bufferAll(geomArr, distance));
+  }
+
+  /**
+   * Computes the buffers of a stream of geometries.
+   * The stream is consumed before the buffers are computed.
+   *
+   * @param geoms the geometries to buffer
+   * @param distance the buffer distance
+   * @return a list of the buffers, in the same order as the stream
+   */
+  public List<Geometry> buffer(Stream<? extends Geometry> geoms, double distance)
+  {
+    return buffer(geoms.collect(Collectors.toList()), distance);
+  }
+
+  /**
+   * Computes the union of the buffers of a collection of geometries.
+   *
+   * @param geoms the geometries to buffer
+   * @param distance the buffer distance
+   * @return the union of the buffers, or null if the collection is empty
+   */
+  public Geometry bufferUnion(Collection<? extends Geometry> geoms, double distance)
+  {
+    if (geoms.isEmpty())
+      return null;
+    GeometryFactory geomFact = geoms.iterator().next().getFactory();
+
+    Geometry[] bufferGeoms;
+    /**
+     * A buffer of a collection with a non-negative distance is
+     * the union of the buffers of the elements.
+     * This is not the case for negative distances,
+     * so for these the elements are buffered individually.
+     */
+    if (distance >= 0) {
+      bufferGeoms = groups(geoms, geomFact);
+    }
+    else {
+      bufferGeoms = geoms.toArray(new Geometry[0]);
+    }
+    Geometry[] buffers = bufferAll(bufferGeoms, distance);
+
+    UnaryUnionOp unionOp = new UnaryUnionOp(Arrays.asList(buffers), geomFact);
+    unionOp.setPool(pool);
+    return unionOp.union();
+  }
+
+  /**
+   * Groups geometries which are close together
+   * into collections, using the leaves of an {@link STRtree}.
+   *
+   * @param geoms the geometries to group
+   * @param geomFact the factory to create the collections
+   * @return an array of the groups
+   */
+  private static Geometry[] groups(Collection<? extends Geometry> geoms, GeometryFactory geomFact)
+  {
+    STRtree index = new STRtree(GROUP_SIZE);
+    for (Geometry geom : geoms) {
+      index.insert(geom.getEnvelopeInternal(), geom);
+    }
+    List<Geometry> groups = new ArrayList<Geometry>();
+    addGroups(index.itemsTree(), groups, geomFact);
+    return groups.toArray(new Geometry[0]);
+  }
+
+  private static void addGroups(List<?> itemTree, List<Geometry> groups, GeometryFactory geomFact)
+  {
+    List<Geometry> group = new ArrayList<Geometry>();
+    for (Object item : itemTree) {
+      if (item instanceof List) {
+        addGroups((List<?>) item, groups, geomFact);
+      }
+      else {
+        group.add((Geometry) item);
+      }
+    }
+    if (group.size() > 0) {
+      groups.add(geomFact.createGeometryCollection(GeometryFactory.toGeometryArray(group)));
+    }
+  }
+
+  private Geometry[] bufferAll(Geometry[] geoms, double distance)
+  {
+    Geometry[] buffers = new Geometry[geoms.length];
+    BufferTask task = new BufferTask(geoms, distance, buffers, 0, geoms.length);
+    if (pool == null) {
+      task.buffer();
+    }
+    else {
+      pool.invoke(task);
+    }
+    return buffers;
+  }
+
+  /**
+   * Buffers a section of an array of geometries,
+   * splitting the section until it is small enough to buffer sequentially.
+   * Each task writes only to its own section of the result array.
+   */
+  private class BufferTask extends RecursiveAction
+  {
+    private Geometry[] geoms;
+    private double distance;
+    private Geometry[] buffers;
+    private int start;
+    private int end;
+
+    BufferTask(Geometry[] geoms, double distance, Geometry[] buffers, int start, int end)
+    {
+      this.geoms = geoms;
+      this.distance = distance;
+      this.buffers = buffers;
+      this.start = start;
+      this.end = end;
+    }
+
+    @Override
+    protected void compute()
+    {
+      if (end - start <= SEQUENTIAL_SIZE) {
+        buffer();
+        return;
+      }
+      int mid = (start + end) >>> 1;
+      invokeAll(new BufferTask(geoms, distance, buffers, start, mid),
+          new BufferTask(geoms, distance, buffers, mid, end));
+    }
+
+    void buffer()
+    {
+      for (int i = start; i < end; i++) {
+        buffers[i] = BufferOp.bufferOp(geoms[i], distance, bufParams);
+      }
+    }
+  }
+}
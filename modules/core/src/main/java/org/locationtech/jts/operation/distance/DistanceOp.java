@@ -23,9 +23,11 @@ import org.locationtech.jts.geom.LineString;
 import org.locationtech.jts.geom.Location;
 import org.locationtech.jts.geom.Point;
 import org.locationtech.jts.geom.Polygon;
+import org.locationtech.jts.geom.prep.GeometryIndexCache;
 import org.locationtech.jts.geom.util.LinearComponentExtracter;
 import org.locationtech.jts.geom.util.PointExtracter;
 import org.locationtech.jts.geom.util.PolygonExtracter;
+import org.locationtech.jts.operation.relateng.RelatePredicate;
 
 /**
  * Find two points on two {@link Geometry}s which lie
@@ -44,6 +46,12 @@ import org.locationtech.jts.geom.util.PolygonExtracter;
  * The algorithms used are straightforward O(n^2)
  * comparisons.  This worst-case performance could be improved on
  * by using Voronoi techniques or spatial indexes.
+ * <p>
+ * If an input geometry has cached indexes
+ * (see {@link Geometry#setIndexCached(boolean)}),
+ * the static {@link #distance(Geometry, Geometry)} and 
+ * {@link #isWithinDistance(Geometry, Geometry, double)} methods
+ * use them to compute the distance.
  *
  * @version 1.7
  */
@@ -57,6 +65,13 @@ public class DistanceOp
    */
   public static double distance(Geometry g0, Geometry g1)
   {
+    GeometryIndexCache cache = indexCache(g0, g1);
+    if (cache != null) {
+      Geometry g = cache.getGeometry() == g0 ? g1 : g0;
+      if (cache.getRelate().evaluate(g, RelatePredicate.intersects()))
+        return 0.0;
+      return cache.getFacetDistance().distance(g);
+    }
     DistanceOp distOp = new DistanceOp(g0, g1);
     return distOp.distance();
   }
@@ -77,6 +92,14 @@ public class DistanceOp
 
     // MD - could improve this further with a positive short-circuit based on envelope MinMaxDist
     
+    GeometryIndexCache cache = indexCache(g0, g1);
+    if (cache != null) {
+      Geometry g = cache.getGeometry() == g0 ? g1 : g0;
+      if (cache.getRelate().evaluate(g, RelatePredicate.intersects()))
+        return true;
+      return cache.getFacetDistance().isWithinDistance(g, distance);
+    }
+    
     DistanceOp distOp = new DistanceOp(g0, g1, distance);
     return distOp.distance() <= distance;
   }
@@ -110,6 +133,23 @@ public class DistanceOp
     return distOp.nearestPoints();
   }
 
+  /**
+   * Gets the index cache of one of the input geometries, if any.
+   * Geometries which are empty are not handled by the cached indexes.
+   * 
+   * @param g0 a geometry
+   * @param g1 another geometry
+   * @return the index cache of an input, or null
+   */
+  private static GeometryIndexCache indexCache(Geometry g0, Geometry g1)
+  {
+    if (g0.isEmpty() || g1.isEmpty())
+      return null;
+    if (g0.getIndexCache() != null)
+      return g0.getIndexCache();
+    return g1.getIndexCache();
+  }
+
   // input
   private Geometry[] geom;
   private double terminateDistance = 0.0;
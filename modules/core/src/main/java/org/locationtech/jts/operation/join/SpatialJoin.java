@@ -0,0 +1,623 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.operation.join;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Supplier;
+
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.index.ItemVisitor;
+import org.locationtech.jts.index.strtree.STRtree;
+import org.locationtech.jts.operation.distance.IndexedFacetDistance;
+import org.locationtech.jts.operation.relateng.RelateNG;
+import org.locationtech.jts.operation.relateng.RelatePredicate;
+import org.locationtech.jts.operation.relateng.TopologyPredicate;
+import org.locationtech.jts.util.IntArrayList;
+
+/**
+ * Computes the spatial join of two lists of geometries.
+ * The result of a join is the pairs of indexes of the geometries
+ * <code>(a, b)</code>
+ * for which a spatial predicate <code>P(a, b)</code> is satisfied.
+ * The supported predicates are:
+ * <ul>
+ * <li>the standard topological predicates
+ * {@link #intersects(List, List) intersects},
+ * {@link #contains(List, List) contains},
+ * {@link #within(List, List) within},
+ * {@link #covers(List, List) covers} and
+ * {@link #coveredBy(List, List) coveredBy}
+ * <li>{@link #withinDistance(List, List, double) withinDistance}
+ * <li>DE-9IM matrix patterns, and custom {@link TopologyPredicate}s
+ * (provided they require the geometries to interact)
+ * </ul>
+ * The join is computed by indexing the envelopes of one list in an {@link STRtree}
+ * and querying it with the envelope of each geometry in the other list.
+ * The predicate is evaluated only for the candidate pairs
+ * whose envelopes interact.
+ * <p>
+ * The geometries of the indexed list are prepared (on demand)
+ * to optimize repeated evaluation of the predicate against them,
+ * using {@link RelateNG#prepare(Geometry)} for topological predicates
+ * and an {@link IndexedFacetDistance} for the distance predicate.
+ * The list whose geometries have the larger average number of vertices
+ * is chosen to be indexed and prepared.
+ * For asymmetric predicates this requires evaluating the transposed predicate,
+ * so custom {@link TopologyPredicate}s always prepare the first list.
+ * <p>
+ * If a {@link ForkJoinPool} is provided via {@link #setPool(ForkJoinPool)}
+ * the index is built and the candidate pairs are evaluated in parallel.
+ * <p>
+ * The result is an array of index pairs <code>{ a, b }</code>,
+ * ordered by <code>a</code> and then by <code>b</code>.
+ * The result is the same for sequential and parallel evaluation.
+ * <p>
+ * This class is thread-safe.
+ *
+ * @see RelateNG
+ */
+public class SpatialJoin
+{
+  /**
+   * Computes the pairs of intersecting geometries from two lists,
+   * in parallel using the common {@link ForkJoinPool}.
+   *
+   * @param geomsA the A geometries
+   * @param geomsB the B geometries
+   * @return the index pairs of the intersecting geometries
+   */
+  public static int[][] intersects(List<? extends Geometry> geomsA, List<? extends Geometry> geomsB)
+  {
+    SpatialJoin join = new SpatialJoin();
+    join.setPool(ForkJoinPool.commonPool());
+    return join.joinIntersects(geomsA, geomsB);
+  }
+
+  /**
+   * Computes the pairs of geometries from two lists
+   * where the A geometry contains the B geometry,
+   * in parallel using the common {@link ForkJoinPool}.
+   *
+   * @param geomsA the A geometries
+   * @param geomsB the B geometries
+   * @return the index pairs of the geometries satisfying the predicate
+   */
+  public static int[][] contains(List<? extends Geometry> geomsA, List<? extends Geometry> geomsB)
+  {
+    SpatialJoin join = new SpatialJoin();
+    join.setPool(ForkJoinPool.commonPool());
+    return join.joinContains(geomsA, geomsB);
+  }
+
+  /**
+   * Computes the pairs of geometries from two lists
+   * where the A geometry is within the B geometry,
+   * in parallel using the common {@link ForkJoinPool}.
+   *
+   * @param geomsA the A geometries
+   * @param geomsB the B geometries
+   * @return the index pairs of the geometries satisfying the predicate
+   */
+  public static int[][] within(List<? extends Geometry> geomsA, List<? extends Geometry> geomsB)
+  {
+    SpatialJoin join = new SpatialJoin();
+    join.setPool(ForkJoinPool.commonPool());
+    return join.joinWithin(geomsA, geomsB);
+  }
+
+  /**
+   * Computes the pairs of geometries from two lists
+   * where the A geometry covers the B geometry,
+   * in parallel using the common {@link ForkJoinPool}.
+   *
+   * @param geomsA the A geometries
+   * @param geomsB the B geometries
+   * @return the index pairs of the geometries satisfying the predicate
+   */
+  public static int[][] covers(List<? extends Geometry> geomsA, List<? extends Geometry> geomsB)
+  {
+    SpatialJoin join = new SpatialJoin();
+    join.setPool(ForkJoinPool.commonPool());
+    return join.joinCovers(geomsA, geomsB);
+  }
+
+  /**
+   * Computes the pairs of geometries from two lists
+   * where the A geometry is covered by the B geometry,
+   * in parallel using the common {@link ForkJoinPool}.
+   *
+   * @param geomsA the A geometries
+   * @param geomsB the B geometries
+   * @return the index pairs of the geometries satisfying the predicate
+   */
+  public static int[][] coveredBy(List<? extends Geometry> geomsA, List<? extends Geometry> geomsB)
+  {
+    SpatialJoin join = new SpatialJoin();
+    join.setPool(ForkJoinPool.commonPool());
+    return join.joinCoveredBy(geomsA, geomsB);
+  }
+
+  /**
+   * Computes the pairs of geometries from two lists
+   * which lie within a given distance,
+   * in parallel using the common {@link ForkJoinPool}.
+   *
+   * @param geomsA the A geometries
+   * @param geomsB the B geometries
+   * @param distance the distance limit
+   * @return the index pairs of the geometries within the distance
+   */
+  public static int[][] withinDistance(List<? extends Geometry> geomsA, List<? extends Geometry> geomsB, double distance)
+  {
+    SpatialJoin join = new SpatialJoin();
+    join.setPool(ForkJoinPool.commonPool());
+    return join.joinWithinDistance(geomsA, geomsB, distance);
+  }
+
+  /**
+   * The number of query geometries processed sequentially by a task.
+   */
+  private static final int SEQUENTIAL_SIZE = 64;
+
+  private ForkJoinPool pool = null;
+
+  /**
+   * Creates a new spatial join operation.
+   */
+  public SpatialJoin()
+  {
+  }
+
+  /**
+   * Sets the pool used to compute the join in parallel.
+   * If the pool is <code>null</code> (the default)
+   * the join is computed sequentially.
+   *
+   * @param pool the pool to use, or null
+   */
+  public void setPool(ForkJoinPool pool)
+  {
+    this.pool = pool;
+  }
+
+  /**
+   * Computes the pairs of intersecting geometries from two lists.
+   *
+   * @param geomsA the A geometries
+   * @param geomsB the B geometries
+   * @return the index pairs of the intersecting geometries
+   */
+  public int[][] joinIntersects(List<? extends Geometry> geomsA, List<? extends Geometry> geomsB)
+  {
+    return joinRelate(geomsA, geomsB, RelatePredicate::intersects, RelatePredicate::intersects);
+  }
+
+  /**
+   * Computes the pairs of geometries from two lists
+   * where the A geometry contains the B geometry.
+   *
+   * @param geomsA the A geometries
+   * @param geomsB the B geometries
+   * @return the index pairs of the geometries satisfying the predicate
+   */
+  public int[][] joinContains(List<? extends Geometry> geomsA, List<? extends Geometry> geomsB)
+  {
+    return joinRelate(geomsA, geomsB, RelatePredicate::contains, RelatePredicate::within);
+  }
+
+  /**
+   * Computes the pairs of geometries from two lists
+   * where the A geometry is within the B geometry.
+   *
+   * @param geomsA the A geometries
+   * @param geomsB the B geometries
+   * @return the index pairs of the geometries satisfying the predicate
+   */
+  public int[][] joinWithin(List<? extends Geometry> geomsA, List<? extends Geometry> geomsB)
+  {
+    return joinRelate(geomsA, geomsB, RelatePredicate::within, RelatePredicate::contains);
+  }
+
+  /**
+   * Computes the pairs of geometries from two lists
+   * where the A geometry covers the B geometry.
+   *
+   * @param geomsA the A geometries
+   * @param geomsB the B geometries
+   * @return the index pairs of the geometries satisfying the predicate
+   */
+  public int[][] joinCovers(List<? extends Geometry> geomsA, List<? extends Geometry> geomsB)
+  {
+    return joinRelate(geomsA, geomsB, RelatePredicate::covers, RelatePredicate::coveredBy);
+  }
+
+  /**
+   * Computes the pairs of geometries from two lists
+   * where the A geometry is covered by the B geometry.
+   *
+   * @param geomsA the A geometries
+   * @param geomsB the B geometries
+   * @return the index pairs of the geometries satisfying the predicate
+   */
+  public int[][] joinCoveredBy(List<? extends Geometry> geomsA, List<? extends Geometry> geomsB)
+  {
+    return joinRelate(geomsA, geomsB, RelatePredicate::coveredBy, RelatePredicate::covers);
+  }
+
+  /**
+   * Computes the pairs of geometries from two lists
+   * whose topological relationship matches a DE-9IM matrix pattern.
+   * The pattern must require the geometries to interact
+   * (i.e. it cannot be satisfied by disjoint geometries).
+   *
+   * @param geomsA the A geometries
+   * @param geomsB the B geometries
+   * @param imPattern the DE-9IM pattern to match
+   * @return the index pairs of the geometries satisfying the predicate
+   * @throws IllegalArgumentException if the pattern does not require interaction
+   */
+  public int[][] joinRelate(List<? extends Geometry> geomsA, List<? extends Geometry> geomsB, String imPattern)
+  {
+    String imPatternTrans = transpose(imPattern);
+    return joinRelate(geomsA, geomsB,
+        () -> RelatePredicate.matches(imPattern),
+        () -> RelatePredicate.matches(imPatternTrans));
+  }
+
+  /**
+   * Computes the pairs of geometries from two lists
+   * which satisfy a topological predicate.
+   * Since a {@link TopologyPredicate} accumulates state during evaluation,
+   * a new instance is obtained from the factory for each pair evaluated.
+   * The predicate must require the geometries to interact
+   * (see {@link TopologyPredicate#requireInteraction()}).
+   * <p>
+   * The A geometries are prepared.
+   *
+   * @param geomsA the A geometries
+   * @param geomsB the B geometries
+   * @param predicateFactory a supplier of new topology predicate instances
+   * @return the index pairs of the geometries satisfying the predicate
+   * @throws IllegalArgumentException if the predicate does not require interaction
+   */
+  public int[][] joinRelate(List<? extends Geometry> geomsA, List<? extends Geometry> geomsB,
+      Supplier<TopologyPredicate> predicateFactory)
+  {
+    return joinRelate(geomsA, geomsB, predicateFactory, null);
+  }
+
+  /**
+   * Computes the pairs of geometries from two lists
+   * which lie within a given distance.
+   *
+   * @param geomsA the A geometries
+   * @param geomsB the B geometries
+   * @param distance the distance limit
+   * @return the index pairs of the geometries within the distance
+   * @throws IllegalArgumentException if the distance is negative
+   */
+  public int[][] joinWithinDistance(List<? extends Geometry> geomsA, List<? extends Geometry> geomsB,
+      double distance)
+  {
+    if (distance < 0)
+      throw new IllegalArgumentException("Distance must be non-negative");
+    boolean isPrepareA = isLarger(geomsA, geomsB);
+    List<? extends Geometry> prepGeoms = isPrepareA ? geomsA : geomsB;
+    List<? extends Geometry> queryGeoms = isPrepareA ? geomsB : geomsA;
+    return join(new DistanceTester(prepGeoms, distance), queryGeoms, isPrepareA, distance);
+  }
+
+  /**
+   * Computes a join for a topological predicate.
+   * If the transposed predicate is provided
+   * the larger geometries are prepared,
+   * otherwise the A geometries are prepared.
+   */
+  private int[][] joinRelate(List<? extends Geometry> geomsA, List<? extends Geometry> geomsB,
+      Supplier<TopologyPredicate> predicateFactory,
+      Supplier<TopologyPredicate> predicateTransFactory)
+  {
+    if (! predicateFactory.get().requireInteraction())
+      throw new IllegalArgumentException("Spatial join predicate must require interaction");
+    boolean isPrepareA = predicateTransFactory == null || isLarger(geomsA, geomsB);
+    if (isPrepareA) {
+      return join(new RelateTester(geomsA, predicateFactory), geomsB, true, 0.0);
+    }
+    return join(new RelateTester(geomsB, predicateTransFactory), geomsA, false, 0.0);
+  }
+
+  /**
+   * Transposes a DE-9IM pattern,
+   * so that it applies to the geometries in the opposite order.
+   */
+  private static String transpose(String imPattern)
+  {
+    if (imPattern.length() != 9)
+      throw new IllegalArgumentException("Invalid DE-9IM pattern: " + imPattern);
+    char[] trans = new char[9];
+    for (int i = 0; i < 3; i++) {
+      for (int j = 0; j < 3; j++) {
+        trans[3 * j + i] = imPattern.charAt(3 * i + j);
+      }
+    }
+    return new String(trans);
+  }
+
+  /**
+   * Tests whether the first list has a larger average geometry size
+   * than the second list (or the same size).
+   */
+  private static boolean isLarger(List<? extends Geometry> geoms0, List<? extends Geometry> geoms1)
+  {
+    // compare average sizes without division
+    return (double) numPoints(geoms0) * geoms1.size()
+        >= (double) numPoints(geoms1) * geoms0.size();
+  }
+
+  private static long numPoints(List<? extends Geometry> geoms)
+  {
+    long numPoints = 0;
+    for (Geometry geom : geoms) {
+      numPoints += geom.getNumPoints();
+    }
+    return numPoints;
+  }
+
+  private int[][] join(PreparedTester tester, List<? extends Geometry> queryGeoms,
+      boolean isPrepareA, double distance)
+  {
+    STRtree index = new STRtree();
+    index.setPool(pool);
+    List<? extends Geometry> prepGeoms = tester.getGeometries();
+    for (int i = 0; i < prepGeoms.size(); i++) {
+      Geometry geom = prepGeoms.get(i);
+      if (geom.isEmpty()) continue;
+      index.insert(geom.getEnvelopeInternal(), i);
+    }
+    index.build();
+
+    int[][] matches = new int[queryGeoms.size()][];
+    JoinTask task = new JoinTask(index, tester, queryGeoms, distance, matches, 0, queryGeoms.size());
+    if (pool == null) {
+      task.findMatches();
+    }
+    else {
+      pool.invoke(task);
+    }
+    return createPairs(matches, prepGeoms.size(), isPrepareA);
+  }
+
+  /**
+   * Creates the result pairs from the prepared geometry matches
+   * for each query geometry, ordered by A index then B index.
+   */
+  private static int[][] createPairs(int[][] matches, int numPrep, boolean isPrepareA)
+  {
+    int numPairs = 0;
+    for (int[] match : matches) {
+      if (match != null) numPairs += match.length;
+    }
+    int[][] pairs = new int[numPairs][];
+    if (! isPrepareA) {
+      // query geometries are the A geometries, so pairs are already in order
+      int k = 0;
+      for (int i = 0; i < matches.length; i++) {
+        if (matches[i] == null) continue;
+        for (int j : matches[i]) {
+          pairs[k++] = new int[] { i, j };
+        }
+      }
+      return pairs;
+    }
+    /**
+     * The prepared geometries are the A geometries,
+     * so group the pairs by A index using a counting sort.
+     * Scanning the query geometries in order keeps the B indexes sorted.
+     */
+    int[] start = new int[numPrep + 1];
+    for (int[] match : matches) {
+      if (match == null) continue;
+      for (int j : match) {
+        start[j + 1]++;
+      }
+    }
+    for (int j = 0; j < numPrep; j++) {
+      start[j + 1] += start[j];
+    }
+    for (int i = 0; i < matches.length; i++) {
+      if (matches[i] == null) continue;
+      for (int j : matches[i]) {
+        pairs[start[j]++] = new int[] { j, i };
+      }
+    }
+    return pairs;
+  }
+
+  /**
+   * Finds the matching prepared geometries for a section
+   * of the query geometries,
+   * splitting the section until it is small enough to process sequentially.
+   * Each task writes only to its own section of the result array.
+   */
+  private static class JoinTask extends RecursiveAction
+  {
+    private STRtree index;
+    private PreparedTester tester;
+    private List<? extends Geometry> queryGeoms;
+    private double distance;
+    private int[][] matches;
+    private int start;
+    private int end;
+
+    JoinTask(STRtree index, PreparedTester tester, List<? extends Geometry> queryGeoms,
+        double distance, int[][] matches, int start, int end)
+    {
+      this.index = index;
+      this.tester = tester;
+      this.queryGeoms = queryGeoms;
+      this.distance = distance;
+      this.matches = matches;
+      this.start = start;
+      this.end = end;
+    }
+
+    @Override
+    protected void compute()
+    {
+      if (end - start <= SEQUENTIAL_SIZE) {
+        findMatches();
+        return;
+      }
+      int mid = (start + end) >>> 1;
+      invokeAll(new JoinTask(index, tester, queryGeoms, distance, matches, start, mid),
+          new JoinTask(index, tester, queryGeoms, distance, matches, mid, end));
+    }
+
+    void findMatches()
+    {
+      for (int i = start; i < end; i++) {
+        Geometry queryGeom = queryGeoms.get(i);
+        if (queryGeom.isEmpty()) continue;
+        Envelope queryEnv = queryGeom.getEnvelopeInternal();
+        if (distance > 0) {
+          queryEnv = new Envelope(queryEnv);
+          queryEnv.expandBy(distance);
+        }
+        IntArrayList match = new IntArrayList();
+        index.query(queryEnv, new ItemVisitor() {
+          public void visitItem(Object item) {
+            int prepIndex = (Integer) item;
+            if (tester.isSatisfied(prepIndex, queryGeom)) {
+              match.add(prepIndex);
+            }
+          }
+        });
+        if (match.size() > 0) {
+          int[] prepIndexes = match.toArray();
+          Arrays.sort(prepIndexes);
+          matches[i] = prepIndexes;
+        }
+      }
+    }
+  }
+
+  /**
+   * Evaluates a predicate between a list of geometries
+   * and other geometries,
+   * preparing the geometries in the list on demand.
+   * The prepared geometries are shared between threads.
+   */
+  private static abstract class PreparedTester
+  {
+    private List<? extends Geometry> geoms;
+    private AtomicReferenceArray<Object> prepared;
+
+    PreparedTester(List<? extends Geometry> geoms)
+    {
+      this.geoms = geoms;
+      prepared = new AtomicReferenceArray<Object>(geoms.size());
+    }
+
+    List<? extends Geometry> getGeometries()
+    {
+      return geoms;
+    }
+
+    boolean isSatisfied(int index, Geometry geom)
+    {
+      Object prep = prepared.get(index);
+      if (prep == null) {
+        prep = prepare(geoms.get(index));
+        // keep the first instance created, if another thread prepared it concurrently
+        if (! prepared.compareAndSet(index, null, prep)) {
+          prep = prepared.get(index);
+        }
+      }
+      return isSatisfied(prep, geom);
+    }
+
+    abstract Object prepare(Geometry geom);
+
+    abstract boolean isSatisfied(Object prep, Geometry geom);
+  }
+
+  private static class RelateTester extends PreparedTester
+  {
+    private Supplier<TopologyPredicate> predicateFactory;
+
+    RelateTester(List<? extends Geometry> geoms, Supplier<TopologyPredicate> predicateFactory)
+    {
+      super(geoms);
+      this.predicateFactory = predicateFactory;
+    }
+
+    @Override
+    Object prepare(Geometry geom)
+    {
+      return RelateNG.prepare(geom);
+    }
+
+    @Override
+    boolean isSatisfied(Object prep, Geometry geom)
+    {
+      return ((RelateNG) prep).evaluate(geom, predicateFactory.get());
+    }
+  }
+
+  /**
+   * Tests whether geometries are within a distance.
+   * If the geometries intersect the distance is zero,
+   * otherwise it is the distance between their facets.
+   */
+  private static class DistanceTester extends PreparedTester
+  {
+    private double distance;
+
+    DistanceTester(List<? extends Geometry> geoms, double distance)
+    {
+      super(geoms);
+      this.distance = distance;
+    }
+
+    @Override
+    Object prepare(Geometry geom)
+    {
+      return new PreparedDistance(geom);
+    }
+
+    @Override
+    boolean isSatisfied(Object prep, Geometry geom)
+    {
+      PreparedDistance prepDist = (PreparedDistance) prep;
+      if (prepDist.relate.evaluate(geom, RelatePredicate.intersects()))
+        return true;
+      return prepDist.facetDistance.isWithinDistance(geom, distance);
+    }
+  }
+
+  private static class PreparedDistance
+  {
+    RelateNG relate;
+    IndexedFacetDistance facetDistance;
+
+    PreparedDistance(Geometry geom)
+    {
+      relate = RelateNG.prepare(geom);
+      facetDistance = new IndexedFacetDistance(geom);
+    }
+  }
+}
@@ -17,6 +17,7 @@ import org.locationtech.jts.geom.Coordinate;
 import org.locationtech.jts.geom.Envelope;
 import org.locationtech.jts.geom.Geometry;
 import org.locationtech.jts.geom.Location;
+import org.locationtech.jts.geom.prep.GeometryIndexCache;
 
 /**
  * Manages the input geometries for an overlay operation.
@@ -127,6 +128,11 @@ class InputGeometry {
   }
 
   private PointOnGeometryLocator getLocator(int geomIndex) {
+    //-- use a cached locator if available
+    GeometryIndexCache cache = getGeometry(geomIndex).getIndexCache();
+    if (cache != null) {
+      return cache.getPointInAreaLocator();
+    }
     if (geomIndex == 0) {
       if (ptLocatorA == null)
         ptLocatorA = new IndexedPointInAreaLocator(getGeometry(geomIndex));
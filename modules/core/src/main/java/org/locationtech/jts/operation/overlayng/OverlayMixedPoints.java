@@ -28,6 +28,7 @@ import org.locationtech.jts.geom.Location;
 import org.locationtech.jts.geom.Point;
 import org.locationtech.jts.geom.Polygon;
 import org.locationtech.jts.geom.PrecisionModel;
+import org.locationtech.jts.geom.prep.GeometryIndexCache;
 import org.locationtech.jts.util.Assert;
 
 /**
@@ -122,6 +123,11 @@ class OverlayMixedPoints {
 
   private PointOnGeometryLocator createLocator(Geometry geomNonPoint) {
     if (geomNonPointDim == 2) {
+      //-- use a cached locator if available
+      GeometryIndexCache cache = geomNonPoint.getIndexCache();
+      if (cache != null) {
+        return cache.getPointInAreaLocator();
+      }
       return new IndexedPointInAreaLocator(geomNonPoint);
     }
     else {
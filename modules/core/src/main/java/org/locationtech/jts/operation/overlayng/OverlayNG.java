@@ -23,11 +23,13 @@ import org.locationtech.jts.geom.Point;
 import org.locationtech.jts.geom.Polygon;
 import org.locationtech.jts.geom.PrecisionModel;
 import org.locationtech.jts.geom.TopologyException;
+import org.locationtech.jts.geom.prep.GeometryIndexCache;
 import org.locationtech.jts.geomgraph.Label;
 import org.locationtech.jts.noding.MCIndexNoder;
 import org.locationtech.jts.noding.Noder;
 import org.locationtech.jts.noding.snap.SnappingNoder;
 import org.locationtech.jts.noding.snapround.SnapRoundingNoder;
+import org.locationtech.jts.operation.relateng.RelatePredicate;
 import org.locationtech.jts.operation.overlay.OverlayOp;
 
 /**
@@ -73,6 +75,10 @@ import org.locationtech.jts.operation.overlay.OverlayOp;
  * since the intersection clipping optimization can 
  * interact with the snapping to alter the result.</p>
  * <p>
+ * If an input geometry has cached indexes
+ * (see {@link Geometry#setIndexCached(boolean)})
+ * they are used to speed up repeated overlays against it.</p>
+ * <p>
  * Optionally the overlay computation can process using strict mode
  * (via {@link #setStrictMode(boolean)}.
  * In strict mode result semantics are:</p>
@@ -467,6 +473,9 @@ public class OverlayNG
         pm)) {
       return createEmptyResult();
     }
+    if (isDisjointIntersection()) {
+      return createEmptyResult();
+    }
 
     /**
      * The elevation model is only computed if the input geometries have Z values.
@@ -492,6 +501,45 @@ public class OverlayNG
     return result;
   }
   
+  /**
+   * Tests whether the inputs of an intersection of edge geometries are disjoint,
+   * in which case the result is empty.
+   * This is only tested if an input has cached indexes
+   * (see {@link Geometry#setIndexCached(boolean)}),
+   * which allow it to be determined efficiently.
+   * The test is only valid for floating precision with the default noder,
+   * since rounding or snapping can cause disjoint inputs to intersect.
+   * 
+   * @return true if the inputs are known to be disjoint
+   */
+  private boolean isDisjointIntersection() {
+    if (opCode != INTERSECTION || ! isOptimized 
+        || noder != null || ! OverlayUtil.isFloating(pm)) 
+      return false;
+    if (isOutputEdges || isOutputResultEdges || isOutputNodedEdges)
+      return false;
+    if (inputGeom.isSingle() || inputGeom.hasPoints()) 
+      return false;
+    Geometry g0 = inputGeom.getGeometry(0);
+    Geometry g1 = inputGeom.getGeometry(1);
+    if (isGeometryCollection(g0) || isGeometryCollection(g1))
+      return false;
+    
+    GeometryIndexCache cache = g0.getIndexCache();
+    Geometry g = g1;
+    if (cache == null) {
+      cache = g1.getIndexCache();
+      g = g0;
+    }
+    if (cache == null) 
+      return false;
+    return ! cache.getRelate().evaluate(g, RelatePredicate.intersects());
+  }
+
+  private static boolean isGeometryCollection(Geometry geom) {
+    return Geometry.TYPENAME_GEOMETRYCOLLECTION.equals(geom.getGeometryType());
+  }
+  
   private Geometry computeEdgeOverlay() 
   {
     
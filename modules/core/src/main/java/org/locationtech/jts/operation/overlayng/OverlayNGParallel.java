@@ -0,0 +1,540 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.operation.overlayng;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.CoordinateList;
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.LinearRing;
+import org.locationtech.jts.geom.Polygon;
+import org.locationtech.jts.geom.Polygonal;
+import org.locationtech.jts.geom.util.PolygonExtracter;
+import org.locationtech.jts.operation.union.CascadedPolygonUnion;
+
+/**
+ * Computes the {@link OverlayNG#INTERSECTION} or {@link OverlayNG#DIFFERENCE}
+ * of two large {@link Polygonal} geometries in parallel,
+ * by partitioning the result extent into a grid of tiles.
+ * This is intended for overlaying large polygonal datasets
+ * (such as polygonal coverages) with many elements.
+ * <p>
+ * The overlay is computed as follows:
+ * <ol>
+ * <li>The polygons of each input are assigned to the tiles their envelopes intersect.
+ * <li>For each tile the polygons are clipped to the tile using a {@link RingClipper},
+ * and the clipped inputs are overlaid using {@link OverlayNGRobust}.
+ * The tiles are processed concurrently using a {@link ForkJoinPool}.
+ * <li>Result polygons which touch an interior tile border are unioned
+ * to merge them across the borders.
+ * The other result polygons are output unchanged.
+ * </ol>
+ * To ensure the partial results match exactly along the tile borders,
+ * before clipping a vertex is added to each ring segment crossing a tile border,
+ * computed in the same way for both the adjacent tiles.
+ * This means the result may contain additional vertices
+ * where edges cross tile borders.
+ * Otherwise the result is the same as computing the overlay with {@link OverlayNGRobust},
+ * with the semantics of strict mode (i.e. the result contains only polygons).
+ * <p>
+ * Since result polygons touching tile borders are unioned,
+ * this is most effective for inputs containing many polygons,
+ * where only a small fraction of the result polygons touch the tile borders.
+ * <p>
+ * The grid size defaults to a value based on the parallelism of the pool.
+ * If no pool is provided the tiles are processed sequentially.
+ *
+ * @see OverlayNGRobust
+ */
+public class OverlayNGParallel
+{
+  /**
+   * Computes the overlay of two polygonal geometries in parallel
+   * using the common {@link ForkJoinPool}.
+   *
+   * @param geom0 the first polygonal geometry
+   * @param geom1 the second polygonal geometry
+   * @param opCode the overlay operation ({@link OverlayNG#INTERSECTION} or {@link OverlayNG#DIFFERENCE})
+   * @return the result of the overlay operation
+   */
+  public static Geometry overlay(Geometry geom0, Geometry geom1, int opCode)
+  {
+    return overlay(geom0, geom1, opCode, ForkJoinPool.commonPool());
+  }
+
+  /**
+   * Computes the overlay of two polygonal geometries in parallel
+   * using a given {@link ForkJoinPool}.
+   *
+   * @param geom0 the first polygonal geometry
+   * @param geom1 the second polygonal geometry
+   * @param opCode the overlay operation ({@link OverlayNG#INTERSECTION} or {@link OverlayNG#DIFFERENCE})
+   * @param pool the pool to use, or null to process the tiles sequentially
+   * @return the result of the overlay operation
+   */
+  public static Geometry overlay(Geometry geom0, Geometry geom1, int opCode, ForkJoinPool pool)
+  {
+    OverlayNGParallel ov = new OverlayNGParallel(geom0, geom1, opCode);
+    ov.setPool(pool);
+    return ov.getResult();
+  }
+
+  /**
+   * The number of tiles per pool thread used for the default grid size.
+   */
+  private static final int TILES_PER_THREAD = 4;
+
+  private Geometry geom0;
+  private Geometry geom1;
+  private int opCode;
+  private GeometryFactory geomFact;
+  private ForkJoinPool pool = null;
+  private int gridSize = 0;
+
+  /**
+   * Creates a new parallel overlay operation.
+   *
+   * @param geom0 the first polygonal geometry
+   * @param geom1 the second polygonal geometry
+   * @param opCode the overlay operation ({@link OverlayNG#INTERSECTION} or {@link OverlayNG#DIFFERENCE})
+   *
+   * @throws IllegalArgumentException if the operation is not supported, or an input is not polygonal
+   */
+  public OverlayNGParallel(Geometry geom0, Geometry geom1, int opCode)
+  {
+    if (opCode != OverlayNG.INTERSECTION && opCode != OverlayNG.DIFFERENCE)
+      throw new IllegalArgumentException("Only intersection and difference operations are supported");
+    checkPolygonal(geom0);
+    checkPolygonal(geom1);
+    this.geom0 = geom0;
+    this.geom1 = geom1;
+    this.opCode = opCode;
+    geomFact = geom0.getFactory();
+  }
+
+  private static void checkPolygonal(Geometry geom) {
+    if (geom.isEmpty())
+      return;
+    if (! (geom instanceof Polygonal))
+      throw new IllegalArgumentException("Input geometry must be polygonal");
+  }
+
+  /**
+   * Sets the pool used to process the tiles in parallel.
+   * If the pool is <code>null</code> (the default)
+   * the tiles are processed sequentially.
+   *
+   * @param pool the pool to use, or null
+   */
+  public void setPool(ForkJoinPool pool) {
+    this.pool = pool;
+  }
+
+  /**
+   * Sets the number of tiles along each side of the tile grid.
+   * A value of 0 (the default) chooses the grid size
+   * based on the parallelism of the pool.
+   * A grid size of 1 computes the overlay as a single tile.
+   *
+   * @param gridSize the number of tiles along each side of the grid
+   */
+  public void setGridSize(int gridSize) {
+    this.gridSize = gridSize;
+  }
+
+  /**
+   * Gets the result of the overlay operation.
+   *
+   * @return the result of the overlay operation
+   */
+  public Geometry getResult()
+  {
+    Envelope extent = resultExtent();
+    if (extent == null)
+      return geomFact.createPolygon();
+
+    TileGrid grid = new TileGrid(extent, computeGridSize(extent));
+    @SuppressWarnings("unchecked")
+    List<Polygon> polys0 = PolygonExtracter.getPolygons(geom0);
+    @SuppressWarnings("unchecked")
+    List<Polygon> polys1 = PolygonExtracter.getPolygons(geom1);
+    List<List<Polygon>> tilePolys0 = grid.assign(polys0);
+    List<List<Polygon>> tilePolys1 = grid.assign(polys1);
+
+    Geometry[] tileResults = new Geometry[grid.size()];
+    TileOverlayTask task = new TileOverlayTask(grid, tilePolys0, tilePolys1, tileResults, 0, grid.size());
+    if (pool == null) {
+      task.overlayTiles();
+    }
+    else {
+      pool.invoke(task);
+    }
+    return merge(grid, tileResults);
+  }
+
+  private Envelope resultExtent() {
+    if (geom0.isEmpty())
+      return null;
+    Envelope env0 = geom0.getEnvelopeInternal();
+    if (opCode == OverlayNG.DIFFERENCE)
+      return env0;
+    if (geom1.isEmpty())
+      return null;
+    Envelope extent = env0.intersection(geom1.getEnvelopeInternal());
+    if (extent.isNull())
+      return null;
+    return extent;
+  }
+
+  private int computeGridSize(Envelope extent) {
+    //-- a zero-width extent contains no area, so does not need to be tiled
+    if (extent.getWidth() <= 0 || extent.getHeight() <= 0)
+      return 1;
+    if (gridSize > 0)
+      return gridSize;
+    //-- tiling adds work, so is only used when it can be run in parallel
+    if (pool == null || pool.getParallelism() <= 1)
+      return 1;
+    return (int) Math.ceil(Math.sqrt(TILES_PER_THREAD * pool.getParallelism()));
+  }
+
+  /**
+   * Merges the tile results.
+   * Polygons which touch an interior tile border are unioned
+   * to dissolve the tile borders.
+   *
+   * @param grid the tile grid
+   * @param tileResults the overlay results for the tiles
+   * @return the merged result
+   */
+  private Geometry merge(TileGrid grid, Geometry[] tileResults) {
+    List<Polygon> resultPolys = new ArrayList<Polygon>();
+    List<Polygon> borderPolys = new ArrayList<Polygon>();
+    for (int i = 0; i < tileResults.length; i++) {
+      if (tileResults[i] == null)
+        continue;
+      @SuppressWarnings("unchecked")
+      List<Polygon> polys = PolygonExtracter.getPolygons(tileResults[i]);
+      for (Polygon poly : polys) {
+        if (poly.isEmpty())
+          continue;
+        if (grid.isOnInteriorBorder(i, poly.getEnvelopeInternal())) {
+          borderPolys.add(poly);
+        }
+        else {
+          resultPolys.add(poly);
+        }
+      }
+    }
+    if (borderPolys.size() > 0) {
+      Geometry borderUnion = CascadedPolygonUnion.union(borderPolys, OverlayNGRobust.OVERLAY_UNION, pool);
+      PolygonExtracter.getPolygons(borderUnion, resultPolys);
+    }
+    if (resultPolys.isEmpty())
+      return geomFact.createPolygon();
+    return geomFact.buildGeometry(resultPolys);
+  }
+
+  /**
+   * Computes the overlay of a single tile.
+   *
+   * @param tileEnv the tile envelope
+   * @param polys0 the first input polygons intersecting the tile
+   * @param polys1 the second input polygons intersecting the tile
+   * @return the tile overlay result, or null if it is empty
+   */
+  private Geometry overlayTile(Envelope tileEnv, List<Polygon> polys0, List<Polygon> polys1) {
+    if (polys0.isEmpty())
+      return null;
+    if (opCode == OverlayNG.INTERSECTION && polys1.isEmpty())
+      return null;
+    Geometry clip0 = clip(polys0, tileEnv);
+    Geometry clip1 = clip(polys1, tileEnv);
+    return OverlayNGRobust.overlay(clip0, clip1, opCode);
+  }
+
+  /**
+   * Clips a list of polygons to a tile.
+   * The clipped polygons may not be valid,
+   * but are suitable for input to {@link OverlayNG}.
+   *
+   * @param polys the polygons to clip
+   * @param tileEnv the tile envelope
+   * @return the clipped polygons
+   */
+  private Geometry clip(List<Polygon> polys, Envelope tileEnv) {
+    RingClipper clipper = new RingClipper(tileEnv);
+    List<Polygon> clipped = new ArrayList<Polygon>();
+    for (Polygon poly : polys) {
+      if (tileEnv.covers(poly.getEnvelopeInternal())) {
+        clipped.add(poly);
+        continue;
+      }
+      LinearRing shell = clip(poly.getExteriorRing(), tileEnv, clipper);
+      if (shell == null)
+        continue;
+      List<LinearRing> holes = new ArrayList<LinearRing>();
+      for (int i = 0; i < poly.getNumInteriorRing(); i++) {
+        LinearRing hole = poly.getInteriorRingN(i);
+        if (! tileEnv.intersects(hole.getEnvelopeInternal()))
+          continue;
+        LinearRing holeClip = clip(hole, tileEnv, clipper);
+        if (holeClip != null)
+          holes.add(holeClip);
+      }
+      clipped.add(geomFact.createPolygon(shell, GeometryFactory.toLinearRingArray(holes)));
+    }
+    return geomFact.createMultiPolygon(GeometryFactory.toPolygonArray(clipped));
+  }
+
+  private LinearRing clip(LinearRing ring, Envelope tileEnv, RingClipper clipper) {
+    Coordinate[] pts = addBorderCrossings(ring.getCoordinates(), tileEnv);
+    pts = clipper.clip(pts);
+    if (pts.length < 4)
+      return null;
+    return geomFact.createLinearRing(pts);
+  }
+
+  /**
+   * Adds a vertex at each point where a segment crosses a tile border line.
+   * The crossing points are computed using a canonical segment orientation,
+   * so that the same point is computed for the tiles on either side of the border,
+   * and for coincident segments with opposite orientations.
+   * Since the clipped rings then have vertices exactly on the border,
+   * the clipping does not compute any new intersection points.
+   *
+   * @param pts the ring points
+   * @param env the tile envelope
+   * @return the ring points with the crossing points added
+   */
+  static Coordinate[] addBorderCrossings(Coordinate[] pts, Envelope env) {
+    CoordinateList ptsOut = new CoordinateList();
+    double[] crossT = new double[4];
+    Coordinate[] crossPt = new Coordinate[4];
+    ptsOut.add(pts[0], true);
+    for (int i = 1; i < pts.length; i++) {
+      Coordinate p = pts[i - 1];
+      Coordinate q = pts[i];
+      int n = 0;
+      n = addCrossingX(p, q, env.getMinX(), crossT, crossPt, n);
+      n = addCrossingX(p, q, env.getMaxX(), crossT, crossPt, n);
+      n = addCrossingY(p, q, env.getMinY(), crossT, crossPt, n);
+      n = addCrossingY(p, q, env.getMaxY(), crossT, crossPt, n);
+      //-- sort the crossings along the segment
+      for (int j = 1; j < n; j++) {
+        for (int k = j; k > 0 && crossT[k - 1] > crossT[k]; k--) {
+          double t = crossT[k]; crossT[k] = crossT[k - 1]; crossT[k - 1] = t;
+          Coordinate c = crossPt[k]; crossPt[k] = crossPt[k - 1]; crossPt[k - 1] = c;
+        }
+      }
+      for (int j = 0; j < n; j++) {
+        ptsOut.add(crossPt[j], false);
+      }
+      ptsOut.add(q, false);
+    }
+    return ptsOut.toCoordinateArray();
+  }
+
+  private static int addCrossingX(Coordinate p, Coordinate q, double x,
+      double[] crossT, Coordinate[] crossPt, int n) {
+    if (! ((p.x < x && x < q.x) || (q.x < x && x < p.x)))
+      return n;
+    Coordinate a = p;
+    Coordinate b = q;
+    if (p.compareTo(q) > 0) {
+      a = q;
+      b = p;
+    }
+    double y = a.y + (x - a.x) * (b.y - a.y) / (b.x - a.x);
+    crossT[n] = (x - p.x) / (q.x - p.x);
+    crossPt[n] = new Coordinate(x, y);
+    return n + 1;
+  }
+
+  private static int addCrossingY(Coordinate p, Coordinate q, double y,
+      double[] crossT, Coordinate[] crossPt, int n) {
+    if (! ((p.y < y && y < q.y) || (q.y < y && y < p.y)))
+      return n;
+    Coordinate a = p;
+    Coordinate b = q;
+    if (p.compareTo(q) > 0) {
+      a = q;
+      b = p;
+    }
+    double x = a.x + (y - a.y) * (b.x - a.x) / (b.y - a.y);
+    crossT[n] = (y - p.y) / (q.y - p.y);
+    crossPt[n] = new Coordinate(x, y);
+    return n + 1;
+  }
+
+  /**
+   * A regular grid of tiles covering the result extent.
+   * The tile border ordinates are computed once,
+   * so that adjacent tiles have exactly equal borders.
+   * Tiles are indexed in row-major order.
+   */
+  private static class TileGrid
+  {
+    private int gridSize;
+    private double[] colX;
+    private double[] rowY;
+
+    TileGrid(Envelope extent, int gridSize) {
+      this.gridSize = gridSize;
+      colX = borders(extent.getMinX(), extent.getMaxX(), gridSize);
+      rowY = borders(extent.getMinY(), extent.getMaxY(), gridSize);
+    }
+
+    private static double[] borders(double min, double max, int gridSize) {
+      double[] borders = new double[gridSize + 1];
+      for (int i = 0; i < gridSize; i++) {
+        borders[i] = min + (max - min) * i / gridSize;
+      }
+      borders[gridSize] = max;
+      return borders;
+    }
+
+    int size() {
+      return gridSize * gridSize;
+    }
+
+    Envelope tileEnvelope(int tile) {
+      int col = tile % gridSize;
+      int row = tile / gridSize;
+      return new Envelope(colX[col], colX[col + 1], rowY[row], rowY[row + 1]);
+    }
+
+    /**
+     * Assigns polygons to the tiles their envelopes intersect.
+     *
+     * @param polys the polygons to assign
+     * @return the lists of polygons for each tile
+     */
+    List<List<Polygon>> assign(List<Polygon> polys) {
+      List<List<Polygon>> tilePolys = new ArrayList<List<Polygon>>(size());
+      for (int i = 0; i < size(); i++) {
+        tilePolys.add(new ArrayList<Polygon>());
+      }
+      for (Polygon poly : polys) {
+        Envelope env = poly.getEnvelopeInternal();
+        if (env.getMaxX() < colX[0] || env.getMinX() > colX[gridSize]
+            || env.getMaxY() < rowY[0] || env.getMinY() > rowY[gridSize])
+          continue;
+        int colMin = firstCell(colX, env.getMinX());
+        int colMax = lastCell(colX, env.getMaxX());
+        int rowMin = firstCell(rowY, env.getMinY());
+        int rowMax = lastCell(rowY, env.getMaxY());
+        for (int row = rowMin; row <= rowMax; row++) {
+          for (int col = colMin; col <= colMax; col++) {
+            tilePolys.get(row * gridSize + col).add(poly);
+          }
+        }
+      }
+      return tilePolys;
+    }
+
+    /**
+     * Finds the first cell whose maximum border is at or above a value.
+     */
+    private int firstCell(double[] borders, double v) {
+      int i = approxCell(borders, v);
+      while (i > 0 && borders[i] >= v) i--;
+      while (i < gridSize - 1 && borders[i + 1] < v) i++;
+      return i;
+    }
+
+    /**
+     * Finds the last cell whose minimum border is at or below a value.
+     */
+    private int lastCell(double[] borders, double v) {
+      int i = approxCell(borders, v);
+      while (i < gridSize - 1 && borders[i + 1] <= v) i++;
+      while (i > 0 && borders[i] > v) i--;
+      return i;
+    }
+
+    private int approxCell(double[] borders, double v) {
+      double min = borders[0];
+      double max = borders[gridSize];
+      int i = max > min ? (int) ((v - min) / (max - min) * gridSize) : 0;
+      if (i < 0) return 0;
+      if (i >= gridSize) return gridSize - 1;
+      return i;
+    }
+
+    /**
+     * Tests whether an envelope of a result polygon in a tile
+     * touches a tile border which is shared with another tile.
+     *
+     * @param tile the tile index
+     * @param env the envelope to test
+     * @return true if the envelope touches an interior tile border
+     */
+    boolean isOnInteriorBorder(int tile, Envelope env) {
+      int col = tile % gridSize;
+      int row = tile / gridSize;
+      if (col > 0 && env.getMinX() <= colX[col]) return true;
+      if (col < gridSize - 1 && env.getMaxX() >= colX[col + 1]) return true;
+      if (row > 0 && env.getMinY() <= rowY[row]) return true;
+      if (row < gridSize - 1 && env.getMaxY() >= rowY[row + 1]) return true;
+      return false;
+    }
+  }
+
+  /**
+   * Overlays a range of tiles,
+   * splitting the range until it is a single tile.
+   * Each task writes only the results of its own tiles.
+   */
+  private class TileOverlayTask extends RecursiveAction
+  {
+    private TileGrid grid;
+    private List<List<Polygon>> tilePolys0;
+    private List<List<Polygon>> tilePolys1;
+    private Geometry[] tileResults;
+    private int start;
+    private int end;
+
+    TileOverlayTask(TileGrid grid, List<List<Polygon>> tilePolys0, List<List<Polygon>> tilePolys1,
+        Geometry[] tileResults, int start, int end) {
+      this.grid = grid;
+      this.tilePolys0 = tilePolys0;
+      this.tilePolys1 = tilePolys1;
+      this.tileResults = tileResults;
+      this.start = start;
+      this.end = end;
+    }
+
+    @Override
+    protected void compute() {
+      if (end - start <= 1) {
+        overlayTiles();
+        return;
+      }
+      int mid = (start + end) >>> 1;
+      invokeAll(new TileOverlayTask(grid, tilePolys0, tilePolys1, tileResults, start, mid),
+          new TileOverlayTask(grid, tilePolys0, tilePolys1, tileResults, mid, end));
+    }
+
+    void overlayTiles() {
+      for (int i = start; i < end; i++) {
+        tileResults[i] = overlayTile(grid.tileEnvelope(i), tilePolys0.get(i), tilePolys1.get(i));
+      }
+    }
+  }
+}
@@ -97,7 +97,7 @@ public class OverlayNGRobust
     return op.union();
   }
   
-  private static UnionStrategy OVERLAY_UNION = new UnionStrategy() {
+  static UnionStrategy OVERLAY_UNION = new UnionStrategy() {
 
     public Geometry union(Geometry g0, Geometry g1) {
        return overlay(g0, g1, OverlayNG.UNION );
@@ -156,12 +156,18 @@ public class RingClipper {
   }
 
   private double intersectionLineY(Coordinate a, Coordinate b, double y) {
+    //-- use the exact endpoint value if it lies on the line
+    if (b.y == y) return b.x;
+    if (a.y == y) return a.x;
     double m = (b.x - a.x) / (b.y - a.y);
     double intercept = (y - a.y) * m;
     return a.x + intercept;
   }
 
   private double intersectionLineX(Coordinate a, Coordinate b, double x) {
+    //-- use the exact endpoint value if it lies on the line
+    if (b.x == x) return b.y;
+    if (a.x == x) return a.y;
     double m = (b.y - a.y) / (b.x - a.x);
     double intercept = (x - a.x) * m;
     return a.y + intercept;
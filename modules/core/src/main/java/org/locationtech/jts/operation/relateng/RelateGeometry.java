@@ -50,10 +50,9 @@ class RelateGeometry {
   
   private Envelope geomEnv;
   private int geomDim = Dimension.FALSE;
-  private Set<Coordinate> uniquePoints;
+  private volatile Set<Coordinate> uniquePoints;
   private BoundaryNodeRule boundaryNodeRule;
-  private RelatePointLocator locator;
-  private int elementId = 0;
+  private volatile RelatePointLocator locator;
   private boolean hasPoints;
   private boolean hasLines;
   private boolean hasAreas;
@@ -208,11 +207,17 @@ class RelateGeometry {
   }
   
   private RelatePointLocator getLocator() {
+    // avoid calling synchronized method improves performance
     if (locator == null) 
-      locator = new RelatePointLocator(geom, isPrepared, boundaryNodeRule);
+      createLocator();
     return locator;
   }
   
+  private synchronized void createLocator() {
+    if (locator == null) 
+      locator = new RelatePointLocator(geom, isPrepared, boundaryNodeRule);
+  }
+  
   public boolean isNodeInArea(Coordinate nodePt, Geometry parentPolygonal) {
     int loc = getLocator().locateNodeWithDim(nodePt, parentPolygonal);
     return loc == DimensionLocation.AREA_INTERIOR;  
@@ -300,12 +305,19 @@ class RelateGeometry {
    
   public Set<Coordinate> getUniquePoints() {
     //-- will be re-used in prepared mode
+    // avoid calling synchronized method improves performance
     if (uniquePoints == null) {
-      uniquePoints = createUniquePoints();
+      initUniquePoints();
     }
     return uniquePoints;
   } 
   
+  private synchronized void initUniquePoints() {
+    if (uniquePoints == null) {
+      uniquePoints = createUniquePoints();
+    }
+  }
+  
   private Set<Coordinate> createUniquePoints() {
     //-- only called on P geometries
     List<Coordinate> pts = ComponentCoordinateExtracter.getCoordinates(geom);
@@ -337,18 +349,22 @@ class RelateGeometry {
    * Extract RelateSegmentStrings from the geometry which 
    * intersect a given envelope.  
    * If the envelope is null all edges are extracted.
-   * @param geomA 
+   * <p>
+   * Element ids are assigned per extraction, 
+   * so this can be called concurrently on a prepared geometry.
    * 
+   * @param isA true if the geometry is the A input
    * @param env the envelope to extract around (may be null)
    * @return a list of RelateSegmentStrings
    */
   public List<RelateSegmentString> extractSegmentStrings(boolean isA, Envelope env) {
     List<RelateSegmentString> segStrings = new ArrayList<RelateSegmentString>();
-    extractSegmentStrings(isA, env, geom, segStrings);
+    extractSegmentStrings(isA, env, geom, 0, segStrings);
     return segStrings;
   }
   
-  private void extractSegmentStrings(boolean isA, Envelope env, Geometry geom, List<RelateSegmentString> segStrings) {
+  private int extractSegmentStrings(boolean isA, Envelope env, Geometry geom, int elementId, 
+      List<RelateSegmentString> segStrings) {
     //-- record if parent is MultiPolygon
     MultiPolygon parentPolygonal = null;
     if (geom instanceof MultiPolygon) {
@@ -358,21 +374,22 @@ class RelateGeometry {
     for (int i = 0; i < geom.getNumGeometries(); i++) {
       Geometry g = geom.getGeometryN(i);
       if (g instanceof GeometryCollection) {
-        extractSegmentStrings(isA, env, g, segStrings);
+        elementId = extractSegmentStrings(isA, env, g, elementId, segStrings);
       }
       else {
-        extractSegmentStringsFromAtomic(isA, g, parentPolygonal, env, segStrings);
+        elementId = extractSegmentStringsFromAtomic(isA, g, parentPolygonal, env, elementId, segStrings);
       }
     }
+    return elementId;
   }
   
-  private void extractSegmentStringsFromAtomic(boolean isA, Geometry geom, MultiPolygon parentPolygonal, Envelope env, 
-      List<RelateSegmentString> segStrings) {
+  private int extractSegmentStringsFromAtomic(boolean isA, Geometry geom, MultiPolygon parentPolygonal, Envelope env, 
+      int elementId, List<RelateSegmentString> segStrings) {
     if (geom.isEmpty())
-      return;
+      return elementId;
     boolean doExtract = env == null || env.intersects(geom.getEnvelopeInternal());
     if (! doExtract)
-      return;
+      return elementId;
     
     elementId++;
     if (geom instanceof LineString) {
@@ -382,14 +399,15 @@ class RelateGeometry {
     else if (geom instanceof Polygon) {
       Polygon poly = (Polygon) geom;
       Geometry parentPoly = parentPolygonal != null ? parentPolygonal : poly;
-      extractRingToSegmentString(isA, poly.getExteriorRing(), 0, env, parentPoly, segStrings);
+      extractRingToSegmentString(isA, poly.getExteriorRing(), elementId, 0, env, parentPoly, segStrings);
       for (int i = 0; i < poly.getNumInteriorRing(); i++) {
-        extractRingToSegmentString(isA, poly.getInteriorRingN(i), i+1, env, parentPoly, segStrings);        
+        extractRingToSegmentString(isA, poly.getInteriorRingN(i), elementId, i+1, env, parentPoly, segStrings);        
       }
     }
+    return elementId;
   }
 
-  private void extractRingToSegmentString(boolean isA, LinearRing ring, int ringId, Envelope env,
+  private void extractRingToSegmentString(boolean isA, LinearRing ring, int elementId, int ringId, Envelope env,
       Geometry parentPoly, List<RelateSegmentString> segStrings) {
     if (ring.isEmpty())
       return;
@@ -14,9 +14,13 @@ package org.locationtech.jts.operation.relateng;
 import static org.locationtech.jts.operation.relateng.RelateGeometry.GEOM_A;
 import static org.locationtech.jts.operation.relateng.RelateGeometry.GEOM_B;
 
+import java.util.BitSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.Supplier;
 
 import org.locationtech.jts.algorithm.BoundaryNodeRule;
 import org.locationtech.jts.geom.Coordinate;
@@ -60,7 +64,16 @@ import org.locationtech.jts.operation.relate.RelateOp;
  * RelateNG operates in 2D only; it ignores any Z ordinates.
  * 
  * This implementation replaces {@link RelateOp} and {@link PreparedGeometry}.
- * 
+ * <p>
+ * A prepared instance is thread-safe, 
+ * so it may be used to evaluate predicates from multiple threads concurrently.
+ * The methods {@link #evaluateAll(List, Supplier, ForkJoinPool)} 
+ * provide parallel evaluation of a predicate against a list of geometries.
+ * <p>
+ * If an input geometry has its indexes cached
+ * (see {@link Geometry#setIndexCached(boolean)}),
+ * the static methods use a prepared instance held in the cache.
+ *
  * <h3>FUTURE WORK</h3>
  * <ul>
  * <li>Support for a distance tolerance to provide "approximate" predicate evaluation
@@ -85,7 +98,7 @@ public class RelateNG
    * @return true if the topological relationship is satisfied
    */
   public static boolean relate(Geometry a, Geometry b, TopologyPredicate pred) {
-    RelateNG rng = new RelateNG(a, false);
+    RelateNG rng = create(a, BoundaryNodeRule.OGC_SFS_BOUNDARY_RULE);
     return rng.evaluate(b, pred);
   } 
   
@@ -101,7 +114,7 @@ public class RelateNG
    * @return true if the topological relationship is satisfied
    */
   public static boolean relate(Geometry a, Geometry b, TopologyPredicate pred, BoundaryNodeRule bnRule) {
-    RelateNG rng = new RelateNG(a, false, bnRule);
+    RelateNG rng = create(a, bnRule);
     return rng.evaluate(b, pred);
   } 
   
@@ -117,7 +130,7 @@ public class RelateNG
    * @see IntersectionMatrixPattern
    */
   public static boolean relate(Geometry a, Geometry b, String imPattern) {
-    RelateNG rng = new RelateNG(a, false);
+    RelateNG rng = create(a, BoundaryNodeRule.OGC_SFS_BOUNDARY_RULE);
     return rng.evaluate(b, imPattern); 
   }
 
@@ -130,8 +143,7 @@ public class RelateNG
    * @return the DE-9IM matrix for the topological relationship
    */
   public static IntersectionMatrix relate(Geometry a, Geometry b) {
-    RelateNG rng = new RelateNG(a, false);
-    return rng.evaluate(b);
+    return relate(a, b, BoundaryNodeRule.OGC_SFS_BOUNDARY_RULE);
   } 
   
   /**
@@ -144,10 +156,37 @@ public class RelateNG
    * @return the DE-9IM matrix for the relationship
    */
   public static IntersectionMatrix relate(Geometry a, Geometry b, BoundaryNodeRule bnRule) {
-    RelateNG rng = new RelateNG(a, false, bnRule);
+    //-- if only B has cached indexes, use them and transpose the matrix
+    if (isCached(b, bnRule) && ! isCached(a, bnRule)) {
+      return b.getIndexCache().getRelate().evaluate(a).transpose();
+    }
+    RelateNG rng = create(a, bnRule);
     return rng.evaluate(b); 
   }
   
+  /**
+   * Creates a RelateNG instance for a geometry.
+   * If the geometry has an index cache 
+   * (see {@link Geometry#setIndexCached(boolean)})
+   * the cached prepared instance is used.
+   * 
+   * @param a the A input geometry
+   * @param bnRule the Boundary Node Rule to use
+   * @return a RelateNG instance
+   */
+  private static RelateNG create(Geometry a, BoundaryNodeRule bnRule) {
+    if (isCached(a, bnRule)) {
+      return a.getIndexCache().getRelate();
+    }
+    return new RelateNG(a, false, bnRule);
+  }
+  
+  private static boolean isCached(Geometry geom, BoundaryNodeRule bnRule) {
+    //-- the cached instance uses the default rule
+    return geom.getIndexCache() != null 
+        && bnRule == BoundaryNodeRule.OGC_SFS_BOUNDARY_RULE;
+  }
+  
   /**
    * Creates a prepared RelateNG instance to optimize the
    * evaluation of relationships against a single geometry.
@@ -174,7 +213,7 @@ public class RelateNG
   
   private BoundaryNodeRule boundaryNodeRule;
   private RelateGeometry geomA;
-  private MCIndexSegmentSetMutualIntersector edgeMutualInt;
+  private volatile MCIndexSegmentSetMutualIntersector edgeMutualInt;
   
   private RelateNG(Geometry inputA, boolean isPrepared) {
     this(inputA, isPrepared, BoundaryNodeRule.OGC_SFS_BOUNDARY_RULE);
@@ -267,6 +306,116 @@ public class RelateNG
     return topoComputer.getResult();
   }
 
+  /**
+   * Tests whether the topological relationship to each geometry in a list
+   * matches a DE-9IM matrix pattern.
+   * The geometries are evaluated in parallel using the common {@link ForkJoinPool}.
+   * 
+   * @param geoms the B geometries to test against
+   * @param imPattern the DE-9IM pattern to match
+   * @return a bit set with the bits set for the indexes of the geometries matching the pattern
+   * 
+   * @see #evaluateAll(List, Supplier, ForkJoinPool)
+   */
+  public BitSet evaluateAll(List<? extends Geometry> geoms, String imPattern) {
+    return evaluateAll(geoms, () -> RelatePredicate.matches(imPattern));
+  }
+  
+  /**
+   * Tests whether the topological relationship to each geometry in a list
+   * satisfies a topology predicate.
+   * The geometries are evaluated in parallel using the common {@link ForkJoinPool}.
+   * 
+   * @param geoms the B geometries to test against
+   * @param predicateFactory a supplier of new topology predicate instances
+   * @return a bit set with the bits set for the indexes of the geometries satisfying the predicate
+   * 
+   * @see #evaluateAll(List, Supplier, ForkJoinPool)
+   */
+  public BitSet evaluateAll(List<? extends Geometry> geoms, Supplier<TopologyPredicate> predicateFactory) {
+    return evaluateAll(geoms, predicateFactory, ForkJoinPool.commonPool());
+  }
+  
+  /**
+   * Tests whether the topological relationship to each geometry in a list
+   * satisfies a topology predicate, 
+   * evaluating the geometries in parallel using a {@link ForkJoinPool}.
+   * If the pool is null the geometries are evaluated sequentially.
+   * <p>
+   * Since a {@link TopologyPredicate} accumulates state during evaluation,
+   * a new instance is obtained from the factory for each geometry
+   * (e.g. <code>RelatePredicate::intersects</code>).
+   * The cached structures of this instance are shared by all evaluations.
+   * For best performance this instance should be prepared
+   * (see {@link #prepare(Geometry)}).
+   * 
+   * @param geoms the B geometries to test against
+   * @param predicateFactory a supplier of new topology predicate instances
+   * @param pool the pool to run the evaluations in, or null
+   * @return a bit set with the bits set for the indexes of the geometries satisfying the predicate
+   */
+  public BitSet evaluateAll(List<? extends Geometry> geoms, Supplier<TopologyPredicate> predicateFactory, 
+      ForkJoinPool pool) {
+    boolean[] isSatisfied = new boolean[geoms.size()];
+    EvaluateTask task = new EvaluateTask(geoms, predicateFactory, isSatisfied, 0, geoms.size());
+    if (pool == null) {
+      task.evaluate();
+    }
+    else {
+      pool.invoke(task);
+    }
+    BitSet result = new BitSet(isSatisfied.length);
+    for (int i = 0; i < isSatisfied.length; i++) {
+      if (isSatisfied[i]) 
+        result.set(i);
+    }
+    return result;
+  }
+  
+  /**
+   * Evaluates a predicate for a section of a list of geometries,
+   * splitting the section until it is small enough to evaluate sequentially.
+   * Each task writes only to its own section of the result array.
+   */
+  private class EvaluateTask extends RecursiveAction {
+    /**
+     * The number of geometries evaluated sequentially by a task.
+     */
+    private static final int SEQUENTIAL_SIZE = 16;
+    
+    private List<? extends Geometry> geoms;
+    private Supplier<TopologyPredicate> predicateFactory;
+    private boolean[] isSatisfied;
+    private int start;
+    private int end;
+
+    EvaluateTask(List<? extends Geometry> geoms, Supplier<TopologyPredicate> predicateFactory, 
+        boolean[] isSatisfied, int start, int end) {
+      this.geoms = geoms;
+      this.predicateFactory = predicateFactory;
+      this.isSatisfied = isSatisfied;
+      this.start = start;
+      this.end = end;
+    }
+
+    @Override
+    protected void compute() {
+      if (end - start <= SEQUENTIAL_SIZE) {
+        evaluate();
+        return;
+      }
+      int mid = (start + end) >>> 1;
+      invokeAll(new EvaluateTask(geoms, predicateFactory, isSatisfied, start, mid),
+          new EvaluateTask(geoms, predicateFactory, isSatisfied, mid, end));
+    }
+    
+    void evaluate() {
+      for (int i = start; i < end; i++) {
+        isSatisfied[i] = RelateNG.this.evaluate(geoms.get(i), predicateFactory.get());
+      }
+    }
+  }
+
   private boolean hasRequiredEnvelopeInteraction(Geometry b, TopologyPredicate predicate) {
     Envelope envB = b.getEnvelopeInternal();
     boolean isInteracts = false;
@@ -546,13 +695,20 @@ public class RelateNG
   
   private void computeEdgesMutual(List<RelateSegmentString> edgesB, Envelope envInt, EdgeSegmentIntersector intersector) {
     //-- in prepared mode the A edge index is reused
+    // avoid calling synchronized method improves performance
+    if (edgeMutualInt == null) {  
+      createEdgeMutualIntersector(envInt);
+    }
+    
+    edgeMutualInt.process(edgesB, intersector);
+  }
+
+  private synchronized void createEdgeMutualIntersector(Envelope envInt) {
     if (edgeMutualInt == null) {  
       Envelope envExtract = geomA.isPrepared() ? null : envInt;
       List<RelateSegmentString> edgesA = geomA.extractSegmentStrings(GEOM_A, envExtract);
       edgeMutualInt = new MCIndexSegmentSetMutualIntersector(edgesA, envExtract);
     }
-    
-    edgeMutualInt.process(edgesB, intersector);
   }
 
 
@@ -60,7 +60,7 @@ class RelatePointLocator {
   private Geometry geom;
   private boolean isPrepared = false;
   private BoundaryNodeRule boundaryRule;
-  private AdjacentEdgeLocator adjEdgeLocator;
+  private volatile AdjacentEdgeLocator adjEdgeLocator;
   private Set<Coordinate> points;
   private List<LineString> lines;
   private List<Geometry> polygons;
@@ -92,6 +92,16 @@ class RelatePointLocator {
       polyLocator = isPrepared 
           ? new IndexedPointInAreaLocator[polygons.size()]
               : new SimplePointInAreaLocator[polygons.size()];
+      /**
+       * In prepared mode the locators are created up front, 
+       * so that they can be shared between threads.
+       * The locator indexes are still built lazily.
+       */
+      if (isPrepared) {
+        for (int i = 0; i < polyLocator.length; i++) {
+          polyLocator[i] = new IndexedPointInAreaLocator(polygons.get(i));
+        }
+      }
     }
   }
 
@@ -315,14 +325,21 @@ class RelatePointLocator {
     }
     //-- check for point lying on adjacent boundaries
     else if (numBdy > 1) {
+      // avoid calling synchronized method improves performance
       if (adjEdgeLocator == null) {
-        adjEdgeLocator = new AdjacentEdgeLocator(geom);
+        createAdjacentEdgeLocator();
       }
       return adjEdgeLocator.locate(p);
     }
     return Location.EXTERIOR;
   }
 
+  private synchronized void createAdjacentEdgeLocator() {
+    if (adjEdgeLocator == null) {
+      adjEdgeLocator = new AdjacentEdgeLocator(geom);
+    }
+  }
+
   private int locateOnPolygonal(Coordinate p, boolean isNode, Geometry parentPolygonal, int index) {
     Geometry polygonal = polygons.get(index);
     if (isNode && parentPolygonal == polygonal) {
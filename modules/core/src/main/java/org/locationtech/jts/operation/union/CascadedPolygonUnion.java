@@ -15,6 +15,8 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Iterator;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
 
 import org.locationtech.jts.geom.Geometry;
 import org.locationtech.jts.geom.GeometryCollection;
@@ -43,6 +45,15 @@ import org.locationtech.jts.util.Debug;
  * This algorithm is faster and more robust than
  * the simple iterated approach of
  * repeatedly unioning each polygon to a result geometry.
+ * <p>
+ * The subtrees of the index are independent,
+ * so they can be unioned concurrently.
+ * If a {@link ForkJoinPool} is provided
+ * the union is computed in parallel using it.
+ * The parallel union is performed in the same order 
+ * as the sequential one, so it produces the same result.
+ * In this case the {@link UnionStrategy} must be safe to call
+ * from multiple threads.
  *
  * @author Martin Davis
  *
@@ -94,9 +105,27 @@ public class CascadedPolygonUnion
     return op.union();
   }
 
+  /**
+   * Computes the union of
+   * a collection of {@link Polygonal} {@link Geometry}s,
+   * performing the unions of independent subtrees in parallel
+   * using the given pool.
+   *
+   * @param polys a collection of {@link Polygonal} {@link Geometry}s
+   * @param unionFun the union strategy to use (must be thread-safe)
+   * @param pool the pool to use for the parallel union
+   */
+  public static Geometry union(Collection polys, UnionStrategy unionFun, ForkJoinPool pool)
+  {
+    CascadedPolygonUnion op = new CascadedPolygonUnion(polys, unionFun);
+    op.setPool(pool);
+    return op.union();
+  }
+
 	private Collection inputPolys;
 	private GeometryFactory geomFactory = null;
   private UnionStrategy unionFun;
+  private ForkJoinPool pool = null;
 
   private int countRemainder = 0;
   private int countInput = 0;
@@ -128,6 +157,19 @@ public class CascadedPolygonUnion
     this.countInput = inputPolys.size();
     this.countRemainder = countInput;
   }
+  
+  /**
+   * Sets a pool to use to compute the union in parallel.
+   * If the pool is <code>null</code> (the default)
+   * the union is computed sequentially.
+   * The union strategy must be safe to use from multiple threads.
+   * 
+   * @param pool the pool to use, or null
+   */
+  public void setPool(ForkJoinPool pool) {
+    this.pool = pool;
+  }
+  
   /**
    * The effectiveness of the index is somewhat sensitive
    * to the node capacity.
@@ -176,6 +218,9 @@ public class CascadedPolygonUnion
 
     List itemTree = index.itemsTree();
 //    printItemEnvelopes(itemTree);
+    if (pool != null) {
+      return pool.invoke(new UnionTreeTask(itemTree));
+    }
     Geometry unionAll = unionTree(itemTree);
     return unionAll;
 	}
@@ -312,8 +357,9 @@ public class CascadedPolygonUnion
   	if (g1 == null)
   		return g0.copy();
 
-  	countRemainder--;
   	if (Debug.isDebugging()) {
+  	  // not synchronized, so only approximate for parallel union
+  	  countRemainder--;
   	  Debug.println("Remainder: " + countRemainder + " out of " + countInput);
       Debug.print("Union: A: " + g0.getNumPoints() + " / B: " + g1.getNumPoints() + "  ---  "  );
   	}
@@ -363,4 +409,74 @@ public class CascadedPolygonUnion
       return (Polygon) polygons.get(0);
     return g.getFactory().createMultiPolygon(GeometryFactory.toPolygonArray(polygons));
   }
+
+  /**
+   * Unions a tree-structured list of geometries,
+   * forking a task for each subtree.
+   * The resulting geometries are unioned in the same order 
+   * as in {@link #unionTree(List)}.
+   */
+  private class UnionTreeTask extends RecursiveTask<Geometry> {
+    private List geomTree;
+
+    UnionTreeTask(List geomTree) {
+      this.geomTree = geomTree;
+    }
+
+    @Override
+    protected Geometry compute() {
+      int n = geomTree.size();
+      UnionTreeTask[] tasks = new UnionTreeTask[n];
+      for (int i = 0; i < n; i++) {
+        Object o = geomTree.get(i);
+        if (o instanceof List) {
+          tasks[i] = new UnionTreeTask((List) o);
+          tasks[i].fork();
+        }
+      }
+      List<Geometry> geoms = new ArrayList<Geometry>();
+      for (int i = 0; i < n; i++) {
+        Geometry geom = null;
+        if (tasks[i] != null) {
+          geom = tasks[i].join();
+        }
+        else {
+          Object o = geomTree.get(i);
+          if (o instanceof Geometry)
+            geom = (Geometry) o;
+        }
+        geoms.add(geom);
+      }
+      return new BinaryUnionTask(geoms, 0, geoms.size()).compute();
+    }
+  }
+
+  /**
+   * Performs {@link #binaryUnion(List, int, int)} 
+   * with the two halves of the section unioned concurrently.
+   */
+  private class BinaryUnionTask extends RecursiveTask<Geometry> {
+    private List geoms;
+    private int start;
+    private int end;
+
+    BinaryUnionTask(List geoms, int start, int end) {
+      this.geoms = geoms;
+      this.start = start;
+      this.end = end;
+    }
+
+    @Override
+    protected Geometry compute() {
+      if (end - start <= 2) {
+        return binaryUnion(geoms, start, end);
+      }
+      int mid = (end + start) / 2;
+      BinaryUnionTask task0 = new BinaryUnionTask(geoms, start, mid);
+      task0.fork();
+      Geometry g1 = new BinaryUnionTask(geoms, mid, end).compute();
+      Geometry g0 = task0.join();
+      return unionSafe(g0, g1);
+    }
+  }
 }
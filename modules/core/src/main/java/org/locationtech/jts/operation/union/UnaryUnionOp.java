@@ -14,6 +14,7 @@ package org.locationtech.jts.operation.union;
 
 import java.util.Collection;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
 
 import org.locationtech.jts.geom.Geometry;
 import org.locationtech.jts.geom.GeometryCollection;
@@ -111,6 +112,7 @@ public class UnaryUnionOp
 
   private InputExtracter extracter;
   private UnionStrategy unionFunction = CascadedPolygonUnion.CLASSIC_UNION;
+  private ForkJoinPool pool = null;
 
 	/**
 	 * Constructs a unary union operation for a {@link Collection} 
@@ -151,6 +153,17 @@ public class UnaryUnionOp
 	  this.unionFunction = unionFun;
 	}
 	
+  /**
+   * Sets a pool to use to union polygonal inputs in parallel
+   * (see {@link CascadedPolygonUnion#setPool(ForkJoinPool)}).
+   * The union function must be safe to use from multiple threads.
+   * 
+   * @param pool the pool to use, or null to union sequentially
+   */
+  public void setPool(ForkJoinPool pool) {
+    this.pool = pool;
+  }
+	
 	private void extract(Collection geoms)
 	{
 	  extracter = InputExtracter.extract(geoms);
@@ -216,7 +229,10 @@ public class UnaryUnionOp
 		
 		Geometry unionPolygons = null;
 		if (polygons.size() > 0) {
-			unionPolygons = CascadedPolygonUnion.union(polygons, unionFunction);
+			if (pool != null)
+			  unionPolygons = CascadedPolygonUnion.union(polygons, unionFunction, pool);
+			else
+			  unionPolygons = CascadedPolygonUnion.union(polygons, unionFunction);
 		}
 		
     /**
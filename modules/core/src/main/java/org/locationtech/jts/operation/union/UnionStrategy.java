@@ -16,6 +16,11 @@ import org.locationtech.jts.geom.Geometry;
 /**
  * A strategy class that adapts UnaryUnion to different 
  * kinds of overlay algorithms.
+ * <p>
+ * Strategies used for parallel union 
+ * (see {@link CascadedPolygonUnion#setPool(java.util.concurrent.ForkJoinPool)})
+ * are called concurrently, so they must be thread-safe.
+ * The strategies provided by JTS are stateless, and thus thread-safe.
  *  
  * @author Martin Davis
  *
@@ -12,6 +12,8 @@
 
 package org.locationtech.jts.shape.random;
 
+import java.util.Random;
+
 import org.locationtech.jts.algorithm.locate.IndexedPointInAreaLocator;
 import org.locationtech.jts.algorithm.locate.PointOnGeometryLocator;
 import org.locationtech.jts.geom.Coordinate;
@@ -34,6 +36,7 @@ extends GeometricShapeBuilder
 {
   protected Geometry maskPoly = null;
   private PointOnGeometryLocator extentLocator;
+  private Random random = null;
 
   /**
    * Create a shape factory which will create shapes using the default
@@ -70,6 +73,18 @@ extends GeometricShapeBuilder
   	extentLocator = new IndexedPointInAreaLocator(mask);
   }
   
+  /**
+   * Sets the seed for the random number generator,
+   * so that the same point set is generated on every run.
+   * By default {@link Math#random()} is used.
+   * 
+   * @param seed the random seed
+   */
+  public void setSeed(long seed)
+  {
+    random = new Random(seed);
+  }
+  
   public Geometry getGeometry()
   {
   	Coordinate[] pts = new Coordinate[numPts];
@@ -99,9 +114,14 @@ extends GeometricShapeBuilder
   
   protected Coordinate createRandomCoord(Envelope env)
   {
-    double x = env.getMinX() + env.getWidth() * Math.random();
-    double y = env.getMinY() + env.getHeight() * Math.random();
+    double x = env.getMinX() + env.getWidth() * nextRandom();
+    double y = env.getMinY() + env.getHeight() * nextRandom();
     return createCoord(x, y);
   }
 
+  private double nextRandom()
+  {
+    if (random == null) return Math.random();
+    return random.nextDouble();
+  }
 }
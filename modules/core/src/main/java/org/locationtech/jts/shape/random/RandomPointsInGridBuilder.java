@@ -12,6 +12,8 @@
 
 package org.locationtech.jts.shape.random;
 
+import java.util.Random;
+
 import org.locationtech.jts.geom.Coordinate;
 import org.locationtech.jts.geom.Geometry;
 import org.locationtech.jts.geom.GeometryFactory;
@@ -32,6 +34,7 @@ extends GeometricShapeBuilder
 {
 	private boolean isConstrainedToCircle = false;
 	private double gutterFraction = 0;
+  private Random random = null;
 	
   /**
    * Create a builder which will create shapes using the default
@@ -79,6 +82,18 @@ extends GeometricShapeBuilder
   	this.gutterFraction = gutterFraction;
   }
   
+  /**
+   * Sets the seed for the random number generator,
+   * so that the same point set is generated on every run.
+   * By default {@link Math#random()} is used.
+   * 
+   * @param seed the random seed
+   */
+  public void setSeed(long seed)
+  {
+    random = new Random(seed);
+  }
+  
   /**
    * Gets the {@link MultiPoint} containing the generated point
    * 
@@ -126,18 +141,18 @@ extends GeometricShapeBuilder
   
   private Coordinate randomPointInGridCell(double orgX, double orgY, double xLen, double yLen)
   {
-    double x = orgX + xLen * Math.random();
-    double y = orgY + yLen * Math.random();
+    double x = orgX + xLen * nextRandom();
+    double y = orgY + yLen * nextRandom();
     return createCoord(x, y);
   }
 
-  private static Coordinate randomPointInCircle(double orgX, double orgY, double width, double height)
+  private Coordinate randomPointInCircle(double orgX, double orgY, double width, double height)
   {
   	double centreX = orgX + width/2;
   	double centreY = orgY + height/2;
   		
-  	double rndAng = 2 * Math.PI * Math.random();
-  	double rndRadius = Math.random();
+  	double rndAng = 2 * Math.PI * nextRandom();
+  	double rndRadius = nextRandom();
     // use square root of radius, since area is proportional to square of radius
     double rndRadius2 = Math.sqrt(rndRadius);
   	double rndX = width/2 * rndRadius2 * Math.cos(rndAng); 
@@ -148,4 +163,9 @@ extends GeometricShapeBuilder
     return new Coordinate(x0, y0);    
   }
 
+  private double nextRandom()
+  {
+    if (random == null) return Math.random();
+    return random.nextDouble();
+  }
 }
@@ -16,12 +16,22 @@ import org.locationtech.jts.geom.Coordinate;
 import org.locationtech.jts.geom.CoordinateArrays;
 import org.locationtech.jts.geom.CoordinateList;
 import org.locationtech.jts.geom.Triangle;
+import org.locationtech.jts.util.IndexedMinHeap;
 
 /**
  * Simplifies a linestring (sequence of points) using the 
  * Visvalingam-Whyatt algorithm.
  * The Visvalingam-Whyatt algorithm simplifies geometry 
  * by removing vertices while trying to minimize the area changed.
+ * <p>
+ * The vertex with the smallest effective area
+ * (the area of the triangle formed with its neighbours)
+ * is removed repeatedly,
+ * until all vertices have an area of at least the tolerance.
+ * Vertices with equal areas are removed in order along the line.
+ * The effective areas are kept in an {@link IndexedMinHeap},
+ * and the line is represented by arrays of vertex links,
+ * so the simplification takes O(n log n) time.
  * 
  * @version 1.7
  */
@@ -33,8 +43,13 @@ class VWLineSimplifier
     return simp.simplify();
   }
 
+  private static final int NO_VERTEX = -1;
+
   private Coordinate[] pts;
   private double tolerance;
+  private int[] prev;
+  private int[] next;
+  private IndexedMinHeap areaHeap;
 
   public VWLineSimplifier(Coordinate[] pts, double distanceTolerance)
   {
@@ -44,12 +59,14 @@ class VWLineSimplifier
 
   public Coordinate[] simplify()
   {
-    VWLineSimplifier.VWVertex vwLine = VWVertex.buildLine(pts);
-    double minArea = tolerance;
-    do {
-      minArea = simplifyVertex(vwLine);
-    } while (minArea < tolerance);
-    Coordinate[] simp = vwLine.getCoordinates();
+    init();
+    while (! areaHeap.isEmpty()) {
+      int minVertex = areaHeap.peek();
+      if (areaHeap.getKey(minVertex) >= tolerance)
+        break;
+      remove(minVertex);
+    }
+    Coordinate[] simp = getCoordinates();
     // ensure computed value is a valid line
     if (simp.length < 2) {
       return new Coordinate[] { simp[0].copy(), simp[0].copy() };
@@ -57,119 +74,59 @@ class VWLineSimplifier
     return CoordinateArrays.copyDeep(simp);
   }
 
-  private double simplifyVertex(VWLineSimplifier.VWVertex vwLine)
+  private void init()
   {
-    /**
-     * Scan vertices in line and remove the one with smallest effective area.
-     */
-    // TODO: use an appropriate data structure to optimize finding the smallest area vertex
-    VWLineSimplifier.VWVertex curr = vwLine;
-    double minArea = curr.getArea();
-    VWLineSimplifier.VWVertex minVertex = null;
-    while (curr != null) {
-      double area = curr.getArea();
-      if (area < minArea) {
-        minArea = area;
-        minVertex = curr;
-      }
-      curr = curr.next;
+    int n = pts.length;
+    prev = new int[n];
+    next = new int[n];
+    for (int i = 0; i < n; i++) {
+      prev[i] = i - 1;
+      next[i] = i + 1;
     }
-    if (minVertex != null && minArea < tolerance) {
-      minVertex.remove();
+    next[n - 1] = NO_VERTEX;
+    areaHeap = new IndexedMinHeap(n);
+    for (int i = 1; i < n - 1; i++) {
+      updateArea(i);
     }
-    if (! vwLine.isLive()) return -1;
-    return minArea;
   }
 
-
-  static class VWVertex
+  /**
+   * Removes a vertex from the line,
+   * and updates the areas of its neighbours.
+   * 
+   * @param i the vertex to remove
+   */
+  private void remove(int i)
   {
-    public static VWLineSimplifier.VWVertex buildLine(Coordinate[] pts)
-    {
-      VWLineSimplifier.VWVertex first = null;
-      VWLineSimplifier.VWVertex prev = null;
-      for (int i = 0; i < pts.length; i++) {
-        VWLineSimplifier.VWVertex v = new VWVertex(pts[i]);
-        if (first == null)
-          first = v;
-        v.setPrev(prev);
-        if (prev != null) {
-          prev.setNext(v);
-          prev.updateArea();
-        }
-        prev = v;
-      }
-      return first;
-    }
-    
-    public static double MAX_AREA = Double.MAX_VALUE;
-    
-    private Coordinate pt;
-    private VWLineSimplifier.VWVertex prev;
-    private VWLineSimplifier.VWVertex next;
-    private double area = MAX_AREA;
-    private boolean isLive = true;
-
-    public VWVertex(Coordinate pt)
-    {
-      this.pt = pt;
-    }
-
-    public void setPrev(VWLineSimplifier.VWVertex prev)
-    {
-      this.prev = prev;
-    }
-
-    public void setNext(VWLineSimplifier.VWVertex next)
-    {
-      this.next = next;
-    }
+    areaHeap.remove(i);
+    int iprev = prev[i];
+    int inext = next[i];
+    next[iprev] = inext;
+    prev[inext] = iprev;
+    updateArea(iprev);
+    updateArea(inext);
+  }
 
-    public void updateArea()
-    {
-      if (prev == null || next == null) {
-        area = MAX_AREA;
-        return;
-      }
-      area = Math.abs(Triangle.area(prev.pt, pt, next.pt));
+  private void updateArea(int i)
+  {
+    //-- the line endpoints are never removed
+    if (prev[i] == NO_VERTEX || next[i] == NO_VERTEX)
+      return;
+    double area = Triangle.area(pts[prev[i]], pts[i], pts[next[i]]);
+    //-- a vertex whose area is not a number is never removed 
+    if (Double.isNaN(area)) {
+      areaHeap.remove(i);
+      return;
     }
+    areaHeap.update(i, area);
+  }
 
-    public double getArea()
-    {
-      return area;
-    }
-    public boolean isLive()
-    {
-      return isLive;
-    }
-    public VWLineSimplifier.VWVertex remove()
-    {
-      VWLineSimplifier.VWVertex tmpPrev = prev;
-      VWLineSimplifier.VWVertex tmpNext = next;
-      VWLineSimplifier.VWVertex result = null;
-      if (prev != null) {
-        prev.setNext(tmpNext);
-        prev.updateArea();
-        result = prev;
-      }
-      if (next != null) {
-        next.setPrev(tmpPrev);
-        next.updateArea();
-        if (result == null)
-          result = next;
-      }
-      isLive = false;
-      return result;
-    }
-    public Coordinate[] getCoordinates()
-    {
-      CoordinateList coords = new CoordinateList();
-      VWLineSimplifier.VWVertex curr = this;
-      do {
-        coords.add(curr.pt, false);
-        curr = curr.next;
-      } while (curr != null);
-      return coords.toCoordinateArray();
+  private Coordinate[] getCoordinates()
+  {
+    CoordinateList coords = new CoordinateList();
+    for (int i = 0; i != NO_VERTEX; i = next[i]) {
+      coords.add(pts[i], false);
     }
+    return coords.toCoordinateArray();
   }
 }
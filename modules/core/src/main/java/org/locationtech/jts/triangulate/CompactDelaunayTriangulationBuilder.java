@@ -0,0 +1,931 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.triangulate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+
+import org.locationtech.jts.algorithm.Orientation;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.GeometryCollection;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.LineString;
+import org.locationtech.jts.geom.MultiLineString;
+import org.locationtech.jts.geom.Polygon;
+import org.locationtech.jts.index.hprtree.HilbertEncoder;
+import org.locationtech.jts.triangulate.quadedge.LocateFailureException;
+import org.locationtech.jts.triangulate.quadedge.QuadEdge;
+import org.locationtech.jts.triangulate.quadedge.QuadEdgeSubdivision;
+import org.locationtech.jts.triangulate.quadedge.TrianglePredicate;
+import org.locationtech.jts.triangulate.quadedge.Vertex;
+
+/**
+ * Creates a Delaunay Triangulation of a set of sites,
+ * using a compact representation which supports very large numbers of sites.
+ * <p>
+ * The sites are inserted incrementally in a spatially coherent order,
+ * so that the walk to locate each site in the triangulation is short.
+ * The order is either:
+ * <ul>
+ * <li>{@link #ORDER_HILBERT} - the order of the sites along a Hilbert curve
+ * (computed with a {@link HilbertEncoder})
+ * <li>{@link #ORDER_BRIO} - a Biased Randomized Insertion Order.
+ * The sites are randomly assigned to rounds of doubling size,
+ * and the sites in each round are inserted in Hilbert order.
+ * This avoids the worst case behaviour of a fixed order,
+ * while keeping most of its locality.
+ * </ul>
+ * The triangulation is stored in primitive arrays of site ordinates,
+ * triangle vertex indices and adjacent half-edges,
+ * rather than as {@link QuadEdge} and {@link Vertex} objects.
+ * The convex hull of the sites is represented by "ghost" triangles
+ * joining each hull edge to a vertex at infinity,
+ * so no enclosing frame is required during construction
+ * and the triangulation always covers the full convex hull of the sites.
+ * <p>
+ * The triangulation can be extracted as geometries
+ * (in the same form as {@link DelaunayTriangulationBuilder}),
+ * as an array of site indices,
+ * or as a {@link QuadEdgeSubdivision}.
+ * Exporting as a subdivision adds a frame enclosing the sites,
+ * which is triangulated without changing the triangles of the sites.
+ * <p>
+ * Sites which are exactly equal to a previous site are ignored.
+ * If all sites are collinear (so there are no triangles)
+ * the result is computed by {@link DelaunayTriangulationBuilder}.
+ *
+ */
+public class CompactDelaunayTriangulationBuilder
+{
+  /**
+   * Inserts the sites in the order of a Hilbert curve.
+   */
+  public static final int ORDER_HILBERT = 1;
+
+  /**
+   * Inserts the sites in a Biased Randomized Insertion Order,
+   * with each round in Hilbert order.
+   */
+  public static final int ORDER_BRIO = 2;
+
+  /**
+   * The Hilbert curve level used to order sites.
+   * Codes at this level fit in 30 bits.
+   */
+  private static final int HILBERT_LEVEL = 15;
+
+  /**
+   * The size below which BRIO rounds are merged into the first round
+   */
+  private static final int BRIO_MIN_ROUND = 64;
+
+  /**
+   * The index of the vertex at infinity in ghost triangles
+   */
+  private static final int INFINITE = -1;
+
+  private static final int NO_EDGE = -1;
+
+  private static final int NUM_FRAME = 3;
+
+  private double[] x;
+  private double[] y;
+  private double[] z = null;
+  private int numSites = 0;
+  private Envelope siteEnv = new Envelope();
+
+  private int insertionOrder = ORDER_BRIO;
+  private long seed = 1;
+
+  /**
+   * The vertex index of the origin of each half-edge.
+   * Half-edges 3t, 3t+1, 3t+2 form triangle t, in CCW order.
+   */
+  private int[] triVertex;
+  /**
+   * The opposite half-edge of each half-edge
+   */
+  private int[] triAdj;
+  private int numTri = 0;
+  private int lastTri = 0;
+  private int locateOnEdge = NO_EDGE;
+  private int locateNumOnEdge = 0;
+
+  private int[] edgeStack = new int[64];
+  private int stackSize = 0;
+
+  private boolean isComputed = false;
+  private boolean isDegenerate = false;
+  private boolean isFrameInsert = false;
+  private QuadEdgeSubdivision subdiv = null;
+
+  /**
+   * Creates a new triangulation builder.
+   */
+  public CompactDelaunayTriangulationBuilder()
+  {
+  }
+
+  /**
+   * Sets the sites (vertices) which will be triangulated.
+   * All vertices of the given geometry will be used as sites.
+   * Site indices are the indices of the geometry coordinates.
+   *
+   * @param geom the geometry from which the sites will be extracted.
+   */
+  public void setSites(Geometry geom)
+  {
+    setSites(geom.getCoordinates());
+  }
+
+  /**
+   * Sets the sites (vertices) which will be triangulated
+   * from a collection of {@link Coordinate}s.
+   * Site indices are the indices in the iteration order of the collection.
+   *
+   * @param coords a collection of Coordinates.
+   */
+  public void setSites(Collection<Coordinate> coords)
+  {
+    setSites(coords.toArray(new Coordinate[0]));
+  }
+
+  private void setSites(Coordinate[] coords)
+  {
+    init(coords.length);
+    boolean hasZ = false;
+    for (int i = 0; i < numSites; i++) {
+      Coordinate c = coords[i];
+      x[i] = c.x;
+      y[i] = c.y;
+      if (! Double.isNaN(c.getZ())) hasZ = true;
+    }
+    if (hasZ) {
+      z = new double[numSites + NUM_FRAME];
+      Arrays.fill(z, Double.NaN);
+      for (int i = 0; i < numSites; i++) {
+        z[i] = coords[i].getZ();
+      }
+    }
+    computeEnvelope();
+  }
+
+  /**
+   * Sets the sites (vertices) which will be triangulated
+   * from arrays of ordinates.
+   * This avoids creating {@link Coordinate}s for large numbers of sites.
+   * Site indices are the indices in the arrays.
+   *
+   * @param xOrd the X ordinates of the sites
+   * @param yOrd the Y ordinates of the sites
+   */
+  public void setSites(double[] xOrd, double[] yOrd)
+  {
+    if (xOrd.length != yOrd.length)
+      throw new IllegalArgumentException("Ordinate arrays must have the same length");
+    init(xOrd.length);
+    System.arraycopy(xOrd, 0, x, 0, numSites);
+    System.arraycopy(yOrd, 0, y, 0, numSites);
+    computeEnvelope();
+  }
+
+  private void init(int n) {
+    numSites = n;
+    //-- allow space for the frame vertices
+    x = new double[n + NUM_FRAME];
+    y = new double[n + NUM_FRAME];
+    z = null;
+    isComputed = false;
+    subdiv = null;
+  }
+
+  private void computeEnvelope() {
+    siteEnv = new Envelope();
+    for (int i = 0; i < numSites; i++) {
+      siteEnv.expandToInclude(x[i], y[i]);
+    }
+  }
+
+  /**
+   * Sets the order in which sites are inserted.
+   * The default is {@link #ORDER_BRIO}.
+   *
+   * @param insertionOrder {@link #ORDER_BRIO} or {@link #ORDER_HILBERT}
+   */
+  public void setInsertionOrder(int insertionOrder)
+  {
+    if (insertionOrder != ORDER_BRIO && insertionOrder != ORDER_HILBERT)
+      throw new IllegalArgumentException("Unknown insertion order: " + insertionOrder);
+    this.insertionOrder = insertionOrder;
+  }
+
+  /**
+   * Sets the seed for the random assignment of sites to rounds
+   * when using {@link #ORDER_BRIO}.
+   * The triangulation is determined by the sites,
+   * so this only affects the construction time
+   * (and the choice of diagonals for sites lying on a common circle).
+   *
+   * @param seed the random seed
+   */
+  public void setSeed(long seed)
+  {
+    this.seed = seed;
+  }
+
+  /**
+   * Gets the triangles of the triangulation
+   * as indices of the input sites.
+   * Each triangle is given by three consecutive entries,
+   * in counter-clockwise order.
+   * If the sites are all collinear the array is empty.
+   *
+   * @return an array of site indices, three per triangle
+   */
+  public int[] getTriangleSites()
+  {
+    create();
+    if (isDegenerate)
+      return new int[0];
+    int[] sites = new int[3 * countSiteTriangles()];
+    int n = 0;
+    for (int t = 0; t < numTri; t++) {
+      if (! isSiteTriangle(t)) continue;
+      sites[n++] = triVertex[3 * t];
+      sites[n++] = triVertex[3 * t + 1];
+      sites[n++] = triVertex[3 * t + 2];
+    }
+    return sites;
+  }
+
+  /**
+   * Gets the {@link QuadEdgeSubdivision} which models the computed triangulation.
+   * The subdivision is created on the first call.
+   *
+   * @return the subdivision containing the triangulation
+   */
+  public QuadEdgeSubdivision getSubdivision()
+  {
+    create();
+    if (subdiv == null) {
+      if (isDegenerate) {
+        subdiv = degenerateBuilder().getSubdivision();
+      }
+      else {
+        subdiv = createSubdivision();
+      }
+    }
+    return subdiv;
+  }
+
+  /**
+   * Gets the edges of the computed triangulation as a {@link MultiLineString}.
+   *
+   * @param geomFact the geometry factory to use to create the output
+   * @return the edges of the triangulation
+   */
+  public Geometry getEdges(GeometryFactory geomFact)
+  {
+    create();
+    if (isDegenerate)
+      return degenerateBuilder().getEdges(geomFact);
+
+    List<LineString> edges = new ArrayList<LineString>();
+    for (int e = 0; e < 3 * numTri; e++) {
+      int v0 = triVertex[e];
+      int v1 = triVertex[next(e)];
+      //-- output each edge once, from the half-edge with the lower index
+      if (! isSite(v0) || ! isSite(v1) || triAdj[e] < e) continue;
+      edges.add(geomFact.createLineString(new Coordinate[] {
+          createCoordinate(v0), createCoordinate(v1) }));
+    }
+    return geomFact.createMultiLineString(GeometryFactory.toLineStringArray(edges));
+  }
+
+  /**
+   * Gets the faces of the computed triangulation as a {@link GeometryCollection}
+   * of {@link Polygon}.
+   *
+   * @param geomFact the geometry factory to use to create the output
+   * @return the faces of the triangulation
+   */
+  public Geometry getTriangles(GeometryFactory geomFact)
+  {
+    create();
+    if (isDegenerate)
+      return degenerateBuilder().getTriangles(geomFact);
+
+    Polygon[] tris = new Polygon[countSiteTriangles()];
+    int n = 0;
+    for (int t = 0; t < numTri; t++) {
+      if (! isSiteTriangle(t)) continue;
+      Coordinate p0 = createCoordinate(triVertex[3 * t]);
+      Coordinate[] pts = new Coordinate[] {
+          p0,
+          createCoordinate(triVertex[3 * t + 1]),
+          createCoordinate(triVertex[3 * t + 2]),
+          p0.copy()
+      };
+      tris[n++] = geomFact.createPolygon(pts);
+    }
+    return geomFact.createGeometryCollection(tris);
+  }
+
+  private DelaunayTriangulationBuilder degenerateBuilder() {
+    List<Coordinate> coords = new ArrayList<Coordinate>();
+    for (int i = 0; i < numSites; i++) {
+      coords.add(createCoordinate(i));
+    }
+    DelaunayTriangulationBuilder builder = new DelaunayTriangulationBuilder();
+    builder.setSites(coords);
+    return builder;
+  }
+
+  private Coordinate createCoordinate(int v) {
+    if (z == null)
+      return new Coordinate(x[v], y[v]);
+    return new Coordinate(x[v], y[v], z[v]);
+  }
+
+  private boolean isSite(int v) {
+    return v >= 0 && v < numSites;
+  }
+
+  private boolean isSiteTriangle(int t) {
+    return isSite(triVertex[3 * t])
+        && isSite(triVertex[3 * t + 1])
+        && isSite(triVertex[3 * t + 2]);
+  }
+
+  private int countSiteTriangles() {
+    int count = 0;
+    for (int t = 0; t < numTri; t++) {
+      if (isSiteTriangle(t)) count++;
+    }
+    return count;
+  }
+
+  private boolean isGhost(int t) {
+    return triVertex[3 * t] == INFINITE
+        || triVertex[3 * t + 1] == INFINITE
+        || triVertex[3 * t + 2] == INFINITE;
+  }
+
+  private static int next(int e) {
+    return (e % 3 == 2) ? e - 2 : e + 1;
+  }
+
+  private static int prev(int e) {
+    return (e % 3 == 0) ? e + 2 : e - 1;
+  }
+
+  //==========================================================
+  //  Construction
+  //==========================================================
+
+  private void create()
+  {
+    if (isComputed) return;
+    isComputed = true;
+
+    //-- a triangulation of n vertices including ghosts has 2n - 4 triangles
+    int maxTri = 2 * (numSites + NUM_FRAME);
+    triVertex = new int[3 * maxTri];
+    triAdj = new int[3 * maxTri];
+    numTri = 0;
+
+    int[] order = insertionOrder();
+    isDegenerate = ! insertSites(order);
+  }
+
+  /**
+   * Computes the order in which sites are inserted.
+   * Sites are sorted by Hilbert code,
+   * either as a whole or in randomized rounds.
+   *
+   * @return the site indices in insertion order
+   */
+  private int[] insertionOrder() {
+    int n = numSites;
+    int[] sites = new int[n];
+    for (int i = 0; i < n; i++) {
+      sites[i] = i;
+    }
+    if (insertionOrder == ORDER_BRIO) {
+      Random rnd = new Random(seed);
+      for (int i = n - 1; i > 0; i--) {
+        int j = rnd.nextInt(i + 1);
+        int tmp = sites[i];
+        sites[i] = sites[j];
+        sites[j] = tmp;
+      }
+    }
+
+    HilbertEncoder encoder = new HilbertEncoder(HILBERT_LEVEL, hilbertExtent());
+    Envelope env = new Envelope();
+    //-- sort keys contain the Hilbert code in the high word and the site in the low word
+    long[] keys = new long[n];
+    for (int i = 0; i < n; i++) {
+      int s = sites[i];
+      env.init(x[s], x[s], y[s], y[s]);
+      keys[i] = ((long) encoder.encode(env) << 32) | s;
+    }
+
+    if (insertionOrder == ORDER_BRIO) {
+      //-- each round is the first half of the remaining sites
+      int end = n;
+      while (end > 0) {
+        int start = end / 2;
+        if (start < BRIO_MIN_ROUND) start = 0;
+        Arrays.sort(keys, start, end);
+        end = start;
+      }
+    }
+    else {
+      Arrays.sort(keys);
+    }
+
+    for (int i = 0; i < n; i++) {
+      sites[i] = (int) keys[i];
+    }
+    return sites;
+  }
+
+  /**
+   * Computes a square extent for Hilbert encoding,
+   * so that the curve has the same resolution in both directions.
+   *
+   * @return the extent for Hilbert encoding
+   */
+  private Envelope hilbertExtent() {
+    double size = Math.max(siteEnv.getWidth(), siteEnv.getHeight());
+    if (size <= 0) size = 1;
+    return new Envelope(siteEnv.getMinX(), siteEnv.getMinX() + size,
+        siteEnv.getMinY(), siteEnv.getMinY() + size);
+  }
+
+  /**
+   * Inserts the sites into the triangulation.
+   *
+   * @param order the sites in insertion order
+   * @return false if the sites do not form any triangle
+   */
+  private boolean insertSites(int[] order) {
+    if (order.length < 3)
+      return false;
+
+    //-- find a first triangle with non-zero area
+    int v0 = order[0];
+    int i1 = 1;
+    while (i1 < order.length && isEqual(v0, order[i1])) {
+      i1++;
+    }
+    if (i1 >= order.length)
+      return false;
+    int v1 = order[i1];
+    int i2 = i1 + 1;
+    while (i2 < order.length && orientation(v0, v1, order[i2]) == 0) {
+      i2++;
+    }
+    if (i2 >= order.length)
+      return false;
+    int v2 = order[i2];
+
+    if (orientation(v0, v1, v2) > 0) {
+      initTriangulation(v0, v1, v2);
+    }
+    else {
+      initTriangulation(v0, v2, v1);
+    }
+
+    for (int i = 1; i < order.length; i++) {
+      if (i == i1 || i == i2) continue;
+      insertSite(order[i]);
+    }
+    return true;
+  }
+
+  /**
+   * Creates a triangulation of a CCW triangle
+   * and the ghost triangles for each of its edges.
+   */
+  private void initTriangulation(int a, int b, int c) {
+    int t = addTriangle(a, b, c);
+    int g0 = addTriangle(b, a, INFINITE);
+    int g1 = addTriangle(c, b, INFINITE);
+    int g2 = addTriangle(a, c, INFINITE);
+    link(t, g0);
+    link(t + 1, g1);
+    link(t + 2, g2);
+    link(g0 + 1, g2 + 2);
+    link(g1 + 1, g0 + 2);
+    link(g2 + 1, g1 + 2);
+    lastTri = 0;
+  }
+
+  private int addTriangle(int v0, int v1, int v2) {
+    int e = 3 * numTri;
+    triVertex[e] = v0;
+    triVertex[e + 1] = v1;
+    triVertex[e + 2] = v2;
+    triAdj[e] = NO_EDGE;
+    triAdj[e + 1] = NO_EDGE;
+    triAdj[e + 2] = NO_EDGE;
+    numTri++;
+    return e;
+  }
+
+  private void link(int e0, int e1) {
+    triAdj[e0] = e1;
+    if (e1 != NO_EDGE) {
+      triAdj[e1] = e0;
+    }
+  }
+
+  private void insertSite(int v) {
+    int t = locate(v);
+    if (locateNumOnEdge >= 2) {
+      //-- site is a duplicate of a vertex
+      return;
+    }
+    if (locateNumOnEdge == 1) {
+      splitEdge(locateOnEdge, v);
+    }
+    else {
+      splitTriangle(t, v);
+    }
+  }
+
+  /**
+   * Locates a site in the triangulation,
+   * by walking from the last triangle located
+   * towards the site.
+   * The result is the triangle containing the site,
+   * or a ghost triangle if the site is outside the convex hull.
+   * The number of triangle edges containing the site
+   * and the last such edge are recorded.
+   * A site lying on two edges is a duplicate of a vertex.
+   *
+   * @param v the site to locate
+   * @return the triangle containing the site
+   */
+  private int locate(int v) {
+    int t = lastTri;
+    if (isGhost(t)) {
+      t = triAdj[finiteEdge(t)] / 3;
+    }
+    //-- the half-edge by which the walk entered the triangle
+    int entryEdge = NO_EDGE;
+    int maxIter = numTri;
+    for (int iter = 0; iter <= maxIter; iter++) {
+      int onEdge = NO_EDGE;
+      int numOn = 0;
+      int exitEdge = NO_EDGE;
+      for (int i = 0; i < 3; i++) {
+        int e = 3 * t + i;
+        if (e == entryEdge) continue;
+        int orient = orientation(triVertex[e], triVertex[next(e)], v);
+        if (orient < 0) {
+          exitEdge = e;
+          break;
+        }
+        if (orient == 0) {
+          onEdge = e;
+          numOn++;
+        }
+      }
+      if (exitEdge == NO_EDGE) {
+        lastTri = t;
+        locateOnEdge = onEdge;
+        locateNumOnEdge = numOn;
+        return t;
+      }
+
+      entryEdge = triAdj[exitEdge];
+      t = entryEdge / 3;
+      if (isGhost(t)) {
+        //-- site is outside the convex hull
+        lastTri = t;
+        locateNumOnEdge = 0;
+        return t;
+      }
+    }
+    throw new LocateFailureException("Locate failed to converge at site " + createCoordinate(v));
+  }
+
+  private int finiteEdge(int t) {
+    for (int e = 3 * t; e < 3 * t + 3; e++) {
+      if (triVertex[e] != INFINITE && triVertex[next(e)] != INFINITE)
+        return e;
+    }
+    return NO_EDGE;
+  }
+
+  /**
+   * Splits a triangle into three by adding a vertex in its interior.
+   *
+   * @param t the triangle to split
+   * @param p the vertex to add
+   */
+  private void splitTriangle(int t, int p) {
+    int e0 = 3 * t;
+    int e1 = e0 + 1;
+    int e2 = e0 + 2;
+    int a = triVertex[e0];
+    int b = triVertex[e1];
+    int c = triVertex[e2];
+    int adj1 = triAdj[e1];
+    int adj2 = triAdj[e2];
+
+    //-- t becomes (a, b, p)
+    triVertex[e2] = p;
+    int t1 = addTriangle(b, c, p);
+    int t2 = addTriangle(c, a, p);
+    link(t1, adj1);
+    link(t2, adj2);
+    link(e1, t1 + 2);
+    link(t1 + 1, t2 + 2);
+    link(t2 + 1, e2);
+
+    push(e0);
+    push(t1);
+    push(t2);
+    legalize();
+  }
+
+  /**
+   * Splits the two triangles adjacent to an edge
+   * by adding a vertex in the interior of the edge.
+   *
+   * @param e the half-edge to split
+   * @param p the vertex to add
+   */
+  private void splitEdge(int e, int p) {
+    int f = triAdj[e];
+    int en = next(e);
+    int ep = prev(e);
+    int fn = next(f);
+    int fp = prev(f);
+    int a = triVertex[e];
+    int b = triVertex[en];
+    int c = triVertex[ep];
+    int d = triVertex[fp];
+    int adjEn = triAdj[en];
+    int adjFn = triAdj[fn];
+
+    //-- triangle of e becomes (a, p, c), triangle of f becomes (b, p, d)
+    triVertex[en] = p;
+    triVertex[fn] = p;
+    int t1 = addTriangle(p, b, c);
+    int t2 = addTriangle(p, a, d);
+    link(e, t2);
+    link(t1, f);
+    link(en, t1 + 2);
+    link(t1 + 1, adjEn);
+    link(fn, t2 + 2);
+    link(t2 + 1, adjFn);
+
+    push(ep);
+    push(t1 + 1);
+    push(fp);
+    push(t2 + 1);
+    legalize();
+  }
+
+  private void push(int e) {
+    if (stackSize >= edgeStack.length) {
+      edgeStack = Arrays.copyOf(edgeStack, 2 * edgeStack.length);
+    }
+    edgeStack[stackSize++] = e;
+  }
+
+  /**
+   * Restores the Delaunay condition by flipping
+   * the edges on the stack which are not locally Delaunay.
+   * Each edge on the stack is opposite the inserted vertex
+   * in its triangle.
+   */
+  private void legalize() {
+    while (stackSize > 0) {
+      int e = edgeStack[--stackSize];
+      int f = triAdj[e];
+      int en = next(e);
+      int ep = prev(e);
+      int fn = next(f);
+      int fp = prev(f);
+      int v0 = triVertex[e];
+      int v1 = triVertex[en];
+      int p = triVertex[ep];
+      int opp = triVertex[fp];
+
+      if (isFrameInsert && ! isFlippableForFrame(v0, v1, p, opp))
+        continue;
+      if (! isInCircle(v0, v1, p, opp))
+        continue;
+
+      //-- flip edge to (p, opp), giving triangles (v0, opp, p) and (v1, p, opp)
+      int adjEn = triAdj[en];
+      int adjFn = triAdj[fn];
+      triVertex[en] = opp;
+      triVertex[fn] = p;
+      link(e, adjFn);
+      link(f, adjEn);
+      link(en, fn);
+
+      push(e);
+      push(fp);
+    }
+  }
+
+  /**
+   * Tests whether a vertex is in the circumcircle of a CCW triangle.
+   * The circumcircle of a ghost triangle is the open half-plane
+   * on the outside of its hull edge, plus the interior of the edge.
+   * A vertex at infinity is never in the circumcircle of a triangle.
+   */
+  private boolean isInCircle(int a, int b, int c, int p) {
+    if (p == INFINITE) return false;
+    if (a == INFINITE) return isInGhostCircle(b, c, p);
+    if (b == INFINITE) return isInGhostCircle(c, a, p);
+    if (c == INFINITE) return isInGhostCircle(a, b, p);
+    return TrianglePredicate.isInCircleNormalized(
+        x[a], y[a], x[b], y[b], x[c], y[c], x[p], y[p]);
+  }
+
+  /**
+   * Tests whether a vertex is in the circumcircle
+   * of the ghost triangle (a, b, INFINITE).
+   */
+  private boolean isInGhostCircle(int a, int b, int p) {
+    int orient = orientation(a, b, p);
+    if (orient != 0)
+      return orient > 0;
+    //-- collinear point is inside if it lies in the interior of the edge
+    if (x[a] != x[b])
+      return isBetween(x[p], x[a], x[b]);
+    return isBetween(y[p], y[a], y[b]);
+  }
+
+  private static boolean isBetween(double v, double v0, double v1) {
+    if (v0 < v1)
+      return v0 < v && v < v1;
+    return v1 < v && v < v0;
+  }
+
+  private int orientation(int a, int b, int p) {
+    return Orientation.index(x[a], y[a], x[b], y[b], x[p], y[p]);
+  }
+
+  private boolean isEqual(int v0, int v1) {
+    return x[v0] == x[v1] && y[v0] == y[v1];
+  }
+
+  //==========================================================
+  //  Subdivision export
+  //==========================================================
+
+  /**
+   * Creates a subdivision containing the triangulation.
+   * The vertices of the subdivision frame are added to the triangulation,
+   * joined to the convex hull of the sites.
+   * The edges between sites are not changed.
+   *
+   * @return a subdivision containing the triangulation
+   */
+  private QuadEdgeSubdivision createSubdivision() {
+    QuadEdgeSubdivision sd = new QuadEdgeSubdivision(siteEnv, 0.0);
+    Iterator it = sd.getEdges().iterator();
+    QuadEdge frameEdge0 = (QuadEdge) it.next();
+    QuadEdge frameEdge1 = (QuadEdge) it.next();
+    QuadEdge frameEdge2 = (QuadEdge) it.next();
+    QuadEdge[] frameEdge = new QuadEdge[] { frameEdge0, frameEdge1, frameEdge2 };
+
+    Vertex[] vertex = new Vertex[numSites + NUM_FRAME];
+    for (int i = 0; i < NUM_FRAME; i++) {
+      vertex[numSites + i] = frameEdge[i].orig();
+    }
+    insertFrame(vertex);
+
+    //-- detach the frame edges, to be spliced with the triangulation edges
+    QuadEdge.splice(frameEdge2.sym(), frameEdge0);
+    QuadEdge.splice(frameEdge1.sym(), frameEdge2);
+    QuadEdge.splice(frameEdge0.sym(), frameEdge1);
+
+    QuadEdge[] quadEdge = new QuadEdge[3 * numTri];
+    int[] vertexEdge = new int[numSites + NUM_FRAME];
+    Arrays.fill(vertexEdge, NO_EDGE);
+    for (int t = 0; t < numTri; t++) {
+      if (isGhost(t)) continue;
+      for (int e = 3 * t; e < 3 * t + 3; e++) {
+        int v0 = triVertex[e];
+        vertexEdge[v0] = e;
+        if (quadEdge[e] != null) continue;
+
+        int f = triAdj[e];
+        QuadEdge qe;
+        if (isGhost(f / 3)) {
+          //-- frame triangle edges are CCW, so the frame vertex order matches the edge order
+          qe = frameEdge[v0 - numSites];
+        }
+        else {
+          qe = sd.makeEdge(vertex(vertex, v0), vertex(vertex, triVertex[next(e)]));
+        }
+        quadEdge[e] = qe;
+        quadEdge[f] = qe.sym();
+      }
+    }
+
+    //-- splice the edges around each vertex in CCW order
+    for (int v = 0; v < vertexEdge.length; v++) {
+      int e0 = vertexEdge[v];
+      if (e0 == NO_EDGE) continue;
+      QuadEdge prevQE = quadEdge[e0];
+      int e = oNext(e0);
+      while (e != e0) {
+        QuadEdge qe = quadEdge[e];
+        //-- edges to infinity are not in the subdivision
+        if (qe != null) {
+          QuadEdge.splice(prevQE, qe);
+          prevQE = qe;
+        }
+        e = oNext(e);
+      }
+    }
+    return sd;
+  }
+
+  /**
+   * Gets the next half-edge CCW around the origin of a half-edge.
+   */
+  private int oNext(int e) {
+    return triAdj[prev(e)];
+  }
+
+  private Vertex vertex(Vertex[] vertex, int v) {
+    if (vertex[v] == null) {
+      if (z == null)
+        vertex[v] = new Vertex(x[v], y[v]);
+      else
+        vertex[v] = new Vertex(x[v], y[v], z[v]);
+    }
+    return vertex[v];
+  }
+
+  /**
+   * Inserts the frame vertices into the triangulation.
+   * The frame vertices are outside the convex hull of the sites,
+   * and the edges between sites are treated as constraints
+   * so that the triangles of the sites are unchanged.
+   *
+   * @param vertex the vertex array, containing the frame vertices
+   */
+  private void insertFrame(Vertex[] vertex) {
+    isFrameInsert = true;
+    for (int i = 0; i < NUM_FRAME; i++) {
+      int v = numSites + i;
+      x[v] = vertex[v].getX();
+      y[v] = vertex[v].getY();
+      splitTriangle(findGhostContaining(v), v);
+    }
+    isFrameInsert = false;
+  }
+
+  private int findGhostContaining(int v) {
+    for (int t = 0; t < numTri; t++) {
+      if (! isGhost(t)) continue;
+      int e = finiteEdge(t);
+      if (orientation(triVertex[e], triVertex[next(e)], v) > 0)
+        return t;
+    }
+    throw new IllegalStateException("Frame vertex is inside convex hull");
+  }
+
+  /**
+   * Tests whether an edge can be flipped while inserting the frame.
+   * Edges between sites are not flipped,
+   * and the quadrilateral around the edge must be strictly convex.
+   */
+  private boolean isFlippableForFrame(int v0, int v1, int p, int opp) {
+    if (isSite(v0) && isSite(v1))
+      return false;
+    if (v0 == INFINITE || v1 == INFINITE || opp == INFINITE)
+      return true;
+    return orientation(v0, opp, p) > 0
+        && orientation(v1, p, opp) > 0;
+  }
+}
@@ -77,12 +77,35 @@ public class TrianglePredicate
   public static boolean isInCircleNormalized(
       Coordinate a, Coordinate b, Coordinate c, 
       Coordinate p) {
-    double adx = a.x - p.x;
-    double ady = a.y - p.y;
-    double bdx = b.x - p.x;
-    double bdy = b.y - p.y;
-    double cdx = c.x - p.x;
-    double cdy = c.y - p.y;
+    return isInCircleNormalized(a.x, a.y, b.x, b.y, c.x, c.y, p.x, p.y);
+  }
+  
+  /**
+   * Tests if a point is inside the circle defined by 
+   * the triangle with vertices a, b, c (oriented counter-clockwise),
+   * with the points supplied as ordinate values. 
+   * The computation is the same as
+   * {@link #isInCircleNormalized(Coordinate, Coordinate, Coordinate, Coordinate)}.
+   * 
+   * @param ax the x ordinate of a vertex of the triangle
+   * @param ay the y ordinate of a vertex of the triangle
+   * @param bx the x ordinate of a vertex of the triangle
+   * @param by the y ordinate of a vertex of the triangle
+   * @param cx the x ordinate of a vertex of the triangle
+   * @param cy the y ordinate of a vertex of the triangle
+   * @param px the x ordinate of the point to test
+   * @param py the y ordinate of the point to test
+   * @return true if this point is inside the circle defined by the points a, b, c
+   */
+  public static boolean isInCircleNormalized(
+      double ax, double ay, double bx, double by, double cx, double cy,
+      double px, double py) {
+    double adx = ax - px;
+    double ady = ay - py;
+    double bdx = bx - px;
+    double bdy = by - py;
+    double cdx = cx - px;
+    double cdy = cy - py;
 
     double abdet = adx * bdy - bdx * ady;
     double bcdet = bdx * cdy - cdx * bdy;
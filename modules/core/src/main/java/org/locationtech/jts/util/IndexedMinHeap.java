@@ -0,0 +1,201 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.util;
+
+import java.util.Arrays;
+
+/**
+ * A binary min-heap of integer items in the range [0, capacity),
+ * ordered by <code>double</code> keys
+ * (using the ordering of {@link Double#compare(double, double)}).
+ * Items with equal keys are ordered by increasing item value,
+ * so the order in which items are removed is deterministic.
+ * <p>
+ * The position of each item in the heap is recorded,
+ * so the key of an item can be changed
+ * and an item can be removed in O(log n) time.
+ * This supports algorithms (such as Visvalingam-Whyatt simplification)
+ * which repeatedly remove the minimum item and update the keys
+ * of items affected by the removal.
+ * <p>
+ * The heap is stored in primitive arrays,
+ * so no objects are created for the items.
+ *
+ */
+public class IndexedMinHeap {
+
+  private static final int NOT_PRESENT = -1;
+
+  /**
+   * The items, in heap order
+   */
+  private int[] heap;
+  /**
+   * The location of each item in the heap, or NOT_PRESENT
+   */
+  private int[] location;
+  private double[] key;
+  private int size = 0;
+
+  /**
+   * Creates an empty heap for items in the range [0, capacity).
+   *
+   * @param capacity the number of possible items
+   */
+  public IndexedMinHeap(int capacity) {
+    heap = new int[capacity];
+    location = new int[capacity];
+    Arrays.fill(location, NOT_PRESENT);
+    key = new double[capacity];
+  }
+
+  /**
+   * Gets the number of items in the heap.
+   *
+   * @return the number of items
+   */
+  public int size() {
+    return size;
+  }
+
+  /**
+   * Tests whether the heap is empty.
+   *
+   * @return true if the heap contains no items
+   */
+  public boolean isEmpty() {
+    return size == 0;
+  }
+
+  /**
+   * Tests whether an item is in the heap.
+   *
+   * @param item the item to test
+   * @return true if the item is in the heap
+   */
+  public boolean contains(int item) {
+    return location[item] != NOT_PRESENT;
+  }
+
+  /**
+   * Gets the key of an item in the heap.
+   *
+   * @param item an item in the heap
+   * @return the key of the item
+   */
+  public double getKey(int item) {
+    return key[item];
+  }
+
+  /**
+   * Gets the item with the minimum key, without removing it.
+   *
+   * @return the minimum item, or -1 if the heap is empty
+   */
+  public int peek() {
+    if (size == 0) return NOT_PRESENT;
+    return heap[0];
+  }
+
+  /**
+   * Removes and returns the item with the minimum key.
+   *
+   * @return the minimum item, or -1 if the heap is empty
+   */
+  public int poll() {
+    if (size == 0) return NOT_PRESENT;
+    int item = heap[0];
+    remove(item);
+    return item;
+  }
+
+  /**
+   * Adds an item to the heap with a given key,
+   * or changes the key of the item if it is already in the heap.
+   *
+   * @param item the item to add or update
+   * @param itemKey the key for the item
+   */
+  public void update(int item, double itemKey) {
+    int loc = location[item];
+    key[item] = itemKey;
+    if (loc == NOT_PRESENT) {
+      loc = size++;
+      heap[loc] = item;
+      location[item] = loc;
+      siftUp(loc);
+      return;
+    }
+    siftUp(loc);
+    siftDown(location[item]);
+  }
+
+  /**
+   * Removes an item from the heap, if present.
+   *
+   * @param item the item to remove
+   */
+  public void remove(int item) {
+    int loc = location[item];
+    if (loc == NOT_PRESENT) return;
+    location[item] = NOT_PRESENT;
+    size--;
+    if (loc == size) return;
+    //-- move the last item into the vacated location
+    int last = heap[size];
+    heap[loc] = last;
+    location[last] = loc;
+    siftUp(loc);
+    siftDown(location[last]);
+  }
+
+  private boolean isLess(int item1, int item2) {
+    int comp = Double.compare(key[item1], key[item2]);
+    if (comp != 0) 
+      return comp < 0;
+    return item1 < item2;
+  }
+
+  private void siftUp(int loc) {
+    int item = heap[loc];
+    while (loc > 0) {
+      int parentLoc = (loc - 1) >>> 1;
+      int parent = heap[parentLoc];
+      if (! isLess(item, parent)) break;
+      heap[loc] = parent;
+      location[parent] = loc;
+      loc = parentLoc;
+    }
+    heap[loc] = item;
+    location[item] = loc;
+  }
+
+  private void siftDown(int loc) {
+    int item = heap[loc];
+    int half = size >>> 1;
+    while (loc < half) {
+      int childLoc = 2 * loc + 1;
+      int child = heap[childLoc];
+      int rightLoc = childLoc + 1;
+      if (rightLoc < size && isLess(heap[rightLoc], child)) {
+        childLoc = rightLoc;
+        child = heap[childLoc];
+      }
+      if (! isLess(child, item)) break;
+      heap[loc] = child;
+      location[child] = loc;
+      loc = childLoc;
+    }
+    heap[loc] = item;
+    location[item] = loc;
+  }
+}
@@ -3,6 +3,8 @@ package org.locationtech.jts.algorithm;
 import junit.framework.TestCase;
 import org.locationtech.jts.geom.Coordinate;
 import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.impl.PackedCoordinateSequenceFactory;
 import org.locationtech.jts.io.WKTReader;
 
 public class CentroidTest extends TestCase {
@@ -47,4 +49,26 @@ public class CentroidTest extends TestCase {
         assertTrue(areaWeightedCentroid(g).equals2D(g.getCentroid().getCoordinate(), TOLERANCE));
     }
 
+    public void testCentroidPackedSequences() throws Exception {
+        checkPackedCentroid("POLYGON ((0 0, 0 10, 10 10, 10 0, 0 0), (2 2, 4 2, 4 4, 2 4, 2 2))");
+        checkPackedCentroid("MULTILINESTRING ((0 0, 10 0, 10 5), (20 20, 20 20))");
+        checkPackedCentroid("LINESTRING (5 5, 5 5)");
+        checkPackedCentroid("MULTIPOINT ((1 1), (3 4))");
+    }
+
+    /**
+     * Checks that the centroid computed for packed coordinate sequences
+     * is identical to the one for the default sequences.
+     */
+    private void checkPackedCentroid(String wkt) throws Exception {
+        Geometry g = new WKTReader().read(wkt);
+        GeometryFactory packedFact = new GeometryFactory(PackedCoordinateSequenceFactory.DOUBLE_FACTORY);
+        Geometry gPacked = new WKTReader(packedFact).read(wkt);
+
+        Coordinate expected = Centroid.getCentroid(g);
+        Coordinate actual = Centroid.getCentroid(gPacked);
+        assertEquals(expected.x, actual.x, 0.0);
+        assertEquals(expected.y, actual.y, 0.0);
+    }
+
 }
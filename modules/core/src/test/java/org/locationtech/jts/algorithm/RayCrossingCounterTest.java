@@ -41,6 +41,8 @@ public class RayCrossingCounterTest extends AbstractPointInRingTest {
   {
     Geometry geom = reader.read(wkt);
     assertEquals(expectedLoc, RayCrossingCounter.locatePointInRing(pt, geom.getCoordinates()));
+    CoordinateSequence seq = PackedCoordinateSequenceFactory.DOUBLE_FACTORY.create(geom.getCoordinates());
+    assertEquals(expectedLoc, RayCrossingCounter.locatePointInRing(pt, seq));
   }
 
   public void testRunPtInRing4d()
@@ -11,6 +11,8 @@
  */
 package org.locationtech.jts.algorithm.locate;
 
+import java.util.concurrent.ForkJoinPool;
+
 import org.locationtech.jts.algorithm.AbstractPointInRingTest;
 import org.locationtech.jts.geom.Coordinate;
 import org.locationtech.jts.geom.Geometry;
@@ -53,4 +55,82 @@ public class IndexedPointInAreaLocatorTest extends AbstractPointInRingTest {
    public void testEmpty() throws Exception {
      runPtInRing(Location.EXTERIOR, new Coordinate(0,0), "POLYGON EMPTY");
   }
+   
+   public void testBatchEmpty() throws Exception {
+     checkBatch("POLYGON EMPTY");
+   }
+   
+   public void testBatchPolygonWithHole() throws Exception {
+     checkBatch("POLYGON ((10 10, 10 90, 90 90, 90 10, 10 10), (30 30, 70 30, 70 70, 30 70, 30 30))");
+   }
+   
+   public void testBatchMultiPolygon() throws Exception {
+     checkBatch("MULTIPOLYGON (((10 10, 50 90, 90 10, 10 10)), ((10 50, 10 95, 30 95, 10 50)), ((60 60, 95 95, 95 60, 60 60)))");
+   }
+   
+   public void testBatchFlatPolygon() throws Exception {
+     checkBatch("POLYGON ((10 50, 50 50, 90 50, 10 50))");
+   }
+   
+   public void testBatchManyPoints() throws Exception {
+     Geometry geom = reader.read("POINT (50 50)").buffer(40, 64);
+     checkBatch(geom, gridPoints(1000, 0.1));
+   }
+   
+   public void testBatchNaN() throws Exception {
+     Geometry geom = reader.read("POLYGON ((10 10, 10 90, 90 90, 90 10, 10 10))");
+     int[] locations = new int[2];
+     new IndexedPointInAreaLocator(geom).locate(new double[] { 50, Double.NaN, 50, 50 }, locations);
+     assertEquals(Location.EXTERIOR, locations[0]);
+     assertEquals(Location.INTERIOR, locations[1]);
+   }
+   
+   private void checkBatch(String wkt) throws Exception {
+     checkBatch(reader.read(wkt), gridPoints(21, 5));
+   }
+   
+   private void checkBatch(Geometry geom, double[] xy) {
+     int n = xy.length / 2;
+     int[] expected = new int[n];
+     IndexedPointInAreaLocator loc = new IndexedPointInAreaLocator(geom);
+     for (int i = 0; i < n; i++) {
+       expected[i] = loc.locate(new Coordinate(xy[2 * i], xy[2 * i + 1]));
+     }
+     
+     int[] locations = new int[n];
+     new IndexedPointInAreaLocator(geom).locate(xy, locations);
+     checkLocations(expected, locations, xy);
+     
+     ForkJoinPool pool = new ForkJoinPool(4);
+     try {
+       int[] locationsPar = new int[n];
+       new IndexedPointInAreaLocator(geom).locate(xy, locationsPar, pool);
+       checkLocations(expected, locationsPar, xy);
+     }
+     finally {
+       pool.shutdown();
+     }
+   }
+   
+   private void checkLocations(int[] expected, int[] actual, double[] xy) {
+     for (int i = 0; i < expected.length; i++) {
+       assertEquals("POINT (" + xy[2 * i] + " " + xy[2 * i + 1] + ")", expected[i], actual[i]);
+     }
+   }
+   
+   /**
+    * Creates a grid of points in row order, 
+    * with some lying on the test geometry vertices and edges.
+    */
+   private static double[] gridPoints(int size, double spacing) {
+     double[] xy = new double[2 * size * size];
+     int i = 0;
+     for (int row = 0; row < size; row++) {
+       for (int col = 0; col < size; col++) {
+         xy[i++] = col * spacing;
+         xy[i++] = row * spacing;
+       }
+     }
+     return xy;
+   }
 }
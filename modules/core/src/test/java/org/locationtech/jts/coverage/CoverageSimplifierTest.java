@@ -11,7 +11,17 @@
  */
 package org.locationtech.jts.coverage;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.CoordinateList;
+import org.locationtech.jts.geom.Envelope;
 import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.operation.union.UnaryUnionOp;
 
 import junit.textui.TestRunner;
 import test.jts.GeometryTestCase;
@@ -381,8 +391,144 @@ public class CoverageSimplifierTest extends GeometryTestCase {
     );
   }
   
+  public void testTiledGrid() {
+    Geometry[] coverage = createWavyGrid(12, 10);
+    Geometry[] expected = CoverageSimplifier.simplify(coverage, 0.2);
+    for (int tileSize : new int[] { 1, 7, 50 }) {
+      checkTiled(coverage, 0.2, tileSize, expected);
+    }
+    assertTrue(CoverageValidator.isValid(expected));
+    assertTrue(expected[0].getNumPoints() < coverage[0].getNumPoints());
+  }
+  
+  /**
+   * Staircase edges can collapse a ring if edges in different tiles
+   * are simplified against the original state of each other.
+   * The tiled result differs from the untiled one, but is valid.
+   */
+  public void testTiledStaircase() {
+    Geometry[] coverage = readArray(
+        "POLYGON ((1 0, 1 1, 2 1, 2 2, 2 3, 3 3, 3 4, 4 4, 4 3, 4 2, 4 1, 4 0, 3 0, 2 0, 1 0))",
+        "POLYGON ((0 0, 0 1, 0 2, 0 3, 0 4, 1 4, 2 4, 2 3, 1 3, 1 2, 1 1, 1 0, 0 0))",
+        "MULTIPOLYGON (((1 1, 1 2, 1 3, 2 3, 2 2, 2 1, 1 1)), ((2 3, 2 4, 3 4, 3 3, 2 3)))" );
+    checkTiled(coverage, 1.0, 1, readArray(
+        "POLYGON ((1 0, 1 1, 2 1, 2 3, 3 4, 4 4, 4 0, 1 0))",
+        "POLYGON ((2 4, 2 3, 1 1, 1 0, 0 0, 0 4, 2 4))",
+        "MULTIPOLYGON (((2 3, 1 1, 2 1, 2 3)), ((2 3, 2 4, 3 4, 2 3)))" ));
+  }
+
+  public void testTiledStaircaseValid() {
+    Random random = new Random(1);
+    for (int i = 0; i < 20; i++) {
+      Geometry[] coverage = createStaircase(20, 10 + random.nextInt(60), random);
+      double tolerance = 0.5 + 4 * random.nextDouble();
+      CoverageSimplifier simplifier = new CoverageSimplifier(coverage);
+      simplifier.setTileSize(1 + random.nextInt(20));
+      checkValid(simplifier.simplify(tolerance));
+    }
+  }
+
+  public void testTiledGridInner() {
+    Geometry[] coverage = createWavyGrid(12, 10);
+    CoverageSimplifier simplifier = new CoverageSimplifier(coverage);
+    simplifier.setTileSize(10);
+    Geometry[] actual = simplifier.simplify(0.2, 0);
+    checkEqual(CoverageSimplifier.simplifyInner(coverage, 0.2), actual);
+  }
+  
   //=================================
 
+  /**
+   * Creates a coverage of regions formed from the cells of a square grid,
+   * by assigning each cell to the nearest of a set of random sites.
+   * The region edges are staircases of short segments.
+   */
+  private static Geometry[] createStaircase(int size, int numRegions, Random random) {
+    GeometryFactory factory = new GeometryFactory();
+    Coordinate[] sites = new Coordinate[numRegions];
+    for (int k = 0; k < numRegions; k++) {
+      sites[k] = new Coordinate(size * random.nextDouble(), size * random.nextDouble());
+    }
+    List<List<Geometry>> regionCells = new ArrayList<List<Geometry>>();
+    for (int k = 0; k < numRegions; k++) {
+      regionCells.add(new ArrayList<Geometry>());
+    }
+    for (int i = 0; i < size; i++) {
+      for (int j = 0; j < size; j++) {
+        Coordinate centre = new Coordinate(i + 0.5, j + 0.5);
+        int nearest = 0;
+        for (int k = 1; k < numRegions; k++) {
+          if (centre.distance(sites[k]) < centre.distance(sites[nearest]))
+            nearest = k;
+        }
+        regionCells.get(nearest).add(factory.toGeometry(new Envelope(i, i + 1, j, j + 1)));
+      }
+    }
+    List<Geometry> regions = new ArrayList<Geometry>();
+    for (List<Geometry> cells : regionCells) {
+      if (! cells.isEmpty())
+        regions.add(UnaryUnionOp.union(cells));
+    }
+    return GeometryFactory.toGeometryArray(regions);
+  }
+
+  /**
+   * Creates a grid of square cells with wavy edges.
+   * The edge vertices are computed from their location,
+   * so they are identical in adjacent cells.
+   */
+  private static Geometry[] createWavyGrid(int size, int numSegs) {
+    GeometryFactory factory = new GeometryFactory();
+    Geometry[] cells = new Geometry[size * size];
+    for (int i = 0; i < size; i++) {
+      for (int j = 0; j < size; j++) {
+        CoordinateList pts = new CoordinateList();
+        pts.add(wavyEdge(i, j, true, numSegs), false, true);
+        pts.add(wavyEdge(i + 1, j, false, numSegs), false, true);
+        pts.add(wavyEdge(i, j + 1, true, numSegs), false, false);
+        pts.add(wavyEdge(i, j, false, numSegs), false, false);
+        cells[i * size + j] = factory.createPolygon(pts.toCoordinateArray());
+      }
+    }
+    return cells;
+  }
+  
+  private static Coordinate[] wavyEdge(int x, int y, boolean isHorizontal, int numSegs) {
+    Coordinate[] pts = new Coordinate[numSegs + 1];
+    for (int k = 0; k <= numSegs; k++) {
+      double along = k / (double) numSegs;
+      double offset = (k == 0 || k == numSegs) ? 0 : 0.05 * Math.sin(x + 3 * y + k);
+      pts[k] = isHorizontal ? new Coordinate(x + along, y + offset)
+          : new Coordinate(x + offset, y + along);
+    }
+    return pts;
+  }
+  
+  /**
+   * Checks that simplifying in tiles, sequentially and in parallel,
+   * produces the expected result.
+   */
+  private void checkTiled(Geometry[] input, double tolerance, int tileSize, Geometry[] expected) {
+    CoverageSimplifier simplifier = new CoverageSimplifier(input);
+    simplifier.setTileSize(tileSize);
+    checkEqual(expected, simplifier.simplify(tolerance));
+    ForkJoinPool pool = new ForkJoinPool(4);
+    try {
+      simplifier.setPool(pool);
+      checkEqual(expected, simplifier.simplify(tolerance));
+    }
+    finally {
+      pool.shutdown();
+    }
+  }
+  
+
+  private void checkValid(Geometry[] result) {
+    for (Geometry geom : result) {
+      assertTrue(geom.isValid());
+    }
+    assertTrue(CoverageValidator.isValid(result));
+  }
 
   private void checkNoop(Geometry[] input) {
     Geometry[] actual = CoverageSimplifier.simplify(input, 0);
@@ -392,11 +538,16 @@ public class CoverageSimplifierTest extends GeometryTestCase {
   private void checkResult(Geometry[] input, double[] tolerances, Geometry[] expected) {
     Geometry[] actual = CoverageSimplifier.simplify(input, tolerances);
     checkEqual(expected, actual);
+    CoverageSimplifier simplifier = new CoverageSimplifier(input);
+    simplifier.setTileSize(1);
+    checkEqual(expected, simplifier.simplify(tolerances));
   }
   
   private void checkResult(Geometry[] input, double tolerance, Geometry[] expected) {
     Geometry[] actual = CoverageSimplifier.simplify(input, tolerance);
     checkEqual(expected, actual);
+    //-- each element in its own tile makes all inner edges seams
+    checkTiled(input, tolerance, 1, expected);
   }
   
   private void checkResultRemovalSize(Geometry[] input, double tolerance, double removalFactor, Geometry[] expected) {
@@ -11,7 +11,14 @@
  */
 package org.locationtech.jts.coverage;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import org.locationtech.jts.geom.Coordinate;
 import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.Polygon;
 import org.locationtech.jts.geom.TopologyException;
 
 import junit.textui.TestRunner;
@@ -67,6 +74,15 @@ public class CoverageUnionTest extends GeometryTestCase
         "GEOMETRYCOLLECTION (POLYGON ((0 0, 0 1, 1 1, 1 0, 0 0)), POLYGON ((1 0, 0.9 1, 2 1, 2 0, 1 0)))" );
   }
   
+  public void testTiledGridWithHoles() {
+    Geometry[] coverage = createGridWithHoles(30);
+    Geometry expected = CoverageUnion.union(coverage);
+    assertEquals(4, ((Polygon) expected).getNumInteriorRing());
+    checkTiled(coverage, 1, expected);
+    checkTiled(coverage, 10, expected);
+    checkTiled(coverage, 100, expected);
+  }
+  
   private void checkError(String wktCoverage) {
     Geometry covGeom = read(wktCoverage);
     Geometry[] coverage = toArray(covGeom);
@@ -90,6 +106,41 @@ public class CoverageUnionTest extends GeometryTestCase
     }
     Geometry expected = read(wktExpected);
     checkEqual(expected, actual);
+    checkTiled(coverage, 1, expected);
+  }
+
+  /**
+   * Checks that unioning in tiles, sequentially and in parallel,
+   * produces the expected result.
+   */
+  private void checkTiled(Geometry[] coverage, int tileSize, Geometry expected) {
+    checkEqual(expected.norm(), CoverageUnion.union(coverage, tileSize, null).norm());
+    ForkJoinPool pool = new ForkJoinPool(4);
+    try {
+      checkEqual(expected.norm(), CoverageUnion.union(coverage, tileSize, pool).norm());
+    }
+    finally {
+      pool.shutdown();
+    }
+  }
+
+  /**
+   * Creates a grid of square cells, omitting some to form holes.
+   */
+  private static Geometry[] createGridWithHoles(int size) {
+    GeometryFactory factory = new GeometryFactory();
+    List<Geometry> cells = new ArrayList<Geometry>();
+    for (int i = 0; i < size; i++) {
+      for (int j = 0; j < size; j++) {
+        if (i % 10 == 5 && j % 10 == 5 && i < 20 && j < 20)
+          continue;
+        cells.add(factory.createPolygon(new Coordinate[] {
+            new Coordinate(i, j), new Coordinate(i + 1, j),
+            new Coordinate(i + 1, j + 1), new Coordinate(i, j + 1),
+            new Coordinate(i, j) }));
+      }
+    }
+    return GeometryFactory.toGeometryArray(cells);
   }
 
   private static Geometry[] toArray(Geometry geom) {
@@ -11,7 +11,12 @@
  */
 package org.locationtech.jts.coverage;
 
+import java.util.concurrent.ForkJoinPool;
+
+import org.locationtech.jts.geom.Coordinate;
 import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.Polygon;
 
 import junit.textui.TestRunner;
 import test.jts.GeometryTestCase;
@@ -150,6 +155,43 @@ public class CoverageValidatorTest extends GeometryTestCase
         "MULTIPOLYGON (((9 9, 9 1, 1 1, 2 4, 7 7, 9 9)), EMPTY)" ));
   }
   
+  //========  Parallel and visitor validation  =============================
+
+  public void testLargeGrid() {
+    Geometry[] coverage = createGrid(40);
+    checkValid(coverage);
+    checkParallel(coverage, 0, new Geometry[coverage.length]);
+  }
+
+  public void testLargeGridInvalid() {
+    Geometry[] coverage = createGrid(40);
+    //-- shift some cells to overlap their neighbours
+    for (int i = 7; i < coverage.length; i += 97) {
+      Geometry cell = coverage[i].copy();
+      cell.apply((Coordinate c) -> c.x += 0.5);
+      cell.geometryChanged();
+      coverage[i] = cell;
+    }
+    Geometry[] expected = CoverageValidator.validate(coverage);
+    assertTrue(CoverageValidator.hasInvalidResult(expected));
+    checkParallel(coverage, 0, expected);
+  }
+
+  private static Geometry[] createGrid(int size) {
+    GeometryFactory factory = new GeometryFactory();
+    Geometry[] cells = new Geometry[size * size];
+    for (int i = 0; i < size; i++) {
+      for (int j = 0; j < size; j++) {
+        Polygon cell = factory.createPolygon(new Coordinate[] {
+            new Coordinate(i, j), new Coordinate(i + 1, j),
+            new Coordinate(i + 1, j + 1), new Coordinate(i, j + 1),
+            new Coordinate(i, j) });
+        cells[i * size + j] = cell;
+      }
+    }
+    return cells;
+  }
+
   //------------------------------------------------------------
   
   private void checkValid(Geometry[] coverage) {
@@ -159,10 +201,36 @@ public class CoverageValidatorTest extends GeometryTestCase
   private void checkInvalid(Geometry[] coverage, Geometry[] expected) {
     Geometry[] actual = CoverageValidator.validate(coverage);
     checkEqual(expected, actual);
+    checkParallel(coverage, 0, expected);
   }
   
   private void checkInvalidWithGaps(Geometry[] coverage, double gapWidth, Geometry[] expected) {
     Geometry[] actual = CoverageValidator.validate(coverage, gapWidth);
     checkEqual(expected, actual);
+    checkParallel(coverage, gapWidth, expected);
+  }
+
+  /**
+   * Checks that parallel and visitor validation 
+   * produce the expected result.
+   */
+  private void checkParallel(Geometry[] coverage, double gapWidth, Geometry[] expected) {
+    ForkJoinPool pool = new ForkJoinPool(4);
+    try {
+      CoverageValidator validator = new CoverageValidator(coverage);
+      validator.setGapWidth(gapWidth);
+      validator.setPool(pool);
+      checkEqual(expected, validator.validate());
+      
+      Geometry[] visited = new Geometry[coverage.length];
+      validator.validate((int index, Geometry invalidLines) -> {
+        assertNull(visited[index]);
+        visited[index] = invalidLines;
+      });
+      checkEqual(expected, visited);
+    }
+    finally {
+      pool.shutdown();
+    }
   }
 }
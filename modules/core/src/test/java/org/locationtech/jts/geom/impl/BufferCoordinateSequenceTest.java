@@ -0,0 +1,151 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.geom.impl;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.CoordinateSequence;
+import org.locationtech.jts.geom.CoordinateSequenceFactory;
+import org.locationtech.jts.geom.CoordinateXY;
+import org.locationtech.jts.geom.CoordinateXYM;
+import org.locationtech.jts.geom.CoordinateXYZM;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.LineString;
+import org.locationtech.jts.io.ParseException;
+import org.locationtech.jts.io.WKTReader;
+
+import junit.textui.TestRunner;
+
+/**
+ * Test {@link BufferCoordinateSequence}
+ * using the {@link CoordinateSequenceTestBase}
+ */
+public class BufferCoordinateSequenceTest
+    extends CoordinateSequenceTestBase
+{
+  public static void main(String args[]) {
+    TestRunner.run(BufferCoordinateSequenceTest.class);
+  }
+
+  public BufferCoordinateSequenceTest(String name)
+  {
+    super(name);
+  }
+
+  @Override
+  CoordinateSequenceFactory getCSFactory() {
+    return new BufferCoordinateSequenceFactory();
+  }
+
+  public void testDimensions() {
+    checkDim(2, 0, CoordinateXY.class);
+    checkDim(3, 0, Coordinate.class);
+    checkDim(3, 1, CoordinateXYM.class);
+    checkDim(4, 1, CoordinateXYZM.class);
+  }
+
+  public void testWrapBuffer() {
+    ByteBuffer bytes = ByteBuffer.allocate(8 + 6 * 8).order(ByteOrder.LITTLE_ENDIAN);
+    bytes.position(8);
+    for (int i = 0; i < 6; i++) {
+      bytes.putDouble(i);
+    }
+    bytes.position(8);
+    CoordinateSequence seq = new BufferCoordinateSequenceFactory().create(bytes, 3, 0);
+    assertEquals(2, seq.size());
+    assertEquals(new Coordinate(3, 4, 5), seq.getCoordinate(1));
+
+    // sequence is a view of the buffer
+    seq.setOrdinate(0, 1, 99);
+    assertEquals(99.0, bytes.getDouble(16));
+  }
+
+  public void testSlabAllocation() {
+    BufferCoordinateSequenceFactory factory = new BufferCoordinateSequenceFactory(100);
+    BufferCoordinateSequence seq1 = factory.create(10, 2, 0);
+    BufferCoordinateSequence seq2 = factory.create(10, 2, 0);
+    assertTrue(seq1.getBuffer().isDirect());
+    initProgression(seq1);
+    for (int i = 0; i < seq2.size(); i++) {
+      assertEquals(0.0, seq2.getX(i));
+    }
+    // large sequences are allocated separately
+    BufferCoordinateSequence seqLarge = factory.create(100, 2, 0);
+    assertEquals(200, seqLarge.getBuffer().capacity());
+  }
+
+  public void testCopy() {
+    BufferCoordinateSequence seq = new BufferCoordinateSequenceFactory().create(5, 4, 1);
+    initProgression(seq);
+    BufferCoordinateSequence copy = seq.copy();
+    assertTrue(isEqual(copy, seq.toCoordinateArray()));
+    copy.setOrdinate(0, 0, 99);
+    assertEquals(0.0, seq.getX(0));
+
+    BufferCoordinateSequence seqHeap = new BufferCoordinateSequence(DoubleBuffer.wrap(new double[] { 1, 2, 3, 4 }), 2, 0);
+    assertFalse(seqHeap.copy().getBuffer().isDirect());
+  }
+
+  public void testGeometryOperations() throws ParseException {
+    GeometryFactory geomFact = new GeometryFactory(new BufferCoordinateSequenceFactory());
+    WKTReader rdr = new WKTReader(geomFact);
+    WKTReader rdrArray = new WKTReader();
+    String wktA = "POLYGON ((10 10, 10 90, 90 90, 90 10, 10 10), (30 30, 70 30, 70 70, 30 70, 30 30))";
+    String wktB = "LINESTRING (0 50, 100 50)";
+    Geometry a = rdr.read(wktA);
+    Geometry b = rdr.read(wktB);
+    Geometry aArray = rdrArray.read(wktA);
+    Geometry bArray = rdrArray.read(wktB);
+
+    Geometry inter = a.intersection(b);
+    assertTrue(((LineString) inter.getGeometryN(0)).getCoordinateSequence() instanceof BufferCoordinateSequence);
+    assertTrue(inter.equalsExact(aArray.intersection(bArray)));
+    assertTrue(a.buffer(5).equalsExact(aArray.buffer(5)));
+    assertEquals(aArray.getArea(), a.getArea());
+    assertEquals(aArray.relate(bArray).toString(), a.relate(b).toString());
+    assertTrue(a.reverse().equalsExact(aArray.reverse()));
+    assertTrue(a.copy().equalsExact(aArray));
+  }
+
+  private void checkDim(int dimension, int measures, Class<?> coordClass) {
+    CoordinateSequenceFactory factory = getCSFactory();
+    CoordinateSequence seq = factory.create(5, dimension, measures);
+    initProgression(seq);
+
+    assertEquals(dimension, seq.getDimension());
+    assertEquals(measures, seq.getMeasures());
+
+    Coordinate coord = seq.getCoordinate(4);
+    assertTrue(coord.getClass() == coordClass);
+    assertEquals(4.0, coord.getX());
+    assertEquals(4.0, coord.getY());
+    if (seq.hasZ()) assertEquals(4.0, coord.getZ());
+    if (seq.hasM()) assertEquals(4.0, coord.getM());
+
+    Coordinate[] array = seq.toCoordinateArray();
+    assertTrue(isEqual(seq, array));
+    assertTrue(isEqual(factory.create(array), array));
+    assertTrue(isEqual(factory.create(seq), array));
+  }
+
+  private static void initProgression(CoordinateSequence seq) {
+    for (int index = 0; index < seq.size(); index++) {
+      for (int ordinateIndex = 0; ordinateIndex < seq.getDimension(); ordinateIndex++) {
+        seq.setOrdinate(index, ordinateIndex, index);
+      }
+    }
+  }
+}
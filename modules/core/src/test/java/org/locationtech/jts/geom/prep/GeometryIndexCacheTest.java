@@ -0,0 +1,169 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.geom.prep;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.CoordinateFilter;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.IntersectionMatrix;
+import org.locationtech.jts.operation.distance.DistanceOp;
+import org.locationtech.jts.operation.overlayng.OverlayNG;
+import org.locationtech.jts.operation.relateng.RelateNG;
+import org.locationtech.jts.operation.relateng.RelatePredicate;
+
+import junit.textui.TestRunner;
+import test.jts.GeometryTestCase;
+
+public class GeometryIndexCacheTest extends GeometryTestCase {
+
+  public static void main(String args[]) {
+    TestRunner.run(GeometryIndexCacheTest.class);
+  }
+
+  public GeometryIndexCacheTest(String name) {
+    super(name);
+  }
+
+  public void testCacheEnabled() {
+    Geometry geom = read("POLYGON ((1 1, 1 9, 9 9, 9 1, 1 1))");
+    assertNull(geom.getIndexCache());
+    geom.setIndexCached(true);
+    GeometryIndexCache cache = geom.getIndexCache();
+    assertNotNull(cache);
+    assertSame(geom, cache.getGeometry());
+    geom.setIndexCached(true);
+    assertSame(cache, geom.getIndexCache());
+    assertNull(geom.copy().getIndexCache());
+    geom.setIndexCached(false);
+    assertNull(geom.getIndexCache());
+  }
+
+  public void testCachedStructuresReused() {
+    Geometry geom = read("POLYGON ((1 1, 1 9, 9 9, 9 1, 1 1))");
+    geom.setIndexCached(true);
+    GeometryIndexCache cache = geom.getIndexCache();
+    assertSame(cache.getRelate(), cache.getRelate());
+    assertSame(cache.getFacetDistance(), cache.getFacetDistance());
+    assertSame(cache.getPointInAreaLocator(), cache.getPointInAreaLocator());
+  }
+
+  public void testRelate() {
+    Geometry master = createMaster();
+    List<Geometry> geoms = createSmall(200);
+    List<IntersectionMatrix> expected = new ArrayList<IntersectionMatrix>();
+    for (Geometry g : geoms) {
+      expected.add(RelateNG.relate(master, g));
+    }
+    master.setIndexCached(true);
+    for (int i = 0; i < geoms.size(); i++) {
+      Geometry g = geoms.get(i);
+      IntersectionMatrix im = expected.get(i);
+      assertEquals(im.toString(), RelateNG.relate(master, g).toString());
+      //-- cache on B is used with a transposed matrix
+      assertEquals(im.toString(), RelateNG.relate(g, master).transpose().toString());
+      assertEquals(im.isIntersects(), RelateNG.relate(master, g, RelatePredicate.intersects()));
+      assertEquals(im.isContains(), RelateNG.relate(master, g, RelatePredicate.contains()));
+    }
+  }
+
+  public void testDistance() {
+    Geometry master = createMaster();
+    List<Geometry> geoms = createSmall(200);
+    List<Double> expected = new ArrayList<Double>();
+    for (Geometry g : geoms) {
+      expected.add(DistanceOp.distance(master, g));
+    }
+    master.setIndexCached(true);
+    for (int i = 0; i < geoms.size(); i++) {
+      Geometry g = geoms.get(i);
+      double dist = expected.get(i);
+      assertEquals(dist, DistanceOp.distance(master, g), 0.0);
+      assertEquals(dist, DistanceOp.distance(g, master), 0.0);
+      assertTrue(DistanceOp.isWithinDistance(master, g, dist));
+      if (dist > 0) {
+        assertFalse(DistanceOp.isWithinDistance(g, master, dist / 2));
+      }
+    }
+  }
+
+  public void testOverlay() {
+    Geometry master = createMaster();
+    List<Geometry> geoms = createSmall(200);
+    List<Geometry> expectedInt = new ArrayList<Geometry>();
+    List<Geometry> expectedDiff = new ArrayList<Geometry>();
+    for (Geometry g : geoms) {
+      expectedInt.add(OverlayNG.overlay(master, g, OverlayNG.INTERSECTION));
+      expectedDiff.add(OverlayNG.overlay(g, master, OverlayNG.DIFFERENCE));
+    }
+    master.setIndexCached(true);
+    for (int i = 0; i < geoms.size(); i++) {
+      Geometry g = geoms.get(i);
+      checkEqualExact(expectedInt.get(i), OverlayNG.overlay(master, g, OverlayNG.INTERSECTION));
+      checkEqualExact(expectedDiff.get(i), OverlayNG.overlay(g, master, OverlayNG.DIFFERENCE));
+    }
+  }
+
+  public void testOverlayPoints() {
+    Geometry master = createMaster();
+    Geometry pts = read("MULTIPOINT ((0 0), (50 50), (30 50), (99 99))");
+    Geometry expected = OverlayNG.overlay(master, pts, OverlayNG.INTERSECTION);
+    master.setIndexCached(true);
+    checkEqualExact(expected, OverlayNG.overlay(master, pts, OverlayNG.INTERSECTION));
+  }
+
+  public void testGeometryChanged() {
+    Geometry geom = read("POLYGON ((1 1, 1 9, 9 9, 9 1, 1 1))");
+    Geometry pt = read("POINT (15 5)");
+    geom.setIndexCached(true);
+    GeometryIndexCache cache = geom.getIndexCache();
+    assertEquals(6.0, DistanceOp.distance(geom, pt), 0.0);
+    assertFalse(RelateNG.relate(geom, pt, RelatePredicate.intersects()));
+
+    geom.apply(new CoordinateFilter() {
+      public void filter(Coordinate coord) {
+        coord.x += 10;
+      }
+    });
+    geom.geometryChanged();
+
+    assertNotSame(cache, geom.getIndexCache());
+    assertEquals(0.0, DistanceOp.distance(geom, pt), 0.0);
+    assertTrue(RelateNG.relate(geom, pt, RelatePredicate.intersects()));
+  }
+
+  /**
+   * Creates a large polygon with a hole and concave sections.
+   */
+  private Geometry createMaster() {
+    Geometry line = read("LINESTRING (10 10, 90 20, 50 50, 80 90, 20 80, 30 40)");
+    Geometry buf = line.buffer(8, 32);
+    Geometry hole = read("POINT (50 75)").buffer(5, 16);
+    return buf.difference(hole);
+  }
+
+  private List<Geometry> createSmall(int num) {
+    Random rand = new Random(17);
+    List<Geometry> geoms = new ArrayList<Geometry>();
+    for (int i = 0; i < num; i++) {
+      double x = 100 * rand.nextDouble();
+      double y = 100 * rand.nextDouble();
+      Geometry geom = getGeometryFactory().createPoint(new Coordinate(x, y))
+          .buffer(1 + 4 * rand.nextDouble(), 4);
+      geoms.add(geom);
+    }
+    return geoms;
+  }
+}
@@ -0,0 +1,165 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.index.hprtree;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.index.SpatialIndexTester;
+
+import junit.framework.TestCase;
+import junit.textui.TestRunner;
+
+public class DynamicHPRtreeTest extends TestCase {
+
+  public static void main(String args[]) {
+    TestRunner.run(DynamicHPRtreeTest.class);
+  }
+
+  public DynamicHPRtreeTest(String name) {
+    super(name);
+  }
+
+  public void testEmpty() {
+    DynamicHPRtree tree = new DynamicHPRtree();
+    assertTrue(tree.query(new Envelope(0, 1, 0, 1)).isEmpty());
+    assertFalse(tree.remove(new Envelope(0, 1, 0, 1), "a"));
+    assertEquals(0, tree.size());
+  }
+
+  public void testSpatialIndex()
+  throws Exception
+  {
+    SpatialIndexTester tester = new SpatialIndexTester();
+    tester.setSpatialIndex(new DynamicHPRtree());
+    tester.init();
+    tester.run();
+    assertTrue(tester.isSuccess());
+  }
+
+  public void testInsertAfterBuild() {
+    DynamicHPRtree tree = new DynamicHPRtree(4);
+    for (int i = 0; i < 10; i++) {
+      tree.insert(new Envelope(i, i + 1, i, i + 1), i);
+    }
+    tree.build();
+    tree.insert(new Envelope(5, 6, 5, 6), 100);
+    assertEquals(4, tree.query(new Envelope(5, 6, 5, 6)).size());
+    assertEquals(11, tree.size());
+  }
+
+  public void testRemove() {
+    DynamicHPRtree tree = new DynamicHPRtree(4);
+    Integer[] items = new Integer[10];
+    for (int i = 0; i < 10; i++) {
+      items[i] = i;
+      tree.insert(new Envelope(i, i + 1, i, i + 1), items[i]);
+    }
+    tree.build();
+    // item in packed tree
+    assertTrue(tree.remove(new Envelope(5, 6, 5, 6), items[5]));
+    assertFalse(tree.remove(new Envelope(5, 6, 5, 6), items[5]));
+    // envelope does not match
+    assertFalse(tree.remove(new Envelope(20, 21, 20, 21), items[6]));
+    assertEquals(2, tree.query(new Envelope(5, 6, 5, 6)).size());
+
+    // item in delta
+    Integer item = 100;
+    tree.insert(new Envelope(5, 6, 5, 6), item);
+    assertEquals(3, tree.query(new Envelope(5, 6, 5, 6)).size());
+    assertTrue(tree.remove(new Envelope(5, 6, 5, 6), item));
+    assertEquals(2, tree.query(new Envelope(5, 6, 5, 6)).size());
+    assertEquals(9, tree.size());
+  }
+
+  public void testMoveItem() {
+    DynamicHPRtree tree = new DynamicHPRtree();
+    Object item = "a";
+    tree.insert(new Envelope(0, 1, 0, 1), item);
+    tree.build();
+    assertTrue(tree.remove(new Envelope(0, 1, 0, 1), item));
+    tree.insert(new Envelope(10, 11, 10, 11), item);
+    assertTrue(tree.query(new Envelope(0, 1, 0, 1)).isEmpty());
+    assertEquals(1, tree.query(new Envelope(10, 11, 10, 11)).size());
+
+    tree.repack();
+    assertTrue(tree.query(new Envelope(0, 1, 0, 1)).isEmpty());
+    assertEquals(1, tree.query(new Envelope(10, 11, 10, 11)).size());
+    assertEquals(1, tree.size());
+  }
+
+  public void testUpdates() {
+    checkUpdates(null);
+  }
+
+  public void testUpdatesBackground() {
+    ForkJoinPool pool = new ForkJoinPool(2);
+    try {
+      checkUpdates(pool);
+    }
+    finally {
+      pool.shutdown();
+    }
+  }
+
+  /**
+   * Moves random items, checking the query results
+   * against a list of the current item envelopes.
+   * Enough items are moved to trigger several re-packs.
+   */
+  private void checkUpdates(ForkJoinPool pool) {
+    int numItems = 2000;
+    Random random = new Random(1234);
+    DynamicHPRtree tree = new DynamicHPRtree();
+    tree.setPool(pool);
+    Object[] items = new Object[numItems];
+    Envelope[] envs = new Envelope[numItems];
+    for (int i = 0; i < numItems; i++) {
+      items[i] = new Object();
+      envs[i] = randomEnvelope(random);
+      tree.insert(envs[i], items[i]);
+    }
+    tree.build();
+    for (int n = 0; n < 10 * numItems; n++) {
+      int i = random.nextInt(numItems);
+      assertTrue(tree.remove(envs[i], items[i]));
+      envs[i] = randomEnvelope(random);
+      tree.insert(envs[i], items[i]);
+      if (n % 500 == 0) {
+        checkQuery(tree, items, envs, randomEnvelope(random));
+      }
+    }
+    checkQuery(tree, items, envs, new Envelope(0, 1000, 0, 1000));
+    assertEquals(numItems, tree.size());
+  }
+
+  private void checkQuery(DynamicHPRtree tree, Object[] items, Envelope[] envs, Envelope searchEnv) {
+    Set<Object> expected = new HashSet<Object>();
+    for (int i = 0; i < items.length; i++) {
+      if (envs[i].intersects(searchEnv)) expected.add(items[i]);
+    }
+    List<?> result = tree.query(searchEnv);
+    assertEquals(expected.size(), result.size());
+    assertEquals(expected, new HashSet<Object>(result));
+  }
+
+  private static Envelope randomEnvelope(Random random) {
+    double x = 1000 * random.nextDouble();
+    double y = 1000 * random.nextDouble();
+    return new Envelope(x, x + 10, y, y + 10);
+  }
+}
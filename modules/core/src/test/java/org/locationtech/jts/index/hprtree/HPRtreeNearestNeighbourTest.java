@@ -0,0 +1,166 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.index.hprtree;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.Point;
+import org.locationtech.jts.index.strtree.GeometryItemDistance;
+import org.locationtech.jts.index.strtree.STRtree;
+
+import test.jts.GeometryTestCase;
+
+public class HPRtreeNearestNeighbourTest extends GeometryTestCase {
+
+  private static final String POINTS_A = "MULTIPOINT( 0 0, 10 10, 0 10, 10 0, 9 9)";
+  private static final String POINTS_B = "MULTIPOINT( 5 5, 15 15, 5 15, 15 5, 8 8)";
+
+  public HPRtreeNearestNeighbourTest(String name) {
+    super(name);
+  }
+
+  public static void main(String[] args) {
+    String[] testCaseName = { HPRtreeNearestNeighbourTest.class.getName() };
+    junit.textui.TestRunner.main(testCaseName);
+  }
+
+  public void testNearestNeighbourEmpty() {
+    HPRtree tree = new HPRtree();
+    Geometry geom = read("POINT (1 1)");
+    assertNull(tree.nearestNeighbour(geom.getEnvelopeInternal(), geom, new GeometryItemDistance()));
+    assertNull(tree.nearestNeighbour(new GeometryItemDistance()));
+    assertEquals(0, tree.nearestNeighbour(geom.getEnvelopeInternal(), geom, new GeometryItemDistance(), 3).length);
+  }
+
+  public void testNearestNeighbours() {
+    HPRtree tree = build(read(POINTS_A), 2);
+    Object[] nn = tree.nearestNeighbour(new GeometryItemDistance());
+    checkPair(nn, "POINT (9 9)", "POINT (10 10)");
+  }
+
+  public void testNearestNeighboursTrees() {
+    HPRtree treeA = build(read(POINTS_A), 2);
+    HPRtree treeB = build(read(POINTS_B), 2);
+    Object[] nn = treeA.nearestNeighbour(treeB, new GeometryItemDistance());
+    checkPair(nn, "POINT (9 9)", "POINT (8 8)");
+  }
+
+  public void testWithinDistance() {
+    HPRtree treeA = build(read(POINTS_A), 2);
+    HPRtree treeB = build(read(POINTS_B), 2);
+    assertTrue(treeA.isWithinDistance(treeB, new GeometryItemDistance(), 1.5));
+    assertFalse(treeA.isWithinDistance(treeB, new GeometryItemDistance(), 1.4));
+  }
+
+  public void testRandomItemQueryMatchesSTRtree() {
+    checkRandomItemQuery(1000, 16);
+    checkRandomItemQuery(1000, 4);
+    checkRandomItemQuery(10, 16);
+  }
+
+  public void testRandomKNNMatchesSTRtree() {
+    checkRandomKNN(1000, 16, 10);
+    checkRandomKNN(1000, 3, 7);
+    checkRandomKNN(5, 16, 10);
+  }
+
+  public void testRandomTreesMatchesSTRtree() {
+    List<Geometry> ptsA = randomPoints(500, 1);
+    List<Geometry> ptsB = randomPoints(700, 2);
+    HPRtree hprA = buildHPR(ptsA, 8);
+    HPRtree hprB = buildHPR(ptsB, 8);
+    STRtree strA = buildSTR(ptsA);
+    STRtree strB = buildSTR(ptsB);
+    Object[] nnHPR = hprA.nearestNeighbour(hprB, new GeometryItemDistance());
+    Object[] nnSTR = strA.nearestNeighbour(strB, new GeometryItemDistance());
+    assertEquals(distance(nnSTR), distance(nnHPR), 0.0);
+  }
+
+  private void checkRandomItemQuery(int n, int nodeCapacity) {
+    List<Geometry> pts = randomPoints(n, 3);
+    HPRtree hpr = buildHPR(pts, nodeCapacity);
+    STRtree str = buildSTR(pts);
+    for (Geometry q : randomPoints(50, 4)) {
+      Geometry nnHPR = (Geometry) hpr.nearestNeighbour(q.getEnvelopeInternal(), q, new GeometryItemDistance());
+      Geometry nnSTR = (Geometry) str.nearestNeighbour(q.getEnvelopeInternal(), q, new GeometryItemDistance());
+      assertEquals(nnSTR.distance(q), nnHPR.distance(q), 0.0);
+    }
+  }
+
+  private void checkRandomKNN(int n, int nodeCapacity, int k) {
+    List<Geometry> pts = randomPoints(n, 5);
+    HPRtree hpr = buildHPR(pts, nodeCapacity);
+    STRtree str = buildSTR(pts);
+    for (Geometry q : randomPoints(20, 6)) {
+      Object[] nnHPR = hpr.nearestNeighbour(q.getEnvelopeInternal(), q, new GeometryItemDistance(), k);
+      Object[] nnSTR = str.nearestNeighbour(q.getEnvelopeInternal(), q, new GeometryItemDistance(), k);
+      assertEquals(nnSTR.length, nnHPR.length);
+      for (int i = 0; i < nnHPR.length; i++) {
+        assertEquals(((Geometry) nnSTR[i]).distance(q), ((Geometry) nnHPR[i]).distance(q), 0.0);
+      }
+    }
+  }
+
+  private void checkPair(Object[] nn, String wkt0, String wkt1) {
+    assertEquals(2, nn.length);
+    Geometry g0 = (Geometry) nn[0];
+    Geometry g1 = (Geometry) nn[1];
+    Geometry e0 = read(wkt0);
+    Geometry e1 = read(wkt1);
+    boolean isMatch = (g0.equalsExact(e0) && g1.equalsExact(e1))
+        || (g0.equalsExact(e1) && g1.equalsExact(e0));
+    assertTrue(isMatch);
+  }
+
+  private static double distance(Object[] pair) {
+    return ((Geometry) pair[0]).distance((Geometry) pair[1]);
+  }
+
+  private static HPRtree build(Geometry geom, int nodeCapacity) {
+    HPRtree tree = new HPRtree(nodeCapacity);
+    for (int i = 0; i < geom.getNumGeometries(); i++) {
+      Geometry g = geom.getGeometryN(i);
+      tree.insert(g.getEnvelopeInternal(), g);
+    }
+    return tree;
+  }
+
+  private static HPRtree buildHPR(List<Geometry> geoms, int nodeCapacity) {
+    HPRtree tree = new HPRtree(nodeCapacity);
+    for (Geometry g : geoms) {
+      tree.insert(g.getEnvelopeInternal(), g);
+    }
+    return tree;
+  }
+
+  private static STRtree buildSTR(List<Geometry> geoms) {
+    STRtree tree = new STRtree();
+    for (Geometry g : geoms) {
+      tree.insert(g.getEnvelopeInternal(), g);
+    }
+    return tree;
+  }
+
+  private List<Geometry> randomPoints(int n, long seed) {
+    Random rnd = new Random(seed);
+    List<Geometry> pts = new ArrayList<Geometry>();
+    for (int i = 0; i < n; i++) {
+      Point pt = getGeometryFactory().createPoint(new Coordinate(100 * rnd.nextDouble(), 100 * rnd.nextDouble()));
+      pts.add(pt);
+    }
+    return pts;
+  }
+}
@@ -203,6 +203,121 @@ public class KdTreeTest extends TestCase {
       assertEquals(n, tree.getNodes().size());
   }
   
+  public void testBuild() {
+    checkBuild("MULTIPOINT ( (10 60), (20 60), (16 60), (1 1), (23 400), (20 60), (10 0))", 0);
+  }
+
+  public void testBuildEmpty() {
+    KdTree index = new KdTree();
+    index.build(new Coordinate[0]);
+    assertTrue(index.isEmpty());
+  }
+
+  public void testBuildNotEmpty() {
+    KdTree index = new KdTree();
+    index.insert(new Coordinate(1, 1));
+    try {
+      index.build(new Coordinate[] { new Coordinate(2, 2) });
+      fail("Building a tree which is not empty should fail");
+    }
+    catch (IllegalStateException ex) {
+      // expected
+    }
+  }
+
+  public void testBuildTolerance() {
+    checkBuild("MULTIPOINT ( (0 0), (-.1 1), (.1 1) )", 1);
+    checkBuild("MULTIPOINT ((10 60), (20 60), (30 60), (30 63))", 9);
+  }
+
+  public void testBuildNegativeZero() {
+    KdTree index = new KdTree();
+    index.build(new Coordinate[] { new Coordinate(0, 1), new Coordinate(-0.0, 1) });
+    assertEquals(1, index.size());
+    assertEquals(2, index.getRoot().getCount());
+  }
+
+  public void testBuildData() {
+    Coordinate[] pts = new Coordinate[] { 
+        new Coordinate(1, 1), new Coordinate(2, 2), new Coordinate(1, 1) };
+    KdTree index = new KdTree();
+    index.build(pts, new Object[] { "a", "b", "c" });
+    assertEquals("a", index.query(new Coordinate(1, 1)).getData());
+    assertEquals("b", index.query(new Coordinate(2, 2)).getData());
+  }
+
+  public void testBuildRandom() {
+    checkBuildRandom(0);
+    checkBuildRandom(5);
+  }
+
+  /**
+   * Tests that a tree built from sorted points is balanced.
+   */
+  public void testBuildSortedDepth() {
+    int n = 10000;
+    Coordinate[] pts = new Coordinate[n];
+    for (int i = 0; i < n; i++) {
+      pts[i] = new Coordinate(i, i);
+    }
+    KdTree index = new KdTree();
+    index.build(pts);
+    assertEquals(n, index.size());
+    assertEquals(14, index.depth());
+    for (int i = 0; i < n; i++) {
+      assertNotNull(index.query(pts[i]));
+    }
+  }
+
+  /**
+   * Tests that a built tree has the same nodes 
+   * as one created by inserting the points,
+   * and that it is balanced.
+   */
+  private void checkBuildRandom(double tolerance) {
+    Random rand = new Random(1313);
+    int n = 5000;
+    Coordinate[] pts = new Coordinate[n];
+    for (int i = 0; i < n; i++) {
+      //-- use a coarse grid to create duplicate ordinates
+      pts[i] = new Coordinate(rand.nextInt(200), rand.nextInt(200));
+    }
+    KdTree index = checkBuild(pts, tolerance);
+    assertTrue(index.depth() <= 1 + 32 - Integer.numberOfLeadingZeros(index.size()));
+    
+    for (int i = 0; i < 100; i++) {
+      Coordinate query = new Coordinate(200 * rand.nextDouble(), 200 * rand.nextDouble());
+      Coordinate nearest = index.nearestNeighbor(query).getCoordinate();
+      assertEquals(query.distance(bruteForceNearestNeighbor(index, query)), 
+          query.distance(nearest));
+      Envelope queryEnv = new Envelope(query.x, query.x + 20, query.y, query.y + 20);
+      assertEquals(new HashSet<Coordinate>(bruteForceInEnvelope(index, queryEnv)),
+          new HashSet<Coordinate>(Arrays.asList(KdTree.toCoordinates(index.query(queryEnv)))));
+    }
+  }
+
+  private void checkBuild(String wktInput, double tolerance) {
+    checkBuild(IOUtil.read(wktInput).getCoordinates(), tolerance);
+  }
+
+  private KdTree checkBuild(Coordinate[] pts, double tolerance) {
+    KdTree insertIndex = new KdTree(tolerance);
+    for (Coordinate p : pts) {
+      insertIndex.insert(p);
+    }
+    KdTree index = new KdTree(tolerance);
+    index.build(pts);
+    
+    List<KdNode> expected = insertIndex.getNodes();
+    assertEquals(expected.size(), index.size());
+    for (KdNode expectedNode : expected) {
+      KdNode node = index.query(expectedNode.getCoordinate());
+      assertNotNull("Point query not found", node);
+      assertEquals(expectedNode.getCount(), node.getCount());
+    }
+    return index;
+  }
+
   private void testQuery(String wktInput, double tolerance,
       Envelope queryEnv, String wktExpected) {
     KdTree index = build(wktInput, tolerance);
@@ -0,0 +1,230 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.index.quadtree;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.index.ItemVisitor;
+import org.locationtech.jts.index.SpatialIndexTester;
+
+import junit.framework.TestCase;
+import junit.textui.TestRunner;
+
+public class ConcurrentQuadtreeTest extends TestCase {
+  public static void main(String args[]) {
+    TestRunner.run(ConcurrentQuadtreeTest.class);
+  }
+
+  public ConcurrentQuadtreeTest(String name) {
+    super(name);
+  }
+
+  public void testSpatialIndex() {
+    SpatialIndexTester tester = new SpatialIndexTester();
+    tester.setSpatialIndex(new ConcurrentQuadtree());
+    tester.init();
+    tester.run();
+    assertTrue(tester.isSuccess());
+  }
+
+  @SuppressWarnings("rawtypes")
+  public void testNullQuery() {
+    ConcurrentQuadtree qt = new ConcurrentQuadtree();
+    List result1 = qt.query(null);
+    assertTrue(result1.size() == 0);
+
+    qt.insert(new Envelope(0, 10, 0, 10), "some data");
+    List result2 = qt.query(null);
+    assertTrue(result2.size() == 0);
+  }
+
+  public void testRemove() {
+    ConcurrentQuadtree qt = new ConcurrentQuadtree();
+    qt.insert(new Envelope(1, 2, 1, 2), "a");
+    qt.insert(new Envelope(-1, 1, -1, 1), "b");
+    qt.insert(new Envelope(1, 1, 5, 5), "c");
+    assertEquals(3, qt.size());
+    assertFalse(qt.remove(new Envelope(1, 2, 1, 2), "x"));
+    assertTrue(qt.remove(new Envelope(1, 2, 1, 2), "a"));
+    assertTrue(qt.remove(new Envelope(-1, 1, -1, 1), "b"));
+    assertTrue(qt.remove(new Envelope(1, 1, 5, 5), "c"));
+    assertTrue(qt.isEmpty());
+    //-- empty nodes are trimmed
+    assertEquals(1, qt.depth());
+  }
+
+  /**
+   * Checks that updating the items of a node
+   * does not change the items seen by a query already in progress.
+   * The items cross the axes, so are all held in the root node.
+   */
+  public void testUpdateDuringQuery() {
+    final ConcurrentQuadtree qt = new ConcurrentQuadtree();
+    qt.insert(new Envelope(-1, 1, -1, 1), "a");
+    qt.insert(new Envelope(-2, 2, -2, 2), "b");
+    final List<Object> visited = new ArrayList<Object>();
+    qt.query(new Envelope(-1, 1, -1, 1), new ItemVisitor() {
+      public void visitItem(Object item) {
+        if (visited.isEmpty()) {
+          qt.insert(new Envelope(-3, 3, -3, 3), "c");
+          qt.remove(new Envelope(-2, 2, -2, 2), "b");
+        }
+        visited.add(item);
+      }
+    });
+    assertEquals(2, visited.size());
+    assertTrue(visited.contains("a"));
+    assertTrue(visited.contains("b"));
+    assertEquals(2, qt.size());
+    assertEquals(2, qt.query(new Envelope(-1, 1, -1, 1)).size());
+  }
+
+  /**
+   * Checks that random updates, both single and batched,
+   * produce the same query results as a {@link Quadtree}.
+   */
+  public void testSameAsQuadtree() {
+    Quadtree expected = new Quadtree();
+    ConcurrentQuadtree actual = new ConcurrentQuadtree();
+    Random rnd = new Random(13);
+    List<Envelope> envs = new ArrayList<Envelope>();
+    List<Integer> items = new ArrayList<Integer>();
+    for (int round = 0; round < 20; round++) {
+      int n = 200;
+      Envelope[] batchEnvs = new Envelope[n];
+      Integer[] batchItems = new Integer[n];
+      for (int i = 0; i < n; i++) {
+        batchEnvs[i] = randomEnvelope(rnd);
+        batchItems[i] = envs.size();
+        envs.add(batchEnvs[i]);
+        items.add(batchItems[i]);
+        expected.insert(batchEnvs[i], batchItems[i]);
+      }
+      if (round % 2 == 0) {
+        actual.insertAll(batchEnvs, batchItems);
+      }
+      else {
+        for (int i = 0; i < n; i++) {
+          actual.insert(batchEnvs[i], batchItems[i]);
+        }
+      }
+      //-- remove some items, in a batch
+      List<Envelope> removeEnvs = new ArrayList<Envelope>();
+      List<Integer> removeItems = new ArrayList<Integer>();
+      for (int i = 0; i < 50; i++) {
+        int k = rnd.nextInt(items.size());
+        Integer item = items.get(k);
+        if (item == null) continue;
+        items.set(k, null);
+        removeEnvs.add(envs.get(item));
+        removeItems.add(item);
+        assertTrue(expected.remove(envs.get(item), item));
+      }
+      int numRemoved = actual.removeAll(removeEnvs.toArray(new Envelope[0]), removeItems.toArray());
+      assertEquals(removeItems.size(), numRemoved);
+      checkSameQueries(expected, actual, rnd);
+    }
+    assertEquals(expected.size(), actual.size());
+    assertEquals(expected.depth(), actual.depth());
+  }
+
+  /**
+   * Checks that queries running during updates always see a consistent tree.
+   */
+  public void testConcurrentQueries() throws Exception {
+    ConcurrentQuadtree qt = new ConcurrentQuadtree();
+    Random rnd = new Random(17);
+    int numFixed = 500;
+    for (int i = 0; i < numFixed; i++) {
+      qt.insert(randomEnvelope(rnd), i);
+    }
+    Envelope all = new Envelope(-2000, 2000, -2000, 2000);
+
+    AtomicBoolean isDone = new AtomicBoolean(false);
+    AtomicReference<Throwable> error = new AtomicReference<Throwable>();
+    List<Thread> readers = new ArrayList<Thread>();
+    for (int t = 0; t < 3; t++) {
+      Thread reader = new Thread(() -> {
+        try {
+          while (! isDone.get()) {
+            List<?> result = qt.query(all);
+            int numFound = 0;
+            for (Object item : result) {
+              if ((Integer) item < numFixed) numFound++;
+            }
+            //-- fixed items are never removed
+            if (numFound != numFixed)
+              throw new IllegalStateException("Found " + numFound + " fixed items");
+            //-- batches are visible all at once
+            if ((result.size() - numFixed) % 10 != 0)
+              throw new IllegalStateException("Saw partial batch");
+          }
+        }
+        catch (Throwable ex) {
+          error.compareAndSet(null, ex);
+        }
+      });
+      readers.add(reader);
+      reader.start();
+    }
+
+    Random writerRnd = new Random(19);
+    for (int round = 0; round < 500; round++) {
+      Envelope[] envs = new Envelope[10];
+      Integer[] items = new Integer[10];
+      for (int i = 0; i < 10; i++) {
+        envs[i] = randomEnvelope(writerRnd);
+        items[i] = numFixed + 10 * round + i;
+      }
+      qt.insertAll(envs, items);
+      if (round % 2 == 1) {
+        assertEquals(10, qt.removeAll(envs, items));
+      }
+    }
+    isDone.set(true);
+    for (Thread reader : readers) {
+      reader.join();
+    }
+    if (error.get() != null) {
+      fail(error.get().toString());
+    }
+  }
+
+  private static Envelope randomEnvelope(Random rnd) {
+    double x = 2000 * rnd.nextDouble() - 1000;
+    double y = 2000 * rnd.nextDouble() - 1000;
+    //-- include some zero-extent envelopes
+    double w = rnd.nextInt(10) == 0 ? 0 : 50 * rnd.nextDouble();
+    double h = 50 * rnd.nextDouble();
+    return new Envelope(x, x + w, y, y + h);
+  }
+
+  @SuppressWarnings("unchecked")
+  private static void checkSameQueries(Quadtree expected, ConcurrentQuadtree actual, Random rnd) {
+    for (int i = 0; i < 20; i++) {
+      double x = 2000 * rnd.nextDouble() - 1000;
+      double y = 2000 * rnd.nextDouble() - 1000;
+      Envelope queryEnv = new Envelope(x, x + 200, y, y + 200);
+      List<Integer> expectedItems = expected.query(queryEnv);
+      List<Integer> actualItems = actual.query(queryEnv);
+      Collections.sort(expectedItems);
+      Collections.sort(actualItems);
+      assertEquals(expectedItems, actualItems);
+    }
+  }
+}
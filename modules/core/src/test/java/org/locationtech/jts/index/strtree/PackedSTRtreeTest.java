@@ -0,0 +1,184 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.index.strtree;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.index.ArrayListVisitor;
+
+import junit.framework.TestCase;
+import junit.textui.TestRunner;
+
+public class PackedSTRtreeTest extends TestCase {
+
+  private GeometryFactory factory = new GeometryFactory();
+
+  public static void main(String args[]) {
+    TestRunner.run(PackedSTRtreeTest.class);
+  }
+
+  public PackedSTRtreeTest(String name) {
+    super(name);
+  }
+
+  public void testEmpty() {
+    PackedSTRtree tree = new STRtree().pack();
+    assertTrue(tree.isEmpty());
+    assertTrue(tree.query(new Envelope(0, 1, 0, 1)).isEmpty());
+    assertNull(tree.nearestNeighbour(new GeometryItemDistance()));
+    assertEquals(0, tree.nearestNeighbour(new Envelope(0, 0, 0, 0), null, new GeometryItemDistance(), 3).length);
+  }
+
+  public void testQuery() {
+    for (int nodeCapacity : new int[] { 2, 4, 10 }) {
+      for (int size : new int[] { 1, 5, 100, 2000 }) {
+        checkQuery(createTree(size, nodeCapacity));
+      }
+    }
+  }
+
+  public void testQueryAfterRemove() {
+    STRtree tree = createTree(500, 4);
+    tree.build();
+    List items = tree.query(new Envelope(0, 50, 0, 50));
+    for (Object item : items) {
+      tree.remove(((Geometry) item).getEnvelopeInternal(), item);
+    }
+    checkQuery(tree);
+    assertEquals(500 - items.size(), tree.pack().size());
+  }
+
+  public void testQueryVisitor() {
+    STRtree tree = createTree(1000, 10);
+    PackedSTRtree packed = tree.pack();
+    Envelope queryEnv = new Envelope(20, 60, 10, 30);
+    ArrayListVisitor visitor = new ArrayListVisitor();
+    packed.query(queryEnv, visitor);
+    assertEquals(tree.query(queryEnv), visitor.getItems());
+  }
+
+  public void testInsert() {
+    PackedSTRtree tree = createTree(10, 4).pack();
+    try {
+      tree.insert(new Envelope(0, 1, 0, 1), "a");
+      fail();
+    }
+    catch (IllegalStateException e) {
+      // expected
+    }
+  }
+
+  public void testRemove() {
+    STRtree tree = createTree(10, 4);
+    PackedSTRtree packed = tree.pack();
+    Object item = tree.query(new Envelope(0, 100, 0, 100)).get(0);
+    assertFalse(packed.remove(((Geometry) item).getEnvelopeInternal(), item));
+    assertEquals(10, packed.size());
+  }
+
+  public void testNearestNeighbour() {
+    STRtree tree = createTree(1000, 10);
+    PackedSTRtree packed = tree.pack();
+    ItemDistance itemDist = new GeometryItemDistance();
+    Random rand = new Random(7);
+    for (int i = 0; i < 20; i++) {
+      Geometry pt = factory.createPoint(new Coordinate(100 * rand.nextDouble(), 100 * rand.nextDouble()));
+      Geometry expected = (Geometry) tree.nearestNeighbour(pt.getEnvelopeInternal(), pt, itemDist);
+      Geometry actual = (Geometry) packed.nearestNeighbour(pt.getEnvelopeInternal(), pt, itemDist);
+      assertEquals(expected.distance(pt), actual.distance(pt), 0.0);
+    }
+  }
+
+  public void testNearestNeighbourPair() {
+    STRtree tree = createTree(1000, 10);
+    PackedSTRtree packed = tree.pack();
+    ItemDistance itemDist = new GeometryItemDistance();
+    Object[] expected = tree.nearestNeighbour(itemDist);
+    Object[] actual = packed.nearestNeighbour(itemDist);
+    assertEquals(distance(expected), distance(actual), 0.0);
+  }
+
+  public void testNearestNeighbourTrees() {
+    STRtree tree1 = createTree(500, 10);
+    STRtree tree2 = createTree(300, 6, 150);
+    ItemDistance itemDist = new GeometryItemDistance();
+    Object[] expected = tree1.nearestNeighbour(tree2, itemDist);
+    Object[] actual = tree1.pack().nearestNeighbour(tree2.pack(), itemDist);
+    double dist = distance(expected);
+    assertTrue(dist > 0);
+    assertEquals(dist, distance(actual), 0.0);
+    assertTrue(tree1.pack().isWithinDistance(tree2.pack(), itemDist, dist));
+    assertFalse(tree1.pack().isWithinDistance(tree2.pack(), itemDist, dist / 2));
+  }
+
+  public void testKNearestNeighbours() {
+    STRtree tree = createTree(1000, 10);
+    PackedSTRtree packed = tree.pack();
+    ItemDistance itemDist = new GeometryItemDistance();
+    Geometry pt = factory.createPoint(new Coordinate(40, 60));
+    Object[] expected = tree.nearestNeighbour(pt.getEnvelopeInternal(), pt, itemDist, 10);
+    Object[] actual = packed.nearestNeighbour(pt.getEnvelopeInternal(), pt, itemDist, 10);
+    assertEquals(expected.length, actual.length);
+    double[] expectedDist = distances(expected, pt);
+    double[] actualDist = distances(actual, pt);
+    Arrays.sort(expectedDist);
+    for (int i = 0; i < actual.length; i++) {
+      assertEquals(expectedDist[i], actualDist[i], 0.0);
+    }
+  }
+
+  private void checkQuery(STRtree tree) {
+    PackedSTRtree packed = tree.pack();
+    assertEquals(tree.size(), packed.size());
+    Random rand = new Random(13);
+    for (int i = 0; i < 50; i++) {
+      double x = 100 * rand.nextDouble();
+      double y = 100 * rand.nextDouble();
+      Envelope queryEnv = new Envelope(x, x + 20 * rand.nextDouble(), y, y + 20 * rand.nextDouble());
+      assertEquals(tree.query(queryEnv), packed.query(queryEnv));
+    }
+  }
+
+  private STRtree createTree(int size, int nodeCapacity) {
+    return createTree(size, nodeCapacity, 0);
+  }
+
+  private STRtree createTree(int size, int nodeCapacity, double offsetX) {
+    STRtree tree = new STRtree(nodeCapacity);
+    Random rand = new Random(size);
+    for (int i = 0; i < size; i++) {
+      double x = offsetX + 100 * rand.nextDouble();
+      double y = 100 * rand.nextDouble();
+      Geometry geom = factory.toGeometry(new Envelope(x, x + rand.nextDouble(), y, y + rand.nextDouble()));
+      tree.insert(geom.getEnvelopeInternal(), geom);
+    }
+    return tree;
+  }
+
+  private static double distance(Object[] pair) {
+    return ((Geometry) pair[0]).distance((Geometry) pair[1]);
+  }
+
+  private static double[] distances(Object[] items, Geometry geom) {
+    double[] result = new double[items.length];
+    for (int i = 0; i < items.length; i++) {
+      result[i] = ((Geometry) items[i]).distance(geom);
+    }
+    return result;
+  }
+}
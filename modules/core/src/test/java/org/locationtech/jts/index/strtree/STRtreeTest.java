@@ -16,6 +16,7 @@ import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
 
 import junit.framework.TestCase;
 
@@ -182,6 +183,71 @@ public class STRtreeTest extends TestCase {
     assertEquals(3, tree.size());
   }
  
+  public void testParallelBuild() {
+    ForkJoinPool pool = new ForkJoinPool(2);
+    try {
+      for (int nodeCapacity : new int[] { 2, 4, 10 }) {
+        for (int size : new int[] { 1, 2, 10, 11, 1000, 20000 }) {
+          checkParallelBuild(size, nodeCapacity, pool);
+        }
+      }
+    }
+    finally {
+      pool.shutdown();
+    }
+  }
+
+  public void testParallelBuildEmpty() {
+    ForkJoinPool pool = new ForkJoinPool(2);
+    try {
+      STRtree tree = new STRtree();
+      tree.setPool(pool);
+      assertTrue(tree.query(new Envelope(0, 1, 0, 1)).isEmpty());
+      assertEquals(0, tree.depth());
+    }
+    finally {
+      pool.shutdown();
+    }
+  }
+
+  private void checkParallelBuild(int size, int nodeCapacity, ForkJoinPool pool) {
+    STRtree tree = new STRtree(nodeCapacity);
+    STRtree parallelTree = new STRtree(nodeCapacity);
+    parallelTree.setPool(pool);
+    Random rand = new Random(size + nodeCapacity);
+    for (int i = 0; i < size; i++) {
+      // use a coarse grid to produce equal centres
+      double x = rand.nextInt(100);
+      double y = rand.nextInt(100);
+      Envelope env = new Envelope(x, x + rand.nextInt(3), y, y + rand.nextInt(3));
+      Integer item = i;
+      tree.insert(env, item);
+      parallelTree.insert(env, item);
+    }
+    tree.build();
+    parallelTree.build();
+    checkSameNode(tree.getRoot(), parallelTree.getRoot());
+
+    Envelope queryEnv = new Envelope(20, 40, 30, 60);
+    assertEquals(tree.query(queryEnv), parallelTree.query(queryEnv));
+  }
+
+  private void checkSameNode(Boundable expected, Boundable actual) {
+    assertEquals(expected.getBounds(), actual.getBounds());
+    if (expected instanceof ItemBoundable) {
+      assertSame(((ItemBoundable) expected).getItem(), ((ItemBoundable) actual).getItem());
+      return;
+    }
+    AbstractNode expectedNode = (AbstractNode) expected;
+    AbstractNode actualNode = (AbstractNode) actual;
+    assertEquals(expectedNode.getLevel(), actualNode.getLevel());
+    assertEquals(expectedNode.size(), actualNode.size());
+    for (int i = 0; i < expectedNode.size(); i++) {
+      checkSameNode((Boundable) expectedNode.getChildBoundables().get(i),
+          (Boundable) actualNode.getChildBoundables().get(i));
+    }
+  }
+
   private void doTestCreateParentsFromVerticalSlice(int childCount,
       int nodeCapacity, int expectedChildrenPerParentBoundable,
       int expectedChildrenOfLastParent) {
@@ -0,0 +1,67 @@
+package org.locationtech.jts.io;
+
+import junit.framework.TestCase;
+import junit.textui.TestRunner;
+
+public class DecimalParserTest extends TestCase {
+
+  public static void main(String args[]) {
+    TestRunner.run(DecimalParserTest.class);
+  }
+
+  public DecimalParserTest(String name) { super(name); }
+
+  public void testInteger() {
+    checkExact("0");
+    checkExact("123");
+    checkExact("-123");
+    checkExact("+123");
+  }
+
+  public void testFraction() {
+    checkExact("1.5");
+    checkExact("-0.1");
+    checkExact("123.456789");
+    checkExact(".25");
+    checkExact("7.");
+  }
+
+  public void testExponent() {
+    checkExact("1e10");
+    checkExact("1.5E-7");
+    checkExact("-2.5e+3");
+  }
+
+  public void testSubstring() {
+    char[] buf = "(10.5 -3)".toCharArray();
+    assertEquals(10.5, DecimalParser.parse(buf, 1, 5));
+    assertEquals(-3.0, DecimalParser.parse(buf, 6, 8));
+  }
+
+  public void testNotExact() {
+    // too many significant digits
+    checkNotParsed("1.2345678901234567890");
+    // exponent too large for an exact power of ten
+    checkNotParsed("1e30");
+    checkNotParsed("1e-30");
+  }
+
+  public void testInvalid() {
+    checkNotParsed("");
+    checkNotParsed("-");
+    checkNotParsed(".");
+    checkNotParsed("1e");
+    checkNotParsed("1x");
+    checkNotParsed("1.2.3");
+  }
+
+  private static void checkExact(String num) {
+    char[] buf = num.toCharArray();
+    assertEquals(Double.parseDouble(num), DecimalParser.parse(buf, 0, buf.length));
+  }
+
+  private static void checkNotParsed(String num) {
+    char[] buf = num.toCharArray();
+    assertTrue(Double.isNaN(DecimalParser.parse(buf, 0, buf.length)));
+  }
+}
@@ -11,11 +11,17 @@
  */
 package org.locationtech.jts.io;
 
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.List;
+
 import org.locationtech.jts.geom.CoordinateSequenceComparator;
 import org.locationtech.jts.geom.Geometry;
 import org.locationtech.jts.geom.GeometryCollection;
 import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.LineString;
 import org.locationtech.jts.geom.Polygon;
+import org.locationtech.jts.geom.impl.BufferCoordinateSequence;
 
 import junit.framework.TestCase;
 import junit.textui.TestRunner;
@@ -258,10 +264,84 @@ public class WKBReaderTest  extends TestCase
     checkWKBParseException("0000000003FFFFFFFF0000000440590000000000004069000000000000405900000000000040590000000000004069000000000000405900000000000040590000000000004069000000000000");
   }
   
+  public void testBufferConsecutiveRecords() throws ParseException
+  {
+    Geometry[] geoms = new Geometry[] {
+        read("POINT (1 2)"),
+        read("LINESTRING (1 1, 2 2, 3 1)"),
+        read("POLYGON ((0 0, 0 10, 10 10, 10 0, 0 0), (1 1, 2 1, 2 2, 1 1))"),
+        read("MULTILINESTRING ((10 10, 20 20), (40 40, 30 30, 40 20))")
+    };
+    WKBWriter writerXDR = new WKBWriter(2, ByteOrderValues.BIG_ENDIAN);
+    WKBWriter writerNDR = new WKBWriter(2, ByteOrderValues.LITTLE_ENDIAN);
+    ByteBuffer buf = ByteBuffer.allocateDirect(1000);
+    for (int i = 0; i < geoms.length; i++) {
+      // alternate byte orders to check each record sets its own order
+      WKBWriter writer = i % 2 == 0 ? writerXDR : writerNDR;
+      buf.put(writer.write(geoms[i]));
+    }
+    buf.flip();
+    buf.order(ByteOrder.LITTLE_ENDIAN);
+    
+    WKBReader wkbReader = new WKBReader(geomFactory);
+    wkbReader.setZeroCopy(true);
+    WKBBufferReader bufReader = new WKBBufferReader(buf, wkbReader);
+    List<Geometry> result = bufReader.read();
+    
+    assertEquals(geoms.length, bufReader.getCount());
+    assertFalse(buf.hasRemaining());
+    assertEquals(ByteOrder.LITTLE_ENDIAN, buf.order());
+    for (int i = 0; i < geoms.length; i++) {
+      assertTrue(geoms[i].equalsExact(result.get(i)));
+    }
+  }
+  
+  public void testBufferZeroCopy() throws ParseException
+  {
+    byte[] wkb = new WKBWriter().write(read("LINESTRING (1 1, 2 2, 3 1)"));
+    ByteBuffer buf = ByteBuffer.wrap(wkb);
+    WKBReader wkbReader = new WKBReader(geomFactory);
+    wkbReader.setZeroCopy(true);
+    LineString line = (LineString) wkbReader.read(buf);
+    assertTrue(line.getCoordinateSequence() instanceof BufferCoordinateSequence);
+    
+    // sequence is a view of the buffer
+    buf.putDouble(wkb.length - 16, 99);
+    assertEquals(99.0, line.getCoordinateSequence().getX(2));
+  }
+  
+  public void testBufferTruncated() 
+  {
+    byte[] wkb = WKBReader.hexToBytes("00000000020000000340590000000000004069000000000000");
+    checkBufferParseException(wkb, false);
+    checkBufferParseException(wkb, true);
+  }
+  
+  public void testBufferPositionRestoredOnError() 
+  {
+    byte[] wkb = WKBReader.hexToBytes("00000000020000000340590000000000004069000000000000");
+    ByteBuffer buf = ByteBuffer.wrap(wkb);
+    try {
+      new WKBReader(geomFactory).read(buf);
+      fail("ParseException expected");
+    }
+    catch (ParseException e) {
+      assertEquals(0, buf.position());
+    }
+  }
+  
   //======================================
   
+  private Geometry read(String wkt) throws ParseException 
+  {
+    return rdr.read(wkt);
+  }
+  
   private void checkWKBParseException(String wkbHex) 
   {
+    byte[] wkb = WKBReader.hexToBytes(wkbHex);
+    checkBufferParseException(wkb, false);
+    checkBufferParseException(wkb, true);
     try {
       checkWKBGeometry(wkbHex, "");
     } catch (ParseException e) {
@@ -271,6 +351,20 @@ public class WKBReaderTest  extends TestCase
     // expected ParseException did not occur
     fail();
   }
+  
+  private void checkBufferParseException(byte[] wkb, boolean isZeroCopy) 
+  {
+    WKBReader wkbReader = new WKBReader(geomFactory);
+    wkbReader.setZeroCopy(isZeroCopy);
+    try {
+      wkbReader.read(ByteBuffer.wrap(wkb));
+    } catch (ParseException e) {
+      // all good
+      return;
+    }
+    // expected ParseException did not occur
+    fail();
+  }
 
   private static CoordinateSequenceComparator comp2 = new CoordinateSequenceComparator(2);
 
@@ -291,6 +385,11 @@ public class WKBReaderTest  extends TestCase
    boolean isEqual = (expected.compareTo(g2, comp2) == 0);
     if (!isEqual) {System.out.println(g2);System.out.println(expected);}
     assertTrue(isEqual);
+    
+    // check reading from a buffer, with and without copying
+    assertTrue(expected.compareTo(wkbReader.read(ByteBuffer.wrap(wkb)), comp2) == 0);
+    wkbReader.setZeroCopy(true);
+    assertTrue(expected.compareTo(wkbReader.read(ByteBuffer.wrap(wkb)), comp2) == 0);
 
  }
 
@@ -0,0 +1,124 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.io;
+
+import java.io.StringReader;
+import java.nio.CharBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.locationtech.jts.geom.Geometry;
+
+import junit.textui.TestRunner;
+import test.jts.GeometryTestCase;
+
+public class WKTBufferReaderTest extends GeometryTestCase {
+
+  public static void main(String args[]) {
+    TestRunner.run(WKTBufferReaderTest.class);
+  }
+
+  private static final String[] WKTS = new String[] {
+      "POINT (1 2)",
+      "POINT Z (1 2 3)",
+      "POINT M EMPTY",
+      "LINESTRING ZM (1 2 3 4, 5 6 7 8)",
+      "POLYGON ((0 0, 10 0, 10 10, 0 10, 0 0), (1 1, 2 1, 2 2, 1 1))",
+      "MULTIPOINT ((1 1), EMPTY, (2 2))",
+      "MULTILINESTRING EMPTY",
+      "MULTIPOLYGON (((1 1, 1 3, 3 3, 3 1, 1 1)), ((4 3, 6 3, 6 1, 4 1, 4 3)))",
+      "GEOMETRYCOLLECTION (POINT (NaN Inf), LINESTRING (1e-3 -2.5E+2, .5 5.))"
+  };
+
+  public WKTBufferReaderTest(String name) {
+    super(name);
+  }
+
+  public void testEmpty() throws ParseException {
+    WKTBufferReader rdr = new WKTBufferReader(" \n\t ", new WKTReader());
+    assertFalse(rdr.hasNext());
+    assertTrue(rdr.read().isEmpty());
+  }
+
+  public void testRead() throws ParseException {
+    checkRead(String.join("\n", WKTS));
+  }
+
+  public void testReadNoSeparator() throws ParseException {
+    WKTBufferReader rdr = new WKTBufferReader("POINT (1 2)LINESTRING (1 1, 2 2)POINT EMPTY", new WKTReader());
+    List<Geometry> geoms = rdr.read();
+    assertEquals(3, geoms.size());
+    assertEquals("LINESTRING (1 1, 2 2)", geoms.get(1).toText());
+    assertTrue(geoms.get(2).isEmpty());
+  }
+
+  public void testReadCharBuffer() throws ParseException {
+    String text = String.join("\r\n", WKTS);
+    List<Geometry> geoms = new WKTBufferReader(CharBuffer.wrap(text.toCharArray()), new WKTReader()).read();
+    checkGeometries(geoms);
+  }
+
+  /**
+   * Tests reading text longer than the tokenizer buffer,
+   * so that tokens span buffer refills.
+   */
+  public void testReadLong() throws ParseException {
+    StringBuilder text = new StringBuilder();
+    List<String> wkts = new ArrayList<String>();
+    for (int i = 0; i < 2000; i++) {
+      String wkt = "LINESTRING (" + i + ".123456789 " + (i * 0.1) + ", 1e" + (i % 20) + " -" + i + ")";
+      wkts.add(wkt);
+      text.append(wkt).append("  ");
+    }
+    WKTReader wktReader = new WKTReader();
+    WKTBufferReader rdr = new WKTBufferReader(text, wktReader);
+    for (String wkt : wkts) {
+      assertTrue(rdr.hasNext());
+      checkEqualExact(wktReader.read(wkt), rdr.next());
+    }
+    assertFalse(rdr.hasNext());
+    assertEquals(wkts.size(), rdr.getCount());
+  }
+
+  public void testParseErrorLine() {
+    WKTBufferReader rdr = new WKTBufferReader("POINT (1 1)\nPOINT (2 2)\nPOINT (3 x)", new WKTReader());
+    try {
+      rdr.read();
+      fail("Expected parse error");
+    }
+    catch (ParseException ex) {
+      assertTrue(ex.getMessage().endsWith("(line 3)"));
+    }
+  }
+
+  public void testFileReader() throws Exception {
+    WKTFileReader rdr = new WKTFileReader(new StringReader(String.join("\n\n", WKTS)), new WKTReader());
+    checkGeometries(rdr.read());
+  }
+
+  private void checkRead(String text) throws ParseException {
+    WKTBufferReader rdr = new WKTBufferReader(text, new WKTReader());
+    checkGeometries(rdr.read());
+    assertEquals(WKTS.length, rdr.getCount());
+  }
+
+  private void checkGeometries(List<?> geoms) throws ParseException {
+    WKTReader wktReader = new WKTReader();
+    assertEquals(WKTS.length, geoms.size());
+    for (int i = 0; i < WKTS.length; i++) {
+      Geometry expected = wktReader.read(WKTS[i]);
+      Geometry actual = (Geometry) geoms.get(i);
+      //-- compare text, since NaN ordinates are not equal
+      assertEquals(expected.toText(), actual.toText());
+    }
+  }
+}
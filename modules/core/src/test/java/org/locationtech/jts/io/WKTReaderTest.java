@@ -12,6 +12,7 @@
 
 package org.locationtech.jts.io;
 
+import java.io.StringReader;
 import java.util.EnumSet;
 import java.util.Locale;
 
@@ -483,6 +484,27 @@ public class WKTReaderTest extends GeometryTestCase {
     assertEquals(point1.getOrdinate(0, CoordinateSequence.Y), point2.getOrdinate(0, CoordinateSequence.Y), 1E-7);
   }
 
+  public void testNumberFormats() throws ParseException {
+    String[] nums = new String[] {
+        "0", "-0", "+1", "0.1", ".5", "5.", "-0.000123", "1e22", "1e23", "123e-22",
+        "4.35E-5", "9007199254740993", "12345678901234567890", 
+        "0.30000000000000004", "1.7976931348623157E308", "4.9E-324", "1e400", "1d", "0x1p3"
+    };
+    WKTReader reader = new WKTReader();
+    for (String num : nums) {
+      Point pt = (Point) reader.read("POINT (" + num + " 1)");
+      double expected = Double.parseDouble(num);
+      assertEquals(num, Double.doubleToLongBits(expected), Double.doubleToLongBits(pt.getX()));
+    }
+  }
+
+  public void testReaderNotReadAhead() throws Exception {
+    StringReader reader = new StringReader("POINT (1 2)POINT (3 4)");
+    readerXY.read(reader);
+    Point pt = (Point) readerXY.read(reader);
+    assertEquals(3.0, pt.getX());
+  }
+
   public void testTurkishLocale() throws Exception {
       Locale original = Locale.getDefault();
       try {
@@ -0,0 +1,134 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.noding;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import org.locationtech.jts.algorithm.RobustLineIntersector;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.LineString;
+import org.locationtech.jts.geom.util.LineStringExtracter;
+
+import junit.textui.TestRunner;
+import test.jts.GeometryTestCase;
+
+public class MCIndexNoderTest extends GeometryTestCase {
+
+  public static void main(String args[]) {
+    TestRunner.run(MCIndexNoderTest.class);
+  }
+
+  public MCIndexNoderTest(String name) {
+    super(name);
+  }
+
+  public void testParallelSimple() {
+    checkParallel(read("MULTILINESTRING ((1 1, 9 2), (3 3, 3 0), (0 0, 10 10, 0 10, 10 0))"));
+  }
+
+  public void testParallelSelfIntersecting() {
+    checkParallel(read("LINESTRING (0 0, 10 10, 10 0, 0 10, 5 -5, 5 15)"));
+  }
+
+  public void testParallelEmpty() {
+    checkParallel(read("MULTILINESTRING EMPTY"));
+  }
+
+  public void testParallelRandomLines() {
+    checkParallel(randomWalkLines(200, 100));
+  }
+
+  public void testParallelShortCircuit() {
+    Geometry geom = randomWalkLines(200, 100);
+    NodingIntersectionFinder finderSeq = new NodingIntersectionFinder(new RobustLineIntersector());
+    node(geom, new MCIndexNoder(finderSeq), null);
+
+    ForkJoinPool pool = new ForkJoinPool(4);
+    try {
+      NodingIntersectionFinder finder = new NodingIntersectionFinder(new RobustLineIntersector());
+      node(geom, new MCIndexNoder(finder), pool);
+      assertTrue(finder.hasIntersection());
+      assertEquals(finderSeq.getIntersection(), finder.getIntersection());
+      assertTrue(Arrays.equals(finderSeq.getIntersectionSegments(), finder.getIntersectionSegments()));
+      assertEquals(finderSeq.count(), finder.count());
+    }
+    finally {
+      pool.shutdown();
+    }
+  }
+
+  /**
+   * Checks that the nodes computed in parallel are identical to the sequential nodes.
+   */
+  private void checkParallel(Geometry geom) {
+    IntersectionAdder adderSeq = new IntersectionAdder(new RobustLineIntersector());
+    Collection<?> expected = node(geom, new MCIndexNoder(adderSeq), null);
+
+    ForkJoinPool pool = new ForkJoinPool(4);
+    try {
+      IntersectionAdder adder = new IntersectionAdder(new RobustLineIntersector());
+      Collection<?> actual = node(geom, new MCIndexNoder(adder), pool);
+      assertEquals(adderSeq.numIntersections, adder.numIntersections);
+      assertEquals(adderSeq.numInteriorIntersections, adder.numInteriorIntersections);
+      assertEquals(adderSeq.numTests, adder.numTests);
+      checkIdentical(expected, actual);
+    }
+    finally {
+      pool.shutdown();
+    }
+  }
+
+  private static void checkIdentical(Collection<?> expected, Collection<?> actual) {
+    assertEquals(expected.size(), actual.size());
+    List<?> expectedList = new ArrayList<Object>(expected);
+    List<?> actualList = new ArrayList<Object>(actual);
+    for (int i = 0; i < expectedList.size(); i++) {
+      Coordinate[] ptsExpected = ((SegmentString) expectedList.get(i)).getCoordinates();
+      Coordinate[] pts = ((SegmentString) actualList.get(i)).getCoordinates();
+      assertEquals(ptsExpected.length, pts.length);
+      for (int j = 0; j < pts.length; j++) {
+        assertTrue(ptsExpected[j].equals3D(pts[j]));
+      }
+    }
+  }
+
+  private static Collection<?> node(Geometry geom, MCIndexNoder noder, ForkJoinPool pool) {
+    List<LineString> lines = LineStringExtracter.getLines(geom);
+    List<NodedSegmentString> ssList = NodingTestUtil.toSegmentStrings(lines);
+    noder.setPool(pool);
+    noder.computeNodes(ssList);
+    return noder.getNodedSubstrings();
+  }
+
+  private Geometry randomWalkLines(int numLines, int numPts) {
+    Random random = new Random(13);
+    List<LineString> lines = new ArrayList<LineString>();
+    for (int i = 0; i < numLines; i++) {
+      double x = 100 * random.nextDouble();
+      double y = 100 * random.nextDouble();
+      Coordinate[] pts = new Coordinate[numPts];
+      for (int j = 0; j < numPts; j++) {
+        x += random.nextGaussian();
+        y += random.nextGaussian();
+        pts[j] = new Coordinate(x, y);
+      }
+      lines.add(getGeometryFactory().createLineString(pts));
+    }
+    return getGeometryFactory().buildGeometry(lines);
+  }
+}
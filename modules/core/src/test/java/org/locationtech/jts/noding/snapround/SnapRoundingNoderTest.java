@@ -12,7 +12,14 @@
 
 package org.locationtech.jts.noding.snapround;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import org.locationtech.jts.geom.Coordinate;
 import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.LineString;
 import org.locationtech.jts.geom.PrecisionModel;
 import org.locationtech.jts.noding.Noder;
 import org.locationtech.jts.noding.NodingTestUtil;
@@ -209,12 +216,19 @@ public class SnapRoundingNoderTest  extends GeometryTestCase {
     checkRounding(wkt, 0.0016339869, expected);
   }
   
+  public void testParallelRandomLines() {
+    Geometry geom = randomWalkLines(200, 100);
+    checkParallel(geom, 10);
+    checkParallel(geom, 1);
+  }
+  
   void checkRounding(String wkt, double scale, String expectedWKT)
   {
     Geometry geom = read(wkt);
     PrecisionModel pm = new PrecisionModel(scale);
     Noder noder = getSnapRounder(pm);
     Geometry result = NodingTestUtil.nodeValidated(geom, null, noder);  
+    checkParallel(geom, scale, result);
     
     // only check if expected was provided
     if (expectedWKT == null) return;
@@ -222,4 +236,46 @@ public class SnapRoundingNoderTest  extends GeometryTestCase {
     checkEqual(expected, result);
   }
 
+  private void checkParallel(Geometry geom, double scale) {
+    Noder noder = getSnapRounder(new PrecisionModel(scale));
+    Geometry expected = NodingTestUtil.nodeValidated(geom, null, noder);
+    checkParallel(geom, scale, expected);
+  }
+
+  /**
+   * Checks that the parallel noding result is identical to the sequential result.
+   */
+  private void checkParallel(Geometry geom, double scale, Geometry expected) {
+    ForkJoinPool pool = new ForkJoinPool(4);
+    try {
+      SnapRoundingNoder noder = new SnapRoundingNoder(new PrecisionModel(scale));
+      noder.setPool(pool);
+      Geometry result = NodingTestUtil.nodeValidated(geom, null, noder);
+      assertTrue(expected.equalsExact(result));
+    }
+    finally {
+      pool.shutdown();
+    }
+  }
+
+  /**
+   * Creates random-walk lines, which have many intersections and near-misses.
+   */
+  private Geometry randomWalkLines(int numLines, int numPts) {
+    Random random = new Random(13);
+    List<LineString> lines = new ArrayList<LineString>();
+    for (int i = 0; i < numLines; i++) {
+      double x = 100 * random.nextDouble();
+      double y = 100 * random.nextDouble();
+      Coordinate[] pts = new Coordinate[numPts];
+      for (int j = 0; j < numPts; j++) {
+        x += random.nextGaussian();
+        y += random.nextGaussian();
+        pts[j] = new Coordinate(x, y);
+      }
+      lines.add(getGeometryFactory().createLineString(pts));
+    }
+    return getGeometryFactory().buildGeometry(lines);
+  }
+
 }
@@ -0,0 +1,145 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.operation.buffer;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.operation.union.UnaryUnionOp;
+
+import junit.textui.TestRunner;
+import test.jts.GeometryTestCase;
+
+public class BufferBatchTest extends GeometryTestCase {
+
+  public static void main(String args[]) {
+    TestRunner.run(BufferBatchTest.class);
+  }
+
+  public BufferBatchTest(String name) {
+    super(name);
+  }
+
+  public void testEmptyList() {
+    BufferBatch batch = new BufferBatch();
+    assertTrue(batch.buffer(new ArrayList<Geometry>(), 10).isEmpty());
+    assertNull(batch.bufferUnion(new ArrayList<Geometry>(), 10));
+  }
+
+  public void testBufferOrder() {
+    checkBuffer(createGeometries(), 3, new BufferParameters());
+  }
+
+  public void testBufferNegative() {
+    checkBuffer(createGeometries(), -1, new BufferParameters());
+  }
+
+  public void testBufferParameters() {
+    BufferParameters params = new BufferParameters(4, BufferParameters.CAP_FLAT, BufferParameters.JOIN_MITRE, 5);
+    checkBuffer(createGeometries(), 2, params);
+  }
+
+  public void testBufferStream() {
+    List<Geometry> geoms = createGeometries();
+    List<Geometry> buffers = new BufferBatch().buffer(geoms.stream(), 3);
+    for (int i = 0; i < geoms.size(); i++) {
+      checkEqual(geoms.get(i).buffer(3), buffers.get(i));
+    }
+  }
+
+  public void testBufferUnion() {
+    checkBufferUnion(createGeometries(), 3);
+  }
+
+  public void testBufferUnionZero() {
+    checkBufferUnion(createGeometries(), 0);
+  }
+
+  public void testBufferUnionNegative() {
+    checkBufferUnion(createGeometries(), -1);
+  }
+
+  private void checkBuffer(List<Geometry> geoms, double distance, BufferParameters params) {
+    ForkJoinPool pool = new ForkJoinPool(4);
+    try {
+      BufferBatch batch = new BufferBatch(params);
+      List<Geometry> buffersSeq = batch.buffer(geoms, distance);
+      batch.setPool(pool);
+      List<Geometry> buffers = batch.buffer(geoms, distance);
+      assertEquals(geoms.size(), buffers.size());
+      for (int i = 0; i < geoms.size(); i++) {
+        Geometry expected = BufferOp.bufferOp(geoms.get(i), distance, params);
+        checkEqual(expected, buffersSeq.get(i));
+        checkEqual(expected, buffers.get(i));
+      }
+    }
+    finally {
+      pool.shutdown();
+    }
+  }
+
+  private void checkBufferUnion(List<Geometry> geoms, double distance) {
+    List<Geometry> buffers = new ArrayList<Geometry>();
+    for (Geometry geom : geoms) {
+      buffers.add(geom.buffer(distance));
+    }
+    Geometry expected = UnaryUnionOp.union(buffers);
+
+    ForkJoinPool pool = new ForkJoinPool(4);
+    try {
+      BufferBatch batch = new BufferBatch();
+      checkBufferUnion(expected, batch.bufferUnion(geoms, distance));
+      batch.setPool(pool);
+      checkBufferUnion(expected, batch.bufferUnion(geoms, distance));
+    }
+    finally {
+      pool.shutdown();
+    }
+  }
+
+  private void checkBufferUnion(Geometry expected, Geometry actual) {
+    assertTrue(actual.isValid());
+    assertEquals(expected.getNumGeometries(), actual.getNumGeometries());
+    double tolerance = 1e-6 * expected.getArea();
+    assertEquals(expected.getArea(), actual.getArea(), tolerance);
+    assertEquals(0.0, expected.symDifference(actual).getArea(), tolerance);
+  }
+
+  /**
+   * Creates points, lines and polygons on a grid,
+   * with buffers which overlap their neighbours.
+   */
+  private List<Geometry> createGeometries() {
+    List<Geometry> geoms = new ArrayList<Geometry>();
+    for (int x = 0; x < 100; x += 5) {
+      for (int y = 0; y < 100; y += 5) {
+        Geometry geom;
+        switch ((x + y) % 3) {
+        case 0:
+          geom = getGeometryFactory().createPoint(new Coordinate(x, y));
+          break;
+        case 1:
+          geom = getGeometryFactory().createLineString(new Coordinate[] {
+              new Coordinate(x, y), new Coordinate(x + 3, y + 1), new Coordinate(x + 1, y + 4) });
+          break;
+        default:
+          geom = getGeometryFactory().createPoint(new Coordinate(x, y)).buffer(2.5, 4);
+        }
+        geoms.add(geom);
+      }
+    }
+    return geoms;
+  }
+}
@@ -0,0 +1,211 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.operation.join;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.BiPredicate;
+
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.operation.relateng.RelatePredicate;
+
+import junit.textui.TestRunner;
+import test.jts.GeometryTestCase;
+
+public class SpatialJoinTest extends GeometryTestCase {
+
+  public static void main(String args[]) {
+    TestRunner.run(SpatialJoinTest.class);
+  }
+
+  public SpatialJoinTest(String name) {
+    super(name);
+  }
+
+  public void testEmptyList() {
+    List<Geometry> geoms = createPolygons(10, 1);
+    assertEquals(0, new SpatialJoin().joinIntersects(geoms, new ArrayList<Geometry>()).length);
+    assertEquals(0, new SpatialJoin().joinIntersects(new ArrayList<Geometry>(), geoms).length);
+  }
+
+  public void testEmptyGeometries() {
+    List<Geometry> geomsA = new ArrayList<Geometry>();
+    geomsA.add(read("POLYGON EMPTY"));
+    geomsA.add(read("POLYGON ((0 0, 10 0, 10 10, 0 10, 0 0))"));
+    List<Geometry> geomsB = new ArrayList<Geometry>();
+    geomsB.add(read("POINT (5 5)"));
+    geomsB.add(read("POINT EMPTY"));
+    checkPairs(new int[][] { { 1, 0 } }, new SpatialJoin().joinIntersects(geomsA, geomsB));
+    checkPairs(new int[][] { { 1, 0 } }, new SpatialJoin().joinWithinDistance(geomsA, geomsB, 1));
+  }
+
+  public void testIntersects() {
+    checkJoin((a, b) -> a.intersects(b), join -> join::joinIntersects);
+  }
+
+  public void testContains() {
+    checkJoin((a, b) -> a.contains(b), join -> join::joinContains);
+  }
+
+  public void testWithin() {
+    checkJoin((a, b) -> a.within(b), join -> join::joinWithin);
+  }
+
+  public void testCovers() {
+    checkJoin((a, b) -> a.covers(b), join -> join::joinCovers);
+  }
+
+  public void testCoveredBy() {
+    checkJoin((a, b) -> a.coveredBy(b), join -> join::joinCoveredBy);
+  }
+
+  public void testRelatePattern() {
+    checkJoin((a, b) -> a.relate(b, "T*F**F***"), join -> (a, b) -> join.joinRelate(a, b, "T*F**F***"));
+  }
+
+  public void testRelatePredicate() {
+    checkJoin((a, b) -> a.overlaps(b), join -> (a, b) -> join.joinRelate(a, b, RelatePredicate::overlaps));
+  }
+
+  public void testWithinDistance() {
+    checkJoin((a, b) -> a.isWithinDistance(b, 2), join -> (a, b) -> join.joinWithinDistance(a, b, 2));
+  }
+
+  public void testStatic() {
+    List<Geometry> polys = createPolygons(100, 5);
+    List<Geometry> points = createPoints(200);
+    checkPairs(bruteForce(polys, points, (a, b) -> a.intersects(b)), SpatialJoin.intersects(polys, points));
+    checkPairs(bruteForce(polys, points, (a, b) -> a.contains(b)), SpatialJoin.contains(polys, points));
+    checkPairs(bruteForce(points, polys, (a, b) -> a.within(b)), SpatialJoin.within(points, polys));
+    checkPairs(bruteForce(polys, points, (a, b) -> a.covers(b)), SpatialJoin.covers(polys, points));
+    checkPairs(bruteForce(points, polys, (a, b) -> a.coveredBy(b)), SpatialJoin.coveredBy(points, polys));
+    checkPairs(bruteForce(polys, points, (a, b) -> a.isWithinDistance(b, 3)), SpatialJoin.withinDistance(polys, points, 3));
+  }
+
+  public void testDisjointPredicate() {
+    try {
+      new SpatialJoin().joinRelate(createPolygons(10, 1), createPoints(10), RelatePredicate::disjoint);
+      fail();
+    }
+    catch (IllegalArgumentException ex) {
+      // expected
+    }
+  }
+
+  public void testNegativeDistance() {
+    try {
+      new SpatialJoin().joinWithinDistance(createPolygons(10, 1), createPoints(10), -1);
+      fail();
+    }
+    catch (IllegalArgumentException ex) {
+      // expected
+    }
+  }
+
+  private interface JoinFunction {
+    int[][] join(List<? extends Geometry> geomsA, List<? extends Geometry> geomsB);
+  }
+
+  private interface JoinFactory {
+    JoinFunction create(SpatialJoin join);
+  }
+
+  /**
+   * Checks a join against a brute-force evaluation,
+   * for both orders of the inputs (so that each side is prepared)
+   * and for sequential and parallel evaluation.
+   */
+  private void checkJoin(BiPredicate<Geometry, Geometry> pred, JoinFactory joinFactory) {
+    List<Geometry> polys = createPolygons(150, 6);
+    List<Geometry> smallPolys = createPolygons(200, 2);
+    List<Geometry> lines = createLines(100);
+    List<Geometry> points = createPoints(200);
+    ForkJoinPool pool = new ForkJoinPool(2);
+    try {
+      SpatialJoin join = new SpatialJoin();
+      SpatialJoin parallelJoin = new SpatialJoin();
+      parallelJoin.setPool(pool);
+      checkJoin(polys, points, pred, joinFactory.create(join));
+      checkJoin(points, polys, pred, joinFactory.create(join));
+      checkJoin(polys, smallPolys, pred, joinFactory.create(join));
+      checkJoin(smallPolys, polys, pred, joinFactory.create(join));
+      checkJoin(lines, polys, pred, joinFactory.create(join));
+      checkJoin(polys, points, pred, joinFactory.create(parallelJoin));
+      checkJoin(lines, smallPolys, pred, joinFactory.create(parallelJoin));
+      checkJoin(smallPolys, polys, pred, joinFactory.create(parallelJoin));
+    }
+    finally {
+      pool.shutdown();
+    }
+  }
+
+  private void checkJoin(List<Geometry> geomsA, List<Geometry> geomsB,
+      BiPredicate<Geometry, Geometry> pred, JoinFunction join) {
+    checkPairs(bruteForce(geomsA, geomsB, pred), join.join(geomsA, geomsB));
+  }
+
+  private static int[][] bruteForce(List<Geometry> geomsA, List<Geometry> geomsB,
+      BiPredicate<Geometry, Geometry> pred) {
+    List<int[]> pairs = new ArrayList<int[]>();
+    for (int i = 0; i < geomsA.size(); i++) {
+      for (int j = 0; j < geomsB.size(); j++) {
+        if (pred.test(geomsA.get(i), geomsB.get(j))) {
+          pairs.add(new int[] { i, j });
+        }
+      }
+    }
+    return pairs.toArray(new int[0][]);
+  }
+
+  private static void checkPairs(int[][] expected, int[][] actual) {
+    assertEquals(expected.length, actual.length);
+    for (int i = 0; i < expected.length; i++) {
+      assertEquals(expected[i][0], actual[i][0]);
+      assertEquals(expected[i][1], actual[i][1]);
+    }
+  }
+
+  private List<Geometry> createPolygons(int num, double size) {
+    Random rand = new Random(num);
+    List<Geometry> geoms = new ArrayList<Geometry>();
+    for (int i = 0; i < num; i++) {
+      Geometry pt = getGeometryFactory().createPoint(new Coordinate(100 * rand.nextDouble(), 100 * rand.nextDouble()));
+      geoms.add(pt.buffer(size * (0.5 + rand.nextDouble()), 4));
+    }
+    return geoms;
+  }
+
+  private List<Geometry> createLines(int num) {
+    Random rand = new Random(num);
+    List<Geometry> geoms = new ArrayList<Geometry>();
+    for (int i = 0; i < num; i++) {
+      double x = 100 * rand.nextDouble();
+      double y = 100 * rand.nextDouble();
+      geoms.add(getGeometryFactory().createLineString(new Coordinate[] {
+          new Coordinate(x, y),
+          new Coordinate(x + 10 * rand.nextDouble(), y + 10 * rand.nextDouble()) }));
+    }
+    return geoms;
+  }
+
+  private List<Geometry> createPoints(int num) {
+    Random rand = new Random(num);
+    List<Geometry> geoms = new ArrayList<Geometry>();
+    for (int i = 0; i < num; i++) {
+      geoms.add(getGeometryFactory().createPoint(new Coordinate(100 * rand.nextDouble(), 100 * rand.nextDouble())));
+    }
+    return geoms;
+  }
+}
@@ -0,0 +1,163 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.operation.overlayng;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.util.PolygonExtracter;
+
+import junit.textui.TestRunner;
+import test.jts.GeometryTestCase;
+
+/**
+ * Tests {@link OverlayNGParallel}.
+ */
+public class OverlayNGParallelTest extends GeometryTestCase {
+
+  public static void main(String args[]) {
+    TestRunner.run(OverlayNGParallelTest.class);
+  }
+
+  public OverlayNGParallelTest(String name) { super(name); }
+
+  private static final String POLYGON_WITH_HOLES = "POLYGON ((5 5, 5 95, 95 95, 95 5, 5 5), (20 20, 20 45, 45 45, 45 20, 20 20), (60 60, 60 80, 80 80, 80 60, 60 60))";
+
+  private static final String MULTIPOLYGON = "MULTIPOLYGON (((0 0, 0 40, 40 40, 40 0, 0 0)), ((50 0, 50 40, 90 40, 90 0, 50 0)), ((0 50, 50 100, 100 50, 0 50)))";
+
+  public void testIntersectionPolygons() {
+    checkOverlay(POLYGON_WITH_HOLES, "POLYGON ((10 0, 0 50, 50 101, 101 50, 10 0))");
+  }
+
+  public void testIntersectionMultiPolygons() {
+    checkOverlay(MULTIPOLYGON, POLYGON_WITH_HOLES);
+  }
+
+  public void testIntersectionCircles() {
+    Geometry a = read(POLYGON_WITH_HOLES);
+    Geometry b = circles(getGeometryFactory(), 10, 10, 4.5);
+    checkOverlay(a, b, OverlayNG.INTERSECTION);
+    checkOverlay(b, a, OverlayNG.INTERSECTION);
+  }
+
+  public void testDifferenceCircles() {
+    Geometry a = read(POLYGON_WITH_HOLES);
+    Geometry b = circles(getGeometryFactory(), 10, 10, 4.5);
+    checkOverlay(a, b, OverlayNG.DIFFERENCE);
+    checkOverlay(b, a, OverlayNG.DIFFERENCE);
+  }
+
+  public void testDifferenceDisjoint() {
+    checkOverlay(read("POLYGON ((0 0, 0 10, 10 10, 10 0, 0 0))"),
+        read("POLYGON ((20 20, 20 30, 30 30, 30 20, 20 20))"), OverlayNG.DIFFERENCE);
+  }
+
+  public void testEmpty() {
+    checkOverlay(read("POLYGON EMPTY"), read(POLYGON_WITH_HOLES), OverlayNG.INTERSECTION);
+    checkOverlay(read(POLYGON_WITH_HOLES), read("POLYGON EMPTY"), OverlayNG.INTERSECTION);
+    checkOverlay(read(POLYGON_WITH_HOLES), read("POLYGON EMPTY"), OverlayNG.DIFFERENCE);
+  }
+
+  public void testUnsupportedOp() {
+    try {
+      new OverlayNGParallel(read(POLYGON_WITH_HOLES), read(MULTIPOLYGON), OverlayNG.UNION);
+      fail("Expected IllegalArgumentException");
+    }
+    catch (IllegalArgumentException ex) {
+      // expected
+    }
+  }
+
+  public void testNonPolygonal() {
+    try {
+      new OverlayNGParallel(read(POLYGON_WITH_HOLES), read("LINESTRING (0 0, 10 10)"), OverlayNG.INTERSECTION);
+      fail("Expected IllegalArgumentException");
+    }
+    catch (IllegalArgumentException ex) {
+      // expected
+    }
+  }
+
+  public void testCommonPool() {
+    Geometry a = read(POLYGON_WITH_HOLES);
+    Geometry b = circles(getGeometryFactory(), 10, 10, 4.5);
+    Geometry expected = OverlayNGRobust.overlay(a, b, OverlayNG.INTERSECTION);
+    Geometry actual = OverlayNGParallel.overlay(a, b, OverlayNG.INTERSECTION);
+    checkResult(expected, actual);
+  }
+
+  private void checkOverlay(String wktA, String wktB) {
+    Geometry a = read(wktA);
+    Geometry b = read(wktB);
+    checkOverlay(a, b, OverlayNG.INTERSECTION);
+    checkOverlay(b, a, OverlayNG.INTERSECTION);
+    checkOverlay(a, b, OverlayNG.DIFFERENCE);
+    checkOverlay(b, a, OverlayNG.DIFFERENCE);
+  }
+
+  private void checkOverlay(Geometry a, Geometry b, int opCode) {
+    Geometry expected = OverlayNGRobust.overlay(a, b, opCode);
+    ForkJoinPool pool = new ForkJoinPool(4);
+    try {
+      for (int gridSize = 1; gridSize <= 7; gridSize += 2) {
+        checkOverlay(a, b, opCode, gridSize, null, expected);
+        checkOverlay(a, b, opCode, gridSize, pool, expected);
+      }
+      checkOverlay(a, b, opCode, 0, pool, expected);
+    }
+    finally {
+      pool.shutdown();
+    }
+  }
+
+  private void checkOverlay(Geometry a, Geometry b, int opCode, int gridSize, ForkJoinPool pool, Geometry expected) {
+    OverlayNGParallel ov = new OverlayNGParallel(a, b, opCode);
+    ov.setGridSize(gridSize);
+    ov.setPool(pool);
+    Geometry actual = ov.getResult();
+    checkResult(expected, actual);
+  }
+
+  /**
+   * Checks the result is equal to the expected result, up to the 
+   * small vertex differences where edges cross the tile borders.
+   */
+  private void checkResult(Geometry expected, Geometry actual) {
+    assertTrue(actual.isValid());
+    if (expected.isEmpty()) {
+      assertTrue(actual.isEmpty());
+      return;
+    }
+    Geometry expectedArea = getGeometryFactory().buildGeometry(PolygonExtracter.getPolygons(expected));
+    assertEquals(expectedArea.getNumGeometries(), actual.getNumGeometries());
+    assertEquals(expectedArea.getArea(), actual.getArea(), 1e-9);
+    assertEquals(0.0, expectedArea.symDifference(actual).getArea(), 1e-9);
+  }
+
+  /**
+   * Creates a grid of disjoint circles, which cross many tile borders.
+   */
+  private static Geometry circles(GeometryFactory geomFact, int num, double spacing, double radius) {
+    List<Geometry> circles = new ArrayList<Geometry>();
+    for (int i = 0; i < num; i++) {
+      for (int j = 0; j < num; j++) {
+        Geometry pt = geomFact.createPoint(new Coordinate(spacing * i + 3, spacing * j + 3));
+        circles.add(pt.buffer(radius, 8));
+      }
+    }
+    return geomFact.buildGeometry(circles);
+  }
+}
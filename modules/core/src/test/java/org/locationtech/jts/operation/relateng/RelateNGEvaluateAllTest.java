@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.operation.relateng;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Supplier;
+
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.Point;
+
+import junit.textui.TestRunner;
+import test.jts.GeometryTestCase;
+
+public class RelateNGEvaluateAllTest extends GeometryTestCase {
+
+  public static void main(String args[]) {
+    TestRunner.run(RelateNGEvaluateAllTest.class);
+  }
+
+  public RelateNGEvaluateAllTest(String name) {
+    super(name);
+  }
+
+  private static final String POLYGON_WITH_HOLE = "POLYGON ((10 10, 10 90, 90 90, 90 10, 10 10), (30 30, 70 30, 70 70, 30 70, 30 30))";
+
+  private static final String GC_ADJACENT_POLYGONS = "GEOMETRYCOLLECTION (POLYGON ((10 10, 10 50, 50 50, 50 10, 10 10)), POLYGON ((50 10, 50 50, 90 50, 90 10, 50 10)), LINESTRING (10 70, 90 90))";
+
+  private static final String LINE = "LINESTRING (0 0, 100 100, 0 100, 100 0)";
+
+  public void testEmptyList() {
+    RelateNG rng = RelateNG.prepare(read(POLYGON_WITH_HOLE));
+    BitSet result = rng.evaluateAll(new ArrayList<Geometry>(), RelatePredicate::intersects);
+    assertTrue(result.isEmpty());
+  }
+
+  public void testPattern() {
+    RelateNG rng = RelateNG.prepare(read(POLYGON_WITH_HOLE));
+    List<Geometry> geoms = new ArrayList<Geometry>();
+    geoms.add(read("POINT (20 20)"));
+    geoms.add(read("POINT (50 50)"));
+    geoms.add(read("POINT (10 50)"));
+    BitSet result = rng.evaluateAll(geoms, "T********");
+    assertTrue(result.get(0));
+    assertFalse(result.get(1));
+    assertFalse(result.get(2));
+  }
+
+  public void testPolygonParallel() {
+    checkEvaluateAll(POLYGON_WITH_HOLE);
+  }
+
+  public void testGCParallel() {
+    checkEvaluateAll(GC_ADJACENT_POLYGONS);
+  }
+
+  public void testLineParallel() {
+    checkEvaluateAll(LINE);
+  }
+
+  private void checkEvaluateAll(String wktA) {
+    Geometry a = read(wktA);
+    List<Geometry> geoms = createGeometries();
+    checkEvaluateAll(a, geoms, RelatePredicate::intersects);
+    checkEvaluateAll(a, geoms, RelatePredicate::covers);
+    checkEvaluateAll(a, geoms, RelatePredicate::touches);
+    checkEvaluateAll(a, geoms, RelatePredicate::overlaps);
+    checkEvaluateAll(a, geoms, RelatePredicate::crosses);
+    checkEvaluateAll(a, geoms, () -> RelatePredicate.matches("1*T***T**"));
+  }
+
+  private void checkEvaluateAll(Geometry a, List<Geometry> geoms, Supplier<TopologyPredicate> predicateFactory) {
+    ForkJoinPool pool = new ForkJoinPool(4);
+    try {
+      //-- use a new prepared instance, to check concurrent creation of cached structures
+      BitSet result = RelateNG.prepare(a).evaluateAll(geoms, predicateFactory, pool);
+      BitSet resultSeq = RelateNG.prepare(a).evaluateAll(geoms, predicateFactory, null);
+      for (int i = 0; i < geoms.size(); i++) {
+        boolean expected = RelateNG.relate(a, geoms.get(i), predicateFactory.get());
+        assertEquals(geoms.get(i).toString(), expected, result.get(i));
+        assertEquals(geoms.get(i).toString(), expected, resultSeq.get(i));
+      }
+    }
+    finally {
+      pool.shutdown();
+    }
+  }
+
+  /**
+   * Creates points, lines and boxes on a grid
+   * lying on, inside and outside the test geometries.
+   */
+  private List<Geometry> createGeometries() {
+    List<Geometry> geoms = new ArrayList<Geometry>();
+    for (int x = 0; x <= 100; x += 5) {
+      for (int y = 0; y <= 100; y += 5) {
+        Point pt = getGeometryFactory().createPoint(new Coordinate(x, y));
+        geoms.add(pt);
+        geoms.add(pt.buffer(6, 1));
+        geoms.add(getGeometryFactory().createLineString(new Coordinate[] {
+            new Coordinate(x, y), new Coordinate(x + 10, y + 5) }));
+      }
+    }
+    return geoms;
+  }
+}
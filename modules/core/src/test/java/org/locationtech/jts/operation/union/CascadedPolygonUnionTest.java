@@ -15,6 +15,7 @@ package org.locationtech.jts.operation.union;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
 
 import org.locationtech.jts.geom.Coordinate;
 import org.locationtech.jts.geom.Geometry;
@@ -77,7 +78,21 @@ public class CascadedPolygonUnionTest extends TestCase
   			CascadedPolygonUnionTester.MIN_SIMILARITY_MEAURE);
   }
 
-  
+  public void testDiscsParallel()
+  throws Exception
+  {
+    Collection geoms = createDiscs(20, 0.7);
+    Geometry expected = CascadedPolygonUnion.union(geoms);
+    ForkJoinPool pool = new ForkJoinPool(4);
+    try {
+      Geometry actual = CascadedPolygonUnion.union(geoms, CascadedPolygonUnion.CLASSIC_UNION, pool);
+      assertTrue(expected.equalsExact(actual));
+    }
+    finally {
+      pool.shutdown();
+    }
+  }
+
   // TODO: add some synthetic tests
   
   private static CascadedPolygonUnionTester tester = new CascadedPolygonUnionTester();
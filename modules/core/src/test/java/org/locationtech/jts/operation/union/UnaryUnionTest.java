@@ -12,8 +12,12 @@
 
 package org.locationtech.jts.operation.union;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
 
+import org.locationtech.jts.geom.Coordinate;
 import org.locationtech.jts.geom.Geometry;
 import org.locationtech.jts.geom.GeometryFactory;
 import org.locationtech.jts.io.ParseException;
@@ -70,6 +74,30 @@ public class UnaryUnionTest extends GeometryTestCase
     doTest(new String[]{"GEOMETRYCOLLECTION (POLYGON ((0 0, 0 90, 90 90, 90 0, 0 0)),   POLYGON ((120 0, 120 90, 210 90, 210 0, 120 0)),  LINESTRING (40 50, 40 140),  LINESTRING (160 50, 160 140),  POINT (60 50),  POINT (60 140),  POINT (40 140))"},
     		"GEOMETRYCOLLECTION (POINT (60 140),   LINESTRING (40 90, 40 140), LINESTRING (160 90, 160 140), POLYGON ((0 0, 0 90, 40 90, 90 90, 90 0, 0 0)), POLYGON ((120 0, 120 90, 160 90, 210 90, 210 0, 120 0)))");  }
 
+  public void testParallel()
+  throws Exception
+  {
+    List<Geometry> geoms = new ArrayList<Geometry>();
+    for (int i = 0; i < 20; i++) {
+      for (int j = 0; j < 20; j++) {
+        geoms.add(geomFact.createPoint(new Coordinate(i, j)).buffer(0.7));
+      }
+    }
+    geoms.add(read("LINESTRING (-5 -5, 25 25)"));
+    geoms.add(read("POINT (30 30)"));
+    Geometry expected = UnaryUnionOp.union(geoms);
+    ForkJoinPool pool = new ForkJoinPool(4);
+    try {
+      UnaryUnionOp op = new UnaryUnionOp(geoms);
+      op.setPool(pool);
+      Geometry actual = op.union();
+      assertTrue(expected.equalsExact(actual));
+    }
+    finally {
+      pool.shutdown();
+    }
+  }
+
   private void doTest(String[] inputWKT, String expectedWKT) 
   throws ParseException
   {
@@ -74,7 +74,22 @@ public class VWSimplifierTest
     Geometry result = VWSimplifier.simplify(geom, 2);
     checkNoAlias(geom, result);
   }
- 
+
+  /**
+   * Vertices with equal areas are removed in order along the line.
+   */
+  public void testLineEqualAreas() {
+    Geometry geom = read("LINESTRING (0 0, 1 1, 2 0, 3 1, 4 0, 5 1, 6 0, 7 1, 8 0)");
+    Geometry result = VWSimplifier.simplify(geom, 1.1);
+    checkEqual(read("LINESTRING (0 0, 7 1, 8 0)"), result);
+  }
+
+  public void testLineRepeatedPoints() {
+    Geometry geom = read("LINESTRING (0 0, 0 0, 1 0, 2 0, 2 0)");
+    Geometry result = VWSimplifier.simplify(geom, 1);
+    checkEqual(read("LINESTRING (0 0, 2 0)"), result);
+  }
+
 }
 
 class VWSimplifierResult
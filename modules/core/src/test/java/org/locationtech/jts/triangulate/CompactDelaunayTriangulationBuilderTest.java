@@ -0,0 +1,186 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.triangulate;
+
+import java.util.Random;
+
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.triangulate.quadedge.QuadEdgeSubdivision;
+
+import junit.textui.TestRunner;
+import test.jts.GeometryTestCase;
+
+public class CompactDelaunayTriangulationBuilderTest extends GeometryTestCase {
+
+  public static void main(String args[]) {
+    TestRunner.run(CompactDelaunayTriangulationBuilderTest.class);
+  }
+
+  private GeometryFactory geomFact = new GeometryFactory();
+
+  public CompactDelaunayTriangulationBuilderTest(String name) { super(name); }
+
+  public void testTriangle() {
+    String wkt = "MULTIPOINT ((10 10 1), (10 20 2), (20 20 3))";
+    checkDelaunay(wkt, "GEOMETRYCOLLECTION (POLYGON ((10 20, 10 10, 20 20, 10 20)))");
+    Geometry tri = triangles(read(wkt), CompactDelaunayTriangulationBuilder.ORDER_BRIO);
+    //-- site Z values are preserved
+    for (Coordinate c : tri.getCoordinates()) {
+      assertFalse(Double.isNaN(c.getZ()));
+    }
+  }
+
+  public void testRandom() {
+    checkDelaunay("MULTIPOINT ((50 40), (140 70), (80 100), (130 140), (30 150), (70 180), (190 110), (120 20))",
+        "GEOMETRYCOLLECTION (POLYGON ((30 150, 50 40, 80 100, 30 150)), POLYGON ((30 150, 80 100, 70 180, 30 150)), POLYGON ((70 180, 80 100, 130 140, 70 180)), POLYGON ((70 180, 130 140, 190 110, 70 180)), POLYGON ((190 110, 130 140, 140 70, 190 110)), POLYGON ((190 110, 140 70, 120 20, 190 110)), POLYGON ((120 20, 140 70, 80 100, 120 20)), POLYGON ((120 20, 80 100, 50 40, 120 20)), POLYGON ((80 100, 140 70, 130 140, 80 100)))");
+  }
+
+  public void testGrid() {
+    checkDelaunayHull("MULTIPOINT ((10 10), (10 20), (20 20), (20 10), (20 0), (10 0), (0 0), (0 10), (0 20))", 8);
+  }
+
+  public void testDuplicates() {
+    checkDelaunay("MULTIPOINT ((0 0), (1 0), (-1 0.05), (0 0), (1 0))",
+        "GEOMETRYCOLLECTION (POLYGON ((-1 0.05, 1 0, 0 0, -1 0.05)))");
+  }
+
+  public void testCollinear() {
+    checkDelaunay("MULTIPOINT ((0 0), (1 1), (2 2), (3 3), (1 1))",
+        "GEOMETRYCOLLECTION EMPTY");
+    checkEdges("MULTIPOINT ((0 0), (1 1), (2 2), (3 3), (1 1))",
+        "MULTILINESTRING ((0 0, 1 1), (1 1, 2 2), (2 2, 3 3))");
+  }
+
+  public void testCollinearWithOffset() {
+    checkDelaunay("MULTIPOINT ((0 0), (1 1), (2 2), (3 3), (1 0))",
+        "GEOMETRYCOLLECTION (POLYGON ((0 0, 1 0, 1 1, 0 0)), POLYGON ((1 1, 1 0, 2 2, 1 1)), POLYGON ((2 2, 1 0, 3 3, 2 2)))");
+  }
+
+  // see https://github.com/libgeos/geos/issues/719
+  public void testFrameTooSmallBug() {
+    checkDelaunay("MULTIPOINT ((0 194), (66 151), (203 80), (273 43), (340 0))",
+        "GEOMETRYCOLLECTION (POLYGON ((0 194, 66 151, 203 80, 0 194)), POLYGON ((0 194, 203 80, 273 43, 0 194)), POLYGON ((273 43, 203 80, 340 0, 273 43)), POLYGON ((340 0, 203 80, 66 151, 340 0)))");
+  }
+
+  // see https://github.com/locationtech/jts/issues/477
+  public void testNarrow_GH477_2() {
+    checkDelaunay("MULTIPOINT ((0 0), (0 486), (1 486), (1 22), (2 22), (2 0))",
+        "GEOMETRYCOLLECTION (POLYGON ((0 0, 0 486, 1 22, 0 0)), POLYGON ((0 0, 1 22, 2 0, 0 0)), POLYGON ((0 486, 1 486, 1 22, 0 486)), POLYGON ((1 22, 1 486, 2 22, 1 22)), POLYGON ((1 22, 2 22, 2 0, 1 22)))");
+  }
+
+  public void testNarrowPoints() {
+    checkDelaunayHull("MULTIPOINT ((2 204), (3 66), (1 96), (0 236), (3 173), (2 114), (3 201), (0 46), (1 181))", 11);
+  }
+
+  public void testRandomPoints() {
+    Geometry sites = randomPoints(1000, 1.0e6, false);
+    checkSameAsBuilder(sites);
+  }
+
+  public void testRandomGridPoints() {
+    Geometry sites = randomPoints(1000, 100, true);
+    checkDelaunayHull(sites);
+  }
+
+  public void testTriangleSites() {
+    double[] x = new double[] { 0, 10, 0, 10, 10 };
+    double[] y = new double[] { 0, 0, 10, 0, 10 };
+    CompactDelaunayTriangulationBuilder builder = new CompactDelaunayTriangulationBuilder();
+    builder.setSites(x, y);
+    int[] sites = builder.getTriangleSites();
+    assertEquals(6, sites.length);
+    for (int s : sites) {
+      //-- duplicate site is not used
+      assertTrue(s != 3);
+    }
+  }
+
+  public void testSubdivision() {
+    Geometry sites = randomPoints(200, 100, false);
+    CompactDelaunayTriangulationBuilder builder = new CompactDelaunayTriangulationBuilder();
+    builder.setSites(sites);
+    QuadEdgeSubdivision subdiv = builder.getSubdivision();
+    checkEqual(builder.getTriangles(geomFact).norm(), subdiv.getTriangles(geomFact).norm());
+    checkEqual(builder.getEdges(geomFact).norm(), subdiv.getEdges(geomFact).norm());
+    assertEquals(200, subdiv.getVoronoiDiagram(geomFact).getNumGeometries());
+  }
+
+  private Geometry randomPoints(int n, double size, boolean isGrid) {
+    Random rnd = new Random(13);
+    Coordinate[] pts = new Coordinate[n];
+    for (int i = 0; i < n; i++) {
+      if (isGrid) {
+        pts[i] = new Coordinate(rnd.nextInt((int) size), rnd.nextInt((int) size));
+      }
+      else {
+        pts[i] = new Coordinate(size * rnd.nextDouble(), size * rnd.nextDouble());
+      }
+    }
+    return geomFact.createMultiPointFromCoords(pts);
+  }
+
+  private Geometry triangles(Geometry sites, int order) {
+    CompactDelaunayTriangulationBuilder builder = new CompactDelaunayTriangulationBuilder();
+    builder.setSites(sites);
+    builder.setInsertionOrder(order);
+    return builder.getTriangles(geomFact);
+  }
+
+  private void checkDelaunay(String sitesWKT, String expectedWKT) {
+    Geometry sites = read(sitesWKT);
+    Geometry expected = read(expectedWKT);
+    checkEqual(expected.norm(), triangles(sites, CompactDelaunayTriangulationBuilder.ORDER_BRIO).norm());
+    checkEqual(expected.norm(), triangles(sites, CompactDelaunayTriangulationBuilder.ORDER_HILBERT).norm());
+  }
+
+  private void checkEdges(String sitesWKT, String expectedWKT) {
+    CompactDelaunayTriangulationBuilder builder = new CompactDelaunayTriangulationBuilder();
+    builder.setSites(read(sitesWKT));
+    Geometry result = builder.getEdges(geomFact);
+    checkEqual(read(expectedWKT).norm(), result.norm());
+  }
+
+  private void checkSameAsBuilder(Geometry sites) {
+    DelaunayTriangulationBuilder builder = new DelaunayTriangulationBuilder();
+    builder.setSites(sites);
+    Geometry expected = builder.getTriangles(geomFact).norm();
+    checkEqual(expected, triangles(sites, CompactDelaunayTriangulationBuilder.ORDER_BRIO).norm());
+    checkEqual(expected, triangles(sites, CompactDelaunayTriangulationBuilder.ORDER_HILBERT).norm());
+  }
+
+  private void checkDelaunayHull(String sitesWKT, int numTri) {
+    Geometry sites = read(sitesWKT);
+    checkDelaunayHull(sites);
+    assertEquals(numTri, triangles(sites, CompactDelaunayTriangulationBuilder.ORDER_BRIO).getNumGeometries());
+  }
+
+  /**
+   * Checks that the triangles cover the convex hull,
+   * for sites with many cocircular subsets.
+   */
+  private void checkDelaunayHull(Geometry sites) {
+    double hullArea = sites.convexHull().getArea();
+    for (int order : new int[] { CompactDelaunayTriangulationBuilder.ORDER_BRIO,
+        CompactDelaunayTriangulationBuilder.ORDER_HILBERT }) {
+      Geometry tris = triangles(sites, order);
+      double area = 0;
+      for (int i = 0; i < tris.getNumGeometries(); i++) {
+        double triArea = tris.getGeometryN(i).getArea();
+        assertTrue(triArea > 0);
+        area += triArea;
+      }
+      assertEquals(hullArea, area, 1.0e-6 * hullArea);
+    }
+  }
+}
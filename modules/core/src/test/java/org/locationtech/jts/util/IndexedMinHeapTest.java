@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.util;
+
+import java.util.Random;
+
+import junit.framework.TestCase;
+
+public class IndexedMinHeapTest
+    extends TestCase
+{
+  public IndexedMinHeapTest(String name) {
+    super(name);
+  }
+
+  public static void main(String[] args) {
+    junit.textui.TestRunner.run(IndexedMinHeapTest.class);
+  }
+
+  public void testEmpty() {
+    IndexedMinHeap heap = new IndexedMinHeap(5);
+    assertTrue(heap.isEmpty());
+    assertEquals(-1, heap.peek());
+    assertEquals(-1, heap.poll());
+  }
+
+  public void testOrder() {
+    IndexedMinHeap heap = new IndexedMinHeap(5);
+    heap.update(0, 5);
+    heap.update(1, 1);
+    heap.update(2, 3);
+    heap.update(3, 1);
+    heap.update(4, -2);
+    checkOrder(heap, new int[] { 4, 1, 3, 2, 0 });
+  }
+
+  public void testUpdate() {
+    IndexedMinHeap heap = new IndexedMinHeap(4);
+    heap.update(0, 1);
+    heap.update(1, 2);
+    heap.update(2, 3);
+    heap.update(3, 4);
+    heap.update(0, 10);
+    heap.update(3, 0);
+    assertEquals(4, heap.size());
+    assertEquals(10.0, heap.getKey(0));
+    checkOrder(heap, new int[] { 3, 1, 2, 0 });
+  }
+
+  public void testRemove() {
+    IndexedMinHeap heap = new IndexedMinHeap(4);
+    heap.update(0, 1);
+    heap.update(1, 2);
+    heap.update(2, 3);
+    heap.remove(0);
+    heap.remove(3);
+    assertFalse(heap.contains(0));
+    assertTrue(heap.contains(1));
+    checkOrder(heap, new int[] { 1, 2 });
+  }
+
+  public void testRandom() {
+    int n = 1000;
+    IndexedMinHeap heap = new IndexedMinHeap(n);
+    double[] keys = new double[n];
+    boolean[] isPresent = new boolean[n];
+    Random rand = new Random(11);
+    for (int i = 0; i < 20000; i++) {
+      int item = rand.nextInt(n);
+      if (rand.nextInt(4) == 0) {
+        heap.remove(item);
+        isPresent[item] = false;
+      }
+      else {
+        //-- use few distinct keys to check ordering of equal keys
+        keys[item] = rand.nextInt(100);
+        heap.update(item, keys[item]);
+        isPresent[item] = true;
+      }
+      if (i % 10 == 0) {
+        assertEquals(minItem(keys, isPresent), heap.peek());
+      }
+    }
+    while (! heap.isEmpty()) {
+      int item = heap.poll();
+      assertEquals(minItem(keys, isPresent), item);
+      isPresent[item] = false;
+    }
+    assertEquals(-1, minItem(keys, isPresent));
+  }
+
+  private static int minItem(double[] keys, boolean[] isPresent) {
+    int min = -1;
+    for (int i = 0; i < keys.length; i++) {
+      if (! isPresent[i]) continue;
+      if (min < 0 || keys[i] < keys[min]) {
+        min = i;
+      }
+    }
+    return min;
+  }
+
+  private void checkOrder(IndexedMinHeap heap, int[] expected) {
+    for (int i = 0; i < expected.length; i++) {
+      assertEquals(expected[i], heap.poll());
+    }
+    assertTrue(heap.isEmpty());
+  }
+}
@@ -0,0 +1,341 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.io.geojson;
+
+import java.io.IOException;
+import java.io.Reader;
+
+import org.locationtech.jts.io.DecimalParser;
+import org.locationtech.jts.io.ParseException;
+
+/**
+ * A pull parser which reads JSON text from a {@link Reader}
+ * one value at a time.
+ * No object trees are created:
+ * the caller reads the structure of the text using
+ * {@link #expect(char)} and {@link #consume(char)},
+ * and reads strings and numbers directly.
+ * Values which are not required can be skipped
+ * without being converted.
+ * <p>
+ * The input is read in chunks,
+ * so characters after the end of the JSON may be consumed from the reader.
+ *
+ */
+class GeoJsonParser
+{
+  private static final int CHUNK_SIZE = 8192;
+
+  private Reader reader;
+  private char[] buf = new char[CHUNK_SIZE];
+  private int pos = 0;
+  private int limit = 0;
+  private boolean isEndOfInput = false;
+  private int lineno = 1;
+
+  private StringBuilder text = new StringBuilder();
+  private char[] numBuf = new char[32];
+
+  /**
+   * Creates a parser which reads from a {@link Reader}.
+   *
+   * @param reader the reader to read from
+   */
+  public GeoJsonParser(Reader reader)
+  {
+    this.reader = reader;
+  }
+
+  /**
+   * Skips whitespace and gets the next character without consuming it.
+   *
+   * @return the next character, or -1 if at the end of the input
+   * @throws IOException if an I/O error occurs
+   */
+  public int peek() throws IOException
+  {
+    while (true) {
+      if (pos >= limit && ! fill()) return -1;
+      char c = buf[pos];
+      if (c == '\n') {
+        lineno++;
+      }
+      else if (c != ' ' && c != '\t' && c != '\r') {
+        return c;
+      }
+      pos++;
+    }
+  }
+
+  /**
+   * Skips whitespace and consumes the next character.
+   *
+   * @return the character read, or -1 if at the end of the input
+   * @throws IOException if an I/O error occurs
+   */
+  public int read() throws IOException
+  {
+    int c = peek();
+    if (c >= 0) pos++;
+    return c;
+  }
+
+  /**
+   * Consumes the next character if it is a given character.
+   *
+   * @param c the character to test for
+   * @return true if the character was consumed
+   * @throws IOException if an I/O error occurs
+   */
+  public boolean consume(char c) throws IOException
+  {
+    if (peek() != c) return false;
+    pos++;
+    return true;
+  }
+
+  /**
+   * Consumes the next character, which must be a given character.
+   *
+   * @param c the character expected
+   * @throws IOException if an I/O error occurs
+   * @throws ParseException if the next character is not the one expected
+   */
+  public void expect(char c) throws IOException, ParseException
+  {
+    if (! consume(c))
+      throw parseError("'" + c + "'");
+  }
+
+  /**
+   * Tests whether the next value is a number.
+   *
+   * @return true if the next value is a number
+   * @throws IOException if an I/O error occurs
+   */
+  public boolean isNumber() throws IOException
+  {
+    int c = peek();
+    return c == '-' || (c >= '0' && c <= '9');
+  }
+
+  /**
+   * Consumes the next value if it is <tt>null</tt>.
+   *
+   * @return true if the value was null
+   * @throws IOException if an I/O error occurs
+   * @throws ParseException if the value starts with <tt>n</tt> but is not null
+   */
+  public boolean readNull() throws IOException, ParseException
+  {
+    if (peek() != 'n') return false;
+    readLiteral("null");
+    return true;
+  }
+
+  /**
+   * Reads a string value.
+   *
+   * @return the string
+   * @throws IOException if an I/O error occurs
+   * @throws ParseException if the next value is not a valid string
+   */
+  public String readString() throws IOException, ParseException
+  {
+    expect('"');
+    text.setLength(0);
+    while (true) {
+      int start = pos;
+      while (pos < limit && buf[pos] != '"' && buf[pos] != '\\') {
+        pos++;
+      }
+      text.append(buf, start, pos - start);
+      if (pos >= limit) {
+        if (! fill()) throw parseError("'\"'");
+        continue;
+      }
+      if (buf[pos++] == '"') break;
+      text.append(readEscape());
+    }
+    return text.toString();
+  }
+
+  private char readEscape() throws IOException, ParseException
+  {
+    int c = readChar();
+    switch (c) {
+    case '"':
+    case '\\':
+    case '/':
+      return (char) c;
+    case 'b': return '\b';
+    case 'f': return '\f';
+    case 'n': return '\n';
+    case 'r': return '\r';
+    case 't': return '\t';
+    case 'u':
+      int code = 0;
+      for (int i = 0; i < 4; i++) {
+        int digit = Character.digit(readChar(), 16);
+        if (digit < 0) throw parseError("hex digit");
+        code = 16 * code + digit;
+      }
+      return (char) code;
+    }
+    throw parseError("escape character");
+  }
+
+  private int readChar() throws IOException
+  {
+    if (pos >= limit && ! fill()) return -1;
+    return buf[pos++];
+  }
+
+  /**
+   * Reads a number value.
+   * The value is the same as that of {@link Double#parseDouble(String)},
+   * but common number formats are parsed without creating a string.
+   *
+   * @return the value of the number
+   * @throws IOException if an I/O error occurs
+   * @throws ParseException if the next value is not a valid number
+   */
+  public double readNumber() throws IOException, ParseException
+  {
+    if (! isNumber()) throw parseError("number");
+    int len = 0;
+    while (true) {
+      if (pos >= limit && ! fill()) break;
+      char c = buf[pos];
+      if (! isNumberChar(c)) break;
+      if (len >= numBuf.length) {
+        char[] newBuf = new char[2 * numBuf.length];
+        System.arraycopy(numBuf, 0, newBuf, 0, len);
+        numBuf = newBuf;
+      }
+      numBuf[len++] = c;
+      pos++;
+    }
+    double num = DecimalParser.parse(numBuf, 0, len);
+    if (! Double.isNaN(num))
+      return num;
+    String numStr = new String(numBuf, 0, len);
+    try {
+      return Double.parseDouble(numStr);
+    }
+    catch (NumberFormatException ex) {
+      throw new ParseException("Invalid number: " + numStr + " at line " + lineno);
+    }
+  }
+
+  private static boolean isNumberChar(char c)
+  {
+    return (c >= '0' && c <= '9')
+        || c == '-' || c == '+' || c == '.'
+        || c == 'e' || c == 'E';
+  }
+
+  /**
+   * Skips the next value, including any nested objects and arrays.
+   *
+   * @throws IOException if an I/O error occurs
+   * @throws ParseException if the next value is not valid JSON
+   */
+  public void skipValue() throws IOException, ParseException
+  {
+    int c = peek();
+    switch (c) {
+    case '{':
+      pos++;
+      if (consume('}')) return;
+      do {
+        skipString();
+        expect(':');
+        skipValue();
+      } while (consume(','));
+      expect('}');
+      return;
+    case '[':
+      pos++;
+      if (consume(']')) return;
+      do {
+        skipValue();
+      } while (consume(','));
+      expect(']');
+      return;
+    case '"':
+      skipString();
+      return;
+    case 't':
+      readLiteral("true");
+      return;
+    case 'f':
+      readLiteral("false");
+      return;
+    case 'n':
+      readLiteral("null");
+      return;
+    }
+    readNumber();
+  }
+
+  private void skipString() throws IOException, ParseException
+  {
+    expect('"');
+    while (true) {
+      int c = readChar();
+      if (c < 0) throw parseError("'\"'");
+      if (c == '"') return;
+      if (c == '\\') readEscape();
+    }
+  }
+
+  private void readLiteral(String literal) throws IOException, ParseException
+  {
+    peek();
+    for (int i = 0; i < literal.length(); i++) {
+      if (readChar() != literal.charAt(i))
+        throw new ParseException("Invalid value at line " + lineno + " (expected " + literal + ")");
+    }
+  }
+
+  /**
+   * Creates an exception for an unexpected character.
+   *
+   * @param expected a description of what was expected
+   * @return the exception
+   * @throws IOException if an I/O error occurs
+   */
+  public ParseException parseError(String expected) throws IOException
+  {
+    int c = peek();
+    String found = c < 0 ? "<EOF>" : "'" + (char) c + "'";
+    return new ParseException("Expected " + expected
+        + " but found " + found + " at line " + lineno);
+  }
+
+  private boolean fill() throws IOException
+  {
+    if (isEndOfInput) return false;
+    int n;
+    do {
+      n = reader.read(buf, 0, buf.length);
+    } while (n == 0);
+    if (n < 0) {
+      isEndOfInput = true;
+      return false;
+    }
+    pos = 0;
+    limit = n;
+    return true;
+  }
+}
@@ -20,6 +20,7 @@ import java.util.List;
 import java.util.Map;
 
 import org.json.simple.parser.JSONParser;
+import org.locationtech.jts.geom.Coordinate;
 import org.locationtech.jts.geom.CoordinateSequence;
 import org.locationtech.jts.geom.Geometry;
 import org.locationtech.jts.geom.GeometryFactory;
@@ -47,6 +48,9 @@ import org.locationtech.jts.io.ParseException;
  * {@link PrecisionModel} matches the precision of the incoming data. If a lower
  * precision for the data is required, a subsequent process must be run on the
  * data to reduce its precision.
+ * <p>
+ * The reader parses the entire JSON text into memory before creating the geometry.
+ * To read large FeatureCollections one feature at a time use a {@link GeoJsonStreamReader}.
  * 
  * @author Martin Davis
  * @author Paul Howells, Vivid Solutions.
@@ -78,6 +82,15 @@ public class GeoJsonReader {
     this.gf = geometryFactory;
   }
 
+  /**
+   * Gets the factory used to create the output geometries, if one was provided.
+   * 
+   * @return the geometry factory, or null if the factory is determined by the GeoJson CRS
+   */
+  GeometryFactory getGeometryFactory() {
+    return gf;
+  }
+
   /**
    * Reads a GeoJson Geometry from a <tt>String</tt> into a single
    * {@link Geometry}.
@@ -134,7 +147,19 @@ public class GeoJsonReader {
     return result;
   }
 
-  private Geometry create(Map<String, Object> geometryMap,
+  /**
+   * Creates a geometry from a parsed GeoJSON object.
+   * The coordinates are either lists of numbers,
+   * or positions and position arrays which have already been read
+   * into {@link Coordinate}s and {@link CoordinateSequence}s
+   * (as is done by {@link GeoJsonStreamReader}).
+   * 
+   * @param geometryMap the members of the GeoJSON object
+   * @param geometryFactory the factory to create the geometry with
+   * @return the geometry created
+   * @throws ParseException if the object does not describe a geometry
+   */
+  Geometry create(Map<String, Object> geometryMap,
       GeometryFactory geometryFactory) throws ParseException {
 
     Geometry result = null;
@@ -202,7 +227,7 @@ public class GeoJsonReader {
     }
   }
 
-  private Geometry createFeature(Map<String, Object> geometryMap,
+  Geometry createFeature(Map<String, Object> geometryMap,
       GeometryFactory geometryFactory) throws ParseException {
     try {
       @SuppressWarnings("unchecked")
@@ -252,17 +277,17 @@ public class GeoJsonReader {
     try {
 
       @SuppressWarnings("unchecked")
-      List<List<List<List<Number>>>> polygonsList = (List<List<List<List<Number>>>>) geometryMap
+      List<List<Object>> polygonsList = (List<List<Object>>) geometryMap
           .get(GeoJsonConstants.NAME_COORDINATES);
 
       Polygon[] polygons = new Polygon[polygonsList.size()];
 
       int p = 0;
-      for (List<List<List<Number>>> ringsList : polygonsList) {
+      for (List<Object> ringsList : polygonsList) {
 
         List<CoordinateSequence> rings = new ArrayList<CoordinateSequence>();
 
-        for (List<List<Number>> coordinates : ringsList) {
+        for (Object coordinates : ringsList) {
 
           rings.add(createCoordinateSequence(coordinates));
         }
@@ -271,16 +296,7 @@ public class GeoJsonReader {
           continue;
         }
 
-        LinearRing outer = geometryFactory.createLinearRing(rings.get(0));
-        LinearRing[] inner = null;
-        if (rings.size() > 1) {
-          inner = new LinearRing[rings.size() - 1];
-          for (int i = 1; i < rings.size(); i++) {
-            inner[i - 1] = geometryFactory.createLinearRing(rings.get(i));
-          }
-        }
-
-        polygons[p] = geometryFactory.createPolygon(outer, inner);
+        polygons[p] = createPolygon(rings, geometryFactory);
 
         ++p;
       }
@@ -303,13 +319,13 @@ public class GeoJsonReader {
     try {
 
       @SuppressWarnings("unchecked")
-      List<List<List<Number>>> linesList = (List<List<List<Number>>>) geometryMap
+      List<Object> linesList = (List<Object>) geometryMap
           .get(GeoJsonConstants.NAME_COORDINATES);
 
       LineString[] lineStrings = new LineString[linesList.size()];
 
       int i = 0;
-      for (List<List<Number>> coordinates : linesList) {
+      for (Object coordinates : linesList) {
 
         lineStrings[i] = geometryFactory
             .createLineString(createCoordinateSequence(coordinates));
@@ -334,8 +350,7 @@ public class GeoJsonReader {
 
     try {
 
-      @SuppressWarnings("unchecked")
-      List<List<Number>> coordinatesList = (List<List<Number>>) geometryMap
+      Object coordinatesList = geometryMap
           .get(GeoJsonConstants.NAME_COORDINATES);
 
       CoordinateSequence coordinates = this
@@ -359,7 +374,7 @@ public class GeoJsonReader {
     try {
 
       @SuppressWarnings("unchecked")
-      List<List<List<Number>>> ringsList = (List<List<List<Number>>>) geometryMap
+      List<Object> ringsList = (List<Object>) geometryMap
           .get(GeoJsonConstants.NAME_COORDINATES);
 
       if (ringsList == null || ringsList.isEmpty()) {
@@ -368,21 +383,12 @@ public class GeoJsonReader {
 
       List<CoordinateSequence> rings = new ArrayList<CoordinateSequence>();
 
-      for (List<List<Number>> coordinates : ringsList) {
+      for (Object coordinates : ringsList) {
 
         rings.add(createCoordinateSequence(coordinates));
       }
 
-      LinearRing outer = geometryFactory.createLinearRing(rings.get(0));
-      LinearRing[] inner = null;
-      if (rings.size() > 1) {
-        inner = new LinearRing[rings.size() - 1];
-        for (int i = 1; i < rings.size(); i++) {
-          inner[i - 1] = geometryFactory.createLinearRing(rings.get(i));
-        }
-      }
-
-      result = geometryFactory.createPolygon(outer, inner);
+      result = createPolygon(rings, geometryFactory);
 
     } catch (RuntimeException e) {
       throw new ParseException("Could not parse Polygon from GeoJson string.",
@@ -392,6 +398,23 @@ public class GeoJsonReader {
     return result;
   }
 
+  /**
+   * Creates a polygon from a non-empty list of rings.
+   * The first ring is the shell, and the others are holes.
+   */
+  static Polygon createPolygon(List<CoordinateSequence> rings,
+      GeometryFactory geometryFactory) {
+    LinearRing outer = geometryFactory.createLinearRing(rings.get(0));
+    LinearRing[] inner = null;
+    if (rings.size() > 1) {
+      inner = new LinearRing[rings.size() - 1];
+      for (int i = 1; i < rings.size(); i++) {
+        inner[i - 1] = geometryFactory.createLinearRing(rings.get(i));
+      }
+    }
+    return geometryFactory.createPolygon(outer, inner);
+  }
+
   private Geometry createLineString(Map<String, Object> geometryMap,
       GeometryFactory geometryFactory) throws ParseException {
 
@@ -399,8 +422,7 @@ public class GeoJsonReader {
 
     try {
 
-      @SuppressWarnings("unchecked")
-      List<List<Number>> coordinatesList = (List<List<Number>>) geometryMap
+      Object coordinatesList = geometryMap
           .get(GeoJsonConstants.NAME_COORDINATES);
 
       CoordinateSequence coordinates = createCoordinateSequence(coordinatesList);
@@ -422,8 +444,7 @@ public class GeoJsonReader {
 
     try {
 
-      @SuppressWarnings("unchecked")
-      List<Number> coordinateList = (List<Number>) geometryMap
+      Object coordinateList = geometryMap
           .get(GeoJsonConstants.NAME_COORDINATES);
 
       CoordinateSequence coordinate = this.createCoordinate(coordinateList);
@@ -473,6 +494,14 @@ public class GeoJsonReader {
     return result;
   }
 
+  @SuppressWarnings("unchecked")
+  private CoordinateSequence createCoordinateSequence(Object coordinates) {
+    if (coordinates instanceof CoordinateSequence) {
+      return (CoordinateSequence) coordinates;
+    }
+    return createCoordinateSequence((List<List<Number>>) coordinates);
+  }
+
   private CoordinateSequence createCoordinateSequence(
       List<List<Number>> coordinates) {
     CoordinateSequence result = null;
@@ -500,6 +529,14 @@ public class GeoJsonReader {
     return result;
   }
 
+  @SuppressWarnings("unchecked")
+  private CoordinateSequence createCoordinate(Object coordinates) {
+    if (coordinates instanceof Coordinate) {
+      return new CoordinateArraySequence(new Coordinate[] { (Coordinate) coordinates });
+    }
+    return createCoordinate((List<Number>) coordinates);
+  }
+
   private CoordinateSequence createCoordinate(List<Number> ordinates) {
     if (ordinates == null || ordinates.size() == 0) {
       return new CoordinateArraySequence(0);
@@ -0,0 +1,453 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.io.geojson;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.CoordinateSequence;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.PrecisionModel;
+import org.locationtech.jts.geom.impl.CoordinateArraySequence;
+import org.locationtech.jts.io.ParseException;
+
+/**
+ * Reads a stream of GeoJSON features or geometries from a {@link Reader},
+ * one at a time.
+ * The input may be:
+ * <ul>
+ * <li>a <code>FeatureCollection</code>,
+ * in which case the geometry of each feature is returned in turn
+ * <li>a JSON array of features or geometries
+ * <li>a sequence of features or geometries,
+ * separated by whitespace (e.g. one per line)
+ * or by the record separator character of RFC 8142
+ * <li>a single feature or geometry of any other type
+ * </ul>
+ * The JSON text is parsed as it is read,
+ * and only the structure of the current feature is held in memory.
+ * Coordinates are read directly into {@link CoordinateSequence}s,
+ * and feature properties are skipped without being parsed into objects.
+ * This allows reading FeatureCollections which are much larger than the available memory.
+ * <p>
+ * The geometries are the same as those read by {@link GeoJsonReader#read(Reader)}.
+ * If the reader does not have a geometry factory,
+ * the SRID is taken from the GeoJSON <code>crs</code> of the top-level object.
+ * For a FeatureCollection, the <code>crs</code> is used only if it occurs
+ * before the <code>features</code> member.
+ * <p>
+ * Typical usage is:
+ * <pre>
+ * GeoJsonStreamReader rdr = new GeoJsonStreamReader(reader, new GeoJsonReader());
+ * while (rdr.hasNext()) {
+ *   Geometry geom = rdr.next();
+ *   ...
+ * }
+ * </pre>
+ *
+ * @see GeoJsonStreamWriter
+ */
+public class GeoJsonStreamReader
+{
+  /**
+   * The record separator which starts each text in a GeoJSON Text Sequence (RFC 8142).
+   */
+  private static final char RECORD_SEPARATOR = '\u001E';
+
+  /**
+   * The value of an empty coordinate array, whose nesting depth is unknown.
+   */
+  private static final List<Object> EMPTY = Collections.emptyList();
+
+  private static final int STATE_TOP = 0;
+  private static final int STATE_ARRAY = 1;
+  private static final int STATE_FEATURES = 2;
+
+  private GeoJsonParser parser;
+  private GeoJsonReader geoJsonReader;
+  private GeometryFactory geomFactory;
+  private int count = 0;
+
+  private int state = STATE_TOP;
+  private boolean isFirstElement;
+  private GeometryFactory featuresFactory;
+
+  private Map<String, Object> nextObject = null;
+  private GeometryFactory nextFactory;
+  private boolean isNextFeature;
+
+  /**
+   * The CRS of the top-level object being read
+   */
+  private boolean hasCRS;
+  private String crsName;
+  private GeometryFactory sridFactory = null;
+
+  /**
+   * Creates a new reader for the GeoJSON text from a {@link Reader}.
+   *
+   * @param reader the reader to read from
+   * @param geoJsonReader the GeoJSON reader providing the geometry factory to use
+   */
+  public GeoJsonStreamReader(Reader reader, GeoJsonReader geoJsonReader)
+  {
+    this.parser = new GeoJsonParser(reader);
+    this.geoJsonReader = geoJsonReader;
+    this.geomFactory = geoJsonReader.getGeometryFactory();
+  }
+
+  /**
+   * Tests whether there are more geometries to read.
+   *
+   * @return true if the input contains more geometries
+   * @throws ParseException if the GeoJSON is ill-formed, or an I/O error occurs
+   */
+  public boolean hasNext() throws ParseException
+  {
+    try {
+      return findNext();
+    }
+    catch (IOException e) {
+      throw new ParseException(e);
+    }
+  }
+
+  /**
+   * Reads the next geometry.
+   *
+   * @return the geometry read
+   * @throws ParseException if the GeoJSON is ill-formed, or an I/O error occurs
+   * @throws NoSuchElementException if there are no more geometries
+   */
+  public Geometry next() throws ParseException
+  {
+    if (! hasNext())
+      throw new NoSuchElementException();
+    Map<String, Object> obj = nextObject;
+    nextObject = null;
+    Geometry geom = isNextFeature
+        ? geoJsonReader.createFeature(obj, nextFactory)
+        : geoJsonReader.create(obj, nextFactory);
+    count++;
+    return geom;
+  }
+
+  /**
+   * Gets the number of geometries read.
+   *
+   * @return the number of geometries read
+   */
+  public int getCount()
+  {
+    return count;
+  }
+
+  /**
+   * Reads all the remaining geometries.
+   *
+   * @return a list of the geometries read
+   * @throws ParseException if the GeoJSON is ill-formed, or an I/O error occurs
+   */
+  public List<Geometry> read() throws ParseException
+  {
+    List<Geometry> geoms = new ArrayList<Geometry>();
+    while (hasNext()) {
+      geoms.add(next());
+    }
+    return geoms;
+  }
+
+  /**
+   * Parses the next feature or geometry object, if any.
+   *
+   * @return true if an object was found
+   */
+  private boolean findNext() throws IOException, ParseException
+  {
+    while (nextObject == null) {
+      if (state != STATE_TOP) {
+        if (parser.consume(']')) {
+          if (state == STATE_FEATURES) {
+            skipMembers();
+          }
+          state = STATE_TOP;
+          continue;
+        }
+        if (! isFirstElement) {
+          parser.expect(',');
+        }
+        isFirstElement = false;
+        // the elements of a FeatureCollection are always read as features
+        isNextFeature = state == STATE_FEATURES;
+        if (isNextFeature) {
+          nextObject = readObject(false);
+          nextFactory = featuresFactory;
+        }
+        else {
+          nextObject = readObject(true);
+          nextFactory = getFactory();
+        }
+        break;
+      }
+      int c = parser.peek();
+      if (c == RECORD_SEPARATOR) {
+        parser.read();
+        continue;
+      }
+      if (c < 0) return false;
+      if (c == '[') {
+        parser.read();
+        state = STATE_ARRAY;
+        isFirstElement = true;
+        continue;
+      }
+      Map<String, Object> obj = readObject(true);
+      // a FeatureCollection has started to be streamed
+      if (obj == null) continue;
+      nextObject = obj;
+      nextFactory = getFactory();
+      isNextFeature = false;
+    }
+    return true;
+  }
+
+  /**
+   * Skips the remaining members of the FeatureCollection being streamed.
+   */
+  private void skipMembers() throws IOException, ParseException
+  {
+    while (parser.consume(',')) {
+      parser.readString();
+      parser.expect(':');
+      parser.skipValue();
+    }
+    parser.expect('}');
+  }
+
+  /**
+   * Reads a JSON object, recording the members used to create geometry
+   * in the form read by {@link GeoJsonReader}.
+   * If the object is a top-level FeatureCollection,
+   * reading stops at the start of the features array,
+   * and the reader moves to the state of streaming the features.
+   *
+   * @param isTopLevel whether the object is at the top level of a GeoJSON text
+   * @return the object read, or null if a FeatureCollection is being streamed
+   */
+  private Map<String, Object> readObject(boolean isTopLevel) throws IOException, ParseException
+  {
+    parser.expect('{');
+    Map<String, Object> obj = new HashMap<String, Object>();
+    if (isTopLevel) {
+      hasCRS = false;
+      crsName = null;
+    }
+    if (parser.consume('}')) return obj;
+    do {
+      String name = parser.readString();
+      parser.expect(':');
+      if (isTopLevel && state == STATE_TOP
+          && GeoJsonConstants.NAME_FEATURES.equals(name)
+          && (obj.get(GeoJsonConstants.NAME_TYPE) == null
+              || GeoJsonConstants.NAME_FEATURECOLLECTION.equals(obj.get(GeoJsonConstants.NAME_TYPE)))
+          && parser.consume('[')) {
+        featuresFactory = getFactory();
+        state = STATE_FEATURES;
+        isFirstElement = true;
+        return null;
+      }
+      readMember(obj, name, isTopLevel);
+    } while (parser.consume(','));
+    parser.expect('}');
+    return obj;
+  }
+
+  private void readMember(Map<String, Object> obj, String name, boolean isTopLevel) throws IOException, ParseException
+  {
+    if (GeoJsonConstants.NAME_TYPE.equals(name)) {
+      obj.put(name, parser.readNull() ? null : parser.readString());
+    }
+    else if (GeoJsonConstants.NAME_COORDINATES.equals(name)) {
+      obj.put(name, parser.readNull() ? null : readCoordinates());
+    }
+    else if (GeoJsonConstants.NAME_GEOMETRY.equals(name)) {
+      obj.put(name, parser.readNull() ? null : readObject(false));
+    }
+    else if (GeoJsonConstants.NAME_GEOMETRIES.equals(name)
+        || GeoJsonConstants.NAME_FEATURES.equals(name)) {
+      obj.put(name, readObjectList());
+    }
+    else if (isTopLevel && GeoJsonConstants.NAME_CRS.equals(name)) {
+      readCRS();
+    }
+    else {
+      parser.skipValue();
+    }
+  }
+
+  private List<Map<String, Object>> readObjectList() throws IOException, ParseException
+  {
+    if (parser.readNull()) return null;
+    List<Map<String, Object>> objs = new ArrayList<Map<String, Object>>();
+    parser.expect('[');
+    if (parser.consume(']')) return objs;
+    do {
+      objs.add(readObject(false));
+    } while (parser.consume(','));
+    parser.expect(']');
+    return objs;
+  }
+
+  /**
+   * Reads the name of a named CRS.
+   * The name is converted to an SRID only if it is used.
+   */
+  private void readCRS() throws IOException, ParseException
+  {
+    crsName = null;
+    hasCRS = ! parser.readNull();
+    if (! hasCRS) return;
+    if (parser.peek() != '{') {
+      // not a valid CRS, but this is an error only if the SRID is used
+      parser.skipValue();
+      return;
+    }
+    parser.expect('{');
+    if (parser.consume('}')) return;
+    do {
+      String name = parser.readString();
+      parser.expect(':');
+      if (GeoJsonConstants.NAME_PROPERTIES.equals(name) && parser.peek() == '{') {
+        crsName = readCRSName();
+      }
+      else {
+        parser.skipValue();
+      }
+    } while (parser.consume(','));
+    parser.expect('}');
+  }
+
+  private String readCRSName() throws IOException, ParseException
+  {
+    String crsName = null;
+    parser.expect('{');
+    if (parser.consume('}')) return null;
+    do {
+      String name = parser.readString();
+      parser.expect(':');
+      if (GeoJsonConstants.NAME_NAME.equals(name) && parser.peek() == '"') {
+        crsName = parser.readString();
+      }
+      else {
+        parser.skipValue();
+      }
+    } while (parser.consume(','));
+    parser.expect('}');
+    return crsName;
+  }
+
+  /**
+   * Reads a coordinate array of any depth.
+   * A position is read as a {@link Coordinate},
+   * and an array of positions as a {@link CoordinateSequence}.
+   * Deeper arrays are read as lists.
+   *
+   * @return the coordinates read
+   */
+  private Object readCoordinates() throws IOException, ParseException
+  {
+    parser.expect('[');
+    if (parser.consume(']')) return EMPTY;
+    if (parser.isNumber()) return readPosition();
+
+    List<Object> items = new ArrayList<Object>();
+    boolean hasPosition = false;
+    boolean hasArray = false;
+    do {
+      Object item = readCoordinates();
+      if (item instanceof Coordinate) {
+        hasPosition = true;
+      }
+      else if (item != EMPTY) {
+        hasArray = true;
+      }
+      items.add(item);
+    } while (parser.consume(','));
+    parser.expect(']');
+
+    if (! hasPosition) return items;
+    if (hasArray)
+      throw new ParseException("Could not parse coordinates from GeoJson string.  Mixed array depths found.");
+    return toSequence(items);
+  }
+
+  private Coordinate readPosition() throws IOException, ParseException
+  {
+    Coordinate p = new Coordinate();
+    int i = 0;
+    do {
+      double ord = parser.readNumber();
+      if (i <= Coordinate.Z) {
+        p.setOrdinate(i, ord);
+      }
+      i++;
+    } while (parser.consume(','));
+    parser.expect(']');
+    return p;
+  }
+
+  /**
+   * Converts an array of positions to a coordinate sequence.
+   * Empty positions have the default coordinate values.
+   */
+  private static CoordinateSequence toSequence(List<Object> items)
+  {
+    Coordinate[] pts = new Coordinate[items.size()];
+    for (int i = 0; i < pts.length; i++) {
+      Object item = items.get(i);
+      pts[i] = item == EMPTY ? new Coordinate() : (Coordinate) item;
+    }
+    return new CoordinateArraySequence(pts);
+  }
+
+  /**
+   * Gets the factory for the CRS of the top-level object being read.
+   */
+  private GeometryFactory getFactory() throws ParseException
+  {
+    if (geomFactory != null) return geomFactory;
+
+    int srid = 4326;
+    if (hasCRS) {
+      try {
+        String[] split = crsName.split(":");
+        srid = Integer.parseInt(split[1]);
+      } catch (RuntimeException e) {
+        throw new ParseException(
+            "Could not parse SRID from Geojson 'crs' object.", e);
+      }
+    }
+    // most inputs use a single SRID, so reuse the factory
+    if (sridFactory == null || sridFactory.getSRID() != srid) {
+      sridFactory = new GeometryFactory(new PrecisionModel(), srid);
+    }
+    return sridFactory;
+  }
+}
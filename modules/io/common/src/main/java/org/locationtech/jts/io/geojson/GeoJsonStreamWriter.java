@@ -0,0 +1,181 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.io.geojson;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.util.Map;
+
+import org.json.simple.JSONObject;
+import org.locationtech.jts.geom.Geometry;
+
+/**
+ * Writes a stream of {@link Geometry}s to a {@link Writer}
+ * as the features of a GeoJSON <code>FeatureCollection</code>.
+ * Each feature is written directly to the output as it is added,
+ * so the size of the collection is not limited by the available memory.
+ * <p>
+ * The geometries are written using the settings of a {@link GeoJsonWriter}.
+ * If the writer encodes the CRS, the <code>crs</code> of the collection
+ * is taken from the SRID of the first geometry written.
+ * Feature properties may be provided as a map,
+ * which is written as a JSON object.
+ * A null geometry is written as a feature with a <code>null</code> geometry.
+ * <p>
+ * The collection is completed by calling {@link #close()}.
+ * Typical usage is:
+ * <pre>
+ * try (GeoJsonStreamWriter featureWriter = new GeoJsonStreamWriter(writer, new GeoJsonWriter())) {
+ *   for (Geometry geom : geoms) {
+ *     featureWriter.write(geom);
+ *   }
+ * }
+ * </pre>
+ *
+ * @see GeoJsonStreamReader
+ */
+public class GeoJsonStreamWriter
+  implements Closeable
+{
+  private Writer writer;
+  private GeoJsonWriter geoJsonWriter;
+  private int count = 0;
+  private boolean isClosed = false;
+
+  /**
+   * Creates a new writer for a FeatureCollection.
+   *
+   * @param writer the writer to write to
+   * @param geoJsonWriter the GeoJSON writer providing the output settings
+   */
+  public GeoJsonStreamWriter(Writer writer, GeoJsonWriter geoJsonWriter)
+  {
+    this.writer = writer;
+    this.geoJsonWriter = geoJsonWriter;
+  }
+
+  /**
+   * Gets the number of features written.
+   *
+   * @return the number of features written
+   */
+  public int getCount()
+  {
+    return count;
+  }
+
+  /**
+   * Writes a geometry as a feature with no properties.
+   *
+   * @param geometry the geometry to write
+   * @throws IOException if an I/O error occurs
+   */
+  public void write(Geometry geometry) throws IOException
+  {
+    write(geometry, null);
+  }
+
+  /**
+   * Writes a geometry as a feature with the given properties.
+   * The property values may be strings, numbers, booleans, null,
+   * or maps and lists of these.
+   * <p>
+   * The feature is encoded completely before it is written,
+   * so if the geometry or properties cannot be encoded
+   * nothing is written to the output and the writer remains usable.
+   *
+   * @param geometry the geometry to write, or null
+   * @param properties the feature properties, or null
+   * @throws IOException if an I/O error occurs
+   * @throws IllegalArgumentException if the geometry cannot be encoded as GeoJSON
+   */
+  public void write(Geometry geometry, Map<String, ?> properties) throws IOException
+  {
+    if (isClosed)
+      throw new IllegalStateException("Writer is closed");
+    StringWriter feature = new StringWriter();
+    writeFeature(geometry, properties, feature);
+    if (count == 0) {
+      writeHeader(geometry);
+    }
+    else {
+      writer.write(',');
+    }
+    writer.write(feature.toString());
+    count++;
+  }
+
+  private void writeFeature(Geometry geometry, Map<String, ?> properties, Writer writer) throws IOException
+  {
+    writer.write('{');
+    GeoJsonWriter.writeName(GeoJsonConstants.NAME_TYPE, writer);
+    writer.write('"');
+    writer.write(GeoJsonConstants.NAME_FEATURE);
+    writer.write("\",");
+    GeoJsonWriter.writeName(GeoJsonConstants.NAME_GEOMETRY, writer);
+    if (geometry == null) {
+      writer.write("null");
+    }
+    else {
+      geoJsonWriter.write(geometry, false, writer);
+    }
+    writer.write(',');
+    GeoJsonWriter.writeName(GeoJsonConstants.NAME_PROPERTIES, writer);
+    if (properties == null) {
+      writer.write("{}");
+    }
+    else {
+      JSONObject.writeJSONString(properties, writer);
+    }
+    writer.write('}');
+  }
+
+  /**
+   * Writes the start of the FeatureCollection.
+   *
+   * @param geometry the first geometry, or null if there are none
+   */
+  private void writeHeader(Geometry geometry) throws IOException
+  {
+    writer.write('{');
+    GeoJsonWriter.writeName(GeoJsonConstants.NAME_TYPE, writer);
+    writer.write('"');
+    writer.write(GeoJsonConstants.NAME_FEATURECOLLECTION);
+    writer.write("\",");
+    if (geometry != null && geoJsonWriter.isEncodeCRS()) {
+      GeoJsonWriter.writeName(GeoJsonConstants.NAME_CRS, writer);
+      GeoJsonWriter.writeCRS(geometry.getSRID(), writer);
+      writer.write(',');
+    }
+    GeoJsonWriter.writeName(GeoJsonConstants.NAME_FEATURES, writer);
+    writer.write('[');
+  }
+
+  /**
+   * Completes the FeatureCollection and closes the underlying writer.
+   *
+   * @throws IOException if an I/O error occurs
+   */
+  @Override
+  public void close() throws IOException
+  {
+    if (isClosed) return;
+    if (count == 0) {
+      writeHeader(null);
+    }
+    writer.write("]}");
+    isClosed = true;
+    writer.close();
+  }
+}
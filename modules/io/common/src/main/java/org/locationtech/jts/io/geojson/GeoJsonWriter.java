@@ -11,8 +11,7 @@
  */
 package org.locationtech.jts.io.geojson;
 
-import org.json.simple.JSONAware;
-import org.json.simple.JSONObject;
+import org.json.simple.JSONValue;
 import org.locationtech.jts.geom.CoordinateSequence;
 import org.locationtech.jts.geom.Geometry;
 import org.locationtech.jts.geom.GeometryCollection;
@@ -27,10 +26,6 @@ import org.locationtech.jts.util.Assert;
 import java.io.IOException;
 import java.io.StringWriter;
 import java.io.Writer;
-import java.util.ArrayList;
-import java.util.LinkedHashMap;
-import java.util.List;
-import java.util.Map;
 
 
 /**
@@ -44,6 +39,9 @@ import java.util.Map;
  * <p>
  * The GeoJSON specification does not state how to represent empty geometries of specific type.
  * The writer emits empty typed geometries using an empty array for the <code>coordinates</code> property.
+ * <p>
+ * The JSON is written directly to the output, without creating intermediate JSON objects.
+ * To write a large number of geometries as a FeatureCollection use a {@link GeoJsonStreamWriter}.
  * 
  * @author Martin Davis
  * @author Paul Howells, Vivid Solutions
@@ -128,43 +126,61 @@ public class GeoJsonWriter {
    *           throws an IOException when unable to write the JSON string
    */
   public void write(Geometry geometry, Writer writer) throws IOException {
-    Map<String, Object> map = create(geometry, isEncodeCRS);
-    JSONObject.writeJSONString(map, writer);
+    write(geometry, isEncodeCRS, writer);
     writer.flush();
   }
 
-  private Map<String, Object> create(Geometry geometry, boolean encodeCRS) {
+  /**
+   * Tests whether the GeoJSON <code>crs</code> property is output.
+   * 
+   * @return true if the crs property is output
+   */
+  boolean isEncodeCRS() {
+    return isEncodeCRS;
+  }
 
-    Map<String, Object> result = new LinkedHashMap<String, Object>();
-    result.put(GeoJsonConstants.NAME_TYPE, geometry.getGeometryType());
+  /**
+   * Writes a geometry object directly to a {@link Writer},
+   * without creating an intermediate JSON object.
+   * 
+   * @param geometry the geometry to write
+   * @param encodeCRS true if the crs property should be written
+   * @param writer the writer to write to
+   * @throws IOException if an I/O error occurs
+   */
+  void write(Geometry geometry, boolean encodeCRS, Writer writer) throws IOException {
+    if (! isSupported(geometry)) {
+      throw new IllegalArgumentException("Unable to encode geometry " + geometry.getGeometryType() );
+    }
+
+    writer.write('{');
+    writeName(GeoJsonConstants.NAME_TYPE, writer);
+    writeString(geometry.getGeometryType(), writer);
+    writer.write(',');
 
     if (geometry instanceof Point) {
       Point point = (Point) geometry;
 
+      writeName(GeoJsonConstants.NAME_COORDINATES, writer);
       CoordinateSequence coordinateSequence = point.getCoordinateSequence();
-      final String jsonString = coordinateSequence.size() == 0
-          ? JSON_ARRAY_EMPTY : getJsonString(coordinateSequence);
-
-      result.put(GeoJsonConstants.NAME_COORDINATES, new JSONAware() {
-
-        public String toJSONString() {
-          return jsonString;
-        }
-      });
+      if (coordinateSequence.size() == 0) {
+        writer.write(JSON_ARRAY_EMPTY);
+      }
+      else {
+        writeCoordinates(coordinateSequence, writer);
+      }
 
     } else if (geometry instanceof LineString) {
       LineString lineString = (LineString) geometry;
 
+      writeName(GeoJsonConstants.NAME_COORDINATES, writer);
       CoordinateSequence coordinateSequence = lineString.getCoordinateSequence();
-      final String jsonString = coordinateSequence.size() == 0
-          ? JSON_ARRAY_EMPTY : getJsonString(coordinateSequence);
-
-      result.put(GeoJsonConstants.NAME_COORDINATES, new JSONAware() {
-
-        public String toJSONString() {
-          return jsonString;
-        }
-      });
+      if (coordinateSequence.size() == 0) {
+        writer.write(JSON_ARRAY_EMPTY);
+      }
+      else {
+        writeCoordinates(coordinateSequence, writer);
+      }
 
     } else if (geometry instanceof Polygon) {
       Polygon polygon = (Polygon) geometry;
@@ -173,17 +189,14 @@ public class GeoJsonWriter {
         polygon = (Polygon) OrientationTransformer.transformCCW(polygon);
       }
 
-      result.put(GeoJsonConstants.NAME_COORDINATES, makeJsonAware(polygon));
+      writeName(GeoJsonConstants.NAME_COORDINATES, writer);
+      writeCoordinates(polygon, writer);
 
-    } else if (geometry instanceof MultiPoint) {
-      MultiPoint multiPoint = (MultiPoint) geometry;
+    } else if (geometry instanceof MultiPoint
+        || geometry instanceof MultiLineString) {
 
-      result.put(GeoJsonConstants.NAME_COORDINATES, makeJsonAware(multiPoint));
-
-    } else if (geometry instanceof MultiLineString) {
-      MultiLineString multiLineString = (MultiLineString) geometry;
-
-      result.put(GeoJsonConstants.NAME_COORDINATES, makeJsonAware(multiLineString));
+      writeName(GeoJsonConstants.NAME_COORDINATES, writer);
+      writeCoordinates((GeometryCollection) geometry, writer);
 
     } else if (geometry instanceof MultiPolygon) {
       MultiPolygon multiPolygon = (MultiPolygon) geometry;
@@ -192,140 +205,133 @@ public class GeoJsonWriter {
         multiPolygon = (MultiPolygon) OrientationTransformer.transformCCW(multiPolygon);
       }
 
-      result.put(GeoJsonConstants.NAME_COORDINATES, makeJsonAware(multiPolygon));
+      writeName(GeoJsonConstants.NAME_COORDINATES, writer);
+      writeCoordinates(multiPolygon, writer);
 
-    } else if (geometry instanceof GeometryCollection) {
+    } else {
       GeometryCollection geometryCollection = (GeometryCollection) geometry;
 
-      ArrayList<Map<String, Object>> geometries = new ArrayList<Map<String, Object>>(
-          geometryCollection.getNumGeometries());
-
+      writeName(GeoJsonConstants.NAME_GEOMETRIES, writer);
+      writer.write('[');
       for (int i = 0; i < geometryCollection.getNumGeometries(); i++) {
-        geometries.add(create(geometryCollection.getGeometryN(i), false));
+        if (i > 0) {
+          writer.write(',');
+        }
+        write(geometryCollection.getGeometryN(i), false, writer);
       }
-
-      result.put(GeoJsonConstants.NAME_GEOMETRIES, geometries);
-
-    } else {
-      throw new IllegalArgumentException("Unable to encode geometry " + geometry.getGeometryType() );
+      writer.write(']');
     }
 
     if (encodeCRS) {
-      result.put(GeoJsonConstants.NAME_CRS, createCRS(geometry.getSRID()));
+      writer.write(',');
+      writeName(GeoJsonConstants.NAME_CRS, writer);
+      writeCRS(geometry.getSRID(), writer);
     }
 
-    return result;
+    writer.write('}');
   }
 
-  private Map<String, Object> createCRS(int srid) {
-
-    Map<String, Object> result = new LinkedHashMap<String, Object>();
-    result.put(GeoJsonConstants.NAME_TYPE, GeoJsonConstants.NAME_NAME);
-
-    Map<String, Object> props = new LinkedHashMap<String, Object>();
-    props.put(GeoJsonConstants.NAME_NAME, EPSG_PREFIX + srid);
-
-    result.put(GeoJsonConstants.NAME_PROPERTIES, props);
+  private static boolean isSupported(Geometry geometry) {
+    if (geometry instanceof GeometryCollection) {
+      for (int i = 0; i < geometry.getNumGeometries(); i++) {
+        if (! isSupported(geometry.getGeometryN(i)))
+          return false;
+      }
+      return true;
+    }
+    return geometry instanceof Point
+        || geometry instanceof LineString
+        || geometry instanceof Polygon;
+  }
 
-    return result;
+  /**
+   * Writes a named CRS object for an SRID.
+   * 
+   * @param srid the SRID
+   * @param writer the writer to write to
+   * @throws IOException if an I/O error occurs
+   */
+  static void writeCRS(int srid, Writer writer) throws IOException {
+    writer.write('{');
+    writeName(GeoJsonConstants.NAME_TYPE, writer);
+    writeString(GeoJsonConstants.NAME_NAME, writer);
+    writer.write(',');
+    writeName(GeoJsonConstants.NAME_PROPERTIES, writer);
+    writer.write('{');
+    writeName(GeoJsonConstants.NAME_NAME, writer);
+    writeString(EPSG_PREFIX + srid, writer);
+    writer.write("}}");
   }
 
-  private List<JSONAware> makeJsonAware(Polygon poly) {
-    ArrayList<JSONAware> result = new ArrayList<JSONAware>();
+  static void writeName(String name, Writer writer) throws IOException {
+    writeString(name, writer);
+    writer.write(':');
+  }
 
-    {
-      final String jsonString = getJsonString(poly.getExteriorRing()
-          .getCoordinateSequence());
-      result.add(new JSONAware() {
+  private static void writeString(String value, Writer writer) throws IOException {
+    writer.write('"');
+    writer.write(JSONValue.escape(value));
+    writer.write('"');
+  }
 
-        public String toJSONString() {
-          return jsonString;
-        }
-      });
-    }
+  private void writeCoordinates(Polygon poly, Writer writer) throws IOException {
+    writer.write('[');
+    writeCoordinates(poly.getExteriorRing().getCoordinateSequence(), writer);
     for (int i = 0; i < poly.getNumInteriorRing(); i++) {
-      final String jsonString = getJsonString(poly.getInteriorRingN(i)
-          .getCoordinateSequence());
-      result.add(new JSONAware() {
-
-        public String toJSONString() {
-          return jsonString;
-        }
-      });
+      writer.write(',');
+      writeCoordinates(poly.getInteriorRingN(i).getCoordinateSequence(), writer);
     }
-
-    return result;
+    writer.write(']');
   }
 
-  private List<Object> makeJsonAware(GeometryCollection geometryCollection) {
-
-    ArrayList<Object> list = new ArrayList<Object>(
-        geometryCollection.getNumGeometries());
+  private void writeCoordinates(GeometryCollection geometryCollection, Writer writer) throws IOException {
+    writer.write('[');
     for (int i = 0; i < geometryCollection.getNumGeometries(); i++) {
+      if (i > 0) {
+        writer.write(',');
+      }
       Geometry geometry = geometryCollection.getGeometryN(i);
       
       if (geometry instanceof Polygon) {
-        Polygon polygon = (Polygon) geometry;
-        list.add(makeJsonAware(polygon));
+        writeCoordinates((Polygon) geometry, writer);
       } 
       else if (geometry instanceof LineString) {
-        LineString lineString = (LineString) geometry;
-        final String jsonString = getJsonString(lineString
-            .getCoordinateSequence());
-        list.add(new JSONAware() {
-
-          public String toJSONString() {
-            return jsonString;
-          }
-        });
+        writeCoordinates(((LineString) geometry).getCoordinateSequence(), writer);
       } 
       else if (geometry instanceof Point) {
-        Point point = (Point) geometry;
-        final String jsonString = getJsonString(point.getCoordinateSequence());
-        list.add(new JSONAware() {
-
-          public String toJSONString() {
-            return jsonString;
-          }
-        });
+        writeCoordinates(((Point) geometry).getCoordinateSequence(), writer);
       }
     }
-
-    return list;
+    writer.write(']');
   }
 
-  private String getJsonString(CoordinateSequence coordinateSequence) {
-    StringBuffer result = new StringBuffer();
-
+  private void writeCoordinates(CoordinateSequence coordinateSequence, Writer writer) throws IOException {
     if (coordinateSequence.size() > 1) {
-      result.append("[");
+      writer.write('[');
     }
     for (int i = 0; i < coordinateSequence.size(); i++) {
       if (i > 0) {
-        result.append(",");
+        writer.write(',');
       }
-      result.append("[");
-      result.append(formatOrdinate(coordinateSequence.getOrdinate(i, CoordinateSequence.X))); 
-      result.append(",");
-      result.append(formatOrdinate(coordinateSequence.getOrdinate(i, CoordinateSequence.Y)));
+      writer.write('[');
+      writer.write(formatOrdinate(coordinateSequence.getOrdinate(i, CoordinateSequence.X))); 
+      writer.write(',');
+      writer.write(formatOrdinate(coordinateSequence.getOrdinate(i, CoordinateSequence.Y)));
 
       if (coordinateSequence.getDimension() > 2 ) {
         double z = coordinateSequence.getOrdinate(i, CoordinateSequence.Z);
         if (!  Double.isNaN(z)) {
-          result.append(",");
-          result.append(formatOrdinate(z));
+          writer.write(',');
+          writer.write(formatOrdinate(z));
         }
       }
 
-      result.append("]");
-
+      writer.write(']');
     }
 
     if (coordinateSequence.size() > 1) {
-      result.append("]");
+      writer.write(']');
     }
-
-    return result.toString();
   }
 
   private String formatOrdinate(double x) {
@@ -0,0 +1,176 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.locationtech.jts.io.geojson;
+
+import java.io.StringReader;
+import java.util.List;
+
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.io.ParseException;
+
+import junit.textui.TestRunner;
+import test.jts.GeometryTestCase;
+
+public class GeoJsonStreamReaderTest extends GeometryTestCase {
+
+  public static void main(String args[]) {
+    TestRunner.run(GeoJsonStreamReaderTest.class);
+  }
+
+  private static final String POINT_FEATURE = "{ \"type\": \"Feature\", \"geometry\": { \"type\": \"Point\", \"coordinates\": [ 12, 13, 1 ] }, \"properties\": { \"name\": \"Some \\\"point\\\" property\", \"tags\": [ 1, { \"a\": null } ] } }";
+  private static final String LINE_FEATURE = "{ \"properties\": { \"value\": -1.5e3 }, \"geometry\": { \"coordinates\": [ [ 1, 2 ], [ 3.5, 4E-1 ] ], \"type\": \"LineString\" }, \"type\": \"Feature\" }";
+  private static final String POLYGON = "{ \"type\": \"Polygon\", \"coordinates\": [ [ [ 10, 20 ], [ 11, 21 ], [ 11, 20 ], [ 10, 20 ] ] ] }";
+
+  public GeoJsonStreamReaderTest(String name) {
+    super(name);
+  }
+
+  public void testEmpty() throws ParseException {
+    checkRead("", new String[0]);
+    checkRead("  \n ", new String[0]);
+  }
+
+  public void testFeatureCollection() throws ParseException {
+    checkRead("{ \"type\": \"FeatureCollection\", \"features\": [ " + POINT_FEATURE + ", " + LINE_FEATURE + " ] }",
+        "POINT Z (12 13 1)", "LINESTRING (1 2, 3.5 0.4)");
+  }
+
+  public void testFeatureCollectionEmpty() throws ParseException {
+    checkRead("{ \"type\": \"FeatureCollection\", \"features\": [] }", new String[0]);
+  }
+
+  public void testFeatureCollectionMembersAfterFeatures() throws ParseException {
+    checkRead("{ \"features\": [ " + POINT_FEATURE + " ], \"type\": \"FeatureCollection\", \"bbox\": [ 12, 13, 12, 13 ] }",
+        "POINT Z (12 13 1)");
+  }
+
+  public void testFeatureCollectionCRS() throws ParseException {
+    List<Geometry> geoms = read("{ \"type\": \"FeatureCollection\", \"crs\": { \"type\": \"name\", \"properties\": { \"name\": \"EPSG:3857\" } }, "
+        + "\"features\": [ " + POINT_FEATURE + ", " + LINE_FEATURE + " ] }", new GeoJsonReader());
+    assertEquals(2, geoms.size());
+    assertEquals(3857, geoms.get(0).getSRID());
+    assertEquals(3857, geoms.get(1).getSRID());
+  }
+
+  public void testDefaultSRID() throws ParseException {
+    List<Geometry> geoms = read(POLYGON, new GeoJsonReader());
+    assertEquals(4326, geoms.get(0).getSRID());
+  }
+
+  public void testGeometryFactory() throws ParseException {
+    GeometryFactory factory = new GeometryFactory();
+    List<Geometry> geoms = read("{ \"type\": \"FeatureCollection\", \"crs\": { \"type\": \"name\", \"properties\": { \"name\": \"EPSG:3857\" } }, "
+        + "\"features\": [ " + POINT_FEATURE + " ] }", new GeoJsonReader(factory));
+    assertTrue(geoms.get(0).getFactory() == factory);
+  }
+
+  public void testArray() throws ParseException {
+    checkRead("[ " + POINT_FEATURE + ", " + POLYGON + " ]",
+        "POINT Z (12 13 1)", "POLYGON ((10 20, 11 21, 11 20, 10 20))");
+  }
+
+  public void testSequence() throws ParseException {
+    checkRead(POINT_FEATURE + "\n" + POLYGON + "\n" + LINE_FEATURE + "\n",
+        "POINT Z (12 13 1)", "POLYGON ((10 20, 11 21, 11 20, 10 20))", "LINESTRING (1 2, 3.5 0.4)");
+  }
+
+  public void testTextSequence() throws ParseException {
+    checkRead("\u001E" + POINT_FEATURE + "\n\u001E" + POLYGON + "\n",
+        "POINT Z (12 13 1)", "POLYGON ((10 20, 11 21, 11 20, 10 20))");
+  }
+
+  public void testSingleGeometry() throws ParseException {
+    checkRead("{ \"type\": \"GeometryCollection\", \"geometries\": [ " + POLYGON + ", { \"type\": \"MultiPoint\", \"coordinates\": [ [ 1, 2 ], [ 3, 4 ] ] } ] }",
+        "GEOMETRYCOLLECTION (POLYGON ((10 20, 11 21, 11 20, 10 20)), MULTIPOINT ((1 2), (3 4)))");
+  }
+
+  public void testEmptyCoordinates() throws ParseException {
+    checkRead("[ { \"type\": \"Point\", \"coordinates\": [] }, "
+        + "{ \"type\": \"LineString\", \"coordinates\": null }, "
+        + "{ \"type\": \"Polygon\", \"coordinates\": [] }, "
+        + "{ \"type\": \"MultiPolygon\", \"coordinates\": [] } ]",
+        "POINT EMPTY", "LINESTRING EMPTY", "POLYGON EMPTY", "MULTIPOLYGON EMPTY");
+  }
+
+  public void testMultiPolygon() throws ParseException {
+    checkRead("{ \"type\": \"MultiPolygon\", \"coordinates\": [ [ [ [ 0, 0 ], [ 0, 1 ], [ 1, 1 ], [ 0, 0 ] ] ], "
+        + "[ [ [ 10, 10 ], [ 10, 20 ], [ 20, 20 ], [ 10, 10 ] ], [ [ 11, 11 ], [ 12, 12 ], [ 11, 12 ], [ 11, 11 ] ] ] ] }",
+        "MULTIPOLYGON (((0 0, 0 1, 1 1, 0 0)), ((10 10, 10 20, 20 20, 10 10), (11 11, 12 12, 11 12, 11 11)))");
+  }
+
+  public void testSameAsReader() throws ParseException {
+    String[] jsons = new String[] {
+        POINT_FEATURE,
+        LINE_FEATURE,
+        POLYGON,
+        "{ \"type\": \"MultiLineString\", \"coordinates\": [ [ [ 1, 2 ], [ 3, 4, 5, 6 ] ], [] ] }",
+        "{ \"coordinates\": [ 1.000000000000000000001, -0.0, 1e300 ], \"type\": \"Point\" }",
+        "{ \"type\": \"GeometryCollection\", \"geometries\": [ { \"type\": \"GeometryCollection\", \"geometries\": [] } ] }",
+    };
+    GeoJsonReader reader = new GeoJsonReader();
+    for (String json : jsons) {
+      Geometry expected = reader.read(json);
+      List<Geometry> geoms = read(json, reader);
+      assertEquals(1, geoms.size());
+      checkEqualExact(expected, geoms.get(0));
+      assertEquals(expected.getSRID(), geoms.get(0).getSRID());
+    }
+  }
+
+  public void testNext() throws ParseException {
+    GeoJsonStreamReader rdr = new GeoJsonStreamReader(
+        new StringReader("[ " + POINT_FEATURE + ", " + LINE_FEATURE + " ]"), new GeoJsonReader());
+    assertTrue(rdr.hasNext());
+    assertTrue(rdr.hasNext());
+    rdr.next();
+    rdr.next();
+    assertFalse(rdr.hasNext());
+    assertEquals(2, rdr.getCount());
+  }
+
+  public void testParseErrors() {
+    checkParseError("{ \"type\": \"FeatureCollection\", \"features\": [ " + POINT_FEATURE + " ");
+    checkParseError("{ \"type\": \"Point\", \"coordinates\": [ 1, 2 }");
+    checkParseError("{ \"type\": \"Point\", \"coordinates\": [ 1, \"a\" ] }");
+    checkParseError("{ \"type\": \"Point\", \"coordinates\": [ [ 1, 2 ] ] }");
+    checkParseError("{ \"type\": \"LineString\", \"coordinates\": [ [ 1, 2 ], [ [ 3, 4 ] ] ] }");
+    checkParseError("{ \"type\": \"Unknown\" }");
+    checkParseError("{ \"coordinates\": [ 1, 2 ] }");
+    checkParseError("{ \"type\": \"Point\", \"coordinates\": [ 1, 2 ], \"crs\": { \"properties\": { \"name\": \"EPSG\" } } }");
+    checkParseError("[ " + POINT_FEATURE + " " + POINT_FEATURE + " ]");
+  }
+
+  private void checkParseError(String json) {
+    try {
+      read(json, new GeoJsonReader());
+      fail("Expected ParseException for " + json);
+    }
+    catch (ParseException ex) {
+      // expected
+    }
+  }
+
+  private void checkRead(String json, String... expectedWKT) throws ParseException {
+    List<Geometry> geoms = read(json, new GeoJsonReader());
+    assertEquals(expectedWKT.length, geoms.size());
+    for (int i = 0; i < expectedWKT.length; i++) {
+      checkEqual(read(expectedWKT[i]), geoms.get(i));
+    }
+  }
+
+  private static List<Geometry> read(String json, GeoJsonReader reader) throws ParseException {
+    GeoJsonStreamReader rdr = new GeoJsonStreamReader(new StringReader(json), reader);
+    return rdr.read();
+  }
+}
@@ -0,0 +1,162 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.locationtech.jts.io.geojson;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.io.ParseException;
+
+import junit.textui.TestRunner;
+import test.jts.GeometryTestCase;
+
+public class GeoJsonStreamWriterTest extends GeometryTestCase {
+
+  public static void main(String args[]) {
+    TestRunner.run(GeoJsonStreamWriterTest.class);
+  }
+
+  public GeoJsonStreamWriterTest(String name) {
+    super(name);
+  }
+
+  public void testEmpty() throws IOException {
+    checkWrite(new String[0], false,
+        "{'type':'FeatureCollection','features':[]}");
+  }
+
+  public void testFeatures() throws IOException {
+    checkWrite(new String[] { "POINT (1 2)", "LINESTRING (1 2, 3 4)" }, false,
+        "{'type':'FeatureCollection','features':["
+        + "{'type':'Feature','geometry':{'type':'Point','coordinates':[1,2]},'properties':{}},"
+        + "{'type':'Feature','geometry':{'type':'LineString','coordinates':[[1,2],[3,4]]},'properties':{}}]}");
+  }
+
+  public void testCRS() throws IOException {
+    checkWrite(new String[] { "POINT (1 2)" }, true,
+        "{'type':'FeatureCollection','crs':{'type':'name','properties':{'name':'EPSG:0'}},'features':["
+        + "{'type':'Feature','geometry':{'type':'Point','coordinates':[1,2]},'properties':{}}]}");
+  }
+
+  public void testProperties() throws IOException {
+    StringWriter out = new StringWriter();
+    GeoJsonWriter geoJsonWriter = new GeoJsonWriter();
+    geoJsonWriter.setEncodeCRS(false);
+    GeoJsonStreamWriter writer = new GeoJsonStreamWriter(out, geoJsonWriter);
+    Map<String, Object> properties = new LinkedHashMap<String, Object>();
+    properties.put("name", "a \"b\"");
+    properties.put("value", 1);
+    writer.write(read("POINT (1 2)"), properties);
+    writer.close();
+    assertEquals("{'type':'FeatureCollection','features':["
+        + "{'type':'Feature','geometry':{'type':'Point','coordinates':[1,2]},'properties':{'name':'a \\'b\\'','value':1}}]}",
+        out.toString().replace('"', '\''));
+  }
+
+  public void testNullGeometry() throws IOException {
+    StringWriter out = new StringWriter();
+    GeoJsonStreamWriter writer = new GeoJsonStreamWriter(out, new GeoJsonWriter());
+    writer.write(null);
+    writer.close();
+    assertEquals(1, writer.getCount());
+    assertEquals("{'type':'FeatureCollection','features':["
+        + "{'type':'Feature','geometry':null,'properties':{}}]}",
+        out.toString().replace('"', '\''));
+  }
+
+  public void testWriteFailure() throws IOException {
+    StringWriter out = new StringWriter();
+    GeoJsonWriter geoJsonWriter = new GeoJsonWriter();
+    geoJsonWriter.setEncodeCRS(false);
+    GeoJsonStreamWriter writer = new GeoJsonStreamWriter(out, geoJsonWriter);
+    Map<String, Object> properties = new LinkedHashMap<String, Object>();
+    properties.put("value", new Object() {
+      public String toString() {
+        throw new IllegalArgumentException();
+      }
+    });
+    try {
+      writer.write(read("POINT (1 2)"), properties);
+      fail();
+    }
+    catch (IllegalArgumentException ex) {
+      // expected
+    }
+    assertEquals(0, out.toString().length());
+    writer.write(read("POINT (3 4)"));
+    writer.close();
+    assertEquals(1, writer.getCount());
+    assertEquals("{'type':'FeatureCollection','features':["
+        + "{'type':'Feature','geometry':{'type':'Point','coordinates':[3,4]},'properties':{}}]}",
+        out.toString().replace('"', '\''));
+  }
+
+  public void testRoundTrip() throws IOException, ParseException {
+    String[] wkts = new String[] {
+        "POINT (1 2)",
+        "LINESTRING Z (1 2 3, 4 5 6)",
+        "POLYGON ((10 10, 20 10, 20 20, 10 20, 10 10), (11 11, 12 11, 12 12, 11 11))",
+        "MULTIPOLYGON (((0 0, 1 0, 1 1, 0 0)), ((10 10, 11 10, 11 11, 10 10)))",
+        "GEOMETRYCOLLECTION (POINT (1 1), LINESTRING (0 0, 1 1))",
+        "POLYGON EMPTY"
+    };
+    StringWriter out = new StringWriter();
+    GeoJsonStreamWriter writer = new GeoJsonStreamWriter(out, new GeoJsonWriter());
+    for (String wkt : wkts) {
+      Geometry geom = read(wkt);
+      geom.setSRID(3857);
+      writer.write(geom);
+    }
+    writer.close();
+    assertEquals(wkts.length, writer.getCount());
+
+    GeoJsonStreamReader rdr = new GeoJsonStreamReader(new StringReader(out.toString()), new GeoJsonReader());
+    List<Geometry> geoms = rdr.read();
+    assertEquals(wkts.length, geoms.size());
+    for (int i = 0; i < wkts.length; i++) {
+      checkEqual(read(wkts[i]), geoms.get(i));
+      assertEquals(3857, geoms.get(i).getSRID());
+    }
+    Geometry collection = new GeoJsonReader().read(out.toString());
+    assertEquals(wkts.length, collection.getNumGeometries());
+  }
+
+  public void testWriteAfterClose() throws IOException {
+    GeoJsonStreamWriter writer = new GeoJsonStreamWriter(new StringWriter(), new GeoJsonWriter());
+    writer.close();
+    try {
+      writer.write(read("POINT (1 2)"));
+      fail();
+    }
+    catch (IllegalStateException ex) {
+      // expected
+    }
+  }
+
+  private void checkWrite(String[] wkts, boolean encodeCRS, String expected) throws IOException {
+    StringWriter out = new StringWriter();
+    GeoJsonWriter geoJsonWriter = new GeoJsonWriter();
+    geoJsonWriter.setEncodeCRS(encodeCRS);
+    GeoJsonStreamWriter writer = new GeoJsonStreamWriter(out, geoJsonWriter);
+    for (String wkt : wkts) {
+      writer.write(read(wkt));
+    }
+    writer.close();
+    assertEquals(expected, out.toString().replace('"', '\''));
+  }
+}